@@ -0,0 +1,118 @@
+package moe.leer.codeflowcore;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.util.SingleFlight;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking view of a {@link CodeFlow}, get one by {@link CodeFlow#async(CodeFlowExecutors)}.
+ * <p>
+ * Each stage runs on its own executor of {@link CodeFlowExecutors}:
+ * parse (code to parse tree), generate (parse tree to graph), layout (graphviz) and encode (write file or decode image).
+ * Stage methods can be chained freely, <code>toFile</code> and <code>toImage</code> chain all of them.
+ * An <code>IOException</code> completes the future with an {@link UncheckedIOException}.
+ * <p>
+ * <code>flowchart</code> and <code>render</code> coalesce concurrent calls with the same {@link RenderKey}:
+ * they share one in-flight computation and all receive its result. Share one instance to benefit from it.
+ *
+ * @author leer
+ */
+public class AsyncCodeFlow {
+
+  @Getter
+  private final CodeFlow codeFlow;
+  @Getter
+  private final CodeFlowExecutors executors;
+
+  private final SingleFlight<RenderKey, CodeFlowResult> flowcharts = new SingleFlight<>();
+  private final SingleFlight<RenderKey, RenderedFlowchart> renders = new SingleFlight<>();
+
+  AsyncCodeFlow(@NotNull CodeFlow codeFlow, @NotNull CodeFlowExecutors executors) {
+    this.codeFlow = codeFlow;
+    this.executors = executors;
+  }
+
+  public CompletableFuture<ParsedProgram> parse(@NotNull String code) {
+    return CompletableFuture.supplyAsync(() -> codeFlow.parseProgram(code), executors.getParse());
+  }
+
+  public CompletableFuture<CodeFlowResult> generate(@NotNull ParsedProgram program) {
+    return CompletableFuture.supplyAsync(() -> codeFlow.generate(program), executors.getGenerate());
+  }
+
+  public CompletableFuture<RenderedFlowchart> layout(@NotNull CodeFlowResult result) {
+    return CompletableFuture.supplyAsync(() -> layoutUnchecked(result), executors.getLayout());
+  }
+
+  public CompletableFuture<File> encodeToFile(@NotNull RenderedFlowchart rendered, @NotNull String pathName) {
+    return CompletableFuture.supplyAsync(() -> toFileUnchecked(rendered, pathName), executors.getEncode());
+  }
+
+  public CompletableFuture<BufferedImage> encodeToImage(@NotNull RenderedFlowchart rendered) {
+    return CompletableFuture.supplyAsync(() -> toImageUnchecked(rendered), executors.getEncode());
+  }
+
+  /**
+   * parse and generate, coalesced
+   */
+  public CompletableFuture<CodeFlowResult> flowchart(@NotNull String code) {
+    return flowcharts.execute(RenderKey.of(codeFlow, code),
+        () -> parse(code).thenApplyAsync(codeFlow::generate, executors.getGenerate()));
+  }
+
+  /**
+   * parse, generate and layout, coalesced
+   */
+  public CompletableFuture<RenderedFlowchart> render(@NotNull String code) {
+    return renders.execute(RenderKey.of(codeFlow, code),
+        () -> flowchart(code).thenApplyAsync(AsyncCodeFlow::layoutUnchecked, executors.getLayout()));
+  }
+
+  public CompletableFuture<File> toFile(@NotNull String code, @NotNull String pathName) {
+    return render(code).thenApplyAsync(rendered -> toFileUnchecked(rendered, pathName), executors.getEncode());
+  }
+
+  /**
+   * @see RenderedFlowchart#toImage()
+   */
+  public CompletableFuture<BufferedImage> toImage(@NotNull String code) {
+    return render(code).thenApplyAsync(AsyncCodeFlow::toImageUnchecked, executors.getEncode());
+  }
+
+  /**
+   * @return how many <code>flowchart</code> and <code>render</code> calls joined an in-flight computation
+   */
+  public long coalescedCount() {
+    return flowcharts.coalesced() + renders.coalesced();
+  }
+
+  private static RenderedFlowchart layoutUnchecked(CodeFlowResult result) {
+    try {
+      return result.layout();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static File toFileUnchecked(RenderedFlowchart rendered, String pathName) {
+    try {
+      return rendered.toFile(pathName);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static BufferedImage toImageUnchecked(RenderedFlowchart rendered) {
+    try {
+      return rendered.toImage();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
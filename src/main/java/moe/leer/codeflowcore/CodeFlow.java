@@ -1,51 +1,65 @@
 package moe.leer.codeflowcore;
 
-import guru.nidi.graphviz.engine.Engine;
 import guru.nidi.graphviz.engine.Format;
-import guru.nidi.graphviz.engine.Graphviz;
-import guru.nidi.graphviz.engine.GraphvizException;
-import guru.nidi.graphviz.model.MutableGraph;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
-import lombok.experimental.Accessors;
-import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import moe.leer.codeflowcore.exception.TodoException;
 import moe.leer.codeflowcore.graph.FlowchartFragment;
-import moe.leer.codeflowcore.graph.FlowchartNodeFactory;
+import moe.leer.codeflowcore.lang.DfaCache;
 import moe.leer.codeflowcore.lang.FlowchartConnector;
 import moe.leer.codeflowcore.lang.FlowchartGenVisitor;
+import moe.leer.codeflowcore.lang.ParallelProgramParser;
+import moe.leer.codeflowcore.lang.ParserPool;
+import moe.leer.codeflowcore.lang.ParserPool.PooledParser;
+import moe.leer.codeflowcore.lang.StreamingFlowchartListener;
 import moe.leer.codeflowcore.lang.ThrowSyntaxErrorListener;
 import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
 import moe.leer.codeflowcore.lang.semantic.SymbolDefListener;
-import moe.leer.codeflowcore.lang.semantic.SymbolResolveListener;
 import moe.leer.codeflowcore.util.NativeUtil;
 import moe.leer.codeflowcore.util.ProgramTimer;
-import moe.leer.codeflowcore.util.SomeUtil;
+import moe.leer.codeflowcore.util.SourceStreams;
+import moe.leer.codeflowcore.util.ThreadPools;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.graphviz.SWIGTYPE_p_Agraph_t;
-import org.graphviz.gv;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
  * CodeFlow API
+ * <p>
+ * A <code>CodeFlow</code> is immutable once built, so one instance can be shared by many threads.
+ * Every <code>parse</code> call borrows its own lexer and parser from a pool and returns an independent {@link CodeFlowResult}.
+ * Call {@link #warmUp()} at start-up, so the first requests don't pay for building the parser's prediction cache,
+ * and set a {@link DfaCachePolicy} to keep that cache bounded in long-running processes.
  *
  * @author leer
  * Created at 12/11/19 7:46 PM
@@ -54,30 +68,14 @@ public class CodeFlow {
 
   public static final Logger logger = LoggerFactory.getLogger(CodeFlow.class);
 
-  private Graphviz graphviz;
-  private MutableGraph graph;
-  private CodeFlowLexer lexer;
-  private CodeFlowParser parser;
-
-  private final ProgramTimer parseTimer = new ProgramTimer("parse time");
-  private final ProgramTimer checkTimer = new ProgramTimer("syntax check time");
-  private final ProgramTimer convertFlowchartTimer = new ProgramTimer("Convert flowchart time");
-
-  @Getter
-  @Setter
-  @Accessors(chain = true)
-  private boolean supportClass;
   @Getter
-  @Setter
-  @Accessors(chain = true)
+  private final boolean supportClass;
   // throw exception when occurred syntax error
-  private boolean failFast;
-
   @Getter
-  @Setter
-  @Accessors(chain = true)
+  private final boolean failFast;
   // use graphviz native binding
-  private boolean useNative;
+  @Getter
+  private final boolean useNative;
 
   static {
     NativeUtil.loadLibraryFromResource("gv");
@@ -86,25 +84,67 @@ public class CodeFlow {
   /**
    * height and width are ignored when <code>useIgnore</code> is true
    */
-  private Integer height;
-  private Integer width;
+  @Getter
+  private final Integer height;
+  @Getter
+  private final Integer width;
 
   @Getter
-  @Setter
-  @Accessors(chain = true)
-  private String workDir = "./";
+  private final String workDir;
   @Getter
-  @Setter
-  @Accessors(chain = true)
-  private String outDir = "./";
+  private final String outDir;
   @Getter
-  @Setter
-  @Accessors(chain = true)
-  private Format format = Format.PNG;
-  private File outFile;
-
+  private final Format format;
+  @Getter
+  private final FlowchartConfig flowchartConfig;
+  /**
+   * parse with SLL prediction first, fall back to full LL only when it fails
+   */
+  @Getter
+  private final boolean twoStageParsing;
+  /**
+   * idle lexer/parser pairs kept for reuse, 0 to create a pair for every parse
+   */
+  @Getter
+  private final int parserPoolSize;
+  @Getter(AccessLevel.PACKAGE)
+  private final ParserPool parserPool;
+  /**
+   * when to drop the shared prediction cache, see {@link DfaCache}
+   */
+  @Getter
+  private final DfaCachePolicy dfaCachePolicy;
+  /**
+   * convert toplevel declarations while parsing instead of building the whole parse tree first
+   */
+  @Getter
+  private final boolean streamingGeneration;
+  /**
+   * lex with {@link moe.leer.codeflowcore.lang.FastCodeFlowLexer} instead of the generated lexer
+   */
+  @Getter
+  private final boolean handWrittenLexer;
+  /**
+   * parse large programs in chunks of toplevel declarations on <code>parallelParsingExecutor</code>
+   */
+  @Getter
+  private final boolean parallelParsing;
+  @Getter(AccessLevel.PACKAGE)
+  private final Executor parallelParsingExecutor;
+  @Getter(AccessLevel.PACKAGE)
+  private final ParallelProgramParser parallelParser;
+  /**
+   * define symbols and warn duplicated declarations, while converting to a flowchart
+   */
+  @Getter
+  private final boolean semanticWarnings;
+  /**
+   * semantic warnings kept per result, the ones past it are only counted
+   */
+  @Getter
+  private final int maxDiagnostics;
 
-  public CodeFlow(boolean supportClass, boolean failFast, boolean useNative, Integer height, Integer width, String workDir, String outDir, Format format) {
+  public CodeFlow(boolean supportClass, boolean failFast, boolean useNative, Integer height, Integer width, String workDir, String outDir, Format format, FlowchartConfig flowchartConfig, boolean twoStageParsing, int parserPoolSize, DfaCachePolicy dfaCachePolicy, boolean streamingGeneration, boolean handWrittenLexer, boolean parallelParsing, Executor parallelParsingExecutor, boolean semanticWarnings, int maxDiagnostics) {
     this.supportClass = supportClass;
     this.failFast = failFast;
     this.useNative = useNative;
@@ -113,162 +153,421 @@ public class CodeFlow {
     this.workDir = workDir;
     this.outDir = outDir;
     this.format = format;
+    this.flowchartConfig = flowchartConfig;
+    this.twoStageParsing = twoStageParsing;
+    this.parserPoolSize = parserPoolSize;
+    this.parserPool = new ParserPool(parserPoolSize, handWrittenLexer);
+    this.dfaCachePolicy = dfaCachePolicy;
+    this.streamingGeneration = streamingGeneration;
+    this.handWrittenLexer = handWrittenLexer;
+    this.parallelParsing = parallelParsing;
+    this.parallelParsingExecutor = parallelParsingExecutor;
+    this.parallelParser = new ParallelProgramParser(parserPool, parallelParsingExecutor,
+        Runtime.getRuntime().availableProcessors());
+    this.semanticWarnings = semanticWarnings;
+    this.maxDiagnostics = maxDiagnostics;
   }
 
-  public CodeFlow parse(@NotNull Supplier<String> supplier) {
+  public CodeFlowResult parse(@NotNull Supplier<String> supplier) {
     return parse(supplier.get());
   }
 
-  static class BailCodeFlowLexer extends CodeFlowLexer {
+  /**
+   * @return an empty result when <code>code</code> is blank
+   */
+  public CodeFlowResult parse(@NotNull String code) {
+    return parseAndGenerate(SourceStreams.fromString(code));
+  }
 
-    public BailCodeFlowLexer(CharStream input) {
-      super(input);
+  /**
+   * Parse stage, only builds the parse tree.
+   *
+   * @return an empty program when <code>code</code> is blank
+   */
+  public ParsedProgram parseProgram(@NotNull String code) {
+    return parseProgram(SourceStreams.fromString(code));
+  }
+
+  /**
+   * Parse stage, for sources decoded straight into a char stream, see {@link SourceStreams}.
+   *
+   * @return an empty program when <code>input</code> is blank
+   */
+  public ParsedProgram parseProgram(@NotNull CharStream input) {
+    try {
+      return parseStream(input);
+    } finally {
+      applyDfaCachePolicy();
     }
+  }
 
-    @Override
-    public void recover(LexerNoViableAltException e) {
-      throw new SyntaxErrorException(e);
+  private ParsedProgram parseStream(CharStream input) {
+    if (SourceStreams.isBlank(input)) {
+      return new ParsedProgram(null, null);
+    }
+    final ProgramTimer parseTimer = new ProgramTimer("parse time");
+
+    parseTimer.start();
+    // lexer and parser are not thread-safe, a pooled pair belongs to this parse until released
+    final PooledParser pair = parserPool.acquire(input, failFast, supportClass);
+    try {
+      final ParsedProgram program = parseTokens(pair, input);
+      parseTimer.stopAndReport();
+      logger.debug("parsed with {} prediction", program.getPredictionMode());
+      return program;
+    } finally {
+      parserPool.release(pair);
     }
   }
 
-  public CodeFlow parse(@NotNull String code) {
-    if (StringUtils.isNotBlank(code)) {
-      parseTimer.start();
-      // init lexer and parser
-      if (lexer == null) {
-        if (failFast) {
-          lexer = new BailCodeFlowLexer(CharStreams.fromString(code));
-        } else {
-          lexer = new CodeFlowLexer(CharStreams.fromString(code));
+  void applyDfaCachePolicy() {
+    if (dfaCachePolicy.isUnbounded() ||
+        !DfaCache.getInstance().resetIfExceeded(dfaCachePolicy.getMaxStates(), dfaCachePolicy.getMaxAge())) {
+      return;
+    }
+    logger.info("DFA cache reset by {}", dfaCachePolicy);
+    if (dfaCachePolicy.isRewarm()) {
+      // not on the caller's thread, its parse is done and shouldn't wait for the warm-up
+      CompletableFuture.runAsync(() -> {
+        try {
+          warmUp();
+        } catch (IOException | RuntimeException e) {
+          logger.warn("Re-warming the DFA cache failed", e);
         }
-      }
-      lexer.setInputStream(CharStreams.fromString(code));
-      final CommonTokenStream tokens = new CommonTokenStream(lexer);
-      if (parser == null) {
-        parser = new CodeFlowParser(tokens);
-      }
-      parser.setTokenStream(tokens);
-      if (failFast) {
-        parser.removeErrorListeners();
-        parser.addErrorListener(new ThrowSyntaxErrorListener());
-      }
-      CodeFlowParser.supportClass = this.supportClass;
+      }, ThreadPools.blockingExecutor());
+    }
+  }
 
-      // output parse tree
-      ParseTree ast = parser.program();
-      parseTimer.stopAndReport();
+  /**
+   * Parse the whole input of <code>pair</code>, with the configured parsing modes.
+   */
+  ParsedProgram parseTokens(PooledParser pair, CharStream input) {
+    return parallelParsing ? parseParallel(pair, input) : parseWith(pair);
+  }
 
-      checkTimer.start();
-//    semanticCheck(ast);
-      ParseTreeWalker walker = new ParseTreeWalker();
-      SymbolDefListener symbolDefListener = new SymbolDefListener();
-      walker.walk(symbolDefListener, ast);
-      checkTimer.stopAndReport();
-
-      convertFlowchartTimer.start();
-      FlowchartGenVisitor visitor = new FlowchartGenVisitor();
-      FlowchartFragment flowChart = visitor.visit(ast);
-
-      FlowchartConnector connector = new FlowchartConnector(visitor.functionCallNodes, visitor.subFragments);
-      connector.connect(flowChart.getGraph());
-      convertFlowchartTimer.stopAndReport();
-      this.graph = flowChart.getGraph();
-      graphviz = Graphviz.fromGraph(flowChart.getGraph()).engine(Engine.DOT);
-      if (height != null) {
-        graphviz = graphviz.height(height);
+  private ParsedProgram parseWith(PooledParser pair) {
+    // lex everything up front, so lexer errors are reported once, not by every parse attempt
+    pair.getTokens().fill();
+    CodeFlowParser parser = pair.getParser();
+
+    ParseTree ast = null;
+    PredictionMode predictionMode = PredictionMode.LL;
+    if (twoStageParsing) {
+      // stage 1: fast SLL prediction, bail out silently on the first error
+      parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+      parser.removeErrorListeners();
+      parser.setErrorHandler(new BailErrorStrategy());
+      try {
+        ast = parser.program();
+        predictionMode = PredictionMode.SLL;
+      } catch (ParseCancellationException e) {
+        // a real syntax error or SLL is too weak for this input, only full LL can tell
+        parser.reset();
       }
-      if (width != null) {
-        graphviz = graphviz.width(width);
+    }
+    if (ast == null) {
+      // stage 2: full LL with the usual error reporting and recovery
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.removeErrorListeners();
+      parser.addErrorListener(failFast ? new ThrowSyntaxErrorListener() : ConsoleErrorListener.INSTANCE);
+      ast = parser.program();
+    }
+    return new ParsedProgram(ast, predictionMode);
+  }
+
+  private ParsedProgram parseParallel(PooledParser pair, CharStream input) {
+    final CommonTokenStream tokens = pair.getTokens();
+    tokens.fill();
+    final ParallelProgramParser.Result chunked =
+        parallelParser.parse(tokens.getTokens(), tokens.getTokenSource(), input, supportClass, twoStageParsing);
+    if (chunked != null) {
+      return new ParsedProgram(chunked.getTree(), chunked.getPredictionMode());
+    }
+    // too small to split, or a syntax error, which the whole program parse reports as usual
+    return parseWith(pair);
+  }
+
+  /**
+   * Parse the built-in warm-up corpus, one of every statement shape, and class declarations when <code>supportClass</code>.
+   * The prediction cache (DFA) of the lexer and parser is static and only grows while parsing,
+   * so the first real requests after a warm-up predict from cached states instead of building them.
+   *
+   * @return time spent warming up
+   */
+  public Duration warmUp() throws IOException {
+    final long start = System.nanoTime();
+    for (String corpus : supportClass ? new String[]{"statements.cf", "classes.cf"} : new String[]{"statements.cf"}) {
+      try (final InputStream in = CodeFlow.class.getResourceAsStream("warmup/" + corpus)) {
+        // the policy is not applied, a re-warm must not reset the cache it is filling
+        parseStream(CharStreams.fromStream(in, StandardCharsets.UTF_8));
       }
     }
-    return this;
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    logger.info("warmed up in {}ms", elapsed.toMillis());
+    return elapsed;
+  }
+
+  /**
+   * Parse <code>code</code> with ANTLR profiling on, to find the grammar decisions that are expensive to predict.
+   * Uses the default LL prediction, where every decision tries SLL first, so fallbacks show up per decision.
+   * Syntax errors are not reported, they are counted in the profile.
+   */
+  public ParseProfile profile(@NotNull String code) {
+    final CommonTokenStream tokens = new CommonTokenStream(new CodeFlowLexer(SourceStreams.fromString(code)));
+    tokens.fill();
+    CodeFlowParser parser = new CodeFlowParser(tokens);
+    parser.supportClass = this.supportClass;
+    parser.removeErrorListeners();
+    parser.setProfile(true);
+
+    long start = System.nanoTime();
+    parser.program();
+    return new ParseProfile(parser, System.nanoTime() - start);
   }
 
-  public CodeFlow parse(@NotNull File file) throws IOException {
-    try (final InputStream in = new FileInputStream(getAndCreateDir(workDir) + file.getPath())) {
-      return parse(IOUtils.toString(in));
+  /**
+   * Generate stage, converts the parse tree to a flowchart graph, running the semantic pass in the same traversal.
+   *
+   * @return an empty result when <code>program</code> is empty
+   */
+  public CodeFlowResult generate(@NotNull ParsedProgram program) {
+    return convert(program, semanticListener());
+  }
+
+  /**
+   * Semantic pass, defines the symbols of every scope and reports semantic warnings.
+   * Only for running it as a stage of its own, {@link #generate(ParsedProgram)} does it while converting.
+   *
+   * @return the program with its diagnostics, which {@link #convert(ParsedProgram)} passes on to the result
+   */
+  ParsedProgram analyze(@NotNull ParsedProgram program) {
+    final ParseTree ast = program.getTree();
+    if (ast == null || !semanticWarnings) {
+      return program;
     }
+    final ProgramTimer checkTimer = new ProgramTimer("syntax check time");
+    checkTimer.start();
+    ParseTreeWalker walker = new ParseTreeWalker();
+    SymbolDefListener symbolDefListener = SymbolDefListener.withoutSavedScopes(new Diagnostics(maxDiagnostics));
+    walker.walk(symbolDefListener, ast);
+    checkTimer.stopAndReport();
+    return new ParsedProgram(ast, program.getPredictionMode(), symbolDefListener.getDiagnostics());
+  }
+
+  /**
+   * Flowchart pass, converts an analyzed parse tree to a flowchart graph.
+   */
+  CodeFlowResult convert(@NotNull ParsedProgram program) {
+    return convert(program, null);
   }
 
-  public CodeFlow parseFile(@NotNull String path) throws IOException {
-    try (final InputStream in = new FileInputStream(getAndCreateDir(workDir) + path)) {
-      return parse(IOUtils.toString(in));
+  private CodeFlowResult convert(ParsedProgram program, SymbolDefListener symbolDefListener) {
+    final ParseTree ast = program.getTree();
+    if (ast == null) {
+      return new CodeFlowResult(this, null, format, height, width);
     }
+    final ProgramTimer convertFlowchartTimer = new ProgramTimer("Convert flowchart time");
+    convertFlowchartTimer.start();
+    FlowchartGenVisitor visitor = new FlowchartGenVisitor(flowchartConfig, symbolDefListener);
+    FlowchartFragment flowChart = visitor.visit(ast);
+    final CodeFlowResult result = connect(visitor, flowChart,
+        symbolDefListener != null ? visitor.getDiagnostics() : program.getDiagnostics());
+    convertFlowchartTimer.stopAndReport();
+    return result;
   }
 
-  public CodeFlow render(@NotNull Format format) {
-    this.format = format;
-    return this;
+  /**
+   * @return the semantic pass to run while converting, null when semantic warnings are off
+   */
+  @Nullable
+  SymbolDefListener semanticListener() {
+    // no later pass reads the scopes
+    return semanticWarnings ? SymbolDefListener.withoutSavedScopes(new Diagnostics(maxDiagnostics)) : null;
   }
 
-  public CodeFlow height(@NotNull Integer height) {
-    this.height = height;
-    if (graphviz != null) {
-      graphviz = graphviz.height(height);
+  CodeFlowResult connect(FlowchartGenVisitor visitor, FlowchartFragment flowChart, Diagnostics diagnostics) {
+    FlowchartConnector connector = new FlowchartConnector(visitor.functionCallNodes, visitor.subFragments);
+    connector.connect(flowChart.getGraph());
+    return new CodeFlowResult(this, flowChart.getGraph(), format, height, width, diagnostics);
+  }
+
+  private CodeFlowResult parseAndGenerate(CharStream input) {
+    if (!streamingGeneration) {
+      return generate(parseProgram(input));
+    }
+    try {
+      return parseStreaming(input);
+    } finally {
+      applyDfaCachePolicy();
     }
-    return this;
   }
 
-  public CodeFlow width(@NotNull Integer width) {
-    this.width = width;
-    if (graphviz != null) {
-      graphviz = graphviz.width(width);
+  /**
+   * Parse and convert in one pass, every toplevel declaration is converted as soon as it is parsed,
+   * then its parse tree is dropped.
+   *
+   * @see StreamingFlowchartListener
+   */
+  private CodeFlowResult parseStreaming(CharStream input) {
+    if (SourceStreams.isBlank(input)) {
+      return new CodeFlowResult(this, null, format, height, width);
+    }
+    final ProgramTimer streamingTimer = new ProgramTimer("parse and convert time");
+    streamingTimer.start();
+    final PooledParser pair = parserPool.acquire(input, failFast, supportClass);
+    try {
+      final StreamingFlowchartListener listener = new StreamingFlowchartListener(flowchartConfig, this::semanticListener);
+      pair.getParser().addParseListener(listener);
+      parseWith(pair);
+      // the visitor of the last parse attempt, with the diagnostics of that attempt only
+      final CodeFlowResult result = connect(listener.getVisitor(), listener.getFlowchart(), listener.getVisitor().getDiagnostics());
+      streamingTimer.stopAndReport();
+      return result;
+    } finally {
+      parserPool.release(pair);
     }
-    return this;
   }
 
-  public File toFile(@NotNull String pathName) throws IOException {
-    if (!pathName.endsWith("." + format.fileExtension)) {
-      pathName += ("." + format.fileExtension);
+  /**
+   * @return a view of this engine whose stages run asynchronously on <code>executors</code>
+   */
+  public AsyncCodeFlow async(@NotNull CodeFlowExecutors executors) {
+    return new AsyncCodeFlow(this, executors);
+  }
+
+  /**
+   * @return a session converting new versions of one source, only re-parsing the toplevel declarations that changed
+   */
+  public CodeFlowSession session() {
+    return new CodeFlowSession(this);
+  }
+
+  public CodeFlowResult parse(@NotNull File file) throws IOException {
+    return parseUtf8File(Paths.get(getAndCreateDir(workDir) + file.getPath()));
+  }
+
+  public CodeFlowResult parseFile(@NotNull String path) throws IOException {
+    return parseUtf8File(Paths.get(getAndCreateDir(workDir) + path));
+  }
+
+  /**
+   * Parse a UTF-8 source file, decoded straight into the parser's char stream, files of 1MB or more are memory-mapped.
+   * Relative paths are resolved against <code>workDir</code>.
+   *
+   * @see SourceStreams#fromPath(Path, java.nio.charset.Charset)
+   */
+  public CodeFlowResult parse(@NotNull Path path) throws IOException {
+    return parseUtf8File(Paths.get(workDir).resolve(path));
+  }
+
+  /**
+   * Parse everything <code>reader</code> supplies, the reader is not closed.
+   */
+  public CodeFlowResult parse(@NotNull Reader reader) throws IOException {
+    return parseAndGenerate(SourceStreams.fromReader(reader));
+  }
+
+  /**
+   * Parse UTF-8 bytes read from <code>channel</code> until its end, the channel is not closed.
+   */
+  public CodeFlowResult parse(@NotNull ReadableByteChannel channel) throws IOException {
+    return parseAndGenerate(SourceStreams.fromChannel(channel, StandardCharsets.UTF_8));
+  }
+
+  private CodeFlowResult parseUtf8File(Path path) throws IOException {
+    return parseAndGenerate(SourceStreams.fromPath(path, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Render every source file on the default executor, a pool of daemon threads on Java 8
+   * and virtual threads on Java 21+.
+   *
+   * @see #renderAll(Collection, Executor)
+   * @see ThreadPools#blockingExecutor()
+   */
+  public List<RenderReport> renderAll(@NotNull Collection<Path> sources) {
+    return renderAll(sources, ThreadPools.blockingExecutor());
+  }
+
+  /**
+   * Render every source file in parallel on <code>executor</code>, each one to <code>outDir</code>
+   * as <code>&lt;relative path without extension&gt;.&lt;format extension&gt;</code>, mirroring its directories.
+   * <p>
+   * Relative paths are resolved against <code>workDir</code>.
+   * A file that fails to read, parse or render only fails its own report, the rest of the batch goes on.
+   * Parsing and flowchart generation run fully in parallel, native renders queue up on the {@link NativeRenderer}.
+   *
+   * @param executor a {@link java.util.concurrent.ForkJoinPool} or any other executor
+   * @return one report per source, in the iteration order of <code>sources</code>
+   */
+  public List<RenderReport> renderAll(@NotNull Collection<Path> sources, @NotNull Executor executor) {
+    final List<CompletableFuture<RenderReport>> tasks = new ArrayList<>(sources.size());
+    for (Path source : sources) {
+      tasks.add(CompletableFuture.supplyAsync(() -> renderOne(source), executor));
+    }
+    final List<RenderReport> reports = new ArrayList<>(tasks.size());
+    for (CompletableFuture<RenderReport> task : tasks) {
+      reports.add(task.join());
     }
-    this.outFile = new File(getAndCreateDir(outDir) + pathName);
+    return reports;
+  }
 
-    if (useNative) {
-      renderWithNativeLibrary(this.graph.toString(), format.name().toLowerCase(), outFile.getAbsolutePath());
-    } else {
-      if (graphviz != null) {
-        try {
-          graphviz.render(this.format).toFile(outFile);
-        } catch (GraphvizException e) {
-          logger.error(e.getMessage());
-          renderWithNativeLibrary(this.graph.toString(), format.name().toLowerCase(), outFile.getAbsolutePath());
-        }
-      } else {
-        throw new IllegalStateException("Please call CodeFlow#parse first");
-      }
+  private RenderReport renderOne(Path source) {
+    long start = System.nanoTime();
+    Duration parseTime = Duration.ZERO;
+    try {
+      Path path = Paths.get(workDir).resolve(source);
+      CodeFlowResult result = parseUtf8File(path);
+      parseTime = Duration.ofNanos(System.nanoTime() - start);
+
+      start = System.nanoTime();
+      File output = result.toFile(outputName(path));
+      return new RenderReport(source, output, null, parseTime, Duration.ofNanos(System.nanoTime() - start));
+    } catch (Exception | TodoException | UnsatisfiedLinkError e) {
+      logger.warn("Failed to render {}: {}", source, e.toString());
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+      return parseTime.isZero() ?
+          new RenderReport(source, null, e, elapsed, Duration.ZERO) :
+          new RenderReport(source, null, e, parseTime, elapsed);
     }
-    return this.outFile;
   }
 
-  public BufferedImage toImage() throws IOException {
-    if (useNative) {
-      File file = SomeUtil.createTempFile(FlowchartNodeFactory.randomName(), "." + format.fileExtension);
-      renderWithNativeLibrary(this.graph.toString(), format.name().toLowerCase(), file.getAbsolutePath());
-      logger.debug("create tmp file: " + file.getAbsolutePath());
-      return ImageIO.read(file);
-    } else {
-      if (graphviz != null) {
-        try {
-          return graphviz.render(this.format).toImage();
-        } catch (GraphvizException e) {
-          File file = SomeUtil.createTempFile(FlowchartNodeFactory.randomName(), "." + format.fileExtension);
-          renderWithNativeLibrary(this.graph.toString(), format.name().toLowerCase(), file.getAbsolutePath());
-          logger.debug("create tmp file: " + file.getAbsolutePath());
-          return ImageIO.read(file);
-        }
-      } else {
-        throw new IllegalStateException("Please call CodeFlow#parse first");
-      }
+  /**
+   * Name of the rendered file under <code>outDir</code>, the source's path relative to <code>workDir</code> without extension,
+   * or its absolute path without root when it lies outside <code>workDir</code>.
+   * So <code>a/main.cf</code> and <code>b/main.cf</code> never overwrite each other.
+   */
+  String outputName(@NotNull Path path) throws IOException {
+    Path source = path.toAbsolutePath().normalize();
+    Path base = Paths.get(workDir).toAbsolutePath().normalize();
+    Path relative = source.startsWith(base) ? base.relativize(source) : source.subpath(0, source.getNameCount());
+    if (relative.getParent() != null) {
+      getAndCreateDir(Paths.get(outDir).resolve(relative.getParent()).toString());
     }
+    String fileName = relative.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    return relative.resolveSibling(dot > 0 ? fileName.substring(0, dot) : fileName).toString();
+  }
+
+  /**
+   * @see NativeRenderer
+   */
+  boolean renderWithNativeLibrary(String dotString, String format, String filename) throws IOException {
+    return NativeRenderer.getInstance().render(dotString, format, filename);
   }
 
-  private boolean renderWithNativeLibrary(String dotString, String format, String filename) {
-    SWIGTYPE_p_Agraph_t g = gv.readstring(dotString);
-    gv.layout(g, "dot");
-    return gv.render(g, format, filename);
+  /**
+   * @return file named <code>pathName</code> in <code>outDir</code>, with the extension of <code>format</code> appended if missing
+   */
+  File outputFile(@NotNull String pathName, @NotNull Format format) throws IOException {
+    if (!pathName.endsWith("." + format.fileExtension)) {
+      pathName += ("." + format.fileExtension);
+    }
+    return new File(getAndCreateDir(outDir) + pathName);
   }
 
-  private String getAndCreateDir(@NotNull String dir) throws IOException {
+  String getAndCreateDir(@NotNull String dir) throws IOException {
     if (!dir.endsWith("/")) {
       dir = dir + "/";
     }
@@ -276,25 +575,35 @@ public class CodeFlow {
     return dir;
   }
 
-  private void semanticCheck(ParseTree tree) {
-    ParseTreeWalker walker = new ParseTreeWalker();
-    SymbolDefListener symbolDefListener = new SymbolDefListener();
-
-    walker.walk(symbolDefListener, tree);
-    System.out.println(symbolDefListener.getScopesManager().getGlobalScope());
-
-    // evaluate expression, fall type mismatched
-//    EvaluateSymbolListener evaluateSymbolListener = new EvaluateSymbolListener(symbolDefListener.scopes, symbolDefListener.getGlobalScope());
-//    walker.walk(evaluateSymbolListener, tree);
-
-    SymbolResolveListener symbolResolveListener = new SymbolResolveListener(symbolDefListener.getScopesManager().scopes, symbolDefListener.getScopesManager().getGlobalScope());
-    walker.walk(symbolResolveListener, tree);
-  }
-
   public static CodeFlowBuilder builder() {
     return new CodeFlowBuilder();
   }
 
+  /**
+   * @return a builder pre-filled with this instance's settings, use it to derive a differently configured <code>CodeFlow</code>
+   */
+  public CodeFlowBuilder toBuilder() {
+    return new CodeFlowBuilder()
+        .supportClass(supportClass)
+        .failFast(failFast)
+        .useNative(useNative)
+        .height(height)
+        .width(width)
+        .workDir(workDir)
+        .outDir(outDir)
+        .format(format)
+        .flowchartConfig(flowchartConfig)
+        .twoStageParsing(twoStageParsing)
+        .parserPoolSize(parserPoolSize)
+        .dfaCachePolicy(dfaCachePolicy)
+        .streamingGeneration(streamingGeneration)
+        .handWrittenLexer(handWrittenLexer)
+        .parallelParsing(parallelParsing)
+        .parallelParsingExecutor(parallelParsingExecutor)
+        .semanticWarnings(semanticWarnings)
+        .maxDiagnostics(maxDiagnostics);
+  }
+
 
   public static class CodeFlowBuilder {
     private boolean supportClass;
@@ -302,9 +611,19 @@ public class CodeFlow {
     private boolean useNative;
     private Integer height;
     private Integer width;
-    private String workDir;
-    private String outDir;
-    private Format format;
+    private String workDir = "./";
+    private String outDir = "./";
+    private Format format = Format.PNG;
+    private FlowchartConfig flowchartConfig = FlowchartConfig.DEFAULT;
+    private boolean twoStageParsing = true;
+    private int parserPoolSize = Runtime.getRuntime().availableProcessors();
+    private DfaCachePolicy dfaCachePolicy = DfaCachePolicy.UNBOUNDED;
+    private boolean streamingGeneration;
+    private boolean handWrittenLexer;
+    private boolean parallelParsing;
+    private Executor parallelParsingExecutor = CodeFlowExecutors.DEFAULT.getParse();
+    private boolean semanticWarnings = true;
+    private int maxDiagnostics = Diagnostics.DEFAULT_LIMIT;
 
     CodeFlowBuilder() {
     }
@@ -349,12 +668,98 @@ public class CodeFlow {
       return this;
     }
 
+    public CodeFlow.CodeFlowBuilder flowchartConfig(FlowchartConfig flowchartConfig) {
+      this.flowchartConfig = flowchartConfig;
+      return this;
+    }
+
+    /**
+     * default true, the parse tree is the same either way, only the time to get it differs
+     */
+    public CodeFlow.CodeFlowBuilder twoStageParsing(boolean twoStageParsing) {
+      this.twoStageParsing = twoStageParsing;
+      return this;
+    }
+
+    /**
+     * default one per core, more is only useful when more threads parse at the same time
+     */
+    public CodeFlow.CodeFlowBuilder parserPoolSize(int parserPoolSize) {
+      this.parserPoolSize = parserPoolSize;
+      return this;
+    }
+
+    /**
+     * default {@link DfaCachePolicy#UNBOUNDED}, set a limit for long-running services
+     */
+    public CodeFlow.CodeFlowBuilder dfaCachePolicy(DfaCachePolicy dfaCachePolicy) {
+      this.dfaCachePolicy = dfaCachePolicy;
+      return this;
+    }
+
+    /**
+     * default false. When true, <code>parse</code> converts every toplevel declaration as soon as it is parsed
+     * and drops its parse tree, so memory no longer grows with the whole tree. The flowchart is the same.
+     * The stage methods {@link CodeFlow#parseProgram(String)} and {@link CodeFlow#generate(ParsedProgram)} are not affected
+     */
+    public CodeFlow.CodeFlowBuilder streamingGeneration(boolean streamingGeneration) {
+      this.streamingGeneration = streamingGeneration;
+      return this;
+    }
+
+    /**
+     * default false. When true, sources are lexed by a hand-written scanner instead of the generated lexer,
+     * the tokens are the same. It needs no prediction cache, so it is as fast right after a {@link DfaCache} reset as before
+     */
+    public CodeFlow.CodeFlowBuilder handWrittenLexer(boolean handWrittenLexer) {
+      this.handWrittenLexer = handWrittenLexer;
+      return this;
+    }
+
+    /**
+     * default false. When true, programs of thousands of tokens are split between toplevel declarations
+     * and the parts are parsed on all cores, the parse tree is the same.
+     * Not used with {@link #streamingGeneration(boolean)}, which converts while parsing one declaration after another
+     *
+     * @see ParallelProgramParser
+     */
+    public CodeFlow.CodeFlowBuilder parallelParsing(boolean parallelParsing) {
+      this.parallelParsing = parallelParsing;
+      return this;
+    }
+
+    /**
+     * executor of the chunks of {@link #parallelParsing(boolean)}, the parse stage executor of {@link CodeFlowExecutors#DEFAULT} by default.
+     * It may be the executor the parse itself runs on, even a bounded one: the parsing thread takes over the chunks no worker has started
+     */
+    public CodeFlow.CodeFlowBuilder parallelParsingExecutor(@NotNull Executor parallelParsingExecutor) {
+      this.parallelParsingExecutor = parallelParsingExecutor;
+      return this;
+    }
+
+    /**
+     * default true. When false, symbols are not defined and duplicated functions and variables are not warned about,
+     * converting is only the flowchart traversal
+     */
+    public CodeFlow.CodeFlowBuilder semanticWarnings(boolean semanticWarnings) {
+      this.semanticWarnings = semanticWarnings;
+      return this;
+    }
+
+    /**
+     * default {@link Diagnostics#DEFAULT_LIMIT}, how many semantic warnings a result keeps, the ones past it are only counted
+     */
+    public CodeFlow.CodeFlowBuilder maxDiagnostics(int maxDiagnostics) {
+      this.maxDiagnostics = maxDiagnostics;
+      return this;
+    }
+
     public CodeFlow build() {
-      return new CodeFlow(this.supportClass, this.failFast, this.useNative, this.height, this.width, this.workDir, this.outDir, this.format);
+      return new CodeFlow(this.supportClass, this.failFast, this.useNative, this.height, this.width, this.workDir, this.outDir, this.format, this.flowchartConfig, this.twoStageParsing, this.parserPoolSize, this.dfaCachePolicy, this.streamingGeneration, this.handWrittenLexer, this.parallelParsing, this.parallelParsingExecutor, this.semanticWarnings, this.maxDiagnostics);
     }
 
     public String toString() {
-      return "CodeFlow.CodeFlowBuilder(supportClass=" + this.supportClass + ", failFast=" + this.failFast + ", useNative=" + this.useNative + ", height=" + this.height + ", width=" + this.width + ", workDir=" + this.workDir + ", outDir=" + this.outDir + ", format=" + this.format + ", outFile=" + ")";
+      return "CodeFlow.CodeFlowBuilder(supportClass=" + this.supportClass + ", failFast=" + this.failFast + ", useNative=" + this.useNative + ", height=" + this.height + ", width=" + this.width + ", workDir=" + this.workDir + ", outDir=" + this.outDir + ", format=" + this.format + ", flowchartConfig=" + this.flowchartConfig + ", twoStageParsing=" + this.twoStageParsing + ", parserPoolSize=" + this.parserPoolSize + ", dfaCachePolicy=" + this.dfaCachePolicy + ", streamingGeneration=" + this.streamingGeneration + ", handWrittenLexer=" + this.handWrittenLexer + ", parallelParsing=" + this.parallelParsing + ", parallelParsingExecutor=" + this.parallelParsingExecutor + ", semanticWarnings=" + this.semanticWarnings + ", maxDiagnostics=" + this.maxDiagnostics + ")";
     }
   }
 }
@@ -0,0 +1,51 @@
+package moe.leer.codeflowcore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import moe.leer.codeflowcore.util.ThreadPools;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Executors of the four render stages used by {@link AsyncCodeFlow}.
+ * <p>
+ * Parse and generate are CPU-bound, layout blocks on graphviz,
+ * so give layout its own pool to keep it from starving the CPU stages.
+ * Parse and generate default to the common fork-join pool, layout and encode to {@link ThreadPools#blockingExecutor()},
+ * a pool of its own on Java 8 and virtual threads on Java 21+.
+ *
+ * @author leer
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+public final class CodeFlowExecutors {
+
+  public static final CodeFlowExecutors DEFAULT = CodeFlowExecutors.builder().build();
+
+  @NonNull
+  @Builder.Default
+  private final Executor parse = ForkJoinPool.commonPool();
+  @NonNull
+  @Builder.Default
+  private final Executor generate = ForkJoinPool.commonPool();
+  @NonNull
+  @Builder.Default
+  private final Executor layout = ThreadPools.blockingExecutor();
+  @NonNull
+  @Builder.Default
+  private final Executor encode = ThreadPools.blockingExecutor();
+
+  /**
+   * @return executors running parse and generate on <code>cpu</code>, layout and encode on <code>render</code>
+   */
+  public static CodeFlowExecutors of(@NonNull Executor cpu, @NonNull Executor render) {
+    return new CodeFlowExecutors(cpu, cpu, render, render);
+  }
+}
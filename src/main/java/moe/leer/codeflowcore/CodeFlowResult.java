@@ -0,0 +1,166 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Engine;
+import guru.nidi.graphviz.engine.Format;
+import guru.nidi.graphviz.engine.Graphviz;
+import guru.nidi.graphviz.engine.GraphvizException;
+import guru.nidi.graphviz.model.MutableGraph;
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import moe.leer.codeflowcore.util.SomeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static moe.leer.codeflowcore.CodeFlow.logger;
+
+/**
+ * Flowchart graph produced by one {@link CodeFlow#parse(String)} call.
+ * <p>
+ * A result never changes after creation, <code>render</code>, <code>height</code> and <code>width</code>
+ * return a new result, so it is safe to share between threads.
+ *
+ * @author leer
+ */
+@Getter
+public class CodeFlowResult {
+
+  private final CodeFlow codeFlow;
+  /**
+   * null when the parsed code is blank
+   */
+  @Nullable
+  private final MutableGraph graph;
+  private final Format format;
+  private final Integer height;
+  private final Integer width;
+  /**
+   * semantic warnings of the code, empty when <code>semanticWarnings</code> is off
+   */
+  private final Diagnostics diagnostics;
+
+  CodeFlowResult(@NotNull CodeFlow codeFlow, @Nullable MutableGraph graph, Format format, Integer height, Integer width) {
+    this(codeFlow, graph, format, height, width, Diagnostics.EMPTY);
+  }
+
+  CodeFlowResult(@NotNull CodeFlow codeFlow, @Nullable MutableGraph graph, Format format, Integer height, Integer width,
+                 @NotNull Diagnostics diagnostics) {
+    this.codeFlow = codeFlow;
+    this.graph = graph;
+    this.format = format;
+    this.height = height;
+    this.width = width;
+    this.diagnostics = diagnostics;
+  }
+
+  public CodeFlowResult render(@NotNull Format format) {
+    return new CodeFlowResult(codeFlow, graph, format, height, width, diagnostics);
+  }
+
+  public CodeFlowResult height(@NotNull Integer height) {
+    return new CodeFlowResult(codeFlow, graph, format, height, width, diagnostics);
+  }
+
+  public CodeFlowResult width(@NotNull Integer width) {
+    return new CodeFlowResult(codeFlow, graph, format, height, width, diagnostics);
+  }
+
+  /**
+   * @return the flowchart in dot language
+   */
+  public String toDot() {
+    return requireGraph().toString();
+  }
+
+  public File toFile(@NotNull String pathName) throws IOException {
+    File outFile = codeFlow.outputFile(pathName, format);
+
+    if (codeFlow.isUseNative()) {
+      codeFlow.renderWithNativeLibrary(toDot(), format.name().toLowerCase(), outFile.getAbsolutePath());
+    } else {
+      try {
+        graphviz().render(this.format).toFile(outFile);
+      } catch (GraphvizException e) {
+        logger.error(e.getMessage());
+        codeFlow.renderWithNativeLibrary(toDot(), format.name().toLowerCase(), outFile.getAbsolutePath());
+      }
+    }
+    return outFile;
+  }
+
+  public BufferedImage toImage() throws IOException {
+    if (codeFlow.isUseNative()) {
+      return renderTempImage();
+    } else {
+      try {
+        return graphviz().render(this.format).toImage();
+      } catch (GraphvizException e) {
+        return renderTempImage();
+      }
+    }
+  }
+
+  /**
+   * Layout stage, runs graphviz and keeps the output in memory.
+   * <p>
+   * Graphviz lays out and serializes a graph in one call, so the returned flowchart already holds the bytes
+   * in this result's format, the encode stage only writes or decodes them.
+   */
+  public RenderedFlowchart layout() throws IOException {
+    byte[] data;
+    if (codeFlow.isUseNative()) {
+      data = renderNativeBytes();
+    } else {
+      try {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        graphviz().render(this.format).toOutputStream(out);
+        data = out.toByteArray();
+      } catch (GraphvizException e) {
+        logger.error(e.getMessage());
+        data = renderNativeBytes();
+      }
+    }
+    return new RenderedFlowchart(codeFlow, format, data);
+  }
+
+  private byte[] renderNativeBytes() throws IOException {
+    File file = SomeUtil.createTempFile("codeflow-", "." + format.fileExtension);
+    try {
+      codeFlow.renderWithNativeLibrary(toDot(), format.name().toLowerCase(), file.getAbsolutePath());
+      return Files.readAllBytes(file.toPath());
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  private BufferedImage renderTempImage() throws IOException {
+    File file = SomeUtil.createTempFile("codeflow-", "." + format.fileExtension);
+    codeFlow.renderWithNativeLibrary(toDot(), format.name().toLowerCase(), file.getAbsolutePath());
+    logger.debug("create tmp file: " + file.getAbsolutePath());
+    return ImageIO.read(file);
+  }
+
+  private Graphviz graphviz() {
+    Graphviz graphviz = Graphviz.fromGraph(requireGraph()).engine(Engine.DOT);
+    if (height != null) {
+      graphviz = graphviz.height(height);
+    }
+    if (width != null) {
+      graphviz = graphviz.width(width);
+    }
+    return graphviz;
+  }
+
+  private MutableGraph requireGraph() {
+    if (graph == null) {
+      throw new IllegalStateException("Nothing to render, the parsed code is blank");
+    }
+    return graph;
+  }
+}
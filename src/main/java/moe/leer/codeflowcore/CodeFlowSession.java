@@ -0,0 +1,381 @@
+package moe.leer.codeflowcore;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.ConvertedFunction;
+import moe.leer.codeflowcore.lang.FlowchartGenVisitor;
+import moe.leer.codeflowcore.lang.ParallelProgramParser;
+import moe.leer.codeflowcore.lang.ParserPool;
+import moe.leer.codeflowcore.lang.ParserPool.PooledParser;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser.ProgramContext;
+import moe.leer.codeflowcore.util.ProgramTimer;
+import moe.leer.codeflowcore.util.SourceStreams;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Flowchart of one source edited over time, get one by {@link CodeFlow#session()}.
+ * <p>
+ * {@link #update} takes the whole new version, lexes it again and compares it with the last version token by token.
+ * Toplevel declarations before and after the changed tokens keep their parse trees, only the ones in between are parsed
+ * again, and unchanged functions reuse their flowchart fragments and are not checked again. So parsing, converting and
+ * the semantic pass cost about the size of the edited declarations, while lexing and linking the toplevel statements
+ * still go over the whole program.
+ * <p>
+ * The whole program is parsed, as {@link CodeFlow#parse(String)} does, when an edit can't be isolated:
+ * on the first update, when package or import declarations change, when the changed tokens may join declarations,
+ * and on syntax errors, which are reported as usual. Updates are compared with the last version parsed without errors.
+ * A session is not thread-safe, use one per source.
+ * <p>
+ * Kept declaration trees are shared between versions: the next update moves them under its own program node
+ * and points them to its own tokens. So a {@link #getProgram() program} is only valid until the next update.
+ *
+ * @author leer
+ */
+public class CodeFlowSession {
+
+  /**
+   * kept declarations hold on to the source version they were parsed from,
+   * past this many versions the whole program is parsed again
+   */
+  private static final int MAX_SOURCE_VERSIONS = 8;
+
+  /**
+   * A toplevel declaration of the last version, with its token range there.
+   */
+  private static class Declaration {
+    private final CodeFlowParser.DeclarationContext tree;
+    private int start;
+    private int stop;
+    private ConvertedFunction converted;
+
+    private Declaration(CodeFlowParser.DeclarationContext tree) {
+      this.tree = tree;
+      this.start = tree.start.getTokenIndex();
+      this.stop = tree.stop.getTokenIndex();
+    }
+
+    private void shift(List<Token> tokens, int shift) {
+      start += shift;
+      stop += shift;
+      final Token moved = tokens.get(start);
+      if (shift != 0 || tree.start.getStartIndex() != moved.getStartIndex() ||
+          tree.start.getLine() != moved.getLine() || tree.start.getCharPositionInLine() != moved.getCharPositionInLine()) {
+        // semantic warnings report token indexes and positions, the tree takes the tokens of the new version
+        reanchor(tree, tokens, start - tree.start.getTokenIndex());
+      }
+    }
+  }
+
+  @Getter
+  private final CodeFlow codeFlow;
+  /**
+   * program of the last update, invalidated by the next one, which reuses its declaration trees
+   */
+  @Getter
+  private ParsedProgram program;
+  /**
+   * declarations parsed by the last update, all of them when it parsed the whole program
+   */
+  @Getter
+  private int parsedDeclarations;
+  /**
+   * functions whose flowchart fragments the last update reused
+   */
+  @Getter
+  private int reusedFunctions;
+
+  // the last version parsed without errors, null before the first one
+  private String source;
+  private List<Token> tokens;
+  // package and import declarations, and the index of the token after them
+  private List<ParserRuleContext> header;
+  private int headerEnd;
+  private List<Declaration> declarations;
+
+  CodeFlowSession(@NotNull CodeFlow codeFlow) {
+    this.codeFlow = codeFlow;
+  }
+
+  /**
+   * @param code the whole new version of the source
+   * @return an empty result when <code>code</code> is blank
+   */
+  public CodeFlowResult update(@NotNull String code) {
+    final ProgramTimer updateTimer = new ProgramTimer("update time");
+    updateTimer.start();
+    try {
+      reusedFunctions = 0;
+      final CodeFlowResult result = parse(code) ? convert() : codeFlow.generate(program);
+      updateTimer.stopAndReport();
+      return result;
+    } finally {
+      codeFlow.applyDfaCachePolicy();
+    }
+  }
+
+  /**
+   * @return false when the program is not the tracked version, it is blank, has syntax errors or was not parsed to the end
+   */
+  private boolean parse(String code) {
+    final CharStream input = SourceStreams.fromString(code);
+    if (SourceStreams.isBlank(input)) {
+      source = null;
+      tokens = null;
+      header = null;
+      declarations = null;
+      program = new ParsedProgram(null, null);
+      parsedDeclarations = 0;
+      return false;
+    }
+    final ParserPool pool = codeFlow.getParserPool();
+    final PooledParser pair = pool.acquire(input, codeFlow.isFailFast(), codeFlow.isSupportClass());
+    try {
+      final CommonTokenStream stream = pair.getTokens();
+      // lexer errors are reported as by a whole program parse
+      stream.fill();
+      // the pair clears its token list when it is reused
+      final List<Token> lexed = new ArrayList<>(stream.getTokens());
+      if (reparse(code, lexed, stream.getTokenSource(), input)) {
+        return true;
+      }
+      program = codeFlow.parseTokens(pair, input);
+      final ProgramContext tree = (ProgramContext) program.getTree();
+      parsedDeclarations = tree.declaration().size();
+      if (pair.getParser().getNumberOfSyntaxErrors() > 0 || !complete(tree, lexed)) {
+        return false;
+      }
+      remember(code, lexed, tree);
+      return true;
+    } finally {
+      pool.release(pair);
+    }
+  }
+
+  private void remember(String code, List<Token> lexed, ProgramContext tree) {
+    source = code;
+    tokens = lexed;
+    header = new ArrayList<>(tree.importDeclaration().size() + 1);
+    if (tree.packageDeclaration() != null) {
+      header.add(tree.packageDeclaration());
+    }
+    header.addAll(tree.importDeclaration());
+    headerEnd = header.isEmpty() ? 0 : header.get(header.size() - 1).stop.getTokenIndex() + 1;
+    declarations = new ArrayList<>(tree.declaration().size());
+    for (CodeFlowParser.DeclarationContext declaration : tree.declaration()) {
+      declarations.add(new Declaration(declaration));
+    }
+  }
+
+  /**
+   * Parse only the declarations between the unchanged tokens at the start and at the end.
+   *
+   * @return false when the whole program must be parsed
+   */
+  private boolean reparse(String code, List<Token> lexed, TokenSource tokenSource, CharStream input) {
+    if (tokens == null || sourceVersions() > MAX_SOURCE_VERSIONS) {
+      return false;
+    }
+    final int oldEnd = tokens.size() - 1;
+    final int end = lexed.size() - 1;
+    // unchanged chars before and after the edit
+    final int length = Math.min(source.length(), code.length());
+    int prefixChars = 0;
+    while (prefixChars < length && source.charAt(prefixChars) == code.charAt(prefixChars)) {
+      prefixChars++;
+    }
+    int suffixChars = 0;
+    while (suffixChars < length - prefixChars &&
+        source.charAt(source.length() - 1 - suffixChars) == code.charAt(code.length() - 1 - suffixChars)) {
+      suffixChars++;
+    }
+    // tokens lexed from them the same way as before
+    int prefix = 0;
+    while (prefix < oldEnd && prefix < end && lexed.get(prefix).getStopIndex() < prefixChars &&
+        sameToken(tokens.get(prefix), lexed.get(prefix), 0)) {
+      prefix++;
+    }
+    final int charShift = code.length() - source.length();
+    int suffix = 0;
+    while (suffix < oldEnd - prefix && suffix < end - prefix &&
+        lexed.get(end - 1 - suffix).getStartIndex() >= code.length() - suffixChars &&
+        sameToken(tokens.get(oldEnd - 1 - suffix), lexed.get(end - 1 - suffix), charShift)) {
+      suffix++;
+    }
+    if (headerEnd > prefix) {
+      return false;
+    }
+
+    // declarations wholly before or after the changed tokens are kept
+    int before = 0;
+    while (before < declarations.size() && declarations.get(before).stop < prefix) {
+      before++;
+    }
+    int after = declarations.size();
+    while (after > before && declarations.get(after - 1).start >= oldEnd - suffix) {
+      after--;
+    }
+    final int tokenShift = end - oldEnd;
+    final int from = before > 0 ? declarations.get(before - 1).stop + 1 : headerEnd;
+    final int to = after < declarations.size() ? declarations.get(after).start + tokenShift : end;
+    if (!separated(lexed, from) || !separated(lexed, to)) {
+      return false;
+    }
+
+    final List<Declaration> parsed = new ArrayList<>();
+    PredictionMode predictionMode = codeFlow.isTwoStageParsing() ? PredictionMode.SLL : PredictionMode.LL;
+    if (nextOnChannel(lexed, from) < to) {
+      final ParallelProgramParser.Result changed = codeFlow.getParallelParser().parseRange(lexed, from, to,
+          tokenSource, input, codeFlow.isSupportClass(), codeFlow.isTwoStageParsing());
+      if (changed == null || changed.getTree().packageDeclaration() != null || !changed.getTree().importDeclaration().isEmpty()) {
+        return false;
+      }
+      for (CodeFlowParser.DeclarationContext declaration : changed.getTree().declaration()) {
+        parsed.add(new Declaration(declaration));
+      }
+      predictionMode = changed.getPredictionMode();
+    }
+
+    final List<Declaration> updated = new ArrayList<>(before + parsed.size() + declarations.size() - after);
+    updated.addAll(declarations.subList(0, before));
+    updated.addAll(parsed);
+    for (Declaration declaration : declarations.subList(after, declarations.size())) {
+      declaration.shift(lexed, tokenShift);
+      updated.add(declaration);
+    }
+    source = code;
+    tokens = lexed;
+    declarations = updated;
+    program = new ParsedProgram(join(lexed), predictionMode);
+    parsedDeclarations = parsed.size();
+    return true;
+  }
+
+  /**
+   * Convert the tracked version, reusing the fragments of the functions converted by earlier updates.
+   * Diagnostics of a reused function's params and body are the ones recorded when it was converted, moved to where it is now.
+   */
+  private CodeFlowResult convert() {
+    final FlowchartGenVisitor visitor = new FlowchartGenVisitor(codeFlow.getFlowchartConfig(), codeFlow.semanticListener());
+    visitor.beginProgram();
+    for (Declaration declaration : declarations) {
+      final CodeFlowParser.FunctionDeclareContext function = declaration.tree.functionDeclare();
+      if (function == null) {
+        visitor.acceptDeclaration(declaration.tree);
+      } else if (declaration.converted != null && visitor.acceptConverted(declaration.converted, function)) {
+        reusedFunctions++;
+      } else {
+        declaration.converted = visitor.acceptFunction(function);
+      }
+    }
+    return codeFlow.connect(visitor, visitor.endProgram(), visitor.getDiagnostics());
+  }
+
+  /**
+   * @return a program tree of the kept and the parsed declarations, as the parser builds it
+   */
+  private ProgramContext join(List<Token> lexed) {
+    final ProgramContext tree = new ProgramContext(null, -1);
+    for (ParserRuleContext child : header) {
+      child.setParent(tree);
+      tree.addAnyChild(child);
+    }
+    for (Declaration declaration : declarations) {
+      declaration.tree.setParent(tree);
+      tree.addAnyChild(declaration.tree);
+    }
+    tree.start = lexed.get(nextOnChannel(lexed, 0));
+    final int stop = previousOnChannel(lexed, lexed.size() - 2);
+    tree.stop = stop < 0 ? null : lexed.get(stop);
+    return tree;
+  }
+
+  /**
+   * @return false when the parser stopped early, before a token no declaration starts with, and dropped the rest
+   */
+  private static boolean complete(ProgramContext tree, List<Token> lexed) {
+    return (tree.stop == null ? -1 : tree.stop.getTokenIndex()) == previousOnChannel(lexed, lexed.size() - 2);
+  }
+
+  /**
+   * @return distinct source versions the kept parse trees refer to
+   */
+  private int sourceVersions() {
+    final Set<CharStream> inputs = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (ParserRuleContext child : header) {
+      inputs.add(child.start.getInputStream());
+    }
+    for (Declaration declaration : declarations) {
+      inputs.add(declaration.tree.start.getInputStream());
+    }
+    return inputs.size();
+  }
+
+  /**
+   * @return true when a declaration surely ends before the token at <code>index</code>
+   */
+  private static boolean separated(List<Token> lexed, int index) {
+    final int last = previousOnChannel(lexed, index - 1);
+    final Token next = lexed.get(nextOnChannel(lexed, index));
+    return last < 0 || next.getType() == Token.EOF || ParallelProgramParser.endsDeclaration(lexed.get(last), next);
+  }
+
+  private static int nextOnChannel(List<Token> lexed, int index) {
+    while (lexed.get(index).getChannel() != Token.DEFAULT_CHANNEL) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int previousOnChannel(List<Token> lexed, int index) {
+    while (index >= 0 && lexed.get(index).getChannel() != Token.DEFAULT_CHANNEL) {
+      index--;
+    }
+    return index;
+  }
+
+  /**
+   * Same token text, as both are lexed from the same chars, <code>shift</code> chars apart.
+   */
+  private static boolean sameToken(Token old, Token token, int shift) {
+    return old.getType() == token.getType() && old.getChannel() == token.getChannel() &&
+        old.getStartIndex() + shift == token.getStartIndex() && old.getStopIndex() + shift == token.getStopIndex();
+  }
+
+  /**
+   * Point every node of <code>tree</code> to the token <code>offset</code> indexes after its own in <code>lexed</code>.
+   */
+  private static void reanchor(ParseTree tree, List<Token> lexed, int offset) {
+    if (tree instanceof TerminalNodeImpl) {
+      final TerminalNodeImpl terminal = (TerminalNodeImpl) tree;
+      terminal.symbol = lexed.get(terminal.symbol.getTokenIndex() + offset);
+      return;
+    }
+    final ParserRuleContext ctx = (ParserRuleContext) tree;
+    final int start = ctx.start.getTokenIndex() + offset;
+    if (ctx.stop != null && ctx.stop.getTokenIndex() < ctx.start.getTokenIndex()) {
+      // an empty rule stops at the token before it, which may be outside of the moved tree
+      final int previous = previousOnChannel(lexed, start - 1);
+      ctx.stop = previous < 0 ? null : lexed.get(previous);
+    } else if (ctx.stop != null) {
+      ctx.stop = lexed.get(ctx.stop.getTokenIndex() + offset);
+    }
+    ctx.start = lexed.get(start);
+    for (int i = 0; i < ctx.getChildCount(); i++) {
+      reanchor(ctx.getChild(i), lexed, offset);
+    }
+  }
+}
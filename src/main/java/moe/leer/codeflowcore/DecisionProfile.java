@@ -0,0 +1,58 @@
+package moe.leer.codeflowcore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Prediction statistics of one parser decision, or of every decision of a rule, see {@link ParseProfile}.
+ *
+ * @author leer
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DecisionProfile {
+
+  private final String rule;
+  /**
+   * ANTLR decision number, -1 when this sums up a whole rule
+   */
+  private final int decision;
+  private final long invocations;
+  private final long predictionNanos;
+  private final long sllTotalLook;
+  private final long sllMaxLook;
+  /**
+   * how many predictions SLL could not resolve and fell back to full-context LL
+   */
+  private final long llFallbacks;
+  private final long llTotalLook;
+  private final long llMaxLook;
+  private final int ambiguities;
+  private final int contextSensitivities;
+  private final int errors;
+
+  static DecisionProfile of(@NotNull String rule, @NotNull DecisionInfo info) {
+    return new DecisionProfile(rule, info.decision, info.invocations, info.timeInPrediction,
+        info.SLL_TotalLook, info.SLL_MaxLook, info.LL_Fallback, info.LL_TotalLook, info.LL_MaxLook,
+        info.ambiguities.size(), info.contextSensitivities.size(), info.errors.size());
+  }
+
+  DecisionProfile plus(@NotNull DecisionProfile other) {
+    return new DecisionProfile(rule, -1, invocations + other.invocations, predictionNanos + other.predictionNanos,
+        sllTotalLook + other.sllTotalLook, Math.max(sllMaxLook, other.sllMaxLook),
+        llFallbacks + other.llFallbacks, llTotalLook + other.llTotalLook, Math.max(llMaxLook, other.llMaxLook),
+        ambiguities + other.ambiguities, contextSensitivities + other.contextSensitivities, errors + other.errors);
+  }
+
+  /**
+   * @return average tokens of SLL lookahead per prediction
+   */
+  public double getAverageSllLook() {
+    return invocations == 0 ? 0 : (double) sllTotalLook / invocations;
+  }
+}
@@ -0,0 +1,51 @@
+package moe.leer.codeflowcore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import moe.leer.codeflowcore.lang.DfaCache;
+
+import java.time.Duration;
+
+/**
+ * When to drop the parser's prediction cache, see {@link DfaCache}.
+ * <p>
+ * Checked after every parse, so the cache is only replaced between requests.
+ * The cache is shared by the whole process, give every <code>CodeFlow</code> the same policy.
+ *
+ * @author leer
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class DfaCachePolicy {
+
+  /**
+   * never reset, the behaviour of plain ANTLR
+   */
+  public static final DfaCachePolicy UNBOUNDED = DfaCachePolicy.builder().build();
+
+  /**
+   * reset when lexer and parser hold more DFA states than this together, 0 for no limit.
+   * Keep it well above the states right after {@link CodeFlow#warmUp()}, see {@link DfaCache#metrics()}
+   */
+  private final int maxStates;
+  /**
+   * reset when the cache is older than this, null for no limit
+   */
+  private final Duration maxAge;
+  /**
+   * parse the warm-up corpus in the background after a reset, see {@link CodeFlow#warmUp()}
+   */
+  @Builder.Default
+  private final boolean rewarm = true;
+
+  public boolean isUnbounded() {
+    return maxStates <= 0 && maxAge == null;
+  }
+}
@@ -1,38 +1,54 @@
 package moe.leer.codeflowcore;
 
-import lombok.Setter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
+ * Flowchart style, immutable so renders with different styles can run in parallel.
+ * <p>
+ * Build one with {@link #builder()} and pass it to {@link CodeFlow.CodeFlowBuilder#flowchartConfig(FlowchartConfig)}.
+ *
  * @author leer
  * Created at 12/20/19 6:10 PM
  */
-//@Accessors(chain = true, fluent = true)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
 public final class FlowchartConfig {
 
-  public static boolean virtualStartNode = true;
-  public static boolean virtualEndNode = true;
-  @Setter
-  public static String functionColor = "lightblue";
-  @Setter
-  public static boolean mergeSequences = false;
+  public static final FlowchartConfig DEFAULT = FlowchartConfig.builder().build();
+
+  @Builder.Default
+  private final boolean virtualStartNode = true;
+  @Builder.Default
+  private final boolean virtualEndNode = true;
+  @Builder.Default
+  private final String functionColor = "lightblue";
+  private final boolean mergeSequences;
   // You can set decision nodes' compass,
   // but the best you can do is not interfering the layout engine.
   // It will avoid most line intersections in graphviz.
   // Nevertheless, if you sill want to customize, the recommend preference is commented following.
-  public static String decisionTrueCompass; // s
-  public static String decisionFalseCompass; // w
-  public static String doWhileDecisionTrueCompass; // e
-  public static String doWhileDecisionFalseCompass; // s
+  private final String decisionTrueCompass; // s
+  private final String decisionFalseCompass; // w
+  private final String doWhileDecisionTrueCompass; // e
+  private final String doWhileDecisionFalseCompass; // s
 
+  public static class FlowchartConfigBuilder {
 
-  public static void setDecisionCompass(String decisionTrueCompass, String decisionFalseCompass) {
-    FlowchartConfig.decisionTrueCompass = decisionTrueCompass;
-    FlowchartConfig.decisionFalseCompass = decisionFalseCompass;
-  }
+    public FlowchartConfigBuilder decisionCompass(String decisionTrueCompass, String decisionFalseCompass) {
+      return decisionTrueCompass(decisionTrueCompass).decisionFalseCompass(decisionFalseCompass);
+    }
 
-  public static void setDoWhileDecisionCompass(String doWhileDecisionTrueCompass, String doWhileDecisionFalseCompass) {
-    FlowchartConfig.doWhileDecisionTrueCompass = doWhileDecisionTrueCompass;
-    FlowchartConfig.doWhileDecisionFalseCompass = doWhileDecisionFalseCompass;
+    public FlowchartConfigBuilder doWhileDecisionCompass(String doWhileDecisionTrueCompass, String doWhileDecisionFalseCompass) {
+      return doWhileDecisionTrueCompass(doWhileDecisionTrueCompass).doWhileDecisionFalseCompass(doWhileDecisionFalseCompass);
+    }
   }
 
 }
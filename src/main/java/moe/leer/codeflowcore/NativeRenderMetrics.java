@@ -0,0 +1,59 @@
+package moe.leer.codeflowcore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of {@link NativeRenderer} metrics, counters are totals since the JVM started.
+ *
+ * @author leer
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class NativeRenderMetrics {
+
+  /**
+   * renders waiting in the queue
+   */
+  private final int queueDepth;
+  private final int queueCapacity;
+  /**
+   * 1 when a render is running, otherwise 0
+   */
+  private final int activeRenders;
+  private final long submitted;
+  private final long started;
+  private final long completed;
+  /**
+   * renders that threw or that <code>gv.render</code> returned false for
+   */
+  private final long failed;
+  /**
+   * submissions that found the queue full and had to wait for room
+   */
+  private final long blockedSubmissions;
+  private final long totalWaitNanos;
+  private final long maxWaitNanos;
+  private final long totalRenderNanos;
+
+  /**
+   * @return average time a render spent in the queue before it started
+   */
+  public Duration getAverageWait() {
+    return Duration.ofNanos(started == 0 ? 0 : totalWaitNanos / started);
+  }
+
+  public Duration getMaxWait() {
+    return Duration.ofNanos(maxWaitNanos);
+  }
+
+  public Duration getAverageRenderTime() {
+    long finished = completed + failed;
+    return Duration.ofNanos(finished == 0 ? 0 : totalRenderNanos / finished);
+  }
+}
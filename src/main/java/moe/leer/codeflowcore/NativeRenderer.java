@@ -0,0 +1,117 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.util.BoundedExecutors;
+import org.graphviz.SWIGTYPE_p_Agraph_t;
+import org.graphviz.gv;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owner of every <code>org.graphviz.gv</code> call.
+ * <p>
+ * libgv keeps a global context which is not thread-safe, so all native renders run one by one
+ * on a single dedicated thread, callers only wait for their own render.
+ * Pending renders wait in a bounded queue, when it is full the submitting thread blocks until there's room.
+ * The capacity is read from the system property <code>codeflow.native.queueCapacity</code>, 64 by default.
+ *
+ * @author leer
+ */
+public final class NativeRenderer {
+
+  private static final NativeRenderer INSTANCE = new NativeRenderer(Integer.getInteger("codeflow.native.queueCapacity", 64));
+
+  private final int queueCapacity;
+  private final ThreadPoolExecutor executor;
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final LongAdder started = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder blockedSubmissions = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+  private final LongAdder totalRenderNanos = new LongAdder();
+
+  private NativeRenderer(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+    this.executor = BoundedExecutors.newBlockingExecutor("codeflow-native-render", 1, queueCapacity, blockedSubmissions::increment);
+  }
+
+  public static NativeRenderer getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Lay out <code>dot</code> and render it to <code>filename</code>, blocks until the render finished.
+   *
+   * @return what <code>gv.render</code> returns
+   */
+  boolean render(@NotNull String dot, @NotNull String format, @NotNull String filename) throws IOException {
+    final long enqueuedAt = System.nanoTime();
+    submitted.incrementAndGet();
+    Future<Boolean> future = executor.submit(() -> {
+      long startAt = System.nanoTime();
+      long wait = startAt - enqueuedAt;
+      started.increment();
+      totalWaitNanos.add(wait);
+      maxWaitNanos.accumulate(wait);
+      try {
+        SWIGTYPE_p_Agraph_t g = gv.readstring(dot);
+        try {
+          gv.layout(g, "dot");
+          return gv.render(g, format, filename);
+        } finally {
+          gv.rm(g);
+        }
+      } finally {
+        totalRenderNanos.add(System.nanoTime() - startAt);
+      }
+    });
+    try {
+      boolean rendered = Boolean.TRUE.equals(future.get());
+      // gv.render reports a failed layout or write with false instead of throwing
+      (rendered ? completed : failed).increment();
+      return rendered;
+    } catch (InterruptedException e) {
+      // the render still runs, but nobody waits for it
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for native render of " + filename);
+    } catch (ExecutionException e) {
+      failed.increment();
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * @return a snapshot of the queue and timing metrics
+   */
+  public NativeRenderMetrics metrics() {
+    return new NativeRenderMetrics(
+        executor.getQueue().size(),
+        queueCapacity,
+        executor.getActiveCount(),
+        submitted.get(),
+        started.sum(),
+        completed.sum(),
+        failed.sum(),
+        blockedSubmissions.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanos.get(),
+        totalRenderNanos.sum());
+  }
+}
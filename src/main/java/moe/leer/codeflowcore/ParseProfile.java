@@ -0,0 +1,86 @@
+package moe.leer.codeflowcore;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.ParseInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ANTLR decision statistics of one profiled parse, see {@link CodeFlow#profile(String)}.
+ * <p>
+ * Hot decisions have many invocations, long lookahead or LL fallbacks,
+ * those are the places where the grammar is worth changing.
+ *
+ * @author leer
+ */
+@Getter
+public class ParseProfile {
+
+  private final long parseNanos;
+  private final long predictionNanos;
+  /**
+   * decisions that were invoked, the most expensive first
+   */
+  private final List<DecisionProfile> decisions;
+
+  ParseProfile(@NotNull CodeFlowParser parser, long parseNanos) {
+    ParseInfo parseInfo = parser.getParseInfo();
+    this.parseNanos = parseNanos;
+    this.predictionNanos = parseInfo.getTotalTimeInPrediction();
+    List<DecisionProfile> decisions = new ArrayList<>();
+    for (DecisionInfo info : parseInfo.getDecisionInfo()) {
+      if (info.invocations > 0) {
+        int ruleIndex = parser.getATN().getDecisionState(info.decision).ruleIndex;
+        decisions.add(DecisionProfile.of(parser.getRuleNames()[ruleIndex], info));
+      }
+    }
+    decisions.sort(Comparator.comparingLong(DecisionProfile::getPredictionNanos).reversed());
+    this.decisions = Collections.unmodifiableList(decisions);
+  }
+
+  /**
+   * @return statistics summed up per rule, the most expensive first
+   */
+  public List<DecisionProfile> byRule() {
+    Map<String, DecisionProfile> rules = new LinkedHashMap<>();
+    for (DecisionProfile decision : decisions) {
+      rules.merge(decision.getRule(), decision, DecisionProfile::plus);
+    }
+    List<DecisionProfile> result = new ArrayList<>(rules.values());
+    result.sort(Comparator.comparingLong(DecisionProfile::getPredictionNanos).reversed());
+    return result;
+  }
+
+  public long getLlFallbacks() {
+    long sum = 0;
+    for (DecisionProfile decision : decisions) {
+      sum += decision.getLlFallbacks();
+    }
+    return sum;
+  }
+
+  /**
+   * @return a table of every invoked decision
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(String.format("parse %.3fms, prediction %.3fms, LL fallbacks %d%n",
+        parseNanos / 1e6, predictionNanos / 1e6, getLlFallbacks()));
+    sb.append(String.format("%-24s %4s %8s %10s %8s %6s %6s %6s %6s %6s%n",
+        "rule", "dec", "invoke", "time(us)", "avgSLL", "maxSLL", "LL", "maxLL", "ambig", "error"));
+    for (DecisionProfile d : decisions) {
+      sb.append(String.format("%-24s %4d %8d %10.1f %8.2f %6d %6d %6d %6d %6d%n",
+          d.getRule(), d.getDecision(), d.getInvocations(), d.getPredictionNanos() / 1e3, d.getAverageSllLook(),
+          d.getSllMaxLook(), d.getLlFallbacks(), d.getLlMaxLook(), d.getAmbiguities(), d.getErrors()));
+    }
+    return sb.toString();
+  }
+}
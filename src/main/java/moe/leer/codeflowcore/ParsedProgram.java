@@ -0,0 +1,46 @@
+package moe.leer.codeflowcore;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parse tree produced by the parse stage, see {@link CodeFlow#parseProgram(String)}.
+ *
+ * @author leer
+ */
+@Getter
+public class ParsedProgram {
+
+  /**
+   * null when the parsed code is blank
+   */
+  @Nullable
+  private final ParseTree tree;
+  /**
+   * which path of two-stage parsing produced the tree: <code>SLL</code> when the fast path succeeded,
+   * <code>LL</code> when it fell back or two-stage parsing is off, null when the code is blank
+   */
+  @Nullable
+  private final PredictionMode predictionMode;
+  /**
+   * reported by the semantic stage, empty until the program is analyzed
+   */
+  private final Diagnostics diagnostics;
+
+  ParsedProgram(@Nullable ParseTree tree, @Nullable PredictionMode predictionMode) {
+    this(tree, predictionMode, Diagnostics.EMPTY);
+  }
+
+  ParsedProgram(@Nullable ParseTree tree, @Nullable PredictionMode predictionMode, Diagnostics diagnostics) {
+    this.tree = tree;
+    this.predictionMode = predictionMode;
+    this.diagnostics = diagnostics;
+  }
+
+  public boolean isEmpty() {
+    return tree == null;
+  }
+}
@@ -0,0 +1,73 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Format;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identity of one render: the SHA-256 of the source plus every option that changes the output.
+ * Two renders with equal keys produce the same flowchart.
+ *
+ * @author leer
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class RenderKey {
+
+  /**
+   * lowercase hex SHA-256 of the UTF-8 source
+   */
+  private final String sourceHash;
+  private final boolean supportClass;
+  private final boolean failFast;
+  private final boolean useNative;
+  private final Format format;
+  private final Integer height;
+  private final Integer width;
+  private final FlowchartConfig flowchartConfig;
+
+  private RenderKey(String sourceHash, CodeFlow codeFlow) {
+    this.sourceHash = sourceHash;
+    this.supportClass = codeFlow.isSupportClass();
+    this.failFast = codeFlow.isFailFast();
+    this.useNative = codeFlow.isUseNative();
+    this.format = codeFlow.getFormat();
+    this.height = codeFlow.getHeight();
+    this.width = codeFlow.getWidth();
+    this.flowchartConfig = codeFlow.getFlowchartConfig();
+  }
+
+  public static RenderKey of(@NotNull CodeFlow codeFlow, @NotNull String code) {
+    return new RenderKey(sha256(code), codeFlow);
+  }
+
+  /**
+   * @return lowercase hex SHA-256 of the whole key, stable across JVMs, usable as an HTTP entity tag
+   */
+  public String digest() {
+    return sha256(toString());
+  }
+
+  private static String sha256(String code) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+    final char[] hex = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      hex[i * 2] = Character.forDigit((digest[i] >> 4) & 0xf, 16);
+      hex[i * 2 + 1] = Character.forDigit(digest[i] & 0xf, 16);
+    }
+    return new String(hex);
+  }
+}
@@ -0,0 +1,201 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.util.BoundedExecutors;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Render pipeline for sustained load: every {@link Stage} has its own thread pool and bounded queue.
+ * <p>
+ * A finished task hands its output to the next stage, and blocks while that stage's queue is full.
+ * So when layout falls behind, the cheap CPU stages run ahead only until the queues between them are full,
+ * then {@link #submit(String, String)} blocks the producer. Nothing is buffered without bound.
+ * <p>
+ * {@link #close()} drains every stage in order, all submitted renders complete before it returns.
+ *
+ * @author leer
+ */
+public class RenderPipeline implements AutoCloseable {
+
+  public enum Stage {
+    /**
+     * lex and parse to a parse tree
+     */
+    PARSE,
+    /**
+     * define symbols, report semantic warnings
+     */
+    SEMANTIC,
+    /**
+     * convert the parse tree to a flowchart graph
+     */
+    FLOWCHART,
+    /**
+     * graphviz layout and serialization
+     */
+    LAYOUT,
+    /**
+     * write the output file
+     */
+    ENCODE
+  }
+
+  private final CodeFlow codeFlow;
+  private final Map<Stage, ThreadPoolExecutor> executors = new EnumMap<>(Stage.class);
+  private final Map<Stage, LongAdder> blockedSubmissions = new EnumMap<>(Stage.class);
+
+  private RenderPipeline(RenderPipelineBuilder builder) {
+    this.codeFlow = builder.codeFlow;
+    for (Stage stage : Stage.values()) {
+      LongAdder blocked = new LongAdder();
+      blockedSubmissions.put(stage, blocked);
+      executors.put(stage, BoundedExecutors.newBlockingExecutor(
+          "codeflow-" + stage.name().toLowerCase(), builder.threads(stage), builder.queueCapacity(stage), blocked::increment));
+    }
+  }
+
+  public static RenderPipelineBuilder builder(@NotNull CodeFlow codeFlow) {
+    return new RenderPipelineBuilder(codeFlow);
+  }
+
+  /**
+   * Queue a render of <code>code</code> to <code>pathName</code> in <code>outDir</code>,
+   * blocks while the parse queue is full.
+   *
+   * @return completes with the written file, or with the error of the stage that failed
+   */
+  public CompletableFuture<File> submit(@NotNull String code, @NotNull String pathName) {
+    final CompletableFuture<File> result = new CompletableFuture<>();
+    run(Stage.PARSE, result, () -> codeFlow.parseProgram(code),
+        program -> run(Stage.SEMANTIC, result, () -> codeFlow.analyze(program),
+            analyzed -> run(Stage.FLOWCHART, result, () -> codeFlow.convert(analyzed),
+                flowchart -> run(Stage.LAYOUT, result, flowchart::layout,
+                    rendered -> run(Stage.ENCODE, result, () -> rendered.toFile(pathName), result::complete)))));
+    return result;
+  }
+
+  private <T> void run(Stage stage, CompletableFuture<File> result, Callable<T> work, Consumer<T> next) {
+    try {
+      executors.get(stage).execute(() -> {
+        final T value;
+        try {
+          value = work.call();
+        } catch (Throwable e) {
+          // TodoException is an Error, the future must complete whatever was thrown.
+          // Wrapped because SyntaxErrorException is a CancellationException, which would cancel the future
+          result.completeExceptionally(new CompletionException(e));
+          return;
+        }
+        next.accept(value);
+      });
+    } catch (RejectedExecutionException e) {
+      result.completeExceptionally(new CompletionException(e));
+    }
+  }
+
+  /**
+   * @return tasks waiting in the queue of <code>stage</code>
+   */
+  public int queueDepth(@NotNull Stage stage) {
+    return executors.get(stage).getQueue().size();
+  }
+
+  /**
+   * @return tasks <code>stage</code> has finished
+   */
+  public long completedCount(@NotNull Stage stage) {
+    return executors.get(stage).getCompletedTaskCount();
+  }
+
+  /**
+   * @return how many times a submitter had to wait for room in the queue of <code>stage</code>
+   */
+  public long blockedCount(@NotNull Stage stage) {
+    return blockedSubmissions.get(stage).sum();
+  }
+
+  /**
+   * Stop accepting renders and wait until every submitted render completed.
+   */
+  @Override
+  public void close() {
+    try {
+      for (Stage stage : Stage.values()) {
+        ThreadPoolExecutor executor = executors.get(stage);
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public static class RenderPipelineBuilder {
+    private final CodeFlow codeFlow;
+    private final Map<Stage, Integer> threads = new EnumMap<>(Stage.class);
+    private final Map<Stage, Integer> queueCapacities = new EnumMap<>(Stage.class);
+    private int queueCapacity = 64;
+
+    RenderPipelineBuilder(@NotNull CodeFlow codeFlow) {
+      this.codeFlow = codeFlow;
+    }
+
+    /**
+     * Defaults: one per core for parse, semantic and flowchart,
+     * layout one per core, or one when the native renderer is used, since it renders one by one anyway,
+     * encode two.
+     */
+    public RenderPipelineBuilder threads(@NotNull Stage stage, int threads) {
+      this.threads.put(stage, threads);
+      return this;
+    }
+
+    /**
+     * queue capacity of every stage without its own, 64 by default
+     */
+    public RenderPipelineBuilder queueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+      return this;
+    }
+
+    public RenderPipelineBuilder queueCapacity(@NotNull Stage stage, int queueCapacity) {
+      this.queueCapacities.put(stage, queueCapacity);
+      return this;
+    }
+
+    public RenderPipeline build() {
+      return new RenderPipeline(this);
+    }
+
+    private int threads(Stage stage) {
+      Integer n = threads.get(stage);
+      if (n != null) {
+        return n;
+      }
+      int cores = Runtime.getRuntime().availableProcessors();
+      switch (stage) {
+        case LAYOUT:
+          return codeFlow.isUseNative() ? 1 : cores;
+        case ENCODE:
+          return 2;
+        default:
+          return cores;
+      }
+    }
+
+    private int queueCapacity(Stage stage) {
+      return queueCapacities.getOrDefault(stage, queueCapacity);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package moe.leer.codeflowcore;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of rendering one source file in {@link CodeFlow#renderAll(java.util.Collection)}.
+ * <p>
+ * A failed file never aborts the batch, its error is kept here instead.
+ *
+ * @author leer
+ */
+@Getter
+@ToString
+public class RenderReport {
+
+  private final Path source;
+  /**
+   * null when the render failed
+   */
+  @Nullable
+  private final File output;
+  /**
+   * null when the render succeeded
+   */
+  @Nullable
+  private final Throwable error;
+  /**
+   * time spent on reading, parsing and flowchart generation
+   */
+  private final Duration parseTime;
+  /**
+   * time spent on layout and encoding, zero if the file failed before rendering
+   */
+  private final Duration renderTime;
+
+  RenderReport(@NotNull Path source, @Nullable File output, @Nullable Throwable error, Duration parseTime, Duration renderTime) {
+    this.source = source;
+    this.output = output;
+    this.error = error;
+    this.parseTime = parseTime;
+    this.renderTime = renderTime;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  public Duration getTotalTime() {
+    return parseTime.plus(renderTime);
+  }
+}
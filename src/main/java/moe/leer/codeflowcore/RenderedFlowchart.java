@@ -0,0 +1,55 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Format;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Graphviz output of one flowchart, produced by {@link CodeFlowResult#layout()}.
+ * <p>
+ * <code>toFile</code> and <code>toImage</code> are the encode stage, they don't touch graphviz.
+ *
+ * @author leer
+ */
+public class RenderedFlowchart {
+
+  private final CodeFlow codeFlow;
+  @Getter
+  private final Format format;
+  private final byte[] data;
+
+  RenderedFlowchart(@NotNull CodeFlow codeFlow, @NotNull Format format, @NotNull byte[] data) {
+    this.codeFlow = codeFlow;
+    this.format = format;
+    this.data = data;
+  }
+
+  /**
+   * @return a copy of the graphviz output
+   */
+  public byte[] getBytes() {
+    return data.clone();
+  }
+
+  public File toFile(@NotNull String pathName) throws IOException {
+    File outFile = codeFlow.outputFile(pathName, format);
+    Files.write(outFile.toPath(), data);
+    return outFile;
+  }
+
+  /**
+   * @return null when the format is not an image format ImageIO can decode, like svg or dot
+   */
+  @Nullable
+  public BufferedImage toImage() throws IOException {
+    return ImageIO.read(new ByteArrayInputStream(data));
+  }
+}
@@ -3,7 +3,6 @@ package moe.leer.codeflowcore.graph;
 import guru.nidi.graphviz.attribute.*;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import moe.leer.codeflowcore.FlowchartConfig;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import org.antlr.v4.runtime.ParserRuleContext;
 
@@ -22,8 +21,8 @@ import static moe.leer.codeflowcore.graph.FlowchartNodeFactory.uniqueFcNode;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Flowchart {
 
-  public static FlowchartNode startNode() {
-    return uniqueFcNode(FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
+  public static FlowchartNode startNode(NodeIdAllocator ids) {
+    return uniqueFcNode(ids, FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
 
@@ -31,24 +30,24 @@ public class Flowchart {
     return fcNode(FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
-  public static FlowchartNode startNode(String start) {
-    return uniqueFcNode(start, FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
+  public static FlowchartNode startNode(NodeIdAllocator ids, String start) {
+    return uniqueFcNode(ids, start, FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
   public static FlowchartNode sameStartNode(String start) {
     return fcNode(start, FlowchartNodeType.START).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
-  public static FlowchartNode endNode() {
-    return uniqueFcNode(FlowchartNodeType.END).add(Shape.RECTANGLE, Style.ROUNDED);
+  public static FlowchartNode endNode(NodeIdAllocator ids) {
+    return uniqueFcNode(ids, FlowchartNodeType.END).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
   public static FlowchartNode sameEndNode() {
     return fcNode(FlowchartNodeType.END).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
-  public static FlowchartNode endNode(String end) {
-    return uniqueFcNode(end, FlowchartNodeType.END).add(Shape.RECTANGLE, Style.ROUNDED);
+  public static FlowchartNode endNode(NodeIdAllocator ids, String end) {
+    return uniqueFcNode(ids, end, FlowchartNodeType.END).add(Shape.RECTANGLE, Style.ROUNDED);
   }
 
   /**
@@ -61,31 +60,31 @@ public class Flowchart {
   /**
    * Create a UNIQUE node in <code>FlowchartType.PROCESS</code> type even if <code>process</code> text is same.
    */
-  public static FlowchartNode processNode(String process) {
-    return uniqueFcNode(process, FlowchartNodeType.PROCESS)
+  public static FlowchartNode processNode(NodeIdAllocator ids, String process) {
+    return uniqueFcNode(ids, process, FlowchartNodeType.PROCESS)
         .add(Shape.RECTANGLE);
   }
 
-  public static FlowchartNode processNode(ParserRuleContext ctx) {
+  public static FlowchartNode processNode(NodeIdAllocator ids, ParserRuleContext ctx) {
     String process = ANTLRUtil.getTextFromInputStream(ctx);
-    return processNode(process);
+    return processNode(ids, process);
   }
 
-  public static FlowchartNode functionCallNode(String exp, FlowchartNodeType type) {
-    return uniqueFcNode(exp, type)
-        .add(getShape(type), Color.named(FlowchartConfig.functionColor), Style.FILLED);
+  public static FlowchartNode functionCallNode(NodeIdAllocator ids, String exp, FlowchartNodeType type, String color) {
+    return uniqueFcNode(ids, exp, type)
+        .add(getShape(type), Color.named(color), Style.FILLED);
   }
 
-  public static FlowchartNode functionCallNode(ParserRuleContext context, FlowchartNodeType type) {
-    return functionCallNode(ANTLRUtil.getTextFromInputStream(context), type);
+  public static FlowchartNode functionCallNode(NodeIdAllocator ids, ParserRuleContext context, FlowchartNodeType type, String color) {
+    return functionCallNode(ids, ANTLRUtil.getTextFromInputStream(context), type, color);
   }
 
   /**
    * Create a UNIQUE node in <code>FlowchartType.DECISION</code> type even if <code>process</code> text is same.
    */
-  public static FlowchartNode decisionNode(String decision) {
+  public static FlowchartNode decisionNode(NodeIdAllocator ids, String decision) {
     // special font size for decision node
-    FlowchartNode node = uniqueFcNode(decision, FlowchartNodeType.DECISION)
+    FlowchartNode node = uniqueFcNode(ids, decision, FlowchartNodeType.DECISION)
         .add(Shape.DIAMOND);
     if (decision.length() >= 10 && decision.length() <= 20) {
       node.add(Font.size(12));
@@ -95,24 +94,24 @@ public class Flowchart {
     return node;
   }
 
-  public static FlowchartNode decisionNode(ParserRuleContext ctx) {
+  public static FlowchartNode decisionNode(NodeIdAllocator ids, ParserRuleContext ctx) {
     String decision = ANTLRUtil.getTextFromInputStream(ctx);
-    return decisionNode(decision);
+    return decisionNode(ids, decision);
   }
 
-  public static FlowchartNode breakNode(String label) {
+  public static FlowchartNode breakNode(NodeIdAllocator ids, String label) {
 //    return uniqueFcNode("break " + label, FlowchartNodeType.PROCESS).add(Shape.NONE);
     FlowchartNode node = new BreakFlowchartNode(
-        mutNode("break-" + label + FlowchartNodeFactory.randomName())
+        mutNode(ids.nextId())
             .add(Label.of("break " + label), Shape.NONE),
         label);
     return node;
   }
 
-  public static FlowchartNode continueNode(String label) {
+  public static FlowchartNode continueNode(NodeIdAllocator ids, String label) {
 //    return uniqueFcNode("continue " + label, FlowchartNodeType.PROCESS).add(Shape.NONE);
     FlowchartNode node = new ContinueFlowchartNode(
-        mutNode("continue-" + label + FlowchartNodeFactory.randomName())
+        mutNode(ids.nextId())
             .add(Label.of("continue " + label), Shape.NONE),
         label);
     return node;
@@ -6,7 +6,6 @@ import guru.nidi.graphviz.model.MutableGraph;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import moe.leer.codeflowcore.FlowchartConfig;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
@@ -100,8 +99,9 @@ public class FlowchartFragment {
   private MutableGraph graph;
 
 
-  private Set<BreakFlowchartNode> breakNodes = new HashSet<>(4);
-  private Set<ContinueFlowchartNode> continueNodes = new HashSet<>(4);
+  // keep insertion order, so that links are created in the same order every render
+  private Set<BreakFlowchartNode> breakNodes = new LinkedHashSet<>(4);
+  private Set<ContinueFlowchartNode> continueNodes = new LinkedHashSet<>(4);
 
   public void addBreakNode(BreakFlowchartNode node) {
     breakNodes.add(node);
@@ -148,9 +148,9 @@ public class FlowchartFragment {
       if (!stop.isLinkable()) continue;
       if (this.isMatchType(FlowchartFragmentType.DO_WHILE) &&
           stop.getType() == FlowchartNodeType.DECISION) { // special port compass for "do while" loop
-        if (StringUtils.isNotBlank(FlowchartConfig.doWhileDecisionFalseCompass)) {
+        if (StringUtils.isNotBlank(stop.getLoopFalseCompass())) {
           stop.addLink(
-              compassLink(stop, Compass.of(FlowchartConfig.doWhileDecisionFalseCompass).get(), other.start).with(Flowchart.falseLable())
+              compassLink(stop, Compass.of(stop.getLoopFalseCompass()).get(), other.start).with(Flowchart.falseLable())
           );
         } else {
           stop.addLink(
@@ -158,6 +158,7 @@ public class FlowchartFragment {
           );
         }
       } else if (stop.getType() == FlowchartNodeType.DECISION) {
+        // decision node carries its own port compass
         stop.addFalseConditionLink(other.start);
       } else {
         stop.addLink(other.start);
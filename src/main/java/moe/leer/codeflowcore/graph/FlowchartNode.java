@@ -6,7 +6,7 @@ import guru.nidi.graphviz.attribute.Label;
 import guru.nidi.graphviz.attribute.MapAttributes;
 import guru.nidi.graphviz.model.*;
 import lombok.Getter;
-import moe.leer.codeflowcore.FlowchartConfig;
+import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,6 +36,21 @@ public class FlowchartNode implements MutableAttributed<FlowchartNode, ForNode>,
   protected Link trueLink;
   @Getter
   protected Link falseLink;
+  /**
+   * Port compass of condition links, link without compass when blank
+   */
+  @Getter
+  @Setter
+  protected String trueCompass;
+  @Getter
+  @Setter
+  protected String falseCompass;
+  /**
+   * Port compass of the false link when a "do while" fragment links the next one, link without compass when blank
+   */
+  @Getter
+  @Setter
+  protected String loopFalseCompass;
 
   public FlowchartNode(@NotNull MutableNode node) {
     this.node = node;
@@ -220,9 +235,9 @@ public class FlowchartNode implements MutableAttributed<FlowchartNode, ForNode>,
   public FlowchartNode addTrueConditionLink(@NotNull FlowchartNode target, @NotNull String trueCondition) {
     if (type == FlowchartNodeType.DECISION) {
       Link link;
-      if (StringUtils.isNotBlank(FlowchartConfig.decisionTrueCompass)) {
+      if (StringUtils.isNotBlank(trueCompass)) {
         link = compassLink(this,
-            Compass.of(FlowchartConfig.decisionTrueCompass).get(),
+            Compass.of(trueCompass).get(),
             target).
             with(Label.of(trueCondition));
         addLink(link);
@@ -248,8 +263,8 @@ public class FlowchartNode implements MutableAttributed<FlowchartNode, ForNode>,
   public FlowchartNode addFalseConditionLink(@NotNull FlowchartNode target, @NotNull String falseCondition) {
     if (type == FlowchartNodeType.DECISION) {
       Link link;
-      if (StringUtils.isNotBlank(FlowchartConfig.decisionFalseCompass)) {
-        link = compassLink(this, Compass.of(FlowchartConfig.decisionFalseCompass).get(), target).with(Label.of(falseCondition));
+      if (StringUtils.isNotBlank(falseCompass)) {
+        link = compassLink(this, Compass.of(falseCompass).get(), target).with(Label.of(falseCondition));
         addLink(link);
       } else {
         link = to(target).with(Label.of(falseCondition));
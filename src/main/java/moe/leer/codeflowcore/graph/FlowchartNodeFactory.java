@@ -5,7 +5,6 @@ import guru.nidi.graphviz.attribute.Label;
 import guru.nidi.graphviz.model.Compass;
 import guru.nidi.graphviz.model.Link;
 import guru.nidi.graphviz.model.LinkTarget;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,28 +17,23 @@ import static guru.nidi.graphviz.model.Factory.mutNode;
  */
 public class FlowchartNodeFactory {
 
-  public static long nodeCount;
-
-  @NotNull
-  public static String randomName() {
-    if (nodeCount == Long.MAX_VALUE) nodeCount = 0;
-    return "-" + nodeCount++ + RandomStringUtils.randomAlphabetic(1);
-  }
-
   public static FlowchartNode fcNode(String name, FlowchartNodeType type) {
     return modifyFontSize(new FlowchartNode(mutNode(name, false).add(Label.of(name))).setType(type), name);
   }
 
-  public static FlowchartNode uniqueFcNode(String name, FlowchartNodeType type) {
-    return modifyFontSize(new FlowchartNode(mutNode(name + randomName(), false).add(Label.of(name))).setType(type), name);
+  /**
+   * Node text is kept in label, node name is an id allocated by <code>ids</code>
+   */
+  public static FlowchartNode uniqueFcNode(@NotNull NodeIdAllocator ids, String name, FlowchartNodeType type) {
+    return modifyFontSize(new FlowchartNode(mutNode(ids.nextId(), false).add(Label.of(name))).setType(type), name);
   }
 
   public static FlowchartNode fcNode(@NotNull FlowchartNodeType type) {
     return new FlowchartNode(mutNode(Label.of(type.name()))).setType(type);
   }
 
-  public static FlowchartNode uniqueFcNode(@NotNull FlowchartNodeType type) {
-    return new FlowchartNode(mutNode(type.name() + randomName())).add(Label.of(type.name())).setType(type);
+  public static FlowchartNode uniqueFcNode(@NotNull NodeIdAllocator ids, @NotNull FlowchartNodeType type) {
+    return new FlowchartNode(mutNode(ids.nextId())).add(Label.of(type.name())).setType(type);
   }
 
   @NotNull
@@ -0,0 +1,36 @@
+package moe.leer.codeflowcore.graph;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Allocate compact, deterministic node ids in one scope of one render.
+ * <p>
+ * A render owns its allocators and never shares them between threads, so there's no synchronization here.
+ * Every function gets its own scope, ids of a function are stable no matter what changed around it.
+ * <p>
+ * Example: top-level scope -> "0", "1", "2", scope "fact:1" -> "fact:1.0", "fact:1.1"
+ *
+ * @author leer
+ * @see FlowchartNodeFactory
+ */
+public class NodeIdAllocator {
+
+  private final String prefix;
+  private int count;
+
+  /**
+   * Allocator of the top-level scope
+   */
+  public NodeIdAllocator() {
+    this.prefix = "";
+  }
+
+  public NodeIdAllocator(@NotNull String scope) {
+    this.prefix = scope.isEmpty() ? "" : scope + ".";
+  }
+
+  @NotNull
+  public String nextId() {
+    return prefix + count++;
+  }
+}
@@ -6,11 +6,17 @@ import moe.leer.codeflowcore.FlowchartConfig;
 import moe.leer.codeflowcore.graph.*;
 import moe.leer.codeflowcore.lang.parser.CodeFlowBaseVisitor;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import moe.leer.codeflowcore.lang.semantic.SymbolDefListener;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKeys;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import moe.leer.codeflowcore.util.ParseUtil;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,12 +38,99 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
 
   //  @Getter
 //  private List<FlowchartNode> functionCallNodes = new ArrayList<>();
-  public Map<FlowchartNode, List<String>> functionCallNodes = new HashMap<>(8);
+  // call node -> called function
+  public Map<FlowchartNode, FunctionKey> functionCallNodes = new LinkedHashMap<>(8);
   // breakNode -> label, default label is empty
-  public Set<FlowchartNode> allBreakNodes = new HashSet<>(8);
-  public Set<FlowchartNode> allContinueNodes = new HashSet<>(8);
+  public Set<FlowchartNode> allBreakNodes = new LinkedHashSet<>(8);
+  public Set<FlowchartNode> allContinueNodes = new LinkedHashSet<>(8);
   // label name -> block
-  public Map<String, FlowchartFragment> labeledFragments = new HashMap<>(8);
+  public Map<String, FlowchartFragment> labeledFragments = new LinkedHashMap<>(8);
+
+  protected final FlowchartConfig config;
+  /**
+   * Node ids of current scope, function declaration switches to its own allocator
+   */
+  protected NodeIdAllocator ids = new NodeIdAllocator();
+  /**
+   * Keys of the functions declared and called, a function called many times has one key
+   */
+  protected final FunctionKeys functionKeys = new FunctionKeys();
+  /**
+   * Semantic pass run along, so the tree is traversed once, null when the tree was analyzed before or is not analyzed at all
+   */
+  protected final SymbolDefListener symbolDefListener;
+
+  public BaseFlowchartVisitor(@NotNull FlowchartConfig config) {
+    this(config, null);
+  }
+
+  public BaseFlowchartVisitor(@NotNull FlowchartConfig config, @Nullable SymbolDefListener symbolDefListener) {
+    this.config = config;
+    this.symbolDefListener = symbolDefListener;
+  }
+
+  /**
+   * @return what the semantic pass run along reported, empty when there is none
+   */
+  public Diagnostics getDiagnostics() {
+    return symbolDefListener != null ? symbolDefListener.getDiagnostics() : Diagnostics.EMPTY;
+  }
+
+  /**
+   * Define the symbols of a part the flowchart doesn't look into.
+   * Only class bodies and array initializers, both in braces, can hold more than variable declarations,
+   * such a part is walked as the separate semantic pass would.
+   *
+   * @param text        text of <code>ctx</code>
+   * @param declarators variable declarations of <code>ctx</code>, if any
+   */
+  protected void defineSymbols(ParserRuleContext ctx, String text, @Nullable CodeFlowParser.VariableDeclaratorsContext declarators) {
+    if (symbolDefListener == null) {
+      return;
+    }
+    if (text.indexOf('{') >= 0) {
+      ParseTreeWalker.DEFAULT.walk(symbolDefListener, ctx);
+    } else if (declarators != null) {
+      symbolDefListener.exitVariableDeclarators(declarators);
+    }
+  }
+
+  protected void defineSymbols(ParserRuleContext ctx) {
+    if (symbolDefListener != null) {
+      defineSymbols(ctx, ANTLRUtil.getTextFromInputStream(ctx), null);
+    }
+  }
+
+  /**
+   * Link the statements of a block in the block's scope
+   *
+   * @return null when the block is empty
+   */
+  protected FlowchartFragment visitBlockBody(CodeFlowParser.BlockContext ctx) {
+    if (symbolDefListener != null) {
+      symbolDefListener.enterBlock(ctx);
+    }
+    FlowchartFragment fragment = visitBlockStatements(ctx.blockStatements());
+    if (symbolDefListener != null) {
+      symbolDefListener.exitBlock(ctx);
+    }
+    return fragment;
+  }
+
+  /**
+   * Create a decision node which links with the configured port compass
+   */
+  protected FlowchartNode decisionNode(ParserRuleContext ctx) {
+    return decisionNode(ANTLRUtil.getTextFromInputStream(ctx));
+  }
+
+  protected FlowchartNode decisionNode(String decision) {
+    FlowchartNode node = Flowchart.decisionNode(ids, decision);
+    node.setTrueCompass(config.getDecisionTrueCompass());
+    node.setFalseCompass(config.getDecisionFalseCompass());
+    node.setLoopFalseCompass(config.getDoWhileDecisionFalseCompass());
+    return node;
+  }
 
   public boolean isExpressionAFunctionCall(CodeFlowParser.ExpressionContext expressionContext) {
     return grepFunctionCallContext(expressionContext) != null;
@@ -60,47 +153,68 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
     return super.visitProgram(ctx);
   }
 
-  public FlowchartFragment linkStatements(ParserRuleContext ctx) {
-    if (ctx instanceof CodeFlowParser.BlockStatementsContext || ctx instanceof CodeFlowParser.TopLevelStmtsContext) {
-      List<CodeFlowParser.BlockStatementContext> blockStatements;
-      if (ctx instanceof CodeFlowParser.BlockStatementsContext) {
-        blockStatements = ((CodeFlowParser.BlockStatementsContext) ctx).blockStatement();
-      } else {
-        blockStatements = ((CodeFlowParser.TopLevelStmtsContext) ctx).blockStatement();
+  /**
+   * Link a run of statements, a block's statements or consecutive toplevel statements
+   *
+   * @return null when <code>blockStatements</code> is empty
+   */
+  public FlowchartFragment linkStatements(List<CodeFlowParser.BlockStatementContext> blockStatements) {
+    StatementLinker linker = new StatementLinker();
+    for (CodeFlowParser.BlockStatementContext context : blockStatements) {
+      linker.add(context);
+    }
+    return linker.finish();
+  }
+
+  /**
+   * Links a run of statements one by one, so a statement's parse tree is no longer needed once it was added.
+   *
+   * @see #linkStatements(List)
+   */
+  protected class StatementLinker {
+    private FlowchartFragment preFragment, firstFragment;
+    private final Set<BreakFlowchartNode> breakNodes = new LinkedHashSet<>(4);
+    private final Set<ContinueFlowchartNode> continueNodes = new LinkedHashSet<>(4);
+
+    public void add(CodeFlowParser.BlockStatementContext context) {
+      FlowchartFragment fragment = visitBlockStatement(context);
+      logger.trace("fragment: {}", fragment);
+      if (firstFragment == null) {
+        firstFragment = fragment;
       }
-      FlowchartFragment preFragment = null, firstFragment = null;
-      Set<BreakFlowchartNode> breakNodes = new HashSet<>(4);
-      Set<ContinueFlowchartNode> continueNodes = new HashSet<>(4);
-      for (CodeFlowParser.BlockStatementContext context : blockStatements) {
-        FlowchartFragment fragment = visitBlockStatement(context);
-        logger.debug("fragment: {}", fragment);
-        if (firstFragment == null) {
-          firstFragment = fragment;
-        }
-        if (fragment.isMatchType(FlowchartFragmentType.BREAK)) {
-          breakNodes.addAll(fragment.getBreakNodes());
-        }
-        if (fragment.isMatchType(FlowchartFragmentType.CONTINUE)) {
-          continueNodes.addAll(fragment.getContinueNodes());
-        }
-        if (preFragment != null) {
-          if (!preFragment.isMatchType(FlowchartFragmentType.END)) {
-            // merge current fragment to previous fragment while both are a single statement
-            if (FlowchartConfig.mergeSequences &&
-                preFragment.isMatchAllTypes(FlowchartFragmentType.SEQUENCE) &&
-                fragment.isMatchAllTypes(FlowchartFragmentType.SEQUENCE) &&
-                preFragment.getStops().size() == 1 && fragment.getStops().size() == 1) {
-              Label label = Label.of(preFragment.getStart().getLabelString() + "\n" + fragment.getStart().getLabelString());
-              preFragment.getStart().add(label);
-            } else {
-              preFragment.link(fragment);
-              preFragment = fragment;
-            }
+      if (fragment.isMatchType(FlowchartFragmentType.BREAK)) {
+        breakNodes.addAll(fragment.getBreakNodes());
+      }
+      if (fragment.isMatchType(FlowchartFragmentType.CONTINUE)) {
+        continueNodes.addAll(fragment.getContinueNodes());
+      }
+      if (preFragment != null) {
+        if (!preFragment.isMatchType(FlowchartFragmentType.END)) {
+          // merge current fragment to previous fragment while both are a single statement
+          if (config.isMergeSequences() &&
+              preFragment.isMatchAllTypes(FlowchartFragmentType.SEQUENCE) &&
+              fragment.isMatchAllTypes(FlowchartFragmentType.SEQUENCE) &&
+              preFragment.getStops().size() == 1 && fragment.getStops().size() == 1) {
+            Label label = Label.of(preFragment.getStart().getLabelString() + "\n" + fragment.getStart().getLabelString());
+            preFragment.getStart().add(label);
+          } else {
+            preFragment.link(fragment);
+            preFragment = fragment;
           }
-        } else {
-          preFragment = fragment;
         }
+      } else {
+        preFragment = fragment;
       }
+    }
+
+    public boolean isEmpty() {
+      return firstFragment == null;
+    }
+
+    /**
+     * @return the linked run, null when no statement was added
+     */
+    public FlowchartFragment finish() {
       if (firstFragment != null) {
         firstFragment.setStops(preFragment.getStops());
         firstFragment.addBreakNodes(breakNodes);
@@ -114,12 +228,6 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
       }
       return firstFragment;
     }
-    return null;
-  }
-
-  @Override
-  public FlowchartFragment visitTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx) {
-    return linkStatements(ctx);
   }
 
   /**
@@ -127,7 +235,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
    */
   @Override
   public FlowchartFragment visitBlockStatements(CodeFlowParser.BlockStatementsContext ctx) {
-    return linkStatements(ctx);
+    return linkStatements(ctx.blockStatement());
   }
 
   @Override
@@ -140,10 +248,17 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
    */
   @Override
   public FlowchartFragment visitStatement(CodeFlowParser.StatementContext ctx) {
-    logger.info("visitStatement");
+    logger.trace("visitStatement");
     String single = ANTLRUtil.getTextFromInputStream(ctx);
     if (ctx.block() != null) {
-      return super.visitStatement(ctx);
+      if (symbolDefListener != null) {
+        symbolDefListener.enterBlock(ctx.block());
+      }
+      FlowchartFragment blockFragment = super.visitStatement(ctx);
+      if (symbolDefListener != null) {
+        symbolDefListener.exitBlock(ctx.block());
+      }
+      return blockFragment;
     } else if (ctx.ifBlock() != null) {
       return visitIfBlock(ctx.ifBlock());
     } else if (ctx.switchBlock() != null) {
@@ -155,19 +270,20 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
     } else if (ctx.doWhileBlock() != null) {
       return visitDoWhileBlock(ctx.doWhileBlock());
     } else if (ctx.returnToken != null) {
+      defineSymbols(ctx, single, null);
       // function call in return expression
       // todo convert tail recursion to loop
       if (isExpressionAFunctionCall(ctx.expression())) {
-        FlowchartNode call = Flowchart.functionCallNode(ctx, FlowchartNodeType.END);
+        FlowchartNode call = Flowchart.functionCallNode(ids, ctx, FlowchartNodeType.END, config.getFunctionColor());
         CodeFlowParser.FunctionCallContext functionCallContext = grepFunctionCallContext(ctx.expression());
-        functionCallNodes.put(call, asArrayList(ParseUtil.getFunctionFullName2(functionCallContext)));
+        functionCallNodes.put(call, ParseUtil.getFunctionKey(functionCallContext, functionKeys));
         return FlowchartFragment.create(EnumSet.of(FlowchartFragmentType.END, FlowchartFragmentType.FUNCTION_CALL), call, call);
       } else {
-        return FlowchartFragment.create(FlowchartFragmentType.END, Flowchart.endNode(single));
+        return FlowchartFragment.create(FlowchartFragmentType.END, Flowchart.endNode(ids, single));
       }
     } else if (ctx.breakToken != null) {
       String where = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : "";
-      FlowchartNode breakNode = Flowchart.breakNode(where);
+      FlowchartNode breakNode = Flowchart.breakNode(ids, where);
       FlowchartFragment breakFragment = FlowchartFragment.create(FlowchartFragmentType.BREAK, breakNode, emptyArrayList());
       breakFragment.addBreakNode((BreakFlowchartNode) breakNode);
 
@@ -175,7 +291,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
       return breakFragment;
     } else if (ctx.continueToken != null) {
       String where = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : "";
-      FlowchartNode continueNode = Flowchart.continueNode(where);
+      FlowchartNode continueNode = Flowchart.continueNode(ids, where);
       FlowchartFragment continueFragment = FlowchartFragment.create(FlowchartFragmentType.CONTINUE, continueNode, emptyArrayList());
       continueFragment.addContinueNode((ContinueFlowchartNode) continueNode);
 
@@ -188,16 +304,18 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
       throw TODO("empty statement");
     } else if (ctx.labelStmt != null) {
       throw TODO("label statement");
-    } else if (ctx.expressionStmt != null) {
+    } else if (ctx.expressionStmt != null && !ParseUtil.isAssignment(ctx.expressionStmt)) {
+      defineSymbols(ctx, single, null);
       return visitExpression(ctx.expressionStmt);
-    } else { // variableDeclarators ,variableAssign
+    } else { // variableDeclarators ,variableAssign, "a = b"
+      defineSymbols(ctx, single, ctx.variableDeclarators());
       if (ctx.variableDeclarators() != null) {
         for (CodeFlowParser.VariableDeclaratorContext varCtx : ctx.variableDeclarators().variableDeclarator()) {
           if (varCtx.variableInitializer() != null && varCtx.variableInitializer().expression() != null) {
             if (isExpressionAFunctionCall(varCtx.variableInitializer().expression())) {
               CodeFlowParser.FunctionCallContext functionCallContext = grepFunctionCallContext(varCtx.variableInitializer().expression());
-              FlowchartNode call = Flowchart.functionCallNode(ctx, FlowchartNodeType.PROCESS);
-              functionCallNodes.put(call, asArrayList(ParseUtil.getFunctionFullName2(functionCallContext)));
+              FlowchartNode call = Flowchart.functionCallNode(ids, ctx, FlowchartNodeType.PROCESS, config.getFunctionColor());
+              functionCallNodes.put(call, ParseUtil.getFunctionKey(functionCallContext, functionKeys));
               return FlowchartFragment.create(FlowchartFragmentType.FUNCTION_CALL, call, call);
             }
           }
@@ -205,7 +323,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
       } else if (ctx.variableAssign() != null) {
 
       }
-      return FlowchartFragment.singleProcess(Flowchart.processNode(single));
+      return FlowchartFragment.singleProcess(Flowchart.processNode(ids, single));
     }
   }
 
@@ -216,28 +334,29 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
   public FlowchartFragment visitExpression(CodeFlowParser.ExpressionContext ctx) {
     if (ctx.functionCall() != null) {
 //      FlowchartNode call = Flowchart.processNode(ctx).add(Color.LIGHTBLUE, Style.FILLED);
-      FlowchartNode call = Flowchart.functionCallNode(ctx, FlowchartNodeType.PROCESS);
+      FlowchartNode call = Flowchart.functionCallNode(ids, ctx, FlowchartNodeType.PROCESS, config.getFunctionColor());
       CodeFlowParser.FunctionCallContext functionCallContext = grepFunctionCallContext(ctx);
-      functionCallNodes.put(call, asArrayList(ParseUtil.getFunctionFullName2(functionCallContext)));
+      functionCallNodes.put(call, ParseUtil.getFunctionKey(functionCallContext, functionKeys));
       return FlowchartFragment.create(FlowchartFragmentType.FUNCTION_CALL, call, call);
     } else if (ctx.QUESTION() != null && ctx.COLON() != null) { //Ternary operator
       throw TODO("Ternary operator");
     } else {
-      return FlowchartFragment.singleProcess(Flowchart.processNode(ctx));
+      return FlowchartFragment.singleProcess(Flowchart.processNode(ids, ctx));
     }
   }
 
   @Override
   public FlowchartFragment visitIfBlock(CodeFlowParser.IfBlockContext ctx) {
-    logger.info("visited ifBlock");
-    FlowchartNode decisionNode = Flowchart.decisionNode(ctx.parExpression().expression());
+    logger.trace("visited ifBlock");
+    FlowchartNode decisionNode = decisionNode(ctx.parExpression().expression());
+    defineSymbols(ctx.parExpression());
 
     CodeFlowParser.StatementContext statementContext = ctx.statement(0);
     // if branch, recursively support nesting other blocks
     FlowchartFragment firstFragment;
     // if block
     if (statementContext.block() != null && statementContext.block().blockStatements() != null) {
-      firstFragment = visitBlockStatements(statementContext.block().blockStatements());
+      firstFragment = visitBlockBody(statementContext.block());
     } else { // single if statement without braces
       firstFragment = visitStatement(statementContext);
     }
@@ -271,7 +390,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
       } else { // else
         FlowchartFragment elseBlock;
         if (elseBranch.block() != null) {
-          elseBlock = visitBlockStatements(elseBranch.block().blockStatements());
+          elseBlock = visitBlockBody(elseBranch.block());
         } else {
           elseBlock = visitStatement(elseBranch);
         }
@@ -297,7 +416,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
     if (!firstFragment.getContinueNodes().isEmpty()) {
       firstFragment.addType(FlowchartFragmentType.CONTINUE);
     }
-    logger.debug("ifFragment: {}", firstFragment);
+    logger.trace("ifFragment: {}", firstFragment);
     return firstFragment;
   }
 
@@ -306,10 +425,11 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
   @Override
   public FlowchartFragment visitSwitchBlock(CodeFlowParser.SwitchBlockContext ctx) {
     switchConditionPrefix = ANTLRUtil.getTextFromInputStream(ctx.parExpression().expression());
+    defineSymbols(ctx.parExpression());
     if (ctx.switchCaseGroup() != null) {
       // link all switch case group
       FlowchartFragment preFragment = null, firstFragment = null;
-      Set<BreakFlowchartNode> breakNodes = new HashSet<>(4);
+      Set<BreakFlowchartNode> breakNodes = new LinkedHashSet<>(4);
       for (CodeFlowParser.SwitchCaseGroupContext switchGroupContext : ctx.switchCaseGroup()) {
         FlowchartFragment fragment = visitSwitchCaseGroup(switchGroupContext);
         if (firstFragment == null) {
@@ -349,7 +469,7 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
         firstFragment.addStopNodes(new ArrayList<>(breakNodes));
         // the break node is used
         // firstFragment.addBreakNodes(breakNodes);
-        firstFragment.setBreakNodes(new HashSet<>(4));
+        firstFragment.setBreakNodes(new LinkedHashSet<>(4));
         // clear other type
         firstFragment.setType(FlowchartFragmentType.SWITCH);
       }
@@ -366,7 +486,10 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
     for (int i = 1; i < ctx.switchCase().size(); i++) {
       conditionBuilder.append(" || ").append(ANTLRUtil.getTextFromInputStream(ctx.switchCase(i).constantExpression));
     }
-    FlowchartNode conditionNode = Flowchart.decisionNode(conditionBuilder.toString());
+    FlowchartNode conditionNode = decisionNode(conditionBuilder.toString());
+    for (CodeFlowParser.SwitchCaseContext switchCase : ctx.switchCase()) {
+      defineSymbols(switchCase);
+    }
     FlowchartFragment caseFragment = visitBlockStatements(ctx.blockStatements());
     caseFragment.linkDecisionNodeAsTrueStart(conditionNode);
     caseFragment.addStopNode(conditionNode);
@@ -402,19 +525,23 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
   @Override
   public FlowchartFragment visitForBlock(CodeFlowParser.ForBlockContext ctx) {
     FlowchartFragment forBlockStmtFragment = null;
+    CodeFlowParser.ForInitExpContext forInitExpCtx = ctx.forExpressions().forInitExp();
+    if (symbolDefListener != null) {
+      defineSymbols(ctx.forExpressions(), ANTLRUtil.getTextFromInputStream(ctx.forExpressions()),
+          forInitExpCtx != null ? forInitExpCtx.variableDeclarators() : null);
+    }
     if (ctx.forExpressions().enhancedForExpression() != null) {
       // todo iterator for
       throw TODO("translate to Iterator");
     } else {
-      CodeFlowParser.ForInitExpContext forInitExpCtx = ctx.forExpressions().forInitExp();
       CodeFlowParser.ForConditionExpContext forConditionExpCtx = ctx.forExpressions().forConditionExp();
       CodeFlowParser.ForUpdateExpContext forUpdateExpCtx = ctx.forExpressions().forUpdateExp();
-      FlowchartNode initNode = Flowchart.processNode(forInitExpCtx);
-      FlowchartNode conditionNode = Flowchart.decisionNode(forConditionExpCtx);
-      FlowchartNode updateNode = Flowchart.processNode(forUpdateExpCtx);
+      FlowchartNode initNode = Flowchart.processNode(ids, forInitExpCtx);
+      FlowchartNode conditionNode = decisionNode(forConditionExpCtx);
+      FlowchartNode updateNode = Flowchart.processNode(ids, forUpdateExpCtx);
       // for block
       if (ctx.statement().block() != null) {
-        forBlockStmtFragment = visitBlockStatements(ctx.statement().block().blockStatements());
+        forBlockStmtFragment = visitBlockBody(ctx.statement().block());
       } else { // for block without braces
         forBlockStmtFragment = visitStatement(ctx.statement());
       }
@@ -436,9 +563,10 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
   @Override
   public FlowchartFragment visitWhileBlock(CodeFlowParser.WhileBlockContext ctx) {
     FlowchartFragment whileFragment = null;
-    FlowchartNode conditionNode = Flowchart.decisionNode(ctx.parExpression().expression());
+    FlowchartNode conditionNode = decisionNode(ctx.parExpression().expression());
+    defineSymbols(ctx.parExpression());
     if (ctx.statement().block() != null) {
-      whileFragment = visitBlockStatements(ctx.statement().block().blockStatements());
+      whileFragment = visitBlockBody(ctx.statement().block());
     } else {
       whileFragment = visitStatement(ctx.statement());
     }
@@ -453,12 +581,13 @@ public class BaseFlowchartVisitor extends CodeFlowBaseVisitor<FlowchartFragment>
   @Override
   public FlowchartFragment visitDoWhileBlock(CodeFlowParser.DoWhileBlockContext ctx) {
     FlowchartFragment dowhileFragemnt;
-    FlowchartNode conditionNode = Flowchart.decisionNode(ctx.parExpression().expression());
-    dowhileFragemnt = visitBlockStatements(ctx.block().blockStatements());
-    if (StringUtils.isNotBlank(FlowchartConfig.doWhileDecisionTrueCompass)) {
+    FlowchartNode conditionNode = decisionNode(ctx.parExpression().expression());
+    dowhileFragemnt = visitBlockBody(ctx.block());
+    defineSymbols(ctx.parExpression());
+    if (StringUtils.isNotBlank(config.getDoWhileDecisionTrueCompass())) {
       conditionNode.addLink(
 //        to(dowhileFragemnt.getStart())
-          compassLink(conditionNode, Compass.of(FlowchartConfig.doWhileDecisionTrueCompass).get(), dowhileFragemnt.getStart(), Compass.EAST)
+          compassLink(conditionNode, Compass.of(config.getDoWhileDecisionTrueCompass()).get(), dowhileFragemnt.getStart(), Compass.EAST)
               .with(trueLabel())
       );
     } else {
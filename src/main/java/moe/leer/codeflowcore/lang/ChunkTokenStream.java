@@ -0,0 +1,158 @@
+package moe.leer.codeflowcore.lang;
+
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.List;
+
+/**
+ * Read-only view of the tokens <code>[from, to)</code> of a fully lexed program, followed by <code>eof</code>.
+ * <p>
+ * Behaves like a {@link org.antlr.v4.runtime.CommonTokenStream} of only these tokens, but indexes stay the ones
+ * of the whole program and no token is modified, so parsers on different threads can read views of the same list.
+ * Looking back reads the tokens before the chunk too, so empty rules at its start stop at the same token
+ * as when the whole program is parsed.
+ *
+ * @author leer
+ */
+final class ChunkTokenStream implements TokenStream {
+
+  private final List<Token> tokens;
+  private final int from;
+  private final int to;
+  private final Token eof;
+  private final TokenSource source;
+  private int p;
+
+  ChunkTokenStream(List<Token> tokens, int from, int to, Token eof, TokenSource source) {
+    this.tokens = tokens;
+    this.from = from;
+    this.to = to;
+    this.eof = eof;
+    this.source = source;
+    this.p = nextOnChannel(from);
+  }
+
+  private Token token(int index) {
+    return index < to ? tokens.get(index) : eof;
+  }
+
+  private int nextOnChannel(int index) {
+    while (index < to && tokens.get(index).getChannel() != Token.DEFAULT_CHANNEL) {
+      index++;
+    }
+    return index;
+  }
+
+  private int previousOnChannel(int index) {
+    while (index >= 0 && tokens.get(index).getChannel() != Token.DEFAULT_CHANNEL) {
+      index--;
+    }
+    return index;
+  }
+
+  @Override
+  public Token LT(int k) {
+    if (k == 0) {
+      return null;
+    }
+    int index = p;
+    if (k < 0) {
+      for (int n = 0; n < -k; n++) {
+        index = previousOnChannel(index - 1);
+        if (index < 0) {
+          return null;
+        }
+      }
+      return tokens.get(index);
+    }
+    for (int n = 1; n < k && index < to; n++) {
+      index = nextOnChannel(index + 1);
+    }
+    return token(index);
+  }
+
+  @Override
+  public int LA(int i) {
+    final Token token = LT(i);
+    return token == null ? Token.INVALID_TYPE : token.getType();
+  }
+
+  @Override
+  public void consume() {
+    if (p >= to) {
+      throw new IllegalStateException("cannot consume EOF");
+    }
+    p = nextOnChannel(p + 1);
+  }
+
+  @Override
+  public int mark() {
+    // everything is buffered
+    return 0;
+  }
+
+  @Override
+  public void release(int marker) {
+  }
+
+  @Override
+  public int index() {
+    return p;
+  }
+
+  @Override
+  public void seek(int index) {
+    p = nextOnChannel(Math.max(index, from));
+  }
+
+  @Override
+  public int size() {
+    return to + 1;
+  }
+
+  @Override
+  public String getSourceName() {
+    return source.getSourceName();
+  }
+
+  @Override
+  public Token get(int index) {
+    if (index < from || index > to) {
+      throw new IndexOutOfBoundsException("token index " + index + " out of range " + from + ".." + to);
+    }
+    return token(index);
+  }
+
+  @Override
+  public TokenSource getTokenSource() {
+    return source;
+  }
+
+  @Override
+  public String getText(Interval interval) {
+    final StringBuilder text = new StringBuilder();
+    for (int i = Math.max(interval.a, from); i <= interval.b && i < to; i++) {
+      text.append(tokens.get(i).getText());
+    }
+    return text.toString();
+  }
+
+  @Override
+  public String getText() {
+    return getText(Interval.of(from, to - 1));
+  }
+
+  @Override
+  public String getText(RuleContext ctx) {
+    return getText(ctx.getSourceInterval());
+  }
+
+  @Override
+  public String getText(Token start, Token stop) {
+    return start == null || stop == null ? "" : getText(Interval.of(start.getTokenIndex(), stop.getTokenIndex()));
+  }
+}
@@ -0,0 +1,48 @@
+package moe.leer.codeflowcore.lang;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.graph.FlowchartFragment;
+import moe.leer.codeflowcore.graph.FlowchartNode;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Map;
+
+/**
+ * A toplevel function converted by {@link FlowchartGenVisitor},
+ * the flowchart of a later version of the same program can reuse it while the function is unchanged.
+ *
+ * @author leer
+ */
+@Getter
+public class ConvertedFunction {
+  private final FunctionKey key;
+  /**
+   * how many functions of this name and args size were declared up to this one, its node ids depend on it
+   */
+  private final int declared;
+  private final FlowchartFragment fragment;
+  /**
+   * function calls in the body, linked to their functions once the whole program is converted
+   */
+  private final Map<FlowchartNode, FunctionKey> functionCallNodes;
+  /**
+   * reported for the params and the body, they are reported again where the function is reused
+   */
+  private final Diagnostics diagnostics;
+  /**
+   * first token of the function when it was converted, positions of the diagnostics are relative to it
+   */
+  private final Token start;
+
+  ConvertedFunction(FunctionKey key, int declared, FlowchartFragment fragment, Map<FlowchartNode, FunctionKey> functionCallNodes,
+                    Diagnostics diagnostics, Token start) {
+    this.key = key;
+    this.declared = declared;
+    this.fragment = fragment;
+    this.functionCallNodes = functionCallNodes;
+    this.diagnostics = diagnostics;
+    this.start = start;
+  }
+}
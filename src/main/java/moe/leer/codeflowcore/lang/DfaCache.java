@@ -0,0 +1,142 @@
+package moe.leer.codeflowcore.lang;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prediction cache (DFA) of every pooled lexer and parser, process-wide like the static one of the generated code,
+ * but replaceable.
+ * <p>
+ * ANTLR adds a DFA state for every new input shape it predicts and never drops one,
+ * so after weeks of diverse inputs the cache holds a lot of states no request will see again.
+ * {@link #reset(Generation)} starts a new, empty generation instead of clearing the arrays in place:
+ * parses already running finish on the old generation, which is garbage collected once they are done,
+ * every parse acquired afterwards uses the new one.
+ *
+ * @author leer
+ * @see ParserPool
+ */
+public final class DfaCache {
+
+  private static final DfaCache INSTANCE = new DfaCache();
+
+  private final AtomicReference<Generation> current = new AtomicReference<>(new Generation(0));
+  private final AtomicLong resets = new AtomicLong();
+
+  private DfaCache() {
+  }
+
+  public static DfaCache getInstance() {
+    return INSTANCE;
+  }
+
+  @NotNull
+  Generation current() {
+    return current.get();
+  }
+
+  /**
+   * Replace <code>expected</code> with an empty generation, nothing happens when another thread already did.
+   *
+   * @return true when this call started the new generation
+   */
+  boolean reset(@NotNull Generation expected) {
+    if (current.compareAndSet(expected, new Generation(expected.id + 1))) {
+      resets.incrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Start a new generation when the current one holds more than <code>maxStates</code> DFA states
+   * or is older than <code>maxAge</code>.
+   *
+   * @param maxStates 0 for no limit
+   * @param maxAge    null for no limit
+   * @return true when this call started the new generation
+   */
+  public boolean resetIfExceeded(int maxStates, Duration maxAge) {
+    final Generation generation = current();
+    if ((maxStates > 0 && generation.stateCount() > maxStates)
+        || (maxAge != null && generation.age().compareTo(maxAge) > 0)) {
+      return reset(generation);
+    }
+    return false;
+  }
+
+  /**
+   * Start a new, empty generation now.
+   */
+  public void reset() {
+    reset(current());
+  }
+
+  /**
+   * @return DFA states of the current generation, per lexer mode and per parser decision
+   */
+  @NotNull
+  public DfaCacheMetrics metrics() {
+    final Generation generation = current();
+    return new DfaCacheMetrics(generation.id, resets.get(), generation.createdAt,
+        stateCounts(generation.lexerDfa), stateCounts(generation.parserDfa), generation.parserContexts.size());
+  }
+
+  private static int[] stateCounts(DFA[] dfas) {
+    final int[] counts = new int[dfas.length];
+    for (int i = 0; i < dfas.length; i++) {
+      // read without the DFA's lock, a count that is off by one doesn't matter here
+      counts[i] = dfas[i].states.size();
+    }
+    return counts;
+  }
+
+  /**
+   * DFAs and prediction context cache used together by lexers and parsers until the next reset.
+   */
+  static final class Generation {
+    final long id;
+    final Instant createdAt = Instant.now();
+    final DFA[] lexerDfa = newDfa(CodeFlowLexer._ATN);
+    final DFA[] parserDfa = newDfa(CodeFlowParser._ATN);
+    final PredictionContextCache lexerContexts = new PredictionContextCache();
+    final PredictionContextCache parserContexts = new PredictionContextCache();
+
+    private Generation(long id) {
+      this.id = id;
+    }
+
+    int stateCount() {
+      int count = 0;
+      for (DFA dfa : lexerDfa) {
+        count += dfa.states.size();
+      }
+      for (DFA dfa : parserDfa) {
+        count += dfa.states.size();
+      }
+      return count;
+    }
+
+    Duration age() {
+      return Duration.between(createdAt, Instant.now());
+    }
+
+    private static DFA[] newDfa(ATN atn) {
+      // same as the static initializer of the generated lexer and parser
+      final DFA[] dfa = new DFA[atn.getNumberOfDecisions()];
+      for (int i = 0; i < dfa.length; i++) {
+        dfa[i] = new DFA(atn.getDecisionState(i), i);
+      }
+      return dfa;
+    }
+  }
+}
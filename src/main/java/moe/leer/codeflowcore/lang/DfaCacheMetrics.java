@@ -0,0 +1,102 @@
+package moe.leer.codeflowcore.lang;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of {@link DfaCache} state counts.
+ *
+ * @author leer
+ */
+public class DfaCacheMetrics {
+
+  /**
+   * id of the current generation, 0 until the first reset
+   */
+  @Getter
+  private final long generation;
+  /**
+   * resets since the JVM started
+   */
+  @Getter
+  private final long resets;
+  @Getter
+  private final Instant generationCreatedAt;
+  private final int[] lexerStates;
+  private final int[] parserStates;
+  /**
+   * entries of the parser's prediction context cache, it grows together with the DFA
+   */
+  @Getter
+  private final int parserContexts;
+
+  DfaCacheMetrics(long generation, long resets, Instant generationCreatedAt, int[] lexerStates, int[] parserStates, int parserContexts) {
+    this.generation = generation;
+    this.resets = resets;
+    this.generationCreatedAt = generationCreatedAt;
+    this.lexerStates = lexerStates;
+    this.parserStates = parserStates;
+    this.parserContexts = parserContexts;
+  }
+
+  /**
+   * @return DFA states per lexer mode
+   */
+  public int[] getLexerStatesByMode() {
+    return lexerStates.clone();
+  }
+
+  /**
+   * @return DFA states per parser decision, indexed by decision number
+   */
+  public int[] getParserStatesByDecision() {
+    return parserStates.clone();
+  }
+
+  /**
+   * @return DFA states summed up per parser rule, largest first, rules without states are left out
+   */
+  public Map<String, Integer> getParserStatesByRule() {
+    final Map<String, Integer> byRule = new TreeMap<>();
+    for (int decision = 0; decision < parserStates.length; decision++) {
+      if (parserStates[decision] > 0) {
+        String rule = CodeFlowParser.ruleNames[CodeFlowParser._ATN.getDecisionState(decision).ruleIndex];
+        byRule.merge(rule, parserStates[decision], Integer::sum);
+      }
+    }
+    final Map<String, Integer> sorted = new LinkedHashMap<>();
+    byRule.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+        .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+    return sorted;
+  }
+
+  public int getLexerStates() {
+    return Arrays.stream(lexerStates).sum();
+  }
+
+  public int getParserStates() {
+    return Arrays.stream(parserStates).sum();
+  }
+
+  public int getTotalStates() {
+    return getLexerStates() + getParserStates();
+  }
+
+  public Duration getGenerationAge() {
+    return Duration.between(generationCreatedAt, Instant.now());
+  }
+
+  @Override
+  public String toString() {
+    return "DfaCacheMetrics(generation=" + generation + ", resets=" + resets + ", lexerStates=" + getLexerStates()
+        + ", parserStates=" + getParserStates() + ", parserContexts=" + parserContexts + ", generationAge=" + getGenerationAge() + ")";
+  }
+}
@@ -0,0 +1,646 @@
+package moe.leer.codeflowcore.lang;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+
+import java.util.Arrays;
+
+/**
+ * Hand-written scanner for the token set of <code>CommonLexer.g4</code>, a drop-in replacement of {@link CodeFlowLexer}.
+ * <p>
+ * Only {@link #nextToken()} is replaced: it dispatches on the first char and scans with plain branches and loops
+ * instead of simulating the lexer ATN. Everything else, vocabulary, error listeners, {@link #recover}, stays the generated lexer's.
+ * The tokens are the same as the generated lexer's, types, channels, spans, lines and columns,
+ * ANTLR's rules are kept: the longest match wins, a tie goes to the rule defined first.
+ * Errors are reported at the same index with the same text as well.
+ * <p>
+ * Keep it in sync with <code>CommonLexer.g4</code>, <code>FastCodeFlowLexerTest</code> compares both lexers.
+ *
+ * @author leer
+ */
+public class FastCodeFlowLexer extends CodeFlowLexer {
+
+  private static final int NONE = -1;
+
+  /**
+   * keywords, <code>true</code>, <code>false</code> and <code>null</code> by first letter, texts and their types
+   */
+  private static final String[][] KEYWORD_TEXTS = new String[26][0];
+  private static final int[][] KEYWORD_TYPES = new int[26][0];
+
+  static {
+    keywords(VOID, "void", STRING, "string", INT, "int", SHORT, "short", DOUBLE, "double", FLOAT, "float",
+        CHAR, "char", LONG, "long", BOOLEAN, "boolean", BYTE, "byte", FINAL, "final", ABSTRACT, "abstract",
+        CLASS, "class", EXTENDS, "extends", ENUM, "enum", IMPLEMENTS, "implements", NEW, "new",
+        PACKAGE, "package", PRIVATE, "private", PUBLIC, "public", PROTECTED, "protected", INTERFACE, "interface",
+        INSTANCEOF, "instanceof", STATIC, "static", THIS, "this", SUPER, "super", IMPORT, "import",
+        BREAK, "break", CASE, "case", CONTINUE, "continue", DEFAULT, "default", DO, "do", ELSE, "else",
+        FOR, "for", IF, "if", GOTO, "goto", RETURN, "return", SWITCH, "switch", WHILE, "while", TRY, "try",
+        CATCH, "catch", THROW, "throw", FINALLY, "finally", THROWS, "throws",
+        BOOL_LITERAL, "true", BOOL_LITERAL, "false", NULL_LITERAL, "null");
+  }
+
+  private static void keywords(Object... typesAndTexts) {
+    for (int i = 0; i < typesAndTexts.length; i += 2) {
+      final String text = (String) typesAndTexts[i + 1];
+      final int first = text.charAt(0) - 'a';
+      final int count = KEYWORD_TEXTS[first].length;
+      KEYWORD_TEXTS[first] = Arrays.copyOf(KEYWORD_TEXTS[first], count + 1);
+      KEYWORD_TYPES[first] = Arrays.copyOf(KEYWORD_TYPES[first], count + 1);
+      KEYWORD_TEXTS[first][count] = text;
+      KEYWORD_TYPES[first][count] = (Integer) typesAndTexts[i];
+    }
+  }
+
+  /**
+   * index of the current token's first char, <code>_input</code> stays there while the token is scanned
+   */
+  private int base;
+  /**
+   * index where the failed token became impossible
+   */
+  private int failIndex;
+  /**
+   * newlines in the current token and the index after the last one, counted while scanning
+   */
+  private int newlines;
+  private int lineStart;
+  /**
+   * kept here instead of the interpreter, which only sees them around {@link #recover}
+   */
+  private int line = 1;
+  private int column;
+
+  public FastCodeFlowLexer(CharStream input) {
+    super(input);
+  }
+
+  @Override
+  public Token nextToken() {
+    if (_input == null) {
+      throw new IllegalStateException("nextToken requires a non-null input stream.");
+    }
+    while (true) {
+      _token = null;
+      _channel = Token.DEFAULT_CHANNEL;
+      _text = null;
+      base = _tokenStartCharIndex = _input.index();
+      _tokenStartLine = line;
+      _tokenStartCharPositionInLine = column;
+      newlines = 0;
+
+      final int c = _input.LA(1);
+      if (c == IntStream.EOF) {
+        _hitEOF = true;
+        return emitEOF();
+      }
+      final long match = scan(c);
+      if (match == NONE) {
+        // strings and chars fail at a newline at the latest, the failed part is on one line
+        advance(failIndex);
+        final LexerATNSimulator interpreter = getInterpreter();
+        interpreter.setLine(line);
+        interpreter.setCharPositionInLine(column);
+        LexerNoViableAltException e = new LexerNoViableAltException(this, _input, base, null);
+        notifyListeners(e);
+        recover(e);
+        line = interpreter.getLine();
+        column = interpreter.getCharPositionInLine();
+        continue;
+      }
+      _type = (int) (match >>> 32);
+      final int end = (int) match;
+      if (_type == WS || _type == COMMENT || _type == LINE_COMMENT) {
+        _channel = Token.HIDDEN_CHANNEL;
+      }
+      advance(end);
+      _token = _factory.create(_tokenFactorySourcePair, _type, null, _channel, base, end - 1,
+          _tokenStartLine, _tokenStartCharPositionInLine);
+      return _token;
+    }
+  }
+
+  /**
+   * Move the input, the line and the column to <code>end</code>.
+   */
+  private void advance(int end) {
+    if (newlines > 0) {
+      line += newlines;
+      column = end - lineStart;
+    } else {
+      column += end - base;
+    }
+    _input.seek(end);
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    line = 1;
+    column = 0;
+  }
+
+  @Override
+  public int getLine() {
+    return line;
+  }
+
+  @Override
+  public int getCharPositionInLine() {
+    return column;
+  }
+
+  @Override
+  public void setLine(int line) {
+    this.line = line;
+  }
+
+  @Override
+  public void setCharPositionInLine(int charPositionInLine) {
+    this.column = charPositionInLine;
+  }
+
+  private int at(int index) {
+    return _input.LA(index - base + 1);
+  }
+
+  private static long token(int type, int end) {
+    return ((long) type << 32) | end;
+  }
+
+  /**
+   * @return token type and end index packed by {@link #token(int, int)}, {@link #NONE} with <code>failIndex</code> set on error
+   */
+  private long scan(int c) {
+    final int p = base;
+    switch (c) {
+      case ' ':
+      case '\t':
+      case '\r':
+      case '\n':
+      case '\f': {
+        int end = p;
+        int lines = 0;
+        int lastLineStart = 0;
+        for (int w = c; w == ' ' || isWhitespace(w); w = at(++end)) {
+          if (w == '\n') {
+            lines++;
+            lastLineStart = end + 1;
+          }
+        }
+        newlines = lines;
+        lineStart = lastLineStart;
+        return token(WS, end);
+      }
+      case '(':
+        return token(LPAREN, p + 1);
+      case ')':
+        return token(RPAREN, p + 1);
+      case '{':
+        return token(LBRACE, p + 1);
+      case '}':
+        return token(RBRACE, p + 1);
+      case '[':
+        return token(LBRACK, p + 1);
+      case ']':
+        return token(RBRACK, p + 1);
+      case ';':
+        return token(SEMI, p + 1);
+      case ',':
+        return token(COMMA, p + 1);
+      case '~':
+        return token(TILDE, p + 1);
+      case '?':
+        return token(QUESTION, p + 1);
+      case '@':
+        return token(AT, p + 1);
+      case '.': {
+        // a float needs a digit after the dot, so it never competes with '...'
+        final int number = floatLiteral(p);
+        if (number != NONE) {
+          return token(FLOAT_LITERAL, number);
+        }
+        return at(p + 1) == '.' && at(p + 2) == '.' ? token(ELLIPSIS, p + 3) : token(DOT, p + 1);
+      }
+      case '>':
+        if (at(p + 1) == '>') {
+          if (at(p + 2) == '>') {
+            return at(p + 3) == '=' ? token(URSHIFT_ASSIGN, p + 4) : token(URSHIFT, p + 3);
+          }
+          return at(p + 2) == '=' ? token(RSHIFT_ASSIGN, p + 3) : token(RSHIFT, p + 2);
+        }
+        return at(p + 1) == '=' ? token(GE, p + 2) : token(GT, p + 1);
+      case '<':
+        if (at(p + 1) == '<') {
+          return at(p + 2) == '=' ? token(LSHIFT_ASSIGN, p + 3) : token(LSHIFT, p + 2);
+        }
+        return at(p + 1) == '=' ? token(LE, p + 2) : token(LT, p + 1);
+      case '!':
+        return at(p + 1) == '=' ? token(NOTEQUAL, p + 2) : token(BANG, p + 1);
+      case ':':
+        return at(p + 1) == ':' ? token(COLONCOLON, p + 2) : token(COLON, p + 1);
+      case '=':
+        return at(p + 1) == '=' ? token(EQUAL, p + 2) : token(ASSIGN, p + 1);
+      case '&':
+        return at(p + 1) == '&' ? token(AND, p + 2) : at(p + 1) == '=' ? token(AND_ASSIGN, p + 2) : token(BITAND, p + 1);
+      case '|':
+        return at(p + 1) == '|' ? token(OR, p + 2) : at(p + 1) == '=' ? token(OR_ASSIGN, p + 2) : token(BITOR, p + 1);
+      case '+':
+        return at(p + 1) == '+' ? token(INC, p + 2) : at(p + 1) == '=' ? token(ADD_ASSIGN, p + 2) : token(ADD, p + 1);
+      case '-':
+        switch (at(p + 1)) {
+          case '-':
+            return token(DEC, p + 2);
+          case '=':
+            return token(SUB_ASSIGN, p + 2);
+          case '>':
+            return token(ARROW, p + 2);
+          default:
+            return token(SUB, p + 1);
+        }
+      case '*':
+        return at(p + 1) == '=' ? token(MUL_ASSIGN, p + 2) : token(MUL, p + 1);
+      case '%':
+        return at(p + 1) == '=' ? token(MOD_ASSIGN, p + 2) : token(MOD, p + 1);
+      case '^':
+        return at(p + 1) == '=' ? token(XOR_ASSIGN, p + 2) : token(CARET, p + 1);
+      case '/':
+        return slash(p);
+      case '"':
+        return stringLiteral(p);
+      case '\'':
+        return charLiteral(p);
+      default:
+        if (c >= '0' && c <= '9') {
+          return number(p);
+        }
+        final int letter = letterLength(p);
+        if (letter > 0) {
+          return identifier(p, letter);
+        }
+        // a high surrogate starts a Letter, the char after it is where that fails
+        failIndex = c >= 0xD800 && c <= 0xDBFF ? p + 1 : p;
+        return NONE;
+    }
+  }
+
+  private static boolean isWhitespace(int c) {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f';
+  }
+
+  private long slash(int p) {
+    final int next = at(p + 1);
+    if (next == '/') {
+      int end = p + 2;
+      for (int c = at(end); c != '\r' && c != '\n' && c != IntStream.EOF; c = at(++end)) {
+      }
+      return token(LINE_COMMENT, end);
+    }
+    if (next == '*') {
+      // the shortest '/*' .*? '*/', an unclosed comment is a '/' followed by a '*'
+      for (int i = p + 2, c = at(i); c != IntStream.EOF; c = at(++i)) {
+        if (c == '*' && at(i + 1) == '/') {
+          return token(COMMENT, i + 2);
+        }
+        if (c == '\n') {
+          newlines++;
+          lineStart = i + 1;
+        }
+      }
+      // not a comment after all, the '/' is on one line
+      newlines = 0;
+    }
+    return next == '=' ? token(DIV_ASSIGN, p + 2) : token(DIV, p + 1);
+  }
+
+  // identifiers and keywords
+
+  /**
+   * @return chars of the <code>Letter</code> fragment at <code>i</code>, 0 when there's none
+   */
+  private int letterLength(int i) {
+    final int c = at(i);
+    if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '$' || c == '_') {
+      return 1;
+    }
+    if (c > 0x7F && (c < 0xD800 || c > 0xDBFF)) {
+      return 1;
+    }
+    if (c >= 0xD800 && c <= 0xDBFF) {
+      final int low = at(i + 1);
+      return low >= 0xDC00 && low <= 0xDFFF ? 2 : 0;
+    }
+    return 0;
+  }
+
+  private long identifier(int p, int firstLetter) {
+    int end = p + firstLetter;
+    while (true) {
+      final int c = at(end);
+      if (c >= '0' && c <= '9') {
+        end++;
+        continue;
+      }
+      final int letter = letterLength(end);
+      if (letter == 0) {
+        break;
+      }
+      end += letter;
+    }
+    final int first = at(p) - 'a';
+    if (first >= 0 && first < 26) {
+      final String[] texts = KEYWORD_TEXTS[first];
+      for (int k = 0; k < texts.length; k++) {
+        if (matches(texts[k], p, end)) {
+          return token(KEYWORD_TYPES[first][k], end);
+        }
+      }
+    }
+    return token(IDENTIFIER, end);
+  }
+
+  private boolean matches(String text, int start, int end) {
+    if (text.length() != end - start) {
+      return false;
+    }
+    for (int i = 1; i < text.length(); i++) {
+      if (at(start + i) != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // string and char literals
+
+  private long stringLiteral(int p) {
+    int i = p + 1;
+    while (true) {
+      final int c = at(i);
+      if (c == '"') {
+        return token(STRING_LITERAL, i + 1);
+      }
+      if (c == '\\') {
+        i = escapeSequence(i);
+        if (i == NONE) {
+          return NONE;
+        }
+      } else if (c == '\r' || c == '\n' || c == IntStream.EOF) {
+        failIndex = i;
+        return NONE;
+      } else {
+        i++;
+      }
+    }
+  }
+
+  private long charLiteral(int p) {
+    int i = p + 1;
+    final int c = at(i);
+    if (c == '\\') {
+      i = escapeSequence(i);
+      if (i == NONE) {
+        return NONE;
+      }
+    } else if (c == '\'' || c == '\r' || c == '\n' || c == IntStream.EOF) {
+      failIndex = i;
+      return NONE;
+    } else {
+      i++;
+    }
+    if (at(i) != '\'') {
+      failIndex = i;
+      return NONE;
+    }
+    return token(CHAR_LITERAL, i + 1);
+  }
+
+  /**
+   * @param i index of the backslash
+   * @return index after the escape, {@link #NONE} with <code>failIndex</code> set when it is malformed
+   */
+  private int escapeSequence(int i) {
+    final int c = at(i + 1);
+    switch (c) {
+      case 'b':
+      case 't':
+      case 'n':
+      case 'f':
+      case 'r':
+      case '"':
+      case '\'':
+      case '\\':
+        return i + 2;
+      case 'u': {
+        int j = i + 2;
+        while (at(j) == 'u') {
+          j++;
+        }
+        for (int k = 0; k < 4; k++, j++) {
+          if (!isHexDigit(at(j))) {
+            failIndex = j;
+            return NONE;
+          }
+        }
+        return j;
+      }
+      default:
+        if (c >= '0' && c <= '7') {
+          // up to three octal digits, three only when the first is 0-3
+          final int max = c <= '3' ? 3 : 2;
+          int j = i + 2;
+          for (int k = 1; k < max && at(j) >= '0' && at(j) <= '7'; k++) {
+            j++;
+          }
+          return j;
+        }
+        failIndex = i + 1;
+        return NONE;
+    }
+  }
+
+  // number literals, every rule's longest match, the longest of all wins, ties go to the earlier rule
+
+  private long number(int p) {
+    long best = token(DECIMAL_LITERAL, decimalLiteral(p));
+    best = longer(best, HEX_LITERAL, hexLiteral(p));
+    best = longer(best, OCT_LITERAL, octLiteral(p));
+    best = longer(best, BINARY_LITERAL, binaryLiteral(p));
+    best = longer(best, FLOAT_LITERAL, floatLiteral(p));
+    return longer(best, HEX_FLOAT_LITERAL, hexFloatLiteral(p));
+  }
+
+  private static long longer(long best, int type, int end) {
+    return end > (int) best ? token(type, end) : best;
+  }
+
+  private int integerSuffix(int end) {
+    final int c = at(end);
+    return c == 'l' || c == 'L' ? end + 1 : end;
+  }
+
+  private int floatSuffix(int end) {
+    final int c = at(end);
+    return c == 'f' || c == 'F' || c == 'd' || c == 'D' ? end + 1 : end;
+  }
+
+  private static boolean isHexDigit(int c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isDigit(int c, int radix) {
+    switch (radix) {
+      case 2:
+        return c == '0' || c == '1';
+      case 8:
+        return c >= '0' && c <= '7';
+      case 10:
+        return c >= '0' && c <= '9';
+      default:
+        return isHexDigit(c);
+    }
+  }
+
+  /**
+   * <code>[digit] ([digit_]* [digit])?</code>
+   *
+   * @return end of the longest match at <code>i</code>, {@link #NONE} when there's no digit
+   */
+  private int digits(int i, int radix) {
+    if (!isDigit(at(i), radix)) {
+      return NONE;
+    }
+    int end = i + 1;
+    for (int j = i + 1; ; j++) {
+      final int c = at(j);
+      if (isDigit(c, radix)) {
+        end = j + 1;
+      } else if (c != '_') {
+        return end;
+      }
+    }
+  }
+
+  private int decimalLiteral(int p) {
+    // '0' | [1-9] (Digits? | '_'+ Digits), which is [1-9] ([0-9_]* [0-9])?
+    return integerSuffix(at(p) == '0' ? p + 1 : digits(p, 10));
+  }
+
+  private int hexLiteral(int p) {
+    if (at(p) != '0' || (at(p + 1) != 'x' && at(p + 1) != 'X')) {
+      return NONE;
+    }
+    final int end = digits(p + 2, 16);
+    return end == NONE ? NONE : integerSuffix(end);
+  }
+
+  private int octLiteral(int p) {
+    int i = p + 1;
+    while (at(i) == '_') {
+      i++;
+    }
+    final int end = digits(i, 8);
+    return end == NONE ? NONE : integerSuffix(end);
+  }
+
+  private int binaryLiteral(int p) {
+    if (at(p) != '0' || (at(p + 1) != 'b' && at(p + 1) != 'B')) {
+      return NONE;
+    }
+    final int end = digits(p + 2, 2);
+    return end == NONE ? NONE : integerSuffix(end);
+  }
+
+  /**
+   * <code>[eE] [+-]? Digits</code>
+   */
+  private int exponent(int i) {
+    if (at(i) != 'e' && at(i) != 'E') {
+      return NONE;
+    }
+    int j = i + 1;
+    if (at(j) == '+' || at(j) == '-') {
+      j++;
+    }
+    return digits(j, 10);
+  }
+
+  private int floatLiteral(int p) {
+    int best = NONE;
+    final int integer = digits(p, 10);
+    if (integer != NONE && at(integer) == '.') {
+      // Digits '.' Digits? ExponentPart? [fFdD]?
+      int end = integer + 1;
+      final int fraction = digits(end, 10);
+      end = fraction == NONE ? end : fraction;
+      final int exponent = exponent(end);
+      best = Math.max(best, floatSuffix(exponent == NONE ? end : exponent));
+    }
+    if (at(p) == '.') {
+      // '.' Digits ExponentPart? [fFdD]?
+      final int fraction = digits(p + 1, 10);
+      if (fraction != NONE) {
+        final int exponent = exponent(fraction);
+        best = Math.max(best, floatSuffix(exponent == NONE ? fraction : exponent));
+      }
+    }
+    if (integer != NONE) {
+      // Digits (ExponentPart [fFdD]? | [fFdD])
+      final int exponent = exponent(integer);
+      if (exponent != NONE) {
+        best = Math.max(best, floatSuffix(exponent));
+      }
+      final int suffix = floatSuffix(integer);
+      if (suffix != integer) {
+        best = Math.max(best, suffix);
+      }
+    }
+    return best;
+  }
+
+  private int hexFloatLiteral(int p) {
+    if (at(p) != '0' || (at(p + 1) != 'x' && at(p + 1) != 'X')) {
+      return NONE;
+    }
+    // (HexDigits '.'? | HexDigits? '.' HexDigits), every way the mantissa can end
+    final int start = p + 2;
+    final int integer = digits(start, 16);
+    int best = NONE;
+    if (integer != NONE) {
+      best = Math.max(best, binaryExponent(integer));
+      if (at(integer) == '.') {
+        best = Math.max(best, binaryExponent(integer + 1));
+        final int fraction = digits(integer + 1, 16);
+        if (fraction != NONE) {
+          best = Math.max(best, binaryExponent(fraction));
+        }
+      }
+    }
+    if (at(start) == '.') {
+      final int fraction = digits(start + 1, 16);
+      if (fraction != NONE) {
+        best = Math.max(best, binaryExponent(fraction));
+      }
+    }
+    return best;
+  }
+
+  /**
+   * <code>[pP] [+-]? Digits [fFdD]?</code>
+   */
+  private int binaryExponent(int i) {
+    if (at(i) != 'p' && at(i) != 'P') {
+      return NONE;
+    }
+    int j = i + 1;
+    if (at(j) == '+' || at(j) == '-') {
+      j++;
+    }
+    final int exponent = digits(j, 10);
+    return exponent == NONE ? NONE : floatSuffix(exponent);
+  }
+}
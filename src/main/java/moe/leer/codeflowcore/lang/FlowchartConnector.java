@@ -6,8 +6,8 @@ import guru.nidi.graphviz.model.LinkTarget;
 import guru.nidi.graphviz.model.MutableGraph;
 import moe.leer.codeflowcore.graph.FlowchartFragment;
 import moe.leer.codeflowcore.graph.FlowchartNode;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,21 +17,20 @@ import java.util.Map;
  * Created at 12/16/19 9:58 PM
  */
 public class FlowchartConnector {
-  public final Map<FlowchartNode, List<String>> functionCallNodes;
-  public final Map<String, FlowchartFragment> subFragments;
+  public final Map<FlowchartNode, FunctionKey> functionCallNodes;
+  public final Map<FunctionKey, FlowchartFragment> subFragments;
 
-  public FlowchartConnector(Map<FlowchartNode, List<String>> functionCallNodes, Map<String, FlowchartFragment> subFragments) {
+  public FlowchartConnector(Map<FlowchartNode, FunctionKey> functionCallNodes, Map<FunctionKey, FlowchartFragment> subFragments) {
     this.functionCallNodes = functionCallNodes;
     this.subFragments = subFragments;
   }
 
   public void connect(MutableGraph rootGraph) {
     if (subFragments == null || subFragments.isEmpty()) return;
-    for (Map.Entry<FlowchartNode, List<String>> nodeEntry : functionCallNodes.entrySet()) {
-      FlowchartNode node = nodeEntry.getKey();
-      String functionName = nodeEntry.getValue().get(0);
-      if (subFragments.containsKey(functionName)) {
-        linkNode2SubGraph(node, subFragments.get(functionName).getStart(), rootGraph);
+    for (Map.Entry<FlowchartNode, FunctionKey> nodeEntry : functionCallNodes.entrySet()) {
+      FlowchartFragment function = subFragments.get(nodeEntry.getValue());
+      if (function != null) {
+        linkNode2SubGraph(nodeEntry.getKey(), function.getStart(), rootGraph);
       }
     }
   }
@@ -6,14 +6,23 @@ import moe.leer.codeflowcore.FlowchartConfig;
 import moe.leer.codeflowcore.graph.Flowchart;
 import moe.leer.codeflowcore.graph.FlowchartFragment;
 import moe.leer.codeflowcore.graph.FlowchartFragmentType;
+import moe.leer.codeflowcore.graph.FlowchartNode;
 import moe.leer.codeflowcore.graph.FlowchartNodeType;
+import moe.leer.codeflowcore.graph.NodeIdAllocator;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import moe.leer.codeflowcore.lang.semantic.SymbolDefListener;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import moe.leer.codeflowcore.util.ParseUtil;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static guru.nidi.graphviz.model.Factory.mutGraph;
@@ -44,45 +53,123 @@ public class FlowchartGenVisitor extends BaseFlowchartVisitor {
 
 //  private List<FlowchartFragment> subFragments = new ArrayList<>();
   // function name -> graph
-  public Map<String, FlowchartFragment> subFragments = new HashMap<>(8);
+  public Map<FunctionKey, FlowchartFragment> subFragments = new LinkedHashMap<>(8);
+  // function -> declared times, to give overloaded function a distinct id scope
+  private final Map<FunctionKey, Integer> functionScopes = new HashMap<>(8);
+  // toplevel statements are split by functions into runs, a run is linked to the previous one
+  private FlowchartFragment preFragment, firstFragment;
+  private StatementLinker run;
+  // diagnostics reported and dropped before the params of the last function, the ones after belong to it
+  private int functionReported, functionDropped;
+
+  public FlowchartGenVisitor(FlowchartConfig config) {
+    super(config);
+  }
+
+  /**
+   * @param symbolDefListener defines the symbols of every declaration while converting it, instead of a separate semantic pass
+   */
+  public FlowchartGenVisitor(FlowchartConfig config, @Nullable SymbolDefListener symbolDefListener) {
+    super(config, symbolDefListener);
+  }
 
   /**
-   * topLevelStmts
-   * topLevelFunctions
+   * functionDeclare
+   * blockStatement, consecutive ones are linked as one run
    * classDeclaration
    */
   @Override
   public FlowchartFragment visitProgram(CodeFlowParser.ProgramContext ctx) {
-    root.setGraph(rootGraph);
-    // link toplevel statements which is split by function
-    FlowchartFragment preFragment = null, firstFragment = null;
+    beginProgram();
     for (CodeFlowParser.DeclarationContext declarationContext : ctx.declaration()) {
-      if (declarationContext.topLevelFunctions() != null) {
-        for (CodeFlowParser.FunctionDeclareContext functionDeclareContext : declarationContext.topLevelFunctions().functionDeclare()) {
-          FlowchartFragment subgraph = visitFunctionDeclare(functionDeclareContext);
-          subgraph.getGraph().addTo(rootGraph);
-        }
-      } else if (declarationContext.topLevelStmts() != null) {
-        // link statements split by function
-        FlowchartFragment fragment = super.visitTopLevelStmts(declarationContext.topLevelStmts());
-        if (firstFragment == null) {
-          firstFragment = fragment;
-        }
-        if (preFragment != null && !preFragment.isMatchType(FlowchartFragmentType.END)) {
-          preFragment.link(fragment);
-        }
-        preFragment = fragment;
+      acceptDeclaration(declarationContext);
+    }
+    return endProgram();
+  }
+
+  /**
+   * Start converting a program declaration by declaration, {@link #visitProgram} does it in one go.
+   * <p>
+   * A declaration is converted when it is accepted, its parse tree can be dropped afterwards.
+   */
+  public void beginProgram() {
+    root.setGraph(rootGraph);
+    if (symbolDefListener != null) {
+      symbolDefListener.beginProgram();
+    }
+  }
+
+  public void acceptDeclaration(CodeFlowParser.DeclarationContext declarationContext) {
+    if (declarationContext.functionDeclare() != null) {
+      acceptFunction(declarationContext.functionDeclare());
+    } else if (declarationContext.blockStatement() != null) {
+      if (run == null) {
+        run = new StatementLinker();
       }
+      run.add(declarationContext.blockStatement());
+    } else if (declarationContext.classDeclaration() != null) {
+      defineSymbols(declarationContext.classDeclaration());
+    }
+  }
+
+  /**
+   * Convert a toplevel function, as {@link #acceptDeclaration} does.
+   *
+   * @return the function, to reuse by {@link #acceptConverted} in a later version of the program
+   */
+  public ConvertedFunction acceptFunction(CodeFlowParser.FunctionDeclareContext ctx) {
+    finishRun();
+    // collect the calls of this function apart, then add them to the program's in the same order
+    Map<FlowchartNode, FunctionKey> programCalls = functionCallNodes;
+    functionCallNodes = new LinkedHashMap<>(4);
+    FlowchartFragment subgraph = visitFunctionDeclare(ctx);
+    subgraph.getGraph().addTo(rootGraph);
+    Map<FlowchartNode, FunctionKey> calls = functionCallNodes;
+    programCalls.putAll(calls);
+    functionCallNodes = programCalls;
+    FunctionKey key = ParseUtil.getFunctionKey(ctx, functionKeys);
+    Diagnostics diagnostics = symbolDefListener != null ? getDiagnostics().since(functionReported, functionDropped) : Diagnostics.EMPTY;
+    return new ConvertedFunction(key, functionScopes.get(key), subgraph, calls, diagnostics, ctx.start);
+  }
+
+  /**
+   * Add a function converted for an earlier version of the program instead of converting it again.
+   * Its fragment is not modified, flowcharts of both versions share it.
+   * Symbols of its body were defined when it was converted, only the function itself is defined again,
+   * the diagnostics of its params and body are reported again where it is now.
+   *
+   * @param ctx the function in this version of the program
+   * @return false when the function's node ids would be different in this program, an overload was added or removed before it
+   */
+  public boolean acceptConverted(ConvertedFunction function, CodeFlowParser.FunctionDeclareContext ctx) {
+    FunctionKey key = function.getKey();
+    if (functionScopes.getOrDefault(key, 0) + 1 != function.getDeclared()) {
+      return false;
+    }
+    finishRun();
+    if (symbolDefListener != null) {
+      symbolDefListener.enterFunctionDeclare(ctx);
+      symbolDefListener.exitFunctionDeclare(ctx);
+      getDiagnostics().addMoved(function.getDiagnostics(), function.getStart(), ctx.start);
     }
+    functionScopes.put(key, function.getDeclared());
+    function.getFragment().getGraph().addTo(rootGraph);
+    subFragments.put(key, function.getFragment());
+    functionCallNodes.putAll(function.getFunctionCallNodes());
+    return true;
+  }
+
+  public FlowchartFragment endProgram() {
+    finishRun();
     if (firstFragment != null) {
       // add a end node
-      if (FlowchartConfig.virtualEndNode) {
-        preFragment.linkNode2Stop(Flowchart.endNode());
+      if (config.isVirtualEndNode()) {
+        preFragment.linkNode2Stop(Flowchart.endNode(ids));
       }
       // add a start node
-      if (FlowchartConfig.virtualStartNode) {
+      if (config.isVirtualStartNode()) {
         if (firstFragment.getStart().getType() != FlowchartNodeType.START) {
-          firstFragment.linkNodeAsStart(Flowchart.startNode());
+          firstFragment.linkNodeAsStart(Flowchart.startNode(ids));
         }
       }
       firstFragment.setStops(preFragment.getStops());
@@ -91,6 +178,24 @@ public class FlowchartGenVisitor extends BaseFlowchartVisitor {
     return root;
   }
 
+  /**
+   * link statements split by function
+   */
+  private void finishRun() {
+    if (run == null) {
+      return;
+    }
+    FlowchartFragment fragment = run.finish();
+    run = null;
+    if (firstFragment == null) {
+      firstFragment = fragment;
+    }
+    if (preFragment != null && !preFragment.isMatchType(FlowchartFragmentType.END)) {
+      preFragment.link(fragment);
+    }
+    preFragment = fragment;
+  }
+
   /**
    * Treat toplevel function and class method as same level, that is toplevel function and class method is at the same level of graph
    */
@@ -100,23 +205,53 @@ public class FlowchartGenVisitor extends BaseFlowchartVisitor {
     FlowchartFragment fragment = null;
     // only blockStatements can be null
     if (ctx.functionBody().block().blockStatements() != null) {
-      FlowchartFragment functionBody = super.visitBlockStatements(ctx.functionBody().block().blockStatements());
+      FunctionKey key = ParseUtil.getFunctionKey(ctx, functionKeys);
+      NodeIdAllocator outerIds = ids;
+      ids = functionIdAllocator(key);
+      defineFunction(ctx);
+      FlowchartFragment functionBody = visitBlockBody(ctx.functionBody().block());
+      if (symbolDefListener != null) {
+        symbolDefListener.exitFunctionDeclare(ctx);
+      }
       // add a start node, function has a start node by default, not by configuration
       if (functionBody.getStart().getType() != FlowchartNodeType.START) {
-        functionBody.linkNodeAsStart(Flowchart.startNode());
+        functionBody.linkNodeAsStart(Flowchart.startNode(ids));
       }
+      ids = outerIds;
       String functionDisplayName = ctx.IDENTIFIER().getText() + ANTLRUtil.getTextFromInputStream(ctx.formalParams());
-      String functionFullName = ParseUtil.getFunctionFullName2(ctx);
       MutableGraph subgraph = mutGraph(functionDisplayName)
           .setCluster(true).setDirected(true);
       subgraph.graphAttrs().add(Label.of(functionDisplayName));
       subgraph.add(functionBody.getStart());
       fragment = FlowchartFragment.create(FlowchartFragmentType.FUNCTION, functionBody.getStart(), functionBody.getStops());
       fragment.setGraph(subgraph);
-      subFragments.put(functionFullName, fragment);
+      subFragments.put(key, fragment);
       return fragment;
     }
     return null;
   }
 
+  /**
+   * Define the function and its params, then enter its scope
+   */
+  private void defineFunction(CodeFlowParser.FunctionDeclareContext ctx) {
+    if (symbolDefListener == null) {
+      return;
+    }
+    symbolDefListener.enterFunctionDeclare(ctx);
+    functionReported = getDiagnostics().size();
+    functionDropped = getDiagnostics().getDropped();
+    CodeFlowParser.FormalParamListContext params = ctx.formalParams().formalParamList();
+    if (params != null) {
+      for (CodeFlowParser.FormalParamContext param : params.formalParam()) {
+        symbolDefListener.enterFormalParam(param);
+      }
+    }
+  }
+
+  private NodeIdAllocator functionIdAllocator(FunctionKey key) {
+    int declared = functionScopes.merge(key, 1, Integer::sum);
+    return new NodeIdAllocator(declared == 1 ? key.toString() : key + "#" + declared);
+  }
+
 }
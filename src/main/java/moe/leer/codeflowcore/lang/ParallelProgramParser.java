@@ -0,0 +1,342 @@
+package moe.leer.codeflowcore.lang;
+
+import lombok.Getter;
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser.ProgramContext;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Parses the toplevel declarations of a large program on several threads.
+ * <p>
+ * The lexed program is split where a toplevel declaration certainly ends: after a <code>;</code> or a <code>}</code>
+ * outside of any bracket, when the next token can't continue the declaration.
+ * Runs of declarations, one per thread and at least {@link #MIN_CHUNK_TOKENS} tokens each,
+ * are parsed by separate pooled parsers, then their declarations are joined under one <code>program</code> node
+ * in source order, the same tree one parser builds.
+ * <p>
+ * Chunks give up on the first syntax error or when they stop early, {@link #parse} returns null then and the caller parses the whole program
+ * sequentially, so errors are reported and recovered as before.
+ * <p>
+ * The calling thread parses the first chunk, then every chunk no worker of the executor has started yet,
+ * it only waits for chunks already running. So the executor may be bounded and the caller one of its workers.
+ *
+ * @author leer
+ */
+public class ParallelProgramParser {
+
+  /**
+   * smaller programs are not split, 4096 tokens by default
+   */
+  public static final int MIN_CHUNK_TOKENS = Integer.getInteger("codeflow.minChunkTokens", 4096);
+
+  private final ParserPool pool;
+  private final Executor executor;
+  private final int parallelism;
+
+  /**
+   * @param parallelism chunks per program at most, the calling thread parses one of them
+   */
+  public ParallelProgramParser(@NotNull ParserPool pool, @NotNull Executor executor, int parallelism) {
+    this.pool = pool;
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Program tree joined from the chunks and how they were predicted.
+   */
+  @Getter
+  public static class Result {
+    private final ProgramContext tree;
+    /**
+     * <code>SLL</code> when every chunk parsed on the fast path
+     */
+    private final PredictionMode predictionMode;
+
+    private Result(ProgramContext tree, PredictionMode predictionMode) {
+      this.tree = tree;
+      this.predictionMode = predictionMode;
+    }
+  }
+
+  /**
+   * @param tokens every token of the program, ending with <code>EOF</code>, as lexed by <code>source</code>
+   * @return null when the program is too small to split, has no place to split or a chunk has a syntax error
+   */
+  @Nullable
+  public Result parse(@NotNull List<Token> tokens, @NotNull TokenSource source, @NotNull CharStream input,
+                      boolean supportClass, boolean twoStageParsing) {
+    final List<Integer> cuts = split(tokens, parallelism);
+    if (cuts.size() < 3) {
+      return null;
+    }
+    final List<FutureTask<Result>> chunks = new ArrayList<>(cuts.size() - 1);
+    for (int i = 0; i < cuts.size() - 1; i++) {
+      final int from = cuts.get(i);
+      final int to = cuts.get(i + 1);
+      final FutureTask<Result> chunk = new FutureTask<>(
+          () -> parseChunk(tokens, from, to, source, input, supportClass, twoStageParsing));
+      chunks.add(chunk);
+      if (i > 0) {
+        try {
+          executor.execute(chunk);
+        } catch (RejectedExecutionException e) {
+          // parsed by the calling thread
+        }
+      }
+    }
+
+    // a root context like the one CodeFlowParser.program() creates
+    final ProgramContext program = new ProgramContext(null, -1);
+    PredictionMode predictionMode = PredictionMode.SLL;
+    for (int i = 0; i < chunks.size(); i++) {
+      final Result chunk = await(chunks.get(i));
+      if (chunk == null) {
+        for (FutureTask<Result> rest : chunks.subList(i + 1, chunks.size())) {
+          rest.cancel(false);
+        }
+        return null;
+      }
+      if (chunk.predictionMode == PredictionMode.LL) {
+        predictionMode = PredictionMode.LL;
+      }
+      join(program, chunk.tree, i == chunks.size() - 1);
+    }
+    return new Result(program, predictionMode);
+  }
+
+  /**
+   * @return the chunk's tree, parsed by the calling thread unless a worker started it already,
+   * null on a syntax error or when interrupted while waiting for the worker
+   */
+  private static Result await(FutureTask<Result> chunk) {
+    // does nothing when a worker has started the chunk
+    chunk.run();
+    try {
+      return chunk.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * @return token indexes where the chunks start, and the index of <code>EOF</code> where the last one ends
+   */
+  static List<Integer> split(List<Token> tokens, int parallelism) {
+    final int end = tokens.size() - 1;
+    final List<Integer> cuts = new ArrayList<>();
+    cuts.add(0);
+    final int chunkCount = Math.min(parallelism, end / MIN_CHUNK_TOKENS);
+    if (chunkCount < 2) {
+      cuts.add(end);
+      return cuts;
+    }
+    final int target = end / chunkCount;
+    int depth = 0;
+    Token last = null;
+    for (int i = 0; i < end && cuts.size() < chunkCount; i++) {
+      final Token token = tokens.get(i);
+      if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+        continue;
+      }
+      if (depth == 0 && last != null && i - cuts.get(cuts.size() - 1) >= target && endsDeclaration(last, token)) {
+        // the hidden tokens between the two go with the next chunk
+        int cut = i;
+        while (tokens.get(cut - 1).getChannel() != Token.DEFAULT_CHANNEL) {
+          cut--;
+        }
+        cuts.add(cut);
+      }
+      switch (token.getType()) {
+        case CodeFlowLexer.LBRACE:
+        case CodeFlowLexer.LPAREN:
+        case CodeFlowLexer.LBRACK:
+          depth++;
+          break;
+        case CodeFlowLexer.RBRACE:
+        case CodeFlowLexer.RPAREN:
+        case CodeFlowLexer.RBRACK:
+          // unbalanced input is left to the parser, it fails the same way in a chunk
+          depth = Math.max(depth - 1, 0);
+          break;
+        default:
+          break;
+      }
+      last = token;
+    }
+    cuts.add(end);
+    return cuts;
+  }
+
+  /**
+   * Parse the toplevel declarations in tokens <code>[from, to)</code> on the calling thread, as one chunk of {@link #parse}.
+   *
+   * @param from first token of a declaration, or of hidden tokens before it
+   * @param to   first token of the next declaration, or <code>EOF</code>
+   * @return null on a syntax error
+   * @see #endsDeclaration(Token, Token)
+   */
+  @Nullable
+  public Result parseRange(@NotNull List<Token> tokens, int from, int to, @NotNull TokenSource source,
+                           @NotNull CharStream input, boolean supportClass, boolean twoStageParsing) {
+    return parseChunk(tokens, from, to, source, input, supportClass, twoStageParsing);
+  }
+
+  /**
+   * Statement semicolons are optional, so only a few token pairs surely separate two toplevel declarations.
+   *
+   * @return true when a toplevel declaration ending with <code>last</code> can't go on with <code>next</code>
+   */
+  public static boolean endsDeclaration(@NotNull Token last, @NotNull Token next) {
+    if (last.getType() == CodeFlowLexer.SEMI) {
+      // 'if (a) b(); else c();', and imports after declarations are an error a chunk wouldn't see
+      return next.getType() != CodeFlowLexer.ELSE && next.getType() != CodeFlowLexer.IMPORT
+          && next.getType() != CodeFlowLexer.PACKAGE;
+    }
+    if (last.getType() != CodeFlowLexer.RBRACE) {
+      return false;
+    }
+    // not else, while of 'do {} while', operators, ';' or anything else continuing an expression
+    switch (next.getType()) {
+      case CodeFlowLexer.IDENTIFIER:
+      case CodeFlowLexer.THIS:
+      case CodeFlowLexer.SUPER:
+      case CodeFlowLexer.NEW:
+      case CodeFlowLexer.VOID:
+      case CodeFlowLexer.STRING:
+      case CodeFlowLexer.INT:
+      case CodeFlowLexer.SHORT:
+      case CodeFlowLexer.DOUBLE:
+      case CodeFlowLexer.FLOAT:
+      case CodeFlowLexer.CHAR:
+      case CodeFlowLexer.LONG:
+      case CodeFlowLexer.BOOLEAN:
+      case CodeFlowLexer.BYTE:
+      case CodeFlowLexer.FINAL:
+      case CodeFlowLexer.ABSTRACT:
+      case CodeFlowLexer.PUBLIC:
+      case CodeFlowLexer.PRIVATE:
+      case CodeFlowLexer.PROTECTED:
+      case CodeFlowLexer.STATIC:
+      case CodeFlowLexer.CLASS:
+      case CodeFlowLexer.IF:
+      case CodeFlowLexer.FOR:
+      case CodeFlowLexer.DO:
+      case CodeFlowLexer.SWITCH:
+      case CodeFlowLexer.RETURN:
+      case CodeFlowLexer.BREAK:
+      case CodeFlowLexer.CONTINUE:
+      case CodeFlowLexer.GOTO:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private Result parseChunk(List<Token> tokens, int from, int to, TokenSource source, CharStream input,
+                            boolean supportClass, boolean twoStageParsing) {
+    final Token eof = to == tokens.size() - 1 ? tokens.get(to) : eofAt(tokens.get(to), source, input);
+    final ParserPool.PooledParser pair = pool.acquire(input, true, supportClass);
+    try {
+      final CodeFlowParser parser = pair.getParser();
+      parser.setTokenStream(new ChunkTokenStream(tokens, from, to, eof, source));
+      parser.removeErrorListeners();
+      parser.setErrorHandler(new BailErrorStrategy());
+      if (twoStageParsing) {
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+          return complete(parser, parser.program(), PredictionMode.SLL);
+        } catch (ParseCancellationException e) {
+          parser.reset();
+        }
+      }
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      try {
+        return complete(parser, parser.program(), PredictionMode.LL);
+      } catch (ParseCancellationException e) {
+        return null;
+      }
+    } finally {
+      pool.release(pair);
+    }
+  }
+
+  /**
+   * <code>program</code> doesn't end with <code>EOF</code>, it stops without an error before a token no declaration starts with,
+   * and drops the rest of the program. Only a parse of the whole program does that the same way.
+   *
+   * @return null when the parser stopped before the end of the chunk
+   */
+  private static Result complete(CodeFlowParser parser, ProgramContext tree, PredictionMode predictionMode) {
+    return parser.getCurrentToken().getType() == Token.EOF ? new Result(tree, predictionMode) : null;
+  }
+
+  /**
+   * @return an <code>EOF</code> in place of <code>next</code>, the first token of the following chunk
+   */
+  private static Token eofAt(Token next, TokenSource source, CharStream input) {
+    final CommonToken eof = new CommonToken(new Pair<>(source, input), Token.EOF, Token.DEFAULT_CHANNEL,
+        next.getStartIndex(), next.getStartIndex() - 1);
+    eof.setTokenIndex(next.getTokenIndex());
+    eof.setLine(next.getLine());
+    eof.setCharPositionInLine(next.getCharPositionInLine());
+    return eof;
+  }
+
+  /**
+   * Move the children of <code>chunk</code> to <code>program</code>, the <code>EOF</code> only of the last chunk.
+   */
+  private static void join(ProgramContext program, ProgramContext chunk, boolean last) {
+    if (program.start == null) {
+      program.start = chunk.start;
+    }
+    program.stop = chunk.stop;
+    if (chunk.children == null) {
+      return;
+    }
+    for (ParseTree child : chunk.children) {
+      if (child instanceof TerminalNode) {
+        final TerminalNode terminal = (TerminalNode) child;
+        if (terminal.getSymbol().getType() == Token.EOF && !last) {
+          continue;
+        }
+        terminal.setParent(program);
+        program.addAnyChild(terminal);
+      } else {
+        final ParserRuleContext rule = (ParserRuleContext) child;
+        rule.setParent(program);
+        program.addAnyChild(rule);
+      }
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package moe.leer.codeflowcore.lang;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.LexerATNSimulator;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of reusable lexer/parser pairs.
+ * <p>
+ * A pair is used by one parse at a time: {@link #acquire(CharStream, boolean, boolean)} hands it out reset to the new input,
+ * {@link #release(PooledParser)} takes it back. When the pool is empty a new pair is created,
+ * when it is full a released pair is dropped, so callers never wait.
+ * <p>
+ * Every pair predicts with the current generation of the {@link DfaCache}, a pair acquired after a reset switches to the new one.
+ * See {@link moe.leer.codeflowcore.CodeFlow#warmUp()} to fill the cache before the first request.
+ * Pairs of a pool created with a hand-written lexer only use the parser half of the cache.
+ *
+ * @author leer
+ */
+public class ParserPool {
+
+  private final BlockingQueue<PooledParser> idle;
+  private final LongAdder created = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+  private final boolean handWrittenLexer;
+
+  /**
+   * @param capacity idle pairs kept at most, 0 to create a new pair for every parse
+   */
+  public ParserPool(int capacity) {
+    this(capacity, false);
+  }
+
+  /**
+   * @param handWrittenLexer lex with {@link FastCodeFlowLexer} instead of the generated lexer
+   */
+  public ParserPool(int capacity, boolean handWrittenLexer) {
+    this.idle = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : null;
+    this.handWrittenLexer = handWrittenLexer;
+  }
+
+  /**
+   * @return a pair reading <code>input</code>, release it once the parse tree is built
+   */
+  @NotNull
+  public PooledParser acquire(@NotNull CharStream input, boolean failFast, boolean supportClass) {
+    PooledParser pair = idle == null ? null : idle.poll();
+    if (pair == null) {
+      created.increment();
+      pair = new PooledParser(handWrittenLexer ? new FastCodeFlowLexer(null) : new CodeFlowLexer(null));
+    } else {
+      reused.increment();
+    }
+    pair.use(DfaCache.getInstance().current());
+    pair.reset(input, failFast, supportClass);
+    return pair;
+  }
+
+  public void release(@NotNull PooledParser pair) {
+    if (idle != null) {
+      // drop the input, so an idle pair doesn't keep the last source alive
+      pair.reset(null, false, false);
+      idle.offer(pair);
+    }
+  }
+
+  /**
+   * @return pairs waiting to be reused
+   */
+  public int idleCount() {
+    return idle == null ? 0 : idle.size();
+  }
+
+  public long createdCount() {
+    return created.sum();
+  }
+
+  public long reusedCount() {
+    return reused.sum();
+  }
+
+  /**
+   * Lexer, token stream and parser wired together, reset as a whole for every input.
+   * Tokens and parse trees of a previous parse stay valid, they keep their own input stream.
+   */
+  public static class PooledParser {
+    private final CodeFlowLexer lexer;
+    private final CommonTokenStream tokens;
+    private final CodeFlowParser parser;
+    private DfaCache.Generation generation;
+
+    PooledParser(CodeFlowLexer lexer) {
+      this.lexer = lexer;
+      this.tokens = new CommonTokenStream(lexer);
+      this.parser = new CodeFlowParser(tokens);
+    }
+
+    private void use(DfaCache.Generation generation) {
+      if (this.generation != generation) {
+        this.generation = generation;
+        lexer.setInterpreter(new LexerATNSimulator(lexer, lexer.getATN(), generation.lexerDfa, generation.lexerContexts));
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), generation.parserDfa, generation.parserContexts));
+      }
+    }
+
+    private void reset(CharStream input, boolean failFast, boolean supportClass) {
+      lexer.removeErrorListener(FailFastLexerListener.INSTANCE);
+      if (failFast) {
+        lexer.addErrorListener(FailFastLexerListener.INSTANCE);
+      }
+      lexer.setInputStream(input);
+      tokens.setTokenSource(lexer);
+      parser.setTokenStream(tokens);
+      parser.removeParseListeners();
+      parser.supportClass = supportClass;
+    }
+
+    @NotNull
+    public CommonTokenStream getTokens() {
+      return tokens;
+    }
+
+    @NotNull
+    public CodeFlowParser getParser() {
+      return parser;
+    }
+  }
+
+  /**
+   * Stops a fail-fast parse at its first lexer error, after the lexer's other listeners saw it.
+   * A listener instead of a {@link CodeFlowLexer#recover} override, so both lexers share it
+   */
+  private static class FailFastLexerListener extends BaseErrorListener {
+    private static final FailFastLexerListener INSTANCE = new FailFastLexerListener();
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+      throw new SyntaxErrorException(e);
+    }
+  }
+}
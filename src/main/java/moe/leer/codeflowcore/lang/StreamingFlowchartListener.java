@@ -0,0 +1,76 @@
+package moe.leer.codeflowcore.lang;
+
+import moe.leer.codeflowcore.FlowchartConfig;
+import moe.leer.codeflowcore.graph.FlowchartFragment;
+import moe.leer.codeflowcore.lang.parser.CodeFlowBaseListener;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.SymbolDefListener;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Parse listener converting every toplevel declaration to flowchart fragments as soon as the parser completes it,
+ * then dropping its parse tree, so a parse only holds the tree of one declaration at a time.
+ * <p>
+ * Add it with {@link org.antlr.v4.runtime.Parser#addParseListener}, each declaration runs through
+ * the {@link FlowchartGenVisitor}, which also runs the semantic pass, while the parser goes on with the next one.
+ * Every <code>program</code> rule entered starts over, so a parse attempt that bailed out leaves nothing behind.
+ *
+ * @author leer
+ */
+public class StreamingFlowchartListener extends CodeFlowBaseListener {
+
+  private final FlowchartConfig config;
+  private final Supplier<SymbolDefListener> semanticListener;
+  private FlowchartGenVisitor visitor;
+  private FlowchartFragment flowchart;
+
+  public StreamingFlowchartListener(@NotNull FlowchartConfig config) {
+    this(config, SymbolDefListener::withoutSavedScopes);
+  }
+
+  /**
+   * @param semanticListener semantic pass of every program, the scopes are not read later, may supply null to skip it
+   */
+  public StreamingFlowchartListener(@NotNull FlowchartConfig config, @NotNull Supplier<SymbolDefListener> semanticListener) {
+    this.config = config;
+    this.semanticListener = semanticListener;
+  }
+
+  @Override
+  public void enterProgram(CodeFlowParser.ProgramContext ctx) {
+    visitor = new FlowchartGenVisitor(config, semanticListener.get());
+    flowchart = null;
+    visitor.beginProgram();
+  }
+
+  @Override
+  public void exitDeclaration(CodeFlowParser.DeclarationContext ctx) {
+    visitor.acceptDeclaration(ctx);
+    // the parser added the declaration to the program when it entered it, nothing else refers to it
+    ((ParserRuleContext) ctx.getParent()).removeLastChild();
+  }
+
+  @Override
+  public void exitProgram(CodeFlowParser.ProgramContext ctx) {
+    flowchart = visitor.endProgram();
+  }
+
+  /**
+   * @return null until the parser completed the program
+   */
+  @Nullable
+  public FlowchartFragment getFlowchart() {
+    return flowchart;
+  }
+
+  /**
+   * @return visitor of the last program, holding the function calls and function fragments to connect
+   */
+  public FlowchartGenVisitor getVisitor() {
+    return visitor;
+  }
+}
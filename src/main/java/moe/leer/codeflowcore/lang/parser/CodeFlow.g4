@@ -8,7 +8,7 @@ package moe.leer.codeflowcore.lang.parser;
 }
 
 @parser::members {
- public static boolean supportClass;
+ public boolean supportClass;
 }
 
 // support toplevel function, toplevel statement
@@ -16,14 +16,6 @@ program
     : packageDeclaration? importDeclaration* declaration*
     ;
 
-topLevelFunctions
-    : functionDeclare+
-    ;
-
-topLevelStmts
-    : blockStatement+
-    ;
-
 packageDeclaration
     :   'package' qualifiedName ';'
     ;
@@ -32,10 +24,13 @@ importDeclaration
     :   'import' 'static'? qualifiedName ('.' '*')? ';'
     ;
 
+// One function or statement per declaration, consecutive statements are linked by the visitor.
+// 'functionDeclare+' and 'blockStatement+' runs here were ambiguous with 'declaration*' itself
+// (where does a run end?), which forced long SLL lookahead and full-LL fallbacks on every loop iteration.
 declaration
     : {supportClass}? classDeclaration
-    | topLevelFunctions
-    | topLevelStmts
+    | functionDeclare
+    | blockStatement
     | ';'
     ;
 
@@ -132,8 +127,9 @@ constructorDeclare
     : IDENTIFIER formalParams (THROWS qualifiedNameList)? constructorBody=block
     ;
 
+// "a = b" is an expression statement, only an array initializer can't be an expression
 variableAssign
-    : variableId=expression '=' variableInitializer
+    : variableId=expression '=' arrayInitializer
     ;
 
 variableDeclarators
@@ -260,9 +256,8 @@ parExpression
 // 优先级以产生式的顺序来表达
 // bop -> binary op
 expression
-    : functionCall
+    : functionCall ('.' variableRef)?   // example: nodes().size;
     | variableRef
-    | functionCall '.' variableRef   // example: nodes().size;
     | primary
     | expression '[' expression ']' // array
     | '(' expression ')'
@@ -364,9 +359,9 @@ primitiveType
     | STRING
     ;
 
+// a bare IDENTIFIER is a variableRef
 primary
     : literal
-    | IDENTIFIER
     ;
 
 literal
@@ -25,30 +25,6 @@ public class CodeFlowBaseListener implements CodeFlowListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitProgram(CodeFlowParser.ProgramContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterTopLevelFunctions(CodeFlowParser.TopLevelFunctionsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitTopLevelFunctions(CodeFlowParser.TopLevelFunctionsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -19,26 +19,6 @@ public interface CodeFlowListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitProgram(CodeFlowParser.ProgramContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CodeFlowParser#topLevelFunctions}.
-	 * @param ctx the parse tree
-	 */
-	void enterTopLevelFunctions(CodeFlowParser.TopLevelFunctionsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CodeFlowParser#topLevelFunctions}.
-	 * @param ctx the parse tree
-	 */
-	void exitTopLevelFunctions(CodeFlowParser.TopLevelFunctionsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link CodeFlowParser#topLevelStmts}.
-	 * @param ctx the parse tree
-	 */
-	void enterTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link CodeFlowParser#topLevelStmts}.
-	 * @param ctx the parse tree
-	 */
-	void exitTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link CodeFlowParser#packageDeclaration}.
 	 * @param ctx the parse tree
@@ -40,46 +40,44 @@ public class CodeFlowParser extends Parser {
 		URSHIFT_ASSIGN=100, ARROW=101, COLONCOLON=102, AT=103, ELLIPSIS=104, WS=105, 
 		COMMENT=106, LINE_COMMENT=107, IDENTIFIER=108;
 	public static final int
-		RULE_program = 0, RULE_topLevelFunctions = 1, RULE_topLevelStmts = 2, 
-		RULE_packageDeclaration = 3, RULE_importDeclaration = 4, RULE_declaration = 5, 
-		RULE_classDeclaration = 6, RULE_classBody = 7, RULE_classBodyDeclaration = 8, 
-		RULE_member = 9, RULE_classOrInterfacemodifier = 10, RULE_classOrInterfacemodifiers = 11, 
-		RULE_functionDeclare = 12, RULE_functionBody = 13, RULE_qualifiedNameList = 14, 
-		RULE_typeArguments = 15, RULE_typeArgument = 16, RULE_formalParams = 17, 
-		RULE_formalParamList = 18, RULE_formalParam = 19, RULE_lastFormalParam = 20, 
-		RULE_variableModifier = 21, RULE_qualifiedName = 22, RULE_fieldDeclare = 23, 
-		RULE_constructorDeclare = 24, RULE_variableAssign = 25, RULE_variableDeclarators = 26, 
-		RULE_variableDeclarator = 27, RULE_variableDeclaratorId = 28, RULE_variableInitializer = 29, 
-		RULE_arrayInitializer = 30, RULE_objectDeclarator = 31, RULE_block = 32, 
-		RULE_blockStatements = 33, RULE_blockStatement = 34, RULE_statement = 35, 
-		RULE_ifBlock = 36, RULE_switchBlock = 37, RULE_switchCaseGroup = 38, RULE_switchCase = 39, 
-		RULE_forBlock = 40, RULE_whileBlock = 41, RULE_doWhileBlock = 42, RULE_forExpressions = 43, 
-		RULE_forInitExp = 44, RULE_forConditionExp = 45, RULE_forUpdateExp = 46, 
-		RULE_enhancedForExpression = 47, RULE_parExpression = 48, RULE_expression = 49, 
-		RULE_functionCall = 50, RULE_arguments = 51, RULE_expressionList = 52, 
-		RULE_functionCallName = 53, RULE_variableRef = 54, RULE_typeList = 55, 
-		RULE_variableType = 56, RULE_creator = 57, RULE_createdName = 58, RULE_classCreatorRest = 59, 
-		RULE_arrayCreatorRest = 60, RULE_classOrInterfaceType = 61, RULE_typeOrVoid = 62, 
-		RULE_primitiveType = 63, RULE_primary = 64, RULE_literal = 65, RULE_integerLiteral = 66, 
-		RULE_floatLiteral = 67;
+		RULE_program = 0, RULE_packageDeclaration = 1, RULE_importDeclaration = 2, 
+		RULE_declaration = 3, RULE_classDeclaration = 4, RULE_classBody = 5, RULE_classBodyDeclaration = 6, 
+		RULE_member = 7, RULE_classOrInterfacemodifier = 8, RULE_classOrInterfacemodifiers = 9, 
+		RULE_functionDeclare = 10, RULE_functionBody = 11, RULE_qualifiedNameList = 12, 
+		RULE_typeArguments = 13, RULE_typeArgument = 14, RULE_formalParams = 15, 
+		RULE_formalParamList = 16, RULE_formalParam = 17, RULE_lastFormalParam = 18, 
+		RULE_variableModifier = 19, RULE_qualifiedName = 20, RULE_fieldDeclare = 21, 
+		RULE_constructorDeclare = 22, RULE_variableAssign = 23, RULE_variableDeclarators = 24, 
+		RULE_variableDeclarator = 25, RULE_variableDeclaratorId = 26, RULE_variableInitializer = 27, 
+		RULE_arrayInitializer = 28, RULE_objectDeclarator = 29, RULE_block = 30, 
+		RULE_blockStatements = 31, RULE_blockStatement = 32, RULE_statement = 33, 
+		RULE_ifBlock = 34, RULE_switchBlock = 35, RULE_switchCaseGroup = 36, RULE_switchCase = 37, 
+		RULE_forBlock = 38, RULE_whileBlock = 39, RULE_doWhileBlock = 40, RULE_forExpressions = 41, 
+		RULE_forInitExp = 42, RULE_forConditionExp = 43, RULE_forUpdateExp = 44, 
+		RULE_enhancedForExpression = 45, RULE_parExpression = 46, RULE_expression = 47, 
+		RULE_functionCall = 48, RULE_arguments = 49, RULE_expressionList = 50, 
+		RULE_functionCallName = 51, RULE_variableRef = 52, RULE_typeList = 53, 
+		RULE_variableType = 54, RULE_creator = 55, RULE_createdName = 56, RULE_classCreatorRest = 57, 
+		RULE_arrayCreatorRest = 58, RULE_classOrInterfaceType = 59, RULE_typeOrVoid = 60, 
+		RULE_primitiveType = 61, RULE_primary = 62, RULE_literal = 63, RULE_integerLiteral = 64, 
+		RULE_floatLiteral = 65;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"program", "topLevelFunctions", "topLevelStmts", "packageDeclaration", 
-			"importDeclaration", "declaration", "classDeclaration", "classBody", 
-			"classBodyDeclaration", "member", "classOrInterfacemodifier", "classOrInterfacemodifiers", 
-			"functionDeclare", "functionBody", "qualifiedNameList", "typeArguments", 
-			"typeArgument", "formalParams", "formalParamList", "formalParam", "lastFormalParam", 
-			"variableModifier", "qualifiedName", "fieldDeclare", "constructorDeclare", 
-			"variableAssign", "variableDeclarators", "variableDeclarator", "variableDeclaratorId", 
-			"variableInitializer", "arrayInitializer", "objectDeclarator", "block", 
-			"blockStatements", "blockStatement", "statement", "ifBlock", "switchBlock", 
-			"switchCaseGroup", "switchCase", "forBlock", "whileBlock", "doWhileBlock", 
-			"forExpressions", "forInitExp", "forConditionExp", "forUpdateExp", "enhancedForExpression", 
-			"parExpression", "expression", "functionCall", "arguments", "expressionList", 
-			"functionCallName", "variableRef", "typeList", "variableType", "creator", 
-			"createdName", "classCreatorRest", "arrayCreatorRest", "classOrInterfaceType", 
-			"typeOrVoid", "primitiveType", "primary", "literal", "integerLiteral", 
-			"floatLiteral"
+			"program", "packageDeclaration", "importDeclaration", "declaration", 
+			"classDeclaration", "classBody", "classBodyDeclaration", "member", "classOrInterfacemodifier", 
+			"classOrInterfacemodifiers", "functionDeclare", "functionBody", "qualifiedNameList", 
+			"typeArguments", "typeArgument", "formalParams", "formalParamList", "formalParam", 
+			"lastFormalParam", "variableModifier", "qualifiedName", "fieldDeclare", 
+			"constructorDeclare", "variableAssign", "variableDeclarators", "variableDeclarator", 
+			"variableDeclaratorId", "variableInitializer", "arrayInitializer", "objectDeclarator", 
+			"block", "blockStatements", "blockStatement", "statement", "ifBlock", 
+			"switchBlock", "switchCaseGroup", "switchCase", "forBlock", "whileBlock", 
+			"doWhileBlock", "forExpressions", "forInitExp", "forConditionExp", "forUpdateExp", 
+			"enhancedForExpression", "parExpression", "expression", "functionCall", 
+			"arguments", "expressionList", "functionCallName", "variableRef", "typeList", 
+			"variableType", "creator", "createdName", "classCreatorRest", "arrayCreatorRest", 
+			"classOrInterfaceType", "typeOrVoid", "primitiveType", "primary", "literal", 
+			"integerLiteral", "floatLiteral"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -170,7 +168,7 @@ public class CodeFlowParser extends Parser {
 	public ATN getATN() { return _ATN; }
 
 
-	 public static boolean supportClass;
+	 public boolean supportClass;
 
 	public CodeFlowParser(TokenStream input) {
 		super(input);
@@ -219,45 +217,45 @@ public class CodeFlowParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
+			setState(133);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				{
-				setState(136);
+				setState(132);
 				packageDeclaration();
 				}
 				break;
 			}
-			setState(142);
+			setState(138);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(139);
+					setState(135);
 					importDeclaration();
 					}
 					} 
 				}
-				setState(144);
+				setState(140);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
 			}
-			setState(148);
+			setState(144);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(145);
+					setState(141);
 					declaration();
 					}
 					} 
 				}
-				setState(150);
+				setState(146);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			}
@@ -274,138 +272,6 @@ public class CodeFlowParser extends Parser {
 		return _localctx;
 	}
 
-	public static class TopLevelFunctionsContext extends ParserRuleContext {
-		public List<FunctionDeclareContext> functionDeclare() {
-			return getRuleContexts(FunctionDeclareContext.class);
-		}
-		public FunctionDeclareContext functionDeclare(int i) {
-			return getRuleContext(FunctionDeclareContext.class,i);
-		}
-		public TopLevelFunctionsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_topLevelFunctions; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CodeFlowListener ) ((CodeFlowListener)listener).enterTopLevelFunctions(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CodeFlowListener ) ((CodeFlowListener)listener).exitTopLevelFunctions(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CodeFlowVisitor ) return ((CodeFlowVisitor<? extends T>)visitor).visitTopLevelFunctions(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final TopLevelFunctionsContext topLevelFunctions() throws RecognitionException {
-		TopLevelFunctionsContext _localctx = new TopLevelFunctionsContext(_ctx, getState());
-		enterRule(_localctx, 2, RULE_topLevelFunctions);
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(152); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(151);
-					functionDeclare();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(154); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class TopLevelStmtsContext extends ParserRuleContext {
-		public List<BlockStatementContext> blockStatement() {
-			return getRuleContexts(BlockStatementContext.class);
-		}
-		public BlockStatementContext blockStatement(int i) {
-			return getRuleContext(BlockStatementContext.class,i);
-		}
-		public TopLevelStmtsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_topLevelStmts; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof CodeFlowListener ) ((CodeFlowListener)listener).enterTopLevelStmts(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof CodeFlowListener ) ((CodeFlowListener)listener).exitTopLevelStmts(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof CodeFlowVisitor ) return ((CodeFlowVisitor<? extends T>)visitor).visitTopLevelStmts(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final TopLevelStmtsContext topLevelStmts() throws RecognitionException {
-		TopLevelStmtsContext _localctx = new TopLevelStmtsContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_topLevelStmts);
-		try {
-			int _alt;
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(157); 
-			_errHandler.sync(this);
-			_alt = 1;
-			do {
-				switch (_alt) {
-				case 1:
-					{
-					{
-					setState(156);
-					blockStatement();
-					}
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(159); 
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
-			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	public static class PackageDeclarationContext extends ParserRuleContext {
 		public TerminalNode PACKAGE() { return getToken(CodeFlowParser.PACKAGE, 0); }
 		public QualifiedNameContext qualifiedName() {
@@ -433,15 +299,15 @@ public class CodeFlowParser extends Parser {
 
 	public final PackageDeclarationContext packageDeclaration() throws RecognitionException {
 		PackageDeclarationContext _localctx = new PackageDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_packageDeclaration);
+		enterRule(_localctx, 2, RULE_packageDeclaration);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161);
+			setState(147);
 			match(PACKAGE);
-			setState(162);
+			setState(148);
 			qualifiedName();
-			setState(163);
+			setState(149);
 			match(SEMI);
 			}
 		}
@@ -486,38 +352,38 @@ public class CodeFlowParser extends Parser {
 
 	public final ImportDeclarationContext importDeclaration() throws RecognitionException {
 		ImportDeclarationContext _localctx = new ImportDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_importDeclaration);
+		enterRule(_localctx, 4, RULE_importDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(165);
+			setState(151);
 			match(IMPORT);
-			setState(167);
+			setState(153);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==STATIC) {
 				{
-				setState(166);
+				setState(152);
 				match(STATIC);
 				}
 			}
 
-			setState(169);
+			setState(155);
 			qualifiedName();
-			setState(172);
+			setState(158);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DOT) {
 				{
-				setState(170);
+				setState(156);
 				match(DOT);
-				setState(171);
+				setState(157);
 				match(MUL);
 				}
 			}
 
-			setState(174);
+			setState(160);
 			match(SEMI);
 			}
 		}
@@ -536,11 +402,11 @@ public class CodeFlowParser extends Parser {
 		public ClassDeclarationContext classDeclaration() {
 			return getRuleContext(ClassDeclarationContext.class,0);
 		}
-		public TopLevelFunctionsContext topLevelFunctions() {
-			return getRuleContext(TopLevelFunctionsContext.class,0);
+		public FunctionDeclareContext functionDeclare() {
+			return getRuleContext(FunctionDeclareContext.class,0);
 		}
-		public TopLevelStmtsContext topLevelStmts() {
-			return getRuleContext(TopLevelStmtsContext.class,0);
+		public BlockStatementContext blockStatement() {
+			return getRuleContext(BlockStatementContext.class,0);
 		}
 		public TerminalNode SEMI() { return getToken(CodeFlowParser.SEMI, 0); }
 		public DeclarationContext(ParserRuleContext parent, int invokingState) {
@@ -564,38 +430,38 @@ public class CodeFlowParser extends Parser {
 
 	public final DeclarationContext declaration() throws RecognitionException {
 		DeclarationContext _localctx = new DeclarationContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_declaration);
+		enterRule(_localctx, 6, RULE_declaration);
 		try {
-			setState(181);
+			setState(167);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(176);
+				setState(162);
 				if (!(supportClass)) throw new FailedPredicateException(this, "supportClass");
-				setState(177);
+				setState(163);
 				classDeclaration();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(178);
-				topLevelFunctions();
+				setState(164);
+				functionDeclare();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(179);
-				topLevelStmts();
+				setState(165);
+				blockStatement();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(180);
+				setState(166);
 				match(SEMI);
 				}
 				break;
@@ -653,52 +519,52 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
 		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_classDeclaration);
+		enterRule(_localctx, 8, RULE_classDeclaration);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(183);
+			setState(169);
 			classOrInterfacemodifiers();
-			setState(184);
+			setState(170);
 			match(CLASS);
-			setState(185);
+			setState(171);
 			match(IDENTIFIER);
-			setState(187);
+			setState(173);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(186);
+				setState(172);
 				typeArguments();
 				}
 			}
 
-			setState(191);
+			setState(177);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(189);
+				setState(175);
 				match(EXTENDS);
-				setState(190);
+				setState(176);
 				variableType();
 				}
 			}
 
-			setState(195);
+			setState(181);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==IMPLEMENTS) {
 				{
-				setState(193);
+				setState(179);
 				match(IMPLEMENTS);
-				setState(194);
+				setState(180);
 				typeList();
 				}
 			}
 
-			setState(197);
+			setState(183);
 			classBody();
 			}
 		}
@@ -743,28 +609,28 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassBodyContext classBody() throws RecognitionException {
 		ClassBodyContext _localctx = new ClassBodyContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_classBody);
+		enterRule(_localctx, 10, RULE_classBody);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(199);
+			setState(185);
 			match(LBRACE);
-			setState(203);
+			setState(189);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << VOID) | (1L << STRING) | (1L << INT) | (1L << SHORT) | (1L << DOUBLE) | (1L << FLOAT) | (1L << CHAR) | (1L << LONG) | (1L << BOOLEAN) | (1L << BYTE) | (1L << FINAL) | (1L << ABSTRACT) | (1L << CLASS) | (1L << PRIVATE) | (1L << PUBLIC) | (1L << PROTECTED) | (1L << STATIC) | (1L << LBRACE) | (1L << SEMI))) != 0) || _la==IDENTIFIER) {
 				{
 				{
-				setState(200);
+				setState(186);
 				classBodyDeclaration();
 				}
 				}
-				setState(205);
+				setState(191);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(206);
+			setState(192);
 			match(RBRACE);
 			}
 		}
@@ -812,42 +678,42 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassBodyDeclarationContext classBodyDeclaration() throws RecognitionException {
 		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_classBodyDeclaration);
+		enterRule(_localctx, 12, RULE_classBodyDeclaration);
 		int _la;
 		try {
-			setState(216);
+			setState(202);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(208);
+				setState(194);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(210);
+				setState(196);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==STATIC) {
 					{
-					setState(209);
+					setState(195);
 					match(STATIC);
 					}
 				}
 
-				setState(212);
+				setState(198);
 				block();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(213);
+				setState(199);
 				classOrInterfacemodifiers();
-				setState(214);
+				setState(200);
 				member();
 				}
 				break;
@@ -898,36 +764,36 @@ public class CodeFlowParser extends Parser {
 
 	public final MemberContext member() throws RecognitionException {
 		MemberContext _localctx = new MemberContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_member);
+		enterRule(_localctx, 14, RULE_member);
 		try {
-			setState(222);
+			setState(208);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(218);
+				setState(204);
 				functionDeclare();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(219);
+				setState(205);
 				fieldDeclare();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(220);
+				setState(206);
 				constructorDeclare();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(221);
+				setState(207);
 				classDeclaration();
 				}
 				break;
@@ -972,12 +838,12 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassOrInterfacemodifierContext classOrInterfacemodifier() throws RecognitionException {
 		ClassOrInterfacemodifierContext _localctx = new ClassOrInterfacemodifierContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_classOrInterfacemodifier);
+		enterRule(_localctx, 16, RULE_classOrInterfacemodifier);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(224);
+			setState(210);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << FINAL) | (1L << ABSTRACT) | (1L << PRIVATE) | (1L << PUBLIC) | (1L << PROTECTED) | (1L << STATIC))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1028,26 +894,26 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassOrInterfacemodifiersContext classOrInterfacemodifiers() throws RecognitionException {
 		ClassOrInterfacemodifiersContext _localctx = new ClassOrInterfacemodifiersContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_classOrInterfacemodifiers);
+		enterRule(_localctx, 18, RULE_classOrInterfacemodifiers);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(229);
+			setState(215);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(226);
+					setState(212);
 					classOrInterfacemodifier();
 					}
 					} 
 				}
-				setState(231);
+				setState(217);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			}
 			}
 		}
@@ -1101,32 +967,32 @@ public class CodeFlowParser extends Parser {
 
 	public final FunctionDeclareContext functionDeclare() throws RecognitionException {
 		FunctionDeclareContext _localctx = new FunctionDeclareContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_functionDeclare);
+		enterRule(_localctx, 20, RULE_functionDeclare);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(232);
+			setState(218);
 			classOrInterfacemodifiers();
-			setState(233);
+			setState(219);
 			typeOrVoid();
-			setState(234);
+			setState(220);
 			match(IDENTIFIER);
-			setState(235);
+			setState(221);
 			formalParams();
-			setState(238);
+			setState(224);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(236);
+				setState(222);
 				match(THROWS);
-				setState(237);
+				setState(223);
 				qualifiedNameList();
 				}
 			}
 
-			setState(240);
+			setState(226);
 			functionBody();
 			}
 		}
@@ -1167,22 +1033,22 @@ public class CodeFlowParser extends Parser {
 
 	public final FunctionBodyContext functionBody() throws RecognitionException {
 		FunctionBodyContext _localctx = new FunctionBodyContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_functionBody);
+		enterRule(_localctx, 22, RULE_functionBody);
 		try {
-			setState(244);
+			setState(230);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(242);
+				setState(228);
 				block();
 				}
 				break;
 			case SEMI:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(243);
+				setState(229);
 				match(SEMI);
 				}
 				break;
@@ -1233,26 +1099,26 @@ public class CodeFlowParser extends Parser {
 
 	public final QualifiedNameListContext qualifiedNameList() throws RecognitionException {
 		QualifiedNameListContext _localctx = new QualifiedNameListContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_qualifiedNameList);
+		enterRule(_localctx, 24, RULE_qualifiedNameList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(246);
+			setState(232);
 			qualifiedName();
-			setState(251);
+			setState(237);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(247);
+				setState(233);
 				match(COMMA);
-				setState(248);
+				setState(234);
 				qualifiedName();
 				}
 				}
-				setState(253);
+				setState(239);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1303,32 +1169,32 @@ public class CodeFlowParser extends Parser {
 
 	public final TypeArgumentsContext typeArguments() throws RecognitionException {
 		TypeArgumentsContext _localctx = new TypeArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_typeArguments);
+		enterRule(_localctx, 26, RULE_typeArguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(254);
+			setState(240);
 			match(LT);
-			setState(255);
+			setState(241);
 			typeArgument();
-			setState(260);
+			setState(246);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(256);
+				setState(242);
 				match(COMMA);
-				setState(257);
+				setState(243);
 				typeArgument();
 				}
 				}
-				setState(262);
+				setState(248);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(263);
+			setState(249);
 			match(GT);
 			}
 		}
@@ -1371,10 +1237,10 @@ public class CodeFlowParser extends Parser {
 
 	public final TypeArgumentContext typeArgument() throws RecognitionException {
 		TypeArgumentContext _localctx = new TypeArgumentContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_typeArgument);
+		enterRule(_localctx, 28, RULE_typeArgument);
 		int _la;
 		try {
-			setState(271);
+			setState(257);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case STRING:
@@ -1389,21 +1255,21 @@ public class CodeFlowParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(265);
+				setState(251);
 				variableType();
 				}
 				break;
 			case QUESTION:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(266);
+				setState(252);
 				match(QUESTION);
-				setState(269);
+				setState(255);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==EXTENDS || _la==SUPER) {
 					{
-					setState(267);
+					setState(253);
 					_la = _input.LA(1);
 					if ( !(_la==EXTENDS || _la==SUPER) ) {
 					_errHandler.recoverInline(this);
@@ -1413,7 +1279,7 @@ public class CodeFlowParser extends Parser {
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					setState(268);
+					setState(254);
 					variableType();
 					}
 				}
@@ -1462,24 +1328,24 @@ public class CodeFlowParser extends Parser {
 
 	public final FormalParamsContext formalParams() throws RecognitionException {
 		FormalParamsContext _localctx = new FormalParamsContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_formalParams);
+		enterRule(_localctx, 30, RULE_formalParams);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(273);
+			setState(259);
 			match(LPAREN);
-			setState(275);
+			setState(261);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STRING) | (1L << INT) | (1L << SHORT) | (1L << DOUBLE) | (1L << FLOAT) | (1L << CHAR) | (1L << LONG) | (1L << BOOLEAN) | (1L << BYTE) | (1L << FINAL))) != 0) || _la==IDENTIFIER) {
 				{
-				setState(274);
+				setState(260);
 				formalParamList();
 				}
 			}
 
-			setState(277);
+			setState(263);
 			match(RPAREN);
 			}
 		}
@@ -1529,40 +1395,40 @@ public class CodeFlowParser extends Parser {
 
 	public final FormalParamListContext formalParamList() throws RecognitionException {
 		FormalParamListContext _localctx = new FormalParamListContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_formalParamList);
+		enterRule(_localctx, 32, RULE_formalParamList);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(279);
+			setState(265);
 			formalParam();
-			setState(284);
+			setState(270);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(280);
+					setState(266);
 					match(COMMA);
-					setState(281);
+					setState(267);
 					formalParam();
 					}
 					} 
 				}
-				setState(286);
+				setState(272);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			}
-			setState(289);
+			setState(275);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(287);
+				setState(273);
 				match(COMMA);
-				setState(288);
+				setState(274);
 				lastFormalParam();
 				}
 			}
@@ -1611,24 +1477,24 @@ public class CodeFlowParser extends Parser {
 
 	public final FormalParamContext formalParam() throws RecognitionException {
 		FormalParamContext _localctx = new FormalParamContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_formalParam);
+		enterRule(_localctx, 34, RULE_formalParam);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(292);
+			setState(278);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==FINAL) {
 				{
-				setState(291);
+				setState(277);
 				variableModifier();
 				}
 			}
 
-			setState(294);
+			setState(280);
 			variableType();
-			setState(295);
+			setState(281);
 			variableDeclaratorId();
 			}
 		}
@@ -1675,26 +1541,26 @@ public class CodeFlowParser extends Parser {
 
 	public final LastFormalParamContext lastFormalParam() throws RecognitionException {
 		LastFormalParamContext _localctx = new LastFormalParamContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_lastFormalParam);
+		enterRule(_localctx, 36, RULE_lastFormalParam);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(298);
+			setState(284);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==FINAL) {
 				{
-				setState(297);
+				setState(283);
 				variableModifier();
 				}
 			}
 
-			setState(300);
+			setState(286);
 			variableType();
-			setState(301);
+			setState(287);
 			match(ELLIPSIS);
-			setState(302);
+			setState(288);
 			variableDeclaratorId();
 			}
 		}
@@ -1732,11 +1598,11 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableModifierContext variableModifier() throws RecognitionException {
 		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_variableModifier);
+		enterRule(_localctx, 38, RULE_variableModifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(304);
+			setState(290);
 			match(FINAL);
 			}
 		}
@@ -1781,30 +1647,30 @@ public class CodeFlowParser extends Parser {
 
 	public final QualifiedNameContext qualifiedName() throws RecognitionException {
 		QualifiedNameContext _localctx = new QualifiedNameContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_qualifiedName);
+		enterRule(_localctx, 40, RULE_qualifiedName);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(306);
+			setState(292);
 			match(IDENTIFIER);
-			setState(311);
+			setState(297);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(307);
+					setState(293);
 					match(DOT);
-					setState(308);
+					setState(294);
 					match(IDENTIFIER);
 					}
 					} 
 				}
-				setState(313);
+				setState(299);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 			}
 			}
 		}
@@ -1848,20 +1714,20 @@ public class CodeFlowParser extends Parser {
 
 	public final FieldDeclareContext fieldDeclare() throws RecognitionException {
 		FieldDeclareContext _localctx = new FieldDeclareContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_fieldDeclare);
+		enterRule(_localctx, 42, RULE_fieldDeclare);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(314);
+			setState(300);
 			classOrInterfacemodifiers();
-			setState(315);
+			setState(301);
 			variableDeclarators();
-			setState(317);
+			setState(303);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				{
-				setState(316);
+				setState(302);
 				match(SEMI);
 				}
 				break;
@@ -1913,28 +1779,28 @@ public class CodeFlowParser extends Parser {
 
 	public final ConstructorDeclareContext constructorDeclare() throws RecognitionException {
 		ConstructorDeclareContext _localctx = new ConstructorDeclareContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_constructorDeclare);
+		enterRule(_localctx, 44, RULE_constructorDeclare);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(319);
+			setState(305);
 			match(IDENTIFIER);
-			setState(320);
+			setState(306);
 			formalParams();
-			setState(323);
+			setState(309);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==THROWS) {
 				{
-				setState(321);
+				setState(307);
 				match(THROWS);
-				setState(322);
+				setState(308);
 				qualifiedNameList();
 				}
 			}
 
-			setState(325);
+			setState(311);
 			((ConstructorDeclareContext)_localctx).constructorBody = block();
 			}
 		}
@@ -1952,8 +1818,8 @@ public class CodeFlowParser extends Parser {
 	public static class VariableAssignContext extends ParserRuleContext {
 		public ExpressionContext variableId;
 		public TerminalNode ASSIGN() { return getToken(CodeFlowParser.ASSIGN, 0); }
-		public VariableInitializerContext variableInitializer() {
-			return getRuleContext(VariableInitializerContext.class,0);
+		public ArrayInitializerContext arrayInitializer() {
+			return getRuleContext(ArrayInitializerContext.class,0);
 		}
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
@@ -1979,16 +1845,16 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableAssignContext variableAssign() throws RecognitionException {
 		VariableAssignContext _localctx = new VariableAssignContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_variableAssign);
+		enterRule(_localctx, 46, RULE_variableAssign);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(327);
+			setState(313);
 			((VariableAssignContext)_localctx).variableId = expression(0);
-			setState(328);
+			setState(314);
 			match(ASSIGN);
-			setState(329);
-			variableInitializer();
+			setState(315);
+			arrayInitializer();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2037,32 +1903,32 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableDeclaratorsContext variableDeclarators() throws RecognitionException {
 		VariableDeclaratorsContext _localctx = new VariableDeclaratorsContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_variableDeclarators);
+		enterRule(_localctx, 48, RULE_variableDeclarators);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(331);
+			setState(317);
 			variableType();
-			setState(332);
+			setState(318);
 			variableDeclarator();
-			setState(337);
+			setState(323);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(333);
+					setState(319);
 					match(COMMA);
-					setState(334);
+					setState(320);
 					variableDeclarator();
 					}
 					} 
 				}
-				setState(339);
+				setState(325);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,28,_ctx);
 			}
 			}
 		}
@@ -2106,20 +1972,20 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableDeclaratorContext variableDeclarator() throws RecognitionException {
 		VariableDeclaratorContext _localctx = new VariableDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_variableDeclarator);
+		enterRule(_localctx, 50, RULE_variableDeclarator);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(340);
+			setState(326);
 			variableDeclaratorId();
-			setState(343);
+			setState(329);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 			case 1:
 				{
-				setState(341);
+				setState(327);
 				match(ASSIGN);
-				setState(342);
+				setState(328);
 				variableInitializer();
 				}
 				break;
@@ -2168,30 +2034,30 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableDeclaratorIdContext variableDeclaratorId() throws RecognitionException {
 		VariableDeclaratorIdContext _localctx = new VariableDeclaratorIdContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_variableDeclaratorId);
+		enterRule(_localctx, 52, RULE_variableDeclaratorId);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(345);
+			setState(331);
 			match(IDENTIFIER);
-			setState(350);
+			setState(336);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(346);
+					setState(332);
 					match(LBRACK);
-					setState(347);
+					setState(333);
 					match(RBRACK);
 					}
 					} 
 				}
-				setState(352);
+				setState(338);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,30,_ctx);
 			}
 			}
 		}
@@ -2234,15 +2100,15 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableInitializerContext variableInitializer() throws RecognitionException {
 		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_variableInitializer);
+		enterRule(_localctx, 54, RULE_variableInitializer);
 		try {
-			setState(355);
+			setState(341);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(353);
+				setState(339);
 				arrayInitializer();
 				}
 				break;
@@ -2269,7 +2135,7 @@ public class CodeFlowParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(354);
+				setState(340);
 				expression(0);
 				}
 				break;
@@ -2322,45 +2188,45 @@ public class CodeFlowParser extends Parser {
 
 	public final ArrayInitializerContext arrayInitializer() throws RecognitionException {
 		ArrayInitializerContext _localctx = new ArrayInitializerContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_arrayInitializer);
+		enterRule(_localctx, 56, RULE_arrayInitializer);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(357);
+			setState(343);
 			match(LBRACE);
-			setState(369);
+			setState(355);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN) | (1L << LBRACE))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 				{
-				setState(358);
+				setState(344);
 				variableInitializer();
-				setState(363);
+				setState(349);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(359);
+						setState(345);
 						match(COMMA);
-						setState(360);
+						setState(346);
 						variableInitializer();
 						}
 						} 
 					}
-					setState(365);
+					setState(351);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,34,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,32,_ctx);
 				}
-				setState(367);
+				setState(353);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==COMMA) {
 					{
-					setState(366);
+					setState(352);
 					match(COMMA);
 					}
 				}
@@ -2368,7 +2234,7 @@ public class CodeFlowParser extends Parser {
 				}
 			}
 
-			setState(371);
+			setState(357);
 			match(RBRACE);
 			}
 		}
@@ -2416,34 +2282,34 @@ public class CodeFlowParser extends Parser {
 
 	public final ObjectDeclaratorContext objectDeclarator() throws RecognitionException {
 		ObjectDeclaratorContext _localctx = new ObjectDeclaratorContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_objectDeclarator);
+		enterRule(_localctx, 58, RULE_objectDeclarator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(373);
+			setState(359);
 			match(IDENTIFIER);
-			setState(374);
+			setState(360);
 			match(IDENTIFIER);
-			setState(375);
+			setState(361);
 			match(ASSIGN);
-			setState(376);
+			setState(362);
 			match(NEW);
-			setState(377);
+			setState(363);
 			match(IDENTIFIER);
-			setState(378);
+			setState(364);
 			match(LPAREN);
-			setState(380);
+			setState(366);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 				{
-				setState(379);
+				setState(365);
 				expressionList();
 				}
 			}
 
-			setState(382);
+			setState(368);
 			match(RPAREN);
 			}
 		}
@@ -2485,15 +2351,15 @@ public class CodeFlowParser extends Parser {
 
 	public final BlockContext block() throws RecognitionException {
 		BlockContext _localctx = new BlockContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_block);
+		enterRule(_localctx, 60, RULE_block);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(384);
+			setState(370);
 			match(LBRACE);
-			setState(385);
+			setState(371);
 			blockStatements();
-			setState(386);
+			setState(372);
 			match(RBRACE);
 			}
 		}
@@ -2536,22 +2402,22 @@ public class CodeFlowParser extends Parser {
 
 	public final BlockStatementsContext blockStatements() throws RecognitionException {
 		BlockStatementsContext _localctx = new BlockStatementsContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_blockStatements);
+		enterRule(_localctx, 62, RULE_blockStatements);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(391);
+			setState(377);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STRING) | (1L << INT) | (1L << SHORT) | (1L << DOUBLE) | (1L << FLOAT) | (1L << CHAR) | (1L << LONG) | (1L << BOOLEAN) | (1L << BYTE) | (1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << BREAK) | (1L << CONTINUE) | (1L << DO) | (1L << FOR) | (1L << IF) | (1L << GOTO) | (1L << RETURN) | (1L << SWITCH) | (1L << WHILE) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN) | (1L << LBRACE) | (1L << SEMI))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 				{
 				{
-				setState(388);
+				setState(374);
 				blockStatement();
 				}
 				}
-				setState(393);
+				setState(379);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2593,11 +2459,11 @@ public class CodeFlowParser extends Parser {
 
 	public final BlockStatementContext blockStatement() throws RecognitionException {
 		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_blockStatement);
+		enterRule(_localctx, 64, RULE_blockStatement);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(394);
+			setState(380);
 			statement();
 			}
 		}
@@ -2679,74 +2545,74 @@ public class CodeFlowParser extends Parser {
 
 	public final StatementContext statement() throws RecognitionException {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_statement);
+		enterRule(_localctx, 66, RULE_statement);
 		try {
-			setState(444);
+			setState(430);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(396);
+				setState(382);
 				((StatementContext)_localctx).blockStmt = block();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(397);
+				setState(383);
 				ifBlock();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(398);
+				setState(384);
 				switchBlock();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(399);
+				setState(385);
 				forBlock();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(400);
+				setState(386);
 				whileBlock();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(401);
+				setState(387);
 				doWhileBlock();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(402);
+				setState(388);
 				((StatementContext)_localctx).returnToken = match(RETURN);
-				setState(404);
+				setState(390);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 				case 1:
 					{
-					setState(403);
+					setState(389);
 					expression(0);
 					}
 					break;
 				}
-				setState(407);
+				setState(393);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
 				case 1:
 					{
-					setState(406);
+					setState(392);
 					match(SEMI);
 					}
 					break;
@@ -2756,24 +2622,24 @@ public class CodeFlowParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(409);
+				setState(395);
 				((StatementContext)_localctx).breakToken = match(BREAK);
-				setState(411);
+				setState(397);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 				case 1:
 					{
-					setState(410);
+					setState(396);
 					match(IDENTIFIER);
 					}
 					break;
 				}
-				setState(414);
+				setState(400);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 				case 1:
 					{
-					setState(413);
+					setState(399);
 					match(SEMI);
 					}
 					break;
@@ -2783,24 +2649,24 @@ public class CodeFlowParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(416);
+				setState(402);
 				((StatementContext)_localctx).continueToken = match(CONTINUE);
-				setState(418);
+				setState(404);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
 				case 1:
 					{
-					setState(417);
+					setState(403);
 					match(IDENTIFIER);
 					}
 					break;
 				}
-				setState(421);
+				setState(407);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
 				case 1:
 					{
-					setState(420);
+					setState(406);
 					match(SEMI);
 					}
 					break;
@@ -2810,16 +2676,16 @@ public class CodeFlowParser extends Parser {
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(423);
+				setState(409);
 				((StatementContext)_localctx).gotoToken = match(GOTO);
-				setState(424);
+				setState(410);
 				match(IDENTIFIER);
-				setState(426);
+				setState(412);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 				case 1:
 					{
-					setState(425);
+					setState(411);
 					match(SEMI);
 					}
 					break;
@@ -2829,32 +2695,32 @@ public class CodeFlowParser extends Parser {
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(428);
+				setState(414);
 				((StatementContext)_localctx).labelStmt = match(IDENTIFIER);
-				setState(429);
+				setState(415);
 				match(COLON);
-				setState(430);
+				setState(416);
 				statement();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(431);
+				setState(417);
 				((StatementContext)_localctx).emptyStmt = match(SEMI);
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(432);
+				setState(418);
 				variableDeclarators();
-				setState(434);
+				setState(420);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
 				case 1:
 					{
-					setState(433);
+					setState(419);
 					match(SEMI);
 					}
 					break;
@@ -2864,14 +2730,14 @@ public class CodeFlowParser extends Parser {
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(436);
+				setState(422);
 				variableAssign();
-				setState(438);
+				setState(424);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
 				case 1:
 					{
-					setState(437);
+					setState(423);
 					match(SEMI);
 					}
 					break;
@@ -2881,14 +2747,14 @@ public class CodeFlowParser extends Parser {
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(440);
+				setState(426);
 				((StatementContext)_localctx).expressionStmt = expression(0);
-				setState(442);
+				setState(428);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
 				case 1:
 					{
-					setState(441);
+					setState(427);
 					match(SEMI);
 					}
 					break;
@@ -2941,24 +2807,24 @@ public class CodeFlowParser extends Parser {
 
 	public final IfBlockContext ifBlock() throws RecognitionException {
 		IfBlockContext _localctx = new IfBlockContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_ifBlock);
+		enterRule(_localctx, 68, RULE_ifBlock);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(446);
+			setState(432);
 			match(IF);
-			setState(447);
+			setState(433);
 			parExpression();
-			setState(448);
+			setState(434);
 			statement();
-			setState(451);
+			setState(437);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
 			case 1:
 				{
-				setState(449);
+				setState(435);
 				match(ELSE);
-				setState(450);
+				setState(436);
 				statement();
 				}
 				break;
@@ -3016,38 +2882,38 @@ public class CodeFlowParser extends Parser {
 
 	public final SwitchBlockContext switchBlock() throws RecognitionException {
 		SwitchBlockContext _localctx = new SwitchBlockContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_switchBlock);
+		enterRule(_localctx, 70, RULE_switchBlock);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(453);
+			setState(439);
 			match(SWITCH);
-			setState(454);
+			setState(440);
 			parExpression();
-			setState(455);
+			setState(441);
 			match(LBRACE);
-			setState(459);
+			setState(445);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CASE) {
 				{
 				{
-				setState(456);
+				setState(442);
 				switchCaseGroup();
 				}
 				}
-				setState(461);
+				setState(447);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(462);
+			setState(448);
 			match(DEFAULT);
-			setState(463);
+			setState(449);
 			match(COLON);
-			setState(464);
+			setState(450);
 			((SwitchBlockContext)_localctx).defaultStmt = blockStatements();
-			setState(465);
+			setState(451);
 			match(RBRACE);
 			}
 		}
@@ -3093,12 +2959,12 @@ public class CodeFlowParser extends Parser {
 
 	public final SwitchCaseGroupContext switchCaseGroup() throws RecognitionException {
 		SwitchCaseGroupContext _localctx = new SwitchCaseGroupContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_switchCaseGroup);
+		enterRule(_localctx, 72, RULE_switchCaseGroup);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(468); 
+			setState(454); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -3106,7 +2972,7 @@ public class CodeFlowParser extends Parser {
 				case 1:
 					{
 					{
-					setState(467);
+					setState(453);
 					switchCase();
 					}
 					}
@@ -3114,11 +2980,11 @@ public class CodeFlowParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(470); 
+				setState(456); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,52,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			setState(472);
+			setState(458);
 			blockStatements();
 			}
 		}
@@ -3162,30 +3028,30 @@ public class CodeFlowParser extends Parser {
 
 	public final SwitchCaseContext switchCase() throws RecognitionException {
 		SwitchCaseContext _localctx = new SwitchCaseContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_switchCase);
+		enterRule(_localctx, 74, RULE_switchCase);
 		try {
-			setState(481);
+			setState(467);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(474);
+				setState(460);
 				match(CASE);
-				setState(475);
+				setState(461);
 				((SwitchCaseContext)_localctx).constantExpression = expression(0);
-				setState(476);
+				setState(462);
 				match(COLON);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(478);
+				setState(464);
 				match(CASE);
-				setState(479);
+				setState(465);
 				match(IDENTIFIER);
-				setState(480);
+				setState(466);
 				match(COLON);
 				}
 				break;
@@ -3233,19 +3099,19 @@ public class CodeFlowParser extends Parser {
 
 	public final ForBlockContext forBlock() throws RecognitionException {
 		ForBlockContext _localctx = new ForBlockContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_forBlock);
+		enterRule(_localctx, 76, RULE_forBlock);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(483);
+			setState(469);
 			match(FOR);
-			setState(484);
+			setState(470);
 			match(LPAREN);
-			setState(485);
+			setState(471);
 			forExpressions();
-			setState(486);
+			setState(472);
 			match(RPAREN);
-			setState(487);
+			setState(473);
 			statement();
 			}
 		}
@@ -3289,15 +3155,15 @@ public class CodeFlowParser extends Parser {
 
 	public final WhileBlockContext whileBlock() throws RecognitionException {
 		WhileBlockContext _localctx = new WhileBlockContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_whileBlock);
+		enterRule(_localctx, 78, RULE_whileBlock);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(489);
+			setState(475);
 			match(WHILE);
-			setState(490);
+			setState(476);
 			parExpression();
-			setState(491);
+			setState(477);
 			statement();
 			}
 		}
@@ -3343,24 +3209,24 @@ public class CodeFlowParser extends Parser {
 
 	public final DoWhileBlockContext doWhileBlock() throws RecognitionException {
 		DoWhileBlockContext _localctx = new DoWhileBlockContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_doWhileBlock);
+		enterRule(_localctx, 80, RULE_doWhileBlock);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(493);
+			setState(479);
 			match(DO);
-			setState(494);
+			setState(480);
 			block();
-			setState(495);
+			setState(481);
 			match(WHILE);
-			setState(496);
+			setState(482);
 			parExpression();
-			setState(498);
+			setState(484);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 			case 1:
 				{
-				setState(497);
+				setState(483);
 				match(SEMI);
 				}
 				break;
@@ -3416,52 +3282,52 @@ public class CodeFlowParser extends Parser {
 
 	public final ForExpressionsContext forExpressions() throws RecognitionException {
 		ForExpressionsContext _localctx = new ForExpressionsContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_forExpressions);
+		enterRule(_localctx, 82, RULE_forExpressions);
 		int _la;
 		try {
-			setState(512);
+			setState(498);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(500);
+				setState(486);
 				enhancedForExpression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(502);
+				setState(488);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STRING) | (1L << INT) | (1L << SHORT) | (1L << DOUBLE) | (1L << FLOAT) | (1L << CHAR) | (1L << LONG) | (1L << BOOLEAN) | (1L << BYTE) | (1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 					{
-					setState(501);
+					setState(487);
 					forInitExp();
 					}
 				}
 
-				setState(504);
+				setState(490);
 				match(SEMI);
-				setState(506);
+				setState(492);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 					{
-					setState(505);
+					setState(491);
 					forConditionExp();
 					}
 				}
 
-				setState(508);
+				setState(494);
 				match(SEMI);
-				setState(510);
+				setState(496);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 					{
-					setState(509);
+					setState(495);
 					forUpdateExp();
 					}
 				}
@@ -3509,22 +3375,22 @@ public class CodeFlowParser extends Parser {
 
 	public final ForInitExpContext forInitExp() throws RecognitionException {
 		ForInitExpContext _localctx = new ForInitExpContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_forInitExp);
+		enterRule(_localctx, 84, RULE_forInitExp);
 		try {
-			setState(516);
+			setState(502);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(514);
+				setState(500);
 				variableDeclarators();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(515);
+				setState(501);
 				expressionList();
 				}
 				break;
@@ -3566,11 +3432,11 @@ public class CodeFlowParser extends Parser {
 
 	public final ForConditionExpContext forConditionExp() throws RecognitionException {
 		ForConditionExpContext _localctx = new ForConditionExpContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_forConditionExp);
+		enterRule(_localctx, 86, RULE_forConditionExp);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(518);
+			setState(504);
 			expression(0);
 			}
 		}
@@ -3610,11 +3476,11 @@ public class CodeFlowParser extends Parser {
 
 	public final ForUpdateExpContext forUpdateExp() throws RecognitionException {
 		ForUpdateExpContext _localctx = new ForUpdateExpContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_forUpdateExp);
+		enterRule(_localctx, 88, RULE_forUpdateExp);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(520);
+			setState(506);
 			expressionList();
 			}
 		}
@@ -3661,17 +3527,17 @@ public class CodeFlowParser extends Parser {
 
 	public final EnhancedForExpressionContext enhancedForExpression() throws RecognitionException {
 		EnhancedForExpressionContext _localctx = new EnhancedForExpressionContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_enhancedForExpression);
+		enterRule(_localctx, 90, RULE_enhancedForExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(522);
+			setState(508);
 			variableType();
-			setState(523);
+			setState(509);
 			variableDeclaratorId();
-			setState(524);
+			setState(510);
 			match(COLON);
-			setState(525);
+			setState(511);
 			expression(0);
 			}
 		}
@@ -3713,15 +3579,15 @@ public class CodeFlowParser extends Parser {
 
 	public final ParExpressionContext parExpression() throws RecognitionException {
 		ParExpressionContext _localctx = new ParExpressionContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_parExpression);
+		enterRule(_localctx, 92, RULE_parExpression);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(527);
+			setState(513);
 			match(LPAREN);
-			setState(528);
+			setState(514);
 			expression(0);
-			setState(529);
+			setState(515);
 			match(RPAREN);
 			}
 		}
@@ -3746,10 +3612,10 @@ public class CodeFlowParser extends Parser {
 		public FunctionCallContext functionCall() {
 			return getRuleContext(FunctionCallContext.class,0);
 		}
+		public TerminalNode DOT() { return getToken(CodeFlowParser.DOT, 0); }
 		public VariableRefContext variableRef() {
 			return getRuleContext(VariableRefContext.class,0);
 		}
-		public TerminalNode DOT() { return getToken(CodeFlowParser.DOT, 0); }
 		public PrimaryContext primary() {
 			return getRuleContext(PrimaryContext.class,0);
 		}
@@ -3838,65 +3704,67 @@ public class CodeFlowParser extends Parser {
 		int _parentState = getState();
 		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
 		ExpressionContext _prevctx = _localctx;
-		int _startState = 98;
-		enterRecursionRule(_localctx, 98, RULE_expression, _p);
+		int _startState = 94;
+		enterRecursionRule(_localctx, 94, RULE_expression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(554);
+			setState(540);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 			case 1:
 				{
-				setState(532);
+				setState(518);
 				functionCall();
+				setState(521);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
+				case 1:
+					{
+					setState(519);
+					match(DOT);
+					setState(520);
+					variableRef();
+					}
+					break;
+				}
 				}
 				break;
 			case 2:
 				{
-				setState(533);
+				setState(523);
 				variableRef();
 				}
 				break;
 			case 3:
 				{
-				setState(534);
-				functionCall();
-				setState(535);
-				match(DOT);
-				setState(536);
-				variableRef();
-				}
-				break;
-			case 4:
-				{
-				setState(538);
+				setState(524);
 				primary();
 				}
 				break;
-			case 5:
+			case 4:
 				{
-				setState(539);
+				setState(525);
 				match(LPAREN);
-				setState(540);
+				setState(526);
 				expression(0);
-				setState(541);
+				setState(527);
 				match(RPAREN);
 				}
 				break;
-			case 6:
+			case 5:
 				{
-				setState(543);
+				setState(529);
 				match(NEW);
-				setState(544);
+				setState(530);
 				creator();
 				}
 				break;
-			case 7:
+			case 6:
 				{
-				setState(545);
+				setState(531);
 				((ExpressionContext)_localctx).prefix = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(((((_la - 76)) & ~0x3f) == 0 && ((1L << (_la - 76)) & ((1L << (INC - 76)) | (1L << (DEC - 76)) | (1L << (ADD - 76)) | (1L << (SUB - 76)))) != 0)) ) {
@@ -3907,13 +3775,13 @@ public class CodeFlowParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(546);
+				setState(532);
 				expression(15);
 				}
 				break;
-			case 8:
+			case 7:
 				{
-				setState(547);
+				setState(533);
 				((ExpressionContext)_localctx).prefix = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==BANG || _la==TILDE) ) {
@@ -3924,42 +3792,42 @@ public class CodeFlowParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(548);
+				setState(534);
 				expression(14);
 				}
 				break;
-			case 9:
+			case 8:
 				{
-				setState(549);
+				setState(535);
 				match(LPAREN);
-				setState(550);
+				setState(536);
 				variableType();
-				setState(551);
+				setState(537);
 				match(RPAREN);
-				setState(552);
+				setState(538);
 				expression(13);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(612);
+			setState(598);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(610);
+					setState(596);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(556);
+						setState(542);
 						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
-						setState(557);
+						setState(543);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(((((_la - 80)) & ~0x3f) == 0 && ((1L << (_la - 80)) & ((1L << (MUL - 80)) | (1L << (DIV - 80)) | (1L << (MOD - 80)))) != 0)) ) {
@@ -3970,7 +3838,7 @@ public class CodeFlowParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(558);
+						setState(544);
 						expression(13);
 						}
 						break;
@@ -3978,9 +3846,9 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(559);
+						setState(545);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(560);
+						setState(546);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==ADD || _la==SUB) ) {
@@ -3991,7 +3859,7 @@ public class CodeFlowParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(561);
+						setState(547);
 						expression(12);
 						}
 						break;
@@ -3999,39 +3867,39 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(562);
+						setState(548);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(570);
+						setState(556);
 						_errHandler.sync(this);
-						switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+						switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 						case 1:
 							{
-							setState(563);
+							setState(549);
 							match(LT);
-							setState(564);
+							setState(550);
 							match(LT);
 							}
 							break;
 						case 2:
 							{
-							setState(565);
+							setState(551);
 							match(GT);
-							setState(566);
+							setState(552);
 							match(GT);
-							setState(567);
+							setState(553);
 							match(GT);
 							}
 							break;
 						case 3:
 							{
-							setState(568);
+							setState(554);
 							match(GT);
-							setState(569);
+							setState(555);
 							match(GT);
 							}
 							break;
 						}
-						setState(572);
+						setState(558);
 						expression(11);
 						}
 						break;
@@ -4039,9 +3907,9 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(573);
+						setState(559);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(574);
+						setState(560);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (GT - 64)) | (1L << (LT - 64)) | (1L << (LE - 64)) | (1L << (GE - 64)))) != 0)) ) {
@@ -4052,7 +3920,7 @@ public class CodeFlowParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(575);
+						setState(561);
 						expression(10);
 						}
 						break;
@@ -4060,9 +3928,9 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(576);
+						setState(562);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(577);
+						setState(563);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==EQUAL || _la==NOTEQUAL) ) {
@@ -4073,7 +3941,7 @@ public class CodeFlowParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(578);
+						setState(564);
 						expression(9);
 						}
 						break;
@@ -4081,11 +3949,11 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(579);
+						setState(565);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(580);
+						setState(566);
 						((ExpressionContext)_localctx).bop = match(BITAND);
-						setState(581);
+						setState(567);
 						expression(8);
 						}
 						break;
@@ -4093,11 +3961,11 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(582);
+						setState(568);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(583);
+						setState(569);
 						((ExpressionContext)_localctx).bop = match(CARET);
-						setState(584);
+						setState(570);
 						expression(7);
 						}
 						break;
@@ -4105,11 +3973,11 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(585);
+						setState(571);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(586);
+						setState(572);
 						((ExpressionContext)_localctx).bop = match(BITOR);
-						setState(587);
+						setState(573);
 						expression(6);
 						}
 						break;
@@ -4117,11 +3985,11 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(588);
+						setState(574);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(589);
+						setState(575);
 						((ExpressionContext)_localctx).bop = match(AND);
-						setState(590);
+						setState(576);
 						expression(5);
 						}
 						break;
@@ -4129,11 +3997,11 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(591);
+						setState(577);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(592);
+						setState(578);
 						((ExpressionContext)_localctx).bop = match(OR);
-						setState(593);
+						setState(579);
 						expression(4);
 						}
 						break;
@@ -4143,15 +4011,15 @@ public class CodeFlowParser extends Parser {
 						_localctx.ternaryCondition = _prevctx;
 						_localctx.ternaryCondition = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(594);
+						setState(580);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(595);
+						setState(581);
 						match(QUESTION);
-						setState(596);
+						setState(582);
 						((ExpressionContext)_localctx).ternaryTrueExp = expression(0);
-						setState(597);
+						setState(583);
 						match(COLON);
-						setState(598);
+						setState(584);
 						((ExpressionContext)_localctx).ternaryFalseExp = expression(3);
 						}
 						break;
@@ -4159,9 +4027,9 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(600);
+						setState(586);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(601);
+						setState(587);
 						((ExpressionContext)_localctx).bop = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(((((_la - 89)) & ~0x3f) == 0 && ((1L << (_la - 89)) & ((1L << (ASSIGN - 89)) | (1L << (ADD_ASSIGN - 89)) | (1L << (SUB_ASSIGN - 89)) | (1L << (MUL_ASSIGN - 89)) | (1L << (DIV_ASSIGN - 89)) | (1L << (AND_ASSIGN - 89)) | (1L << (OR_ASSIGN - 89)) | (1L << (XOR_ASSIGN - 89)) | (1L << (MOD_ASSIGN - 89)) | (1L << (LSHIFT_ASSIGN - 89)) | (1L << (RSHIFT_ASSIGN - 89)) | (1L << (URSHIFT_ASSIGN - 89)))) != 0)) ) {
@@ -4172,7 +4040,7 @@ public class CodeFlowParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(602);
+						setState(588);
 						expression(1);
 						}
 						break;
@@ -4180,13 +4048,13 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(603);
+						setState(589);
 						if (!(precpred(_ctx, 19))) throw new FailedPredicateException(this, "precpred(_ctx, 19)");
-						setState(604);
+						setState(590);
 						match(LBRACK);
-						setState(605);
+						setState(591);
 						expression(0);
-						setState(606);
+						setState(592);
 						match(RBRACK);
 						}
 						break;
@@ -4194,9 +4062,9 @@ public class CodeFlowParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(608);
+						setState(594);
 						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
-						setState(609);
+						setState(595);
 						((ExpressionContext)_localctx).postfix = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==INC || _la==DEC) ) {
@@ -4212,9 +4080,9 @@ public class CodeFlowParser extends Parser {
 					}
 					} 
 				}
-				setState(614);
+				setState(600);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,62,_ctx);
 			}
 			}
 		}
@@ -4267,32 +4135,32 @@ public class CodeFlowParser extends Parser {
 
 	public final FunctionCallContext functionCall() throws RecognitionException {
 		FunctionCallContext _localctx = new FunctionCallContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_functionCall);
+		enterRule(_localctx, 96, RULE_functionCall);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(615);
+			setState(601);
 			functionCallName();
-			setState(616);
+			setState(602);
 			arguments();
-			setState(621);
+			setState(607);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(617);
+					setState(603);
 					match(DOT);
-					setState(618);
+					setState(604);
 					functionCall();
 					}
 					} 
 				}
-				setState(623);
+				setState(609);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
 			}
 			}
 		}
@@ -4334,24 +4202,24 @@ public class CodeFlowParser extends Parser {
 
 	public final ArgumentsContext arguments() throws RecognitionException {
 		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_arguments);
+		enterRule(_localctx, 98, RULE_arguments);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(624);
+			setState(610);
 			match(LPAREN);
-			setState(626);
+			setState(612);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << THIS) | (1L << SUPER) | (1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL) | (1L << FLOAT_LITERAL) | (1L << HEX_FLOAT_LITERAL) | (1L << BOOL_LITERAL) | (1L << CHAR_LITERAL) | (1L << STRING_LITERAL) | (1L << NULL_LITERAL) | (1L << LPAREN))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (BANG - 66)) | (1L << (TILDE - 66)) | (1L << (INC - 66)) | (1L << (DEC - 66)) | (1L << (ADD - 66)) | (1L << (SUB - 66)) | (1L << (IDENTIFIER - 66)))) != 0)) {
 				{
-				setState(625);
+				setState(611);
 				expressionList();
 				}
 			}
 
-			setState(628);
+			setState(614);
 			match(RPAREN);
 			}
 		}
@@ -4398,26 +4266,26 @@ public class CodeFlowParser extends Parser {
 
 	public final ExpressionListContext expressionList() throws RecognitionException {
 		ExpressionListContext _localctx = new ExpressionListContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_expressionList);
+		enterRule(_localctx, 100, RULE_expressionList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(630);
+			setState(616);
 			expression(0);
-			setState(635);
+			setState(621);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(631);
+				setState(617);
 				match(COMMA);
-				setState(632);
+				setState(618);
 				expression(0);
 				}
 				}
-				setState(637);
+				setState(623);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4466,30 +4334,30 @@ public class CodeFlowParser extends Parser {
 
 	public final FunctionCallNameContext functionCallName() throws RecognitionException {
 		FunctionCallNameContext _localctx = new FunctionCallNameContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_functionCallName);
+		enterRule(_localctx, 102, RULE_functionCallName);
 		int _la;
 		try {
-			setState(661);
+			setState(647);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(638);
+				setState(624);
 				match(IDENTIFIER);
-				setState(643);
+				setState(629);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DOT) {
 					{
 					{
-					setState(639);
+					setState(625);
 					match(DOT);
-					setState(640);
+					setState(626);
 					match(IDENTIFIER);
 					}
 					}
-					setState(645);
+					setState(631);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -4498,21 +4366,21 @@ public class CodeFlowParser extends Parser {
 			case THIS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(646);
+				setState(632);
 				match(THIS);
-				setState(651);
+				setState(637);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DOT) {
 					{
 					{
-					setState(647);
+					setState(633);
 					match(DOT);
-					setState(648);
+					setState(634);
 					match(IDENTIFIER);
 					}
 					}
-					setState(653);
+					setState(639);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -4521,21 +4389,21 @@ public class CodeFlowParser extends Parser {
 			case SUPER:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(654);
+				setState(640);
 				match(SUPER);
-				setState(657); 
+				setState(643); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(655);
+					setState(641);
 					match(DOT);
-					setState(656);
+					setState(642);
 					match(IDENTIFIER);
 					}
 					}
-					setState(659); 
+					setState(645); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==DOT );
@@ -4588,68 +4456,68 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableRefContext variableRef() throws RecognitionException {
 		VariableRefContext _localctx = new VariableRefContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_variableRef);
+		enterRule(_localctx, 104, RULE_variableRef);
 		try {
 			int _alt;
-			setState(686);
+			setState(672);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(663);
+				setState(649);
 				match(IDENTIFIER);
-				setState(668);
+				setState(654);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(664);
+						setState(650);
 						match(DOT);
-						setState(665);
+						setState(651);
 						match(IDENTIFIER);
 						}
 						} 
 					}
-					setState(670);
+					setState(656);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
 				}
 				}
 				break;
 			case THIS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(671);
+				setState(657);
 				match(THIS);
-				setState(676);
+				setState(662);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,72,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(672);
+						setState(658);
 						match(DOT);
-						setState(673);
+						setState(659);
 						match(IDENTIFIER);
 						}
 						} 
 					}
-					setState(678);
+					setState(664);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,72,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 				}
 				}
 				break;
 			case SUPER:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(679);
+				setState(665);
 				match(SUPER);
-				setState(682); 
+				setState(668); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -4657,9 +4525,9 @@ public class CodeFlowParser extends Parser {
 					case 1:
 						{
 						{
-						setState(680);
+						setState(666);
 						match(DOT);
-						setState(681);
+						setState(667);
 						match(IDENTIFIER);
 						}
 						}
@@ -4667,9 +4535,9 @@ public class CodeFlowParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(684); 
+					setState(670); 
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,73,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,72,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				}
 				break;
@@ -4720,26 +4588,26 @@ public class CodeFlowParser extends Parser {
 
 	public final TypeListContext typeList() throws RecognitionException {
 		TypeListContext _localctx = new TypeListContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_typeList);
+		enterRule(_localctx, 106, RULE_typeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(688);
+			setState(674);
 			variableType();
-			setState(693);
+			setState(679);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(689);
+				setState(675);
 				match(COMMA);
-				setState(690);
+				setState(676);
 				variableType();
 				}
 				}
-				setState(695);
+				setState(681);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4792,17 +4660,17 @@ public class CodeFlowParser extends Parser {
 
 	public final VariableTypeContext variableType() throws RecognitionException {
 		VariableTypeContext _localctx = new VariableTypeContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_variableType);
+		enterRule(_localctx, 108, RULE_variableType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(698);
+			setState(684);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				{
-				setState(696);
+				setState(682);
 				classOrInterfaceType();
 				}
 				break;
@@ -4816,26 +4684,26 @@ public class CodeFlowParser extends Parser {
 			case BOOLEAN:
 			case BYTE:
 				{
-				setState(697);
+				setState(683);
 				primitiveType();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(704);
+			setState(690);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK) {
 				{
 				{
-				setState(700);
+				setState(686);
 				match(LBRACK);
-				setState(701);
+				setState(687);
 				match(RBRACK);
 				}
 				}
-				setState(706);
+				setState(692);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4883,37 +4751,37 @@ public class CodeFlowParser extends Parser {
 
 	public final CreatorContext creator() throws RecognitionException {
 		CreatorContext _localctx = new CreatorContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_creator);
+		enterRule(_localctx, 110, RULE_creator);
 		try {
-			setState(715);
+			setState(701);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(707);
+				setState(693);
 				createdName();
-				setState(708);
+				setState(694);
 				classCreatorRest();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(710);
+				setState(696);
 				createdName();
-				setState(713);
+				setState(699);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case LBRACK:
 					{
-					setState(711);
+					setState(697);
 					arrayCreatorRest();
 					}
 					break;
 				case LPAREN:
 					{
-					setState(712);
+					setState(698);
 					classCreatorRest();
 					}
 					break;
@@ -4963,15 +4831,15 @@ public class CodeFlowParser extends Parser {
 
 	public final CreatedNameContext createdName() throws RecognitionException {
 		CreatedNameContext _localctx = new CreatedNameContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_createdName);
+		enterRule(_localctx, 112, RULE_createdName);
 		try {
-			setState(719);
+			setState(705);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(717);
+				setState(703);
 				classOrInterfaceType();
 				}
 				break;
@@ -4986,7 +4854,7 @@ public class CodeFlowParser extends Parser {
 			case BYTE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(718);
+				setState(704);
 				primitiveType();
 				}
 				break;
@@ -5033,18 +4901,18 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassCreatorRestContext classCreatorRest() throws RecognitionException {
 		ClassCreatorRestContext _localctx = new ClassCreatorRestContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_classCreatorRest);
+		enterRule(_localctx, 114, RULE_classCreatorRest);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(721);
+			setState(707);
 			arguments();
-			setState(723);
+			setState(709);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
 			case 1:
 				{
-				setState(722);
+				setState(708);
 				classBody();
 				}
 				break;
@@ -5101,38 +4969,38 @@ public class CodeFlowParser extends Parser {
 
 	public final ArrayCreatorRestContext arrayCreatorRest() throws RecognitionException {
 		ArrayCreatorRestContext _localctx = new ArrayCreatorRestContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_arrayCreatorRest);
+		enterRule(_localctx, 116, RULE_arrayCreatorRest);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(725);
+			setState(711);
 			match(LBRACK);
-			setState(753);
+			setState(739);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case RBRACK:
 				{
-				setState(726);
+				setState(712);
 				match(RBRACK);
-				setState(731);
+				setState(717);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==LBRACK) {
 					{
 					{
-					setState(727);
+					setState(713);
 					match(LBRACK);
-					setState(728);
+					setState(714);
 					match(RBRACK);
 					}
 					}
-					setState(733);
+					setState(719);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(734);
+				setState(720);
 				arrayInitializer();
 				}
 				break;
@@ -5158,47 +5026,47 @@ public class CodeFlowParser extends Parser {
 			case SUB:
 			case IDENTIFIER:
 				{
-				setState(735);
+				setState(721);
 				expression(0);
-				setState(736);
+				setState(722);
 				match(RBRACK);
-				setState(743);
+				setState(729);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,82,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(737);
+						setState(723);
 						match(LBRACK);
-						setState(738);
+						setState(724);
 						expression(0);
-						setState(739);
+						setState(725);
 						match(RBRACK);
 						}
 						} 
 					}
-					setState(745);
+					setState(731);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,82,_ctx);
 				}
-				setState(750);
+				setState(736);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,84,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(746);
+						setState(732);
 						match(LBRACK);
-						setState(747);
+						setState(733);
 						match(RBRACK);
 						}
 						} 
 					}
-					setState(752);
+					setState(738);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,84,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 				}
 				}
 				break;
@@ -5254,46 +5122,46 @@ public class CodeFlowParser extends Parser {
 
 	public final ClassOrInterfaceTypeContext classOrInterfaceType() throws RecognitionException {
 		ClassOrInterfaceTypeContext _localctx = new ClassOrInterfaceTypeContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_classOrInterfaceType);
+		enterRule(_localctx, 118, RULE_classOrInterfaceType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(755);
+			setState(741);
 			match(IDENTIFIER);
-			setState(757);
+			setState(743);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LT) {
 				{
-				setState(756);
+				setState(742);
 				typeArguments();
 				}
 			}
 
-			setState(766);
+			setState(752);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DOT) {
 				{
 				{
-				setState(759);
+				setState(745);
 				match(DOT);
-				setState(760);
+				setState(746);
 				match(IDENTIFIER);
-				setState(762);
+				setState(748);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LT) {
 					{
-					setState(761);
+					setState(747);
 					typeArguments();
 					}
 				}
 
 				}
 				}
-				setState(768);
+				setState(754);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5336,9 +5204,9 @@ public class CodeFlowParser extends Parser {
 
 	public final TypeOrVoidContext typeOrVoid() throws RecognitionException {
 		TypeOrVoidContext _localctx = new TypeOrVoidContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_typeOrVoid);
+		enterRule(_localctx, 120, RULE_typeOrVoid);
 		try {
-			setState(771);
+			setState(757);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case STRING:
@@ -5353,14 +5221,14 @@ public class CodeFlowParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(769);
+				setState(755);
 				variableType();
 				}
 				break;
 			case VOID:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(770);
+				setState(756);
 				match(VOID);
 				}
 				break;
@@ -5410,12 +5278,12 @@ public class CodeFlowParser extends Parser {
 
 	public final PrimitiveTypeContext primitiveType() throws RecognitionException {
 		PrimitiveTypeContext _localctx = new PrimitiveTypeContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_primitiveType);
+		enterRule(_localctx, 122, RULE_primitiveType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(773);
+			setState(759);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << STRING) | (1L << INT) | (1L << SHORT) | (1L << DOUBLE) | (1L << FLOAT) | (1L << CHAR) | (1L << LONG) | (1L << BOOLEAN) | (1L << BYTE))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -5442,7 +5310,6 @@ public class CodeFlowParser extends Parser {
 		public LiteralContext literal() {
 			return getRuleContext(LiteralContext.class,0);
 		}
-		public TerminalNode IDENTIFIER() { return getToken(CodeFlowParser.IDENTIFIER, 0); }
 		public PrimaryContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5464,36 +5331,12 @@ public class CodeFlowParser extends Parser {
 
 	public final PrimaryContext primary() throws RecognitionException {
 		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_primary);
+		enterRule(_localctx, 124, RULE_primary);
 		try {
-			setState(777);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case DECIMAL_LITERAL:
-			case HEX_LITERAL:
-			case OCT_LITERAL:
-			case BINARY_LITERAL:
-			case FLOAT_LITERAL:
-			case HEX_FLOAT_LITERAL:
-			case BOOL_LITERAL:
-			case CHAR_LITERAL:
-			case STRING_LITERAL:
-			case NULL_LITERAL:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(775);
-				literal();
-				}
-				break;
-			case IDENTIFIER:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(776);
-				match(IDENTIFIER);
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(761);
+			literal();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5539,9 +5382,9 @@ public class CodeFlowParser extends Parser {
 
 	public final LiteralContext literal() throws RecognitionException {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_literal);
+		enterRule(_localctx, 126, RULE_literal);
 		try {
-			setState(785);
+			setState(769);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case DECIMAL_LITERAL:
@@ -5550,7 +5393,7 @@ public class CodeFlowParser extends Parser {
 			case BINARY_LITERAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(779);
+				setState(763);
 				integerLiteral();
 				}
 				break;
@@ -5558,35 +5401,35 @@ public class CodeFlowParser extends Parser {
 			case HEX_FLOAT_LITERAL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(780);
+				setState(764);
 				floatLiteral();
 				}
 				break;
 			case CHAR_LITERAL:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(781);
+				setState(765);
 				match(CHAR_LITERAL);
 				}
 				break;
 			case STRING_LITERAL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(782);
+				setState(766);
 				match(STRING_LITERAL);
 				}
 				break;
 			case BOOL_LITERAL:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(783);
+				setState(767);
 				match(BOOL_LITERAL);
 				}
 				break;
 			case NULL_LITERAL:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(784);
+				setState(768);
 				match(NULL_LITERAL);
 				}
 				break;
@@ -5631,12 +5474,12 @@ public class CodeFlowParser extends Parser {
 
 	public final IntegerLiteralContext integerLiteral() throws RecognitionException {
 		IntegerLiteralContext _localctx = new IntegerLiteralContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_integerLiteral);
+		enterRule(_localctx, 128, RULE_integerLiteral);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(787);
+			setState(771);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << DECIMAL_LITERAL) | (1L << HEX_LITERAL) | (1L << OCT_LITERAL) | (1L << BINARY_LITERAL))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -5683,12 +5526,12 @@ public class CodeFlowParser extends Parser {
 
 	public final FloatLiteralContext floatLiteral() throws RecognitionException {
 		FloatLiteralContext _localctx = new FloatLiteralContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_floatLiteral);
+		enterRule(_localctx, 130, RULE_floatLiteral);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(789);
+			setState(773);
 			_la = _input.LA(1);
 			if ( !(_la==FLOAT_LITERAL || _la==HEX_FLOAT_LITERAL) ) {
 			_errHandler.recoverInline(this);
@@ -5713,9 +5556,9 @@ public class CodeFlowParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 5:
+		case 3:
 			return declaration_sempred((DeclarationContext)_localctx, predIndex);
-		case 49:
+		case 47:
 			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -5762,7 +5605,7 @@ public class CodeFlowParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3n\u031a\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3n\u030a\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -5770,300 +5613,295 @@ public class CodeFlowParser extends Parser {
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
 		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
-		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\3\2\5\2\u008c\n\2\3\2"+
-		"\7\2\u008f\n\2\f\2\16\2\u0092\13\2\3\2\7\2\u0095\n\2\f\2\16\2\u0098\13"+
-		"\2\3\3\6\3\u009b\n\3\r\3\16\3\u009c\3\4\6\4\u00a0\n\4\r\4\16\4\u00a1\3"+
-		"\5\3\5\3\5\3\5\3\6\3\6\5\6\u00aa\n\6\3\6\3\6\3\6\5\6\u00af\n\6\3\6\3\6"+
-		"\3\7\3\7\3\7\3\7\3\7\5\7\u00b8\n\7\3\b\3\b\3\b\3\b\5\b\u00be\n\b\3\b\3"+
-		"\b\5\b\u00c2\n\b\3\b\3\b\5\b\u00c6\n\b\3\b\3\b\3\t\3\t\7\t\u00cc\n\t\f"+
-		"\t\16\t\u00cf\13\t\3\t\3\t\3\n\3\n\5\n\u00d5\n\n\3\n\3\n\3\n\3\n\5\n\u00db"+
-		"\n\n\3\13\3\13\3\13\3\13\5\13\u00e1\n\13\3\f\3\f\3\r\7\r\u00e6\n\r\f\r"+
-		"\16\r\u00e9\13\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u00f1\n\16\3\16\3"+
-		"\16\3\17\3\17\5\17\u00f7\n\17\3\20\3\20\3\20\7\20\u00fc\n\20\f\20\16\20"+
-		"\u00ff\13\20\3\21\3\21\3\21\3\21\7\21\u0105\n\21\f\21\16\21\u0108\13\21"+
-		"\3\21\3\21\3\22\3\22\3\22\3\22\5\22\u0110\n\22\5\22\u0112\n\22\3\23\3"+
-		"\23\5\23\u0116\n\23\3\23\3\23\3\24\3\24\3\24\7\24\u011d\n\24\f\24\16\24"+
-		"\u0120\13\24\3\24\3\24\5\24\u0124\n\24\3\25\5\25\u0127\n\25\3\25\3\25"+
-		"\3\25\3\26\5\26\u012d\n\26\3\26\3\26\3\26\3\26\3\27\3\27\3\30\3\30\3\30"+
-		"\7\30\u0138\n\30\f\30\16\30\u013b\13\30\3\31\3\31\3\31\5\31\u0140\n\31"+
-		"\3\32\3\32\3\32\3\32\5\32\u0146\n\32\3\32\3\32\3\33\3\33\3\33\3\33\3\34"+
-		"\3\34\3\34\3\34\7\34\u0152\n\34\f\34\16\34\u0155\13\34\3\35\3\35\3\35"+
-		"\5\35\u015a\n\35\3\36\3\36\3\36\7\36\u015f\n\36\f\36\16\36\u0162\13\36"+
-		"\3\37\3\37\5\37\u0166\n\37\3 \3 \3 \3 \7 \u016c\n \f \16 \u016f\13 \3"+
-		" \5 \u0172\n \5 \u0174\n \3 \3 \3!\3!\3!\3!\3!\3!\3!\5!\u017f\n!\3!\3"+
-		"!\3\"\3\"\3\"\3\"\3#\7#\u0188\n#\f#\16#\u018b\13#\3$\3$\3%\3%\3%\3%\3"+
-		"%\3%\3%\3%\5%\u0197\n%\3%\5%\u019a\n%\3%\3%\5%\u019e\n%\3%\5%\u01a1\n"+
-		"%\3%\3%\5%\u01a5\n%\3%\5%\u01a8\n%\3%\3%\3%\5%\u01ad\n%\3%\3%\3%\3%\3"+
-		"%\3%\5%\u01b5\n%\3%\3%\5%\u01b9\n%\3%\3%\5%\u01bd\n%\5%\u01bf\n%\3&\3"+
-		"&\3&\3&\3&\5&\u01c6\n&\3\'\3\'\3\'\3\'\7\'\u01cc\n\'\f\'\16\'\u01cf\13"+
-		"\'\3\'\3\'\3\'\3\'\3\'\3(\6(\u01d7\n(\r(\16(\u01d8\3(\3(\3)\3)\3)\3)\3"+
-		")\3)\3)\5)\u01e4\n)\3*\3*\3*\3*\3*\3*\3+\3+\3+\3+\3,\3,\3,\3,\3,\5,\u01f5"+
-		"\n,\3-\3-\5-\u01f9\n-\3-\3-\5-\u01fd\n-\3-\3-\5-\u0201\n-\5-\u0203\n-"+
-		"\3.\3.\5.\u0207\n.\3/\3/\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\62\3\62"+
-		"\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
-		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\5\63\u022d\n\63"+
-		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
-		"\5\63\u023d\n\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
-		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63"+
-		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\7\63"+
-		"\u0265\n\63\f\63\16\63\u0268\13\63\3\64\3\64\3\64\3\64\7\64\u026e\n\64"+
-		"\f\64\16\64\u0271\13\64\3\65\3\65\5\65\u0275\n\65\3\65\3\65\3\66\3\66"+
-		"\3\66\7\66\u027c\n\66\f\66\16\66\u027f\13\66\3\67\3\67\3\67\7\67\u0284"+
-		"\n\67\f\67\16\67\u0287\13\67\3\67\3\67\3\67\7\67\u028c\n\67\f\67\16\67"+
-		"\u028f\13\67\3\67\3\67\3\67\6\67\u0294\n\67\r\67\16\67\u0295\5\67\u0298"+
-		"\n\67\38\38\38\78\u029d\n8\f8\168\u02a0\138\38\38\38\78\u02a5\n8\f8\16"+
-		"8\u02a8\138\38\38\38\68\u02ad\n8\r8\168\u02ae\58\u02b1\n8\39\39\39\79"+
-		"\u02b6\n9\f9\169\u02b9\139\3:\3:\5:\u02bd\n:\3:\3:\7:\u02c1\n:\f:\16:"+
-		"\u02c4\13:\3;\3;\3;\3;\3;\3;\5;\u02cc\n;\5;\u02ce\n;\3<\3<\5<\u02d2\n"+
-		"<\3=\3=\5=\u02d6\n=\3>\3>\3>\3>\7>\u02dc\n>\f>\16>\u02df\13>\3>\3>\3>"+
-		"\3>\3>\3>\3>\7>\u02e8\n>\f>\16>\u02eb\13>\3>\3>\7>\u02ef\n>\f>\16>\u02f2"+
-		"\13>\5>\u02f4\n>\3?\3?\5?\u02f8\n?\3?\3?\3?\5?\u02fd\n?\7?\u02ff\n?\f"+
-		"?\16?\u0302\13?\3@\3@\5@\u0306\n@\3A\3A\3B\3B\5B\u030c\nB\3C\3C\3C\3C"+
-		"\3C\3C\5C\u0314\nC\3D\3D\3E\3E\3E\2\3dF\2\4\6\b\n\f\16\20\22\24\26\30"+
-		"\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080"+
-		"\u0082\u0084\u0086\u0088\2\17\5\2\r\16\25\27\32\32\4\2\20\20\34\34\3\2"+
-		"NQ\3\2DE\3\2RT\3\2PQ\4\2BCIJ\4\2HHKK\3\2[f\3\2NO\3\2\4\f\3\2/\62\3\2\63"+
-		"\64\2\u035d\2\u008b\3\2\2\2\4\u009a\3\2\2\2\6\u009f\3\2\2\2\b\u00a3\3"+
-		"\2\2\2\n\u00a7\3\2\2\2\f\u00b7\3\2\2\2\16\u00b9\3\2\2\2\20\u00c9\3\2\2"+
-		"\2\22\u00da\3\2\2\2\24\u00e0\3\2\2\2\26\u00e2\3\2\2\2\30\u00e7\3\2\2\2"+
-		"\32\u00ea\3\2\2\2\34\u00f6\3\2\2\2\36\u00f8\3\2\2\2 \u0100\3\2\2\2\"\u0111"+
-		"\3\2\2\2$\u0113\3\2\2\2&\u0119\3\2\2\2(\u0126\3\2\2\2*\u012c\3\2\2\2,"+
-		"\u0132\3\2\2\2.\u0134\3\2\2\2\60\u013c\3\2\2\2\62\u0141\3\2\2\2\64\u0149"+
-		"\3\2\2\2\66\u014d\3\2\2\28\u0156\3\2\2\2:\u015b\3\2\2\2<\u0165\3\2\2\2"+
-		">\u0167\3\2\2\2@\u0177\3\2\2\2B\u0182\3\2\2\2D\u0189\3\2\2\2F\u018c\3"+
-		"\2\2\2H\u01be\3\2\2\2J\u01c0\3\2\2\2L\u01c7\3\2\2\2N\u01d6\3\2\2\2P\u01e3"+
-		"\3\2\2\2R\u01e5\3\2\2\2T\u01eb\3\2\2\2V\u01ef\3\2\2\2X\u0202\3\2\2\2Z"+
-		"\u0206\3\2\2\2\\\u0208\3\2\2\2^\u020a\3\2\2\2`\u020c\3\2\2\2b\u0211\3"+
-		"\2\2\2d\u022c\3\2\2\2f\u0269\3\2\2\2h\u0272\3\2\2\2j\u0278\3\2\2\2l\u0297"+
-		"\3\2\2\2n\u02b0\3\2\2\2p\u02b2\3\2\2\2r\u02bc\3\2\2\2t\u02cd\3\2\2\2v"+
-		"\u02d1\3\2\2\2x\u02d3\3\2\2\2z\u02d7\3\2\2\2|\u02f5\3\2\2\2~\u0305\3\2"+
-		"\2\2\u0080\u0307\3\2\2\2\u0082\u030b\3\2\2\2\u0084\u0313\3\2\2\2\u0086"+
-		"\u0315\3\2\2\2\u0088\u0317\3\2\2\2\u008a\u008c\5\b\5\2\u008b\u008a\3\2"+
-		"\2\2\u008b\u008c\3\2\2\2\u008c\u0090\3\2\2\2\u008d\u008f\5\n\6\2\u008e"+
-		"\u008d\3\2\2\2\u008f\u0092\3\2\2\2\u0090\u008e\3\2\2\2\u0090\u0091\3\2"+
-		"\2\2\u0091\u0096\3\2\2\2\u0092\u0090\3\2\2\2\u0093\u0095\5\f\7\2\u0094"+
-		"\u0093\3\2\2\2\u0095\u0098\3\2\2\2\u0096\u0094\3\2\2\2\u0096\u0097\3\2"+
-		"\2\2\u0097\3\3\2\2\2\u0098\u0096\3\2\2\2\u0099\u009b\5\32\16\2\u009a\u0099"+
-		"\3\2\2\2\u009b\u009c\3\2\2\2\u009c\u009a\3\2\2\2\u009c\u009d\3\2\2\2\u009d"+
-		"\5\3\2\2\2\u009e\u00a0\5F$\2\u009f\u009e\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1"+
-		"\u009f\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2\7\3\2\2\2\u00a3\u00a4\7\24\2"+
-		"\2\u00a4\u00a5\5.\30\2\u00a5\u00a6\7?\2\2\u00a6\t\3\2\2\2\u00a7\u00a9"+
-		"\7\35\2\2\u00a8\u00aa\7\32\2\2\u00a9\u00a8\3\2\2\2\u00a9\u00aa\3\2\2\2"+
-		"\u00aa\u00ab\3\2\2\2\u00ab\u00ae\5.\30\2\u00ac\u00ad\7A\2\2\u00ad\u00af"+
-		"\7R\2\2\u00ae\u00ac\3\2\2\2\u00ae\u00af\3\2\2\2\u00af\u00b0\3\2\2\2\u00b0"+
-		"\u00b1\7?\2\2\u00b1\13\3\2\2\2\u00b2\u00b3\6\7\2\2\u00b3\u00b8\5\16\b"+
-		"\2\u00b4\u00b8\5\4\3\2\u00b5\u00b8\5\6\4\2\u00b6\u00b8\7?\2\2\u00b7\u00b2"+
-		"\3\2\2\2\u00b7\u00b4\3\2\2\2\u00b7\u00b5\3\2\2\2\u00b7\u00b6\3\2\2\2\u00b8"+
-		"\r\3\2\2\2\u00b9\u00ba\5\30\r\2\u00ba\u00bb\7\17\2\2\u00bb\u00bd\7n\2"+
-		"\2\u00bc\u00be\5 \21\2\u00bd\u00bc\3\2\2\2\u00bd\u00be\3\2\2\2\u00be\u00c1"+
-		"\3\2\2\2\u00bf\u00c0\7\20\2\2\u00c0\u00c2\5r:\2\u00c1\u00bf\3\2\2\2\u00c1"+
-		"\u00c2\3\2\2\2\u00c2\u00c5\3\2\2\2\u00c3\u00c4\7\22\2\2\u00c4\u00c6\5"+
-		"p9\2\u00c5\u00c3\3\2\2\2\u00c5\u00c6\3\2\2\2\u00c6\u00c7\3\2\2\2\u00c7"+
-		"\u00c8\5\20\t\2\u00c8\17\3\2\2\2\u00c9\u00cd\7;\2\2\u00ca\u00cc\5\22\n"+
-		"\2\u00cb\u00ca\3\2\2\2\u00cc\u00cf\3\2\2\2\u00cd\u00cb\3\2\2\2\u00cd\u00ce"+
-		"\3\2\2\2\u00ce\u00d0\3\2\2\2\u00cf\u00cd\3\2\2\2\u00d0\u00d1\7<\2\2\u00d1"+
-		"\21\3\2\2\2\u00d2\u00db\7?\2\2\u00d3\u00d5\7\32\2\2\u00d4\u00d3\3\2\2"+
-		"\2\u00d4\u00d5\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00db\5B\"\2\u00d7\u00d8"+
-		"\5\30\r\2\u00d8\u00d9\5\24\13\2\u00d9\u00db\3\2\2\2\u00da\u00d2\3\2\2"+
-		"\2\u00da\u00d4\3\2\2\2\u00da\u00d7\3\2\2\2\u00db\23\3\2\2\2\u00dc\u00e1"+
-		"\5\32\16\2\u00dd\u00e1\5\60\31\2\u00de\u00e1\5\62\32\2\u00df\u00e1\5\16"+
-		"\b\2\u00e0\u00dc\3\2\2\2\u00e0\u00dd\3\2\2\2\u00e0\u00de\3\2\2\2\u00e0"+
-		"\u00df\3\2\2\2\u00e1\25\3\2\2\2\u00e2\u00e3\t\2\2\2\u00e3\27\3\2\2\2\u00e4"+
-		"\u00e6\5\26\f\2\u00e5\u00e4\3\2\2\2\u00e6\u00e9\3\2\2\2\u00e7\u00e5\3"+
-		"\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\31\3\2\2\2\u00e9\u00e7\3\2\2\2\u00ea"+
-		"\u00eb\5\30\r\2\u00eb\u00ec\5~@\2\u00ec\u00ed\7n\2\2\u00ed\u00f0\5$\23"+
-		"\2\u00ee\u00ef\7.\2\2\u00ef\u00f1\5\36\20\2\u00f0\u00ee\3\2\2\2\u00f0"+
-		"\u00f1\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2\u00f3\5\34\17\2\u00f3\33\3\2"+
-		"\2\2\u00f4\u00f7\5B\"\2\u00f5\u00f7\7?\2\2\u00f6\u00f4\3\2\2\2\u00f6\u00f5"+
-		"\3\2\2\2\u00f7\35\3\2\2\2\u00f8\u00fd\5.\30\2\u00f9\u00fa\7@\2\2\u00fa"+
-		"\u00fc\5.\30\2\u00fb\u00f9\3\2\2\2\u00fc\u00ff\3\2\2\2\u00fd\u00fb\3\2"+
-		"\2\2\u00fd\u00fe\3\2\2\2\u00fe\37\3\2\2\2\u00ff\u00fd\3\2\2\2\u0100\u0101"+
-		"\7C\2\2\u0101\u0106\5\"\22\2\u0102\u0103\7@\2\2\u0103\u0105\5\"\22\2\u0104"+
-		"\u0102\3\2\2\2\u0105\u0108\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0107\3\2"+
-		"\2\2\u0107\u0109\3\2\2\2\u0108\u0106\3\2\2\2\u0109\u010a\7B\2\2\u010a"+
-		"!\3\2\2\2\u010b\u0112\5r:\2\u010c\u010f\7F\2\2\u010d\u010e\t\3\2\2\u010e"+
-		"\u0110\5r:\2\u010f\u010d\3\2\2\2\u010f\u0110\3\2\2\2\u0110\u0112\3\2\2"+
-		"\2\u0111\u010b\3\2\2\2\u0111\u010c\3\2\2\2\u0112#\3\2\2\2\u0113\u0115"+
-		"\79\2\2\u0114\u0116\5&\24\2\u0115\u0114\3\2\2\2\u0115\u0116\3\2\2\2\u0116"+
-		"\u0117\3\2\2\2\u0117\u0118\7:\2\2\u0118%\3\2\2\2\u0119\u011e\5(\25\2\u011a"+
-		"\u011b\7@\2\2\u011b\u011d\5(\25\2\u011c\u011a\3\2\2\2\u011d\u0120\3\2"+
-		"\2\2\u011e\u011c\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u0123\3\2\2\2\u0120"+
-		"\u011e\3\2\2\2\u0121\u0122\7@\2\2\u0122\u0124\5*\26\2\u0123\u0121\3\2"+
-		"\2\2\u0123\u0124\3\2\2\2\u0124\'\3\2\2\2\u0125\u0127\5,\27\2\u0126\u0125"+
-		"\3\2\2\2\u0126\u0127\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u0129\5r:\2\u0129"+
-		"\u012a\5:\36\2\u012a)\3\2\2\2\u012b\u012d\5,\27\2\u012c\u012b\3\2\2\2"+
-		"\u012c\u012d\3\2\2\2\u012d\u012e\3\2\2\2\u012e\u012f\5r:\2\u012f\u0130"+
-		"\7j\2\2\u0130\u0131\5:\36\2\u0131+\3\2\2\2\u0132\u0133\7\r\2\2\u0133-"+
-		"\3\2\2\2\u0134\u0139\7n\2\2\u0135\u0136\7A\2\2\u0136\u0138\7n\2\2\u0137"+
-		"\u0135\3\2\2\2\u0138\u013b\3\2\2\2\u0139\u0137\3\2\2\2\u0139\u013a\3\2"+
-		"\2\2\u013a/\3\2\2\2\u013b\u0139\3\2\2\2\u013c\u013d\5\30\r\2\u013d\u013f"+
-		"\5\66\34\2\u013e\u0140\7?\2\2\u013f\u013e\3\2\2\2\u013f\u0140\3\2\2\2"+
-		"\u0140\61\3\2\2\2\u0141\u0142\7n\2\2\u0142\u0145\5$\23\2\u0143\u0144\7"+
-		".\2\2\u0144\u0146\5\36\20\2\u0145\u0143\3\2\2\2\u0145\u0146\3\2\2\2\u0146"+
-		"\u0147\3\2\2\2\u0147\u0148\5B\"\2\u0148\63\3\2\2\2\u0149\u014a\5d\63\2"+
-		"\u014a\u014b\7[\2\2\u014b\u014c\5<\37\2\u014c\65\3\2\2\2\u014d\u014e\5"+
-		"r:\2\u014e\u0153\58\35\2\u014f\u0150\7@\2\2\u0150\u0152\58\35\2\u0151"+
-		"\u014f\3\2\2\2\u0152\u0155\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0154\3\2"+
-		"\2\2\u0154\67\3\2\2\2\u0155\u0153\3\2\2\2\u0156\u0159\5:\36\2\u0157\u0158"+
-		"\7[\2\2\u0158\u015a\5<\37\2\u0159\u0157\3\2\2\2\u0159\u015a\3\2\2\2\u015a"+
-		"9\3\2\2\2\u015b\u0160\7n\2\2\u015c\u015d\7=\2\2\u015d\u015f\7>\2\2\u015e"+
-		"\u015c\3\2\2\2\u015f\u0162\3\2\2\2\u0160\u015e\3\2\2\2\u0160\u0161\3\2"+
-		"\2\2\u0161;\3\2\2\2\u0162\u0160\3\2\2\2\u0163\u0166\5> \2\u0164\u0166"+
-		"\5d\63\2\u0165\u0163\3\2\2\2\u0165\u0164\3\2\2\2\u0166=\3\2\2\2\u0167"+
-		"\u0173\7;\2\2\u0168\u016d\5<\37\2\u0169\u016a\7@\2\2\u016a\u016c\5<\37"+
-		"\2\u016b\u0169\3\2\2\2\u016c\u016f\3\2\2\2\u016d\u016b\3\2\2\2\u016d\u016e"+
-		"\3\2\2\2\u016e\u0171\3\2\2\2\u016f\u016d\3\2\2\2\u0170\u0172\7@\2\2\u0171"+
-		"\u0170\3\2\2\2\u0171\u0172\3\2\2\2\u0172\u0174\3\2\2\2\u0173\u0168\3\2"+
-		"\2\2\u0173\u0174\3\2\2\2\u0174\u0175\3\2\2\2\u0175\u0176\7<\2\2\u0176"+
-		"?\3\2\2\2\u0177\u0178\7n\2\2\u0178\u0179\7n\2\2\u0179\u017a\7[\2\2\u017a"+
-		"\u017b\7\23\2\2\u017b\u017c\7n\2\2\u017c\u017e\79\2\2\u017d\u017f\5j\66"+
-		"\2\u017e\u017d\3\2\2\2\u017e\u017f\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0181"+
-		"\7:\2\2\u0181A\3\2\2\2\u0182\u0183\7;\2\2\u0183\u0184\5D#\2\u0184\u0185"+
-		"\7<\2\2\u0185C\3\2\2\2\u0186\u0188\5F$\2\u0187\u0186\3\2\2\2\u0188\u018b"+
-		"\3\2\2\2\u0189\u0187\3\2\2\2\u0189\u018a\3\2\2\2\u018aE\3\2\2\2\u018b"+
-		"\u0189\3\2\2\2\u018c\u018d\5H%\2\u018dG\3\2\2\2\u018e\u01bf\5B\"\2\u018f"+
-		"\u01bf\5J&\2\u0190\u01bf\5L\'\2\u0191\u01bf\5R*\2\u0192\u01bf\5T+\2\u0193"+
-		"\u01bf\5V,\2\u0194\u0196\7\'\2\2\u0195\u0197\5d\63\2\u0196\u0195\3\2\2"+
-		"\2\u0196\u0197\3\2\2\2\u0197\u0199\3\2\2\2\u0198\u019a\7?\2\2\u0199\u0198"+
-		"\3\2\2\2\u0199\u019a\3\2\2\2\u019a\u01bf\3\2\2\2\u019b\u019d\7\36\2\2"+
-		"\u019c\u019e\7n\2\2\u019d\u019c\3\2\2\2\u019d\u019e\3\2\2\2\u019e\u01a0"+
-		"\3\2\2\2\u019f\u01a1\7?\2\2\u01a0\u019f\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1"+
-		"\u01bf\3\2\2\2\u01a2\u01a4\7 \2\2\u01a3\u01a5\7n\2\2\u01a4\u01a3\3\2\2"+
-		"\2\u01a4\u01a5\3\2\2\2\u01a5\u01a7\3\2\2\2\u01a6\u01a8\7?\2\2\u01a7\u01a6"+
-		"\3\2\2\2\u01a7\u01a8\3\2\2\2\u01a8\u01bf\3\2\2\2\u01a9\u01aa\7&\2\2\u01aa"+
-		"\u01ac\7n\2\2\u01ab\u01ad\7?\2\2\u01ac\u01ab\3\2\2\2\u01ac\u01ad\3\2\2"+
-		"\2\u01ad\u01bf\3\2\2\2\u01ae\u01af\7n\2\2\u01af\u01b0\7G\2\2\u01b0\u01bf"+
-		"\5H%\2\u01b1\u01bf\7?\2\2\u01b2\u01b4\5\66\34\2\u01b3\u01b5\7?\2\2\u01b4"+
-		"\u01b3\3\2\2\2\u01b4\u01b5\3\2\2\2\u01b5\u01bf\3\2\2\2\u01b6\u01b8\5\64"+
-		"\33\2\u01b7\u01b9\7?\2\2\u01b8\u01b7\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9"+
-		"\u01bf\3\2\2\2\u01ba\u01bc\5d\63\2\u01bb\u01bd\7?\2\2\u01bc\u01bb\3\2"+
-		"\2\2\u01bc\u01bd\3\2\2\2\u01bd\u01bf\3\2\2\2\u01be\u018e\3\2\2\2\u01be"+
-		"\u018f\3\2\2\2\u01be\u0190\3\2\2\2\u01be\u0191\3\2\2\2\u01be\u0192\3\2"+
-		"\2\2\u01be\u0193\3\2\2\2\u01be\u0194\3\2\2\2\u01be\u019b\3\2\2\2\u01be"+
-		"\u01a2\3\2\2\2\u01be\u01a9\3\2\2\2\u01be\u01ae\3\2\2\2\u01be\u01b1\3\2"+
-		"\2\2\u01be\u01b2\3\2\2\2\u01be\u01b6\3\2\2\2\u01be\u01ba\3\2\2\2\u01bf"+
-		"I\3\2\2\2\u01c0\u01c1\7%\2\2\u01c1\u01c2\5b\62\2\u01c2\u01c5\5H%\2\u01c3"+
-		"\u01c4\7#\2\2\u01c4\u01c6\5H%\2\u01c5\u01c3\3\2\2\2\u01c5\u01c6\3\2\2"+
-		"\2\u01c6K\3\2\2\2\u01c7\u01c8\7(\2\2\u01c8\u01c9\5b\62\2\u01c9\u01cd\7"+
-		";\2\2\u01ca\u01cc\5N(\2\u01cb\u01ca\3\2\2\2\u01cc\u01cf\3\2\2\2\u01cd"+
-		"\u01cb\3\2\2\2\u01cd\u01ce\3\2\2\2\u01ce\u01d0\3\2\2\2\u01cf\u01cd\3\2"+
-		"\2\2\u01d0\u01d1\7!\2\2\u01d1\u01d2\7G\2\2\u01d2\u01d3\5D#\2\u01d3\u01d4"+
-		"\7<\2\2\u01d4M\3\2\2\2\u01d5\u01d7\5P)\2\u01d6\u01d5\3\2\2\2\u01d7\u01d8"+
-		"\3\2\2\2\u01d8\u01d6\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9\u01da\3\2\2\2\u01da"+
-		"\u01db\5D#\2\u01dbO\3\2\2\2\u01dc\u01dd\7\37\2\2\u01dd\u01de\5d\63\2\u01de"+
-		"\u01df\7G\2\2\u01df\u01e4\3\2\2\2\u01e0\u01e1\7\37\2\2\u01e1\u01e2\7n"+
-		"\2\2\u01e2\u01e4\7G\2\2\u01e3\u01dc\3\2\2\2\u01e3\u01e0\3\2\2\2\u01e4"+
-		"Q\3\2\2\2\u01e5\u01e6\7$\2\2\u01e6\u01e7\79\2\2\u01e7\u01e8\5X-\2\u01e8"+
-		"\u01e9\7:\2\2\u01e9\u01ea\5H%\2\u01eaS\3\2\2\2\u01eb\u01ec\7)\2\2\u01ec"+
-		"\u01ed\5b\62\2\u01ed\u01ee\5H%\2\u01eeU\3\2\2\2\u01ef\u01f0\7\"\2\2\u01f0"+
-		"\u01f1\5B\"\2\u01f1\u01f2\7)\2\2\u01f2\u01f4\5b\62\2\u01f3\u01f5\7?\2"+
-		"\2\u01f4\u01f3\3\2\2\2\u01f4\u01f5\3\2\2\2\u01f5W\3\2\2\2\u01f6\u0203"+
-		"\5`\61\2\u01f7\u01f9\5Z.\2\u01f8\u01f7\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9"+
-		"\u01fa\3\2\2\2\u01fa\u01fc\7?\2\2\u01fb\u01fd\5\\/\2\u01fc\u01fb\3\2\2"+
-		"\2\u01fc\u01fd\3\2\2\2\u01fd\u01fe\3\2\2\2\u01fe\u0200\7?\2\2\u01ff\u0201"+
-		"\5^\60\2\u0200\u01ff\3\2\2\2\u0200\u0201\3\2\2\2\u0201\u0203\3\2\2\2\u0202"+
-		"\u01f6\3\2\2\2\u0202\u01f8\3\2\2\2\u0203Y\3\2\2\2\u0204\u0207\5\66\34"+
-		"\2\u0205\u0207\5j\66\2\u0206\u0204\3\2\2\2\u0206\u0205\3\2\2\2\u0207["+
-		"\3\2\2\2\u0208\u0209\5d\63\2\u0209]\3\2\2\2\u020a\u020b\5j\66\2\u020b"+
-		"_\3\2\2\2\u020c\u020d\5r:\2\u020d\u020e\5:\36\2\u020e\u020f\7G\2\2\u020f"+
-		"\u0210\5d\63\2\u0210a\3\2\2\2\u0211\u0212\79\2\2\u0212\u0213\5d\63\2\u0213"+
-		"\u0214\7:\2\2\u0214c\3\2\2\2\u0215\u0216\b\63\1\2\u0216\u022d\5f\64\2"+
-		"\u0217\u022d\5n8\2\u0218\u0219\5f\64\2\u0219\u021a\7A\2\2\u021a\u021b"+
-		"\5n8\2\u021b\u022d\3\2\2\2\u021c\u022d\5\u0082B\2\u021d\u021e\79\2\2\u021e"+
-		"\u021f\5d\63\2\u021f\u0220\7:\2\2\u0220\u022d\3\2\2\2\u0221\u0222\7\23"+
-		"\2\2\u0222\u022d\5t;\2\u0223\u0224\t\4\2\2\u0224\u022d\5d\63\21\u0225"+
-		"\u0226\t\5\2\2\u0226\u022d\5d\63\20\u0227\u0228\79\2\2\u0228\u0229\5r"+
-		":\2\u0229\u022a\7:\2\2\u022a\u022b\5d\63\17\u022b\u022d\3\2\2\2\u022c"+
-		"\u0215\3\2\2\2\u022c\u0217\3\2\2\2\u022c\u0218\3\2\2\2\u022c\u021c\3\2"+
-		"\2\2\u022c\u021d\3\2\2\2\u022c\u0221\3\2\2\2\u022c\u0223\3\2\2\2\u022c"+
-		"\u0225\3\2\2\2\u022c\u0227\3\2\2\2\u022d\u0266\3\2\2\2\u022e\u022f\f\16"+
-		"\2\2\u022f\u0230\t\6\2\2\u0230\u0265\5d\63\17\u0231\u0232\f\r\2\2\u0232"+
-		"\u0233\t\7\2\2\u0233\u0265\5d\63\16\u0234\u023c\f\f\2\2\u0235\u0236\7"+
-		"C\2\2\u0236\u023d\7C\2\2\u0237\u0238\7B\2\2\u0238\u0239\7B\2\2\u0239\u023d"+
-		"\7B\2\2\u023a\u023b\7B\2\2\u023b\u023d\7B\2\2\u023c\u0235\3\2\2\2\u023c"+
-		"\u0237\3\2\2\2\u023c\u023a\3\2\2\2\u023d\u023e\3\2\2\2\u023e\u0265\5d"+
-		"\63\r\u023f\u0240\f\13\2\2\u0240\u0241\t\b\2\2\u0241\u0265\5d\63\f\u0242"+
-		"\u0243\f\n\2\2\u0243\u0244\t\t\2\2\u0244\u0265\5d\63\13\u0245\u0246\f"+
-		"\t\2\2\u0246\u0247\7U\2\2\u0247\u0265\5d\63\n\u0248\u0249\f\b\2\2\u0249"+
-		"\u024a\7W\2\2\u024a\u0265\5d\63\t\u024b\u024c\f\7\2\2\u024c\u024d\7V\2"+
-		"\2\u024d\u0265\5d\63\b\u024e\u024f\f\6\2\2\u024f\u0250\7L\2\2\u0250\u0265"+
-		"\5d\63\7\u0251\u0252\f\5\2\2\u0252\u0253\7M\2\2\u0253\u0265\5d\63\6\u0254"+
-		"\u0255\f\4\2\2\u0255\u0256\7F\2\2\u0256\u0257\5d\63\2\u0257\u0258\7G\2"+
-		"\2\u0258\u0259\5d\63\5\u0259\u0265\3\2\2\2\u025a\u025b\f\3\2\2\u025b\u025c"+
-		"\t\n\2\2\u025c\u0265\5d\63\3\u025d\u025e\f\25\2\2\u025e\u025f\7=\2\2\u025f"+
-		"\u0260\5d\63\2\u0260\u0261\7>\2\2\u0261\u0265\3\2\2\2\u0262\u0263\f\22"+
-		"\2\2\u0263\u0265\t\13\2\2\u0264\u022e\3\2\2\2\u0264\u0231\3\2\2\2\u0264"+
-		"\u0234\3\2\2\2\u0264\u023f\3\2\2\2\u0264\u0242\3\2\2\2\u0264\u0245\3\2"+
-		"\2\2\u0264\u0248\3\2\2\2\u0264\u024b\3\2\2\2\u0264\u024e\3\2\2\2\u0264"+
-		"\u0251\3\2\2\2\u0264\u0254\3\2\2\2\u0264\u025a\3\2\2\2\u0264\u025d\3\2"+
-		"\2\2\u0264\u0262\3\2\2\2\u0265\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266"+
-		"\u0267\3\2\2\2\u0267e\3\2\2\2\u0268\u0266\3\2\2\2\u0269\u026a\5l\67\2"+
-		"\u026a\u026f\5h\65\2\u026b\u026c\7A\2\2\u026c\u026e\5f\64\2\u026d\u026b"+
-		"\3\2\2\2\u026e\u0271\3\2\2\2\u026f\u026d\3\2\2\2\u026f\u0270\3\2\2\2\u0270"+
-		"g\3\2\2\2\u0271\u026f\3\2\2\2\u0272\u0274\79\2\2\u0273\u0275\5j\66\2\u0274"+
-		"\u0273\3\2\2\2\u0274\u0275\3\2\2\2\u0275\u0276\3\2\2\2\u0276\u0277\7:"+
-		"\2\2\u0277i\3\2\2\2\u0278\u027d\5d\63\2\u0279\u027a\7@\2\2\u027a\u027c"+
-		"\5d\63\2\u027b\u0279\3\2\2\2\u027c\u027f\3\2\2\2\u027d\u027b\3\2\2\2\u027d"+
-		"\u027e\3\2\2\2\u027ek\3\2\2\2\u027f\u027d\3\2\2\2\u0280\u0285\7n\2\2\u0281"+
-		"\u0282\7A\2\2\u0282\u0284\7n\2\2\u0283\u0281\3\2\2\2\u0284\u0287\3\2\2"+
-		"\2\u0285\u0283\3\2\2\2\u0285\u0286\3\2\2\2\u0286\u0298\3\2\2\2\u0287\u0285"+
-		"\3\2\2\2\u0288\u028d\7\33\2\2\u0289\u028a\7A\2\2\u028a\u028c\7n\2\2\u028b"+
-		"\u0289\3\2\2\2\u028c\u028f\3\2\2\2\u028d\u028b\3\2\2\2\u028d\u028e\3\2"+
-		"\2\2\u028e\u0298\3\2\2\2\u028f\u028d\3\2\2\2\u0290\u0293\7\34\2\2\u0291"+
-		"\u0292\7A\2\2\u0292\u0294\7n\2\2\u0293\u0291\3\2\2\2\u0294\u0295\3\2\2"+
-		"\2\u0295\u0293\3\2\2\2\u0295\u0296\3\2\2\2\u0296\u0298\3\2\2\2\u0297\u0280"+
-		"\3\2\2\2\u0297\u0288\3\2\2\2\u0297\u0290\3\2\2\2\u0298m\3\2\2\2\u0299"+
-		"\u029e\7n\2\2\u029a\u029b\7A\2\2\u029b\u029d\7n\2\2\u029c\u029a\3\2\2"+
-		"\2\u029d\u02a0\3\2\2\2\u029e\u029c\3\2\2\2\u029e\u029f\3\2\2\2\u029f\u02b1"+
-		"\3\2\2\2\u02a0\u029e\3\2\2\2\u02a1\u02a6\7\33\2\2\u02a2\u02a3\7A\2\2\u02a3"+
-		"\u02a5\7n\2\2\u02a4\u02a2\3\2\2\2\u02a5\u02a8\3\2\2\2\u02a6\u02a4\3\2"+
-		"\2\2\u02a6\u02a7\3\2\2\2\u02a7\u02b1\3\2\2\2\u02a8\u02a6\3\2\2\2\u02a9"+
-		"\u02ac\7\34\2\2\u02aa\u02ab\7A\2\2\u02ab\u02ad\7n\2\2\u02ac\u02aa\3\2"+
-		"\2\2\u02ad\u02ae\3\2\2\2\u02ae\u02ac\3\2\2\2\u02ae\u02af\3\2\2\2\u02af"+
-		"\u02b1\3\2\2\2\u02b0\u0299\3\2\2\2\u02b0\u02a1\3\2\2\2\u02b0\u02a9\3\2"+
-		"\2\2\u02b1o\3\2\2\2\u02b2\u02b7\5r:\2\u02b3\u02b4\7@\2\2\u02b4\u02b6\5"+
-		"r:\2\u02b5\u02b3\3\2\2\2\u02b6\u02b9\3\2\2\2\u02b7\u02b5\3\2\2\2\u02b7"+
-		"\u02b8\3\2\2\2\u02b8q\3\2\2\2\u02b9\u02b7\3\2\2\2\u02ba\u02bd\5|?\2\u02bb"+
-		"\u02bd\5\u0080A\2\u02bc\u02ba\3\2\2\2\u02bc\u02bb\3\2\2\2\u02bd\u02c2"+
-		"\3\2\2\2\u02be\u02bf\7=\2\2\u02bf\u02c1\7>\2\2\u02c0\u02be\3\2\2\2\u02c1"+
-		"\u02c4\3\2\2\2\u02c2\u02c0\3\2\2\2\u02c2\u02c3\3\2\2\2\u02c3s\3\2\2\2"+
-		"\u02c4\u02c2\3\2\2\2\u02c5\u02c6\5v<\2\u02c6\u02c7\5x=\2\u02c7\u02ce\3"+
-		"\2\2\2\u02c8\u02cb\5v<\2\u02c9\u02cc\5z>\2\u02ca\u02cc\5x=\2\u02cb\u02c9"+
-		"\3\2\2\2\u02cb\u02ca\3\2\2\2\u02cc\u02ce\3\2\2\2\u02cd\u02c5\3\2\2\2\u02cd"+
-		"\u02c8\3\2\2\2\u02ceu\3\2\2\2\u02cf\u02d2\5|?\2\u02d0\u02d2\5\u0080A\2"+
-		"\u02d1\u02cf\3\2\2\2\u02d1\u02d0\3\2\2\2\u02d2w\3\2\2\2\u02d3\u02d5\5"+
-		"h\65\2\u02d4\u02d6\5\20\t\2\u02d5\u02d4\3\2\2\2\u02d5\u02d6\3\2\2\2\u02d6"+
-		"y\3\2\2\2\u02d7\u02f3\7=\2\2\u02d8\u02dd\7>\2\2\u02d9\u02da\7=\2\2\u02da"+
-		"\u02dc\7>\2\2\u02db\u02d9\3\2\2\2\u02dc\u02df\3\2\2\2\u02dd\u02db\3\2"+
-		"\2\2\u02dd\u02de\3\2\2\2\u02de\u02e0\3\2\2\2\u02df\u02dd\3\2\2\2\u02e0"+
-		"\u02f4\5> \2\u02e1\u02e2\5d\63\2\u02e2\u02e9\7>\2\2\u02e3\u02e4\7=\2\2"+
-		"\u02e4\u02e5\5d\63\2\u02e5\u02e6\7>\2\2\u02e6\u02e8\3\2\2\2\u02e7\u02e3"+
-		"\3\2\2\2\u02e8\u02eb\3\2\2\2\u02e9\u02e7\3\2\2\2\u02e9\u02ea\3\2\2\2\u02ea"+
-		"\u02f0\3\2\2\2\u02eb\u02e9\3\2\2\2\u02ec\u02ed\7=\2\2\u02ed\u02ef\7>\2"+
-		"\2\u02ee\u02ec\3\2\2\2\u02ef\u02f2\3\2\2\2\u02f0\u02ee\3\2\2\2\u02f0\u02f1"+
-		"\3\2\2\2\u02f1\u02f4\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f3\u02d8\3\2\2\2\u02f3"+
-		"\u02e1\3\2\2\2\u02f4{\3\2\2\2\u02f5\u02f7\7n\2\2\u02f6\u02f8\5 \21\2\u02f7"+
-		"\u02f6\3\2\2\2\u02f7\u02f8\3\2\2\2\u02f8\u0300\3\2\2\2\u02f9\u02fa\7A"+
-		"\2\2\u02fa\u02fc\7n\2\2\u02fb\u02fd\5 \21\2\u02fc\u02fb\3\2\2\2\u02fc"+
-		"\u02fd\3\2\2\2\u02fd\u02ff\3\2\2\2\u02fe\u02f9\3\2\2\2\u02ff\u0302\3\2"+
-		"\2\2\u0300\u02fe\3\2\2\2\u0300\u0301\3\2\2\2\u0301}\3\2\2\2\u0302\u0300"+
-		"\3\2\2\2\u0303\u0306\5r:\2\u0304\u0306\7\3\2\2\u0305\u0303\3\2\2\2\u0305"+
-		"\u0304\3\2\2\2\u0306\177\3\2\2\2\u0307\u0308\t\f\2\2\u0308\u0081\3\2\2"+
-		"\2\u0309\u030c\5\u0084C\2\u030a\u030c\7n\2\2\u030b\u0309\3\2\2\2\u030b"+
-		"\u030a\3\2\2\2\u030c\u0083\3\2\2\2\u030d\u0314\5\u0086D\2\u030e\u0314"+
-		"\5\u0088E\2\u030f\u0314\7\66\2\2\u0310\u0314\7\67\2\2\u0311\u0314\7\65"+
-		"\2\2\u0312\u0314\78\2\2\u0313\u030d\3\2\2\2\u0313\u030e\3\2\2\2\u0313"+
-		"\u030f\3\2\2\2\u0313\u0310\3\2\2\2\u0313\u0311\3\2\2\2\u0313\u0312\3\2"+
-		"\2\2\u0314\u0085\3\2\2\2\u0315\u0316\t\r\2\2\u0316\u0087\3\2\2\2\u0317"+
-		"\u0318\t\16\2\2\u0318\u0089\3\2\2\2^\u008b\u0090\u0096\u009c\u00a1\u00a9"+
-		"\u00ae\u00b7\u00bd\u00c1\u00c5\u00cd\u00d4\u00da\u00e0\u00e7\u00f0\u00f6"+
-		"\u00fd\u0106\u010f\u0111\u0115\u011e\u0123\u0126\u012c\u0139\u013f\u0145"+
-		"\u0153\u0159\u0160\u0165\u016d\u0171\u0173\u017e\u0189\u0196\u0199\u019d"+
-		"\u01a0\u01a4\u01a7\u01ac\u01b4\u01b8\u01bc\u01be\u01c5\u01cd\u01d8\u01e3"+
-		"\u01f4\u01f8\u01fc\u0200\u0202\u0206\u022c\u023c\u0264\u0266\u026f\u0274"+
-		"\u027d\u0285\u028d\u0295\u0297\u029e\u02a6\u02ae\u02b0\u02b7\u02bc\u02c2"+
-		"\u02cb\u02cd\u02d1\u02d5\u02dd\u02e9\u02f0\u02f3\u02f7\u02fc\u0300\u0305"+
-		"\u030b\u0313";
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\3\2\5\2\u0088\n\2\3\2\7\2\u008b\n"+
+		"\2\f\2\16\2\u008e\13\2\3\2\7\2\u0091\n\2\f\2\16\2\u0094\13\2\3\3\3\3\3"+
+		"\3\3\3\3\4\3\4\5\4\u009c\n\4\3\4\3\4\3\4\5\4\u00a1\n\4\3\4\3\4\3\5\3\5"+
+		"\3\5\3\5\3\5\5\5\u00aa\n\5\3\6\3\6\3\6\3\6\5\6\u00b0\n\6\3\6\3\6\5\6\u00b4"+
+		"\n\6\3\6\3\6\5\6\u00b8\n\6\3\6\3\6\3\7\3\7\7\7\u00be\n\7\f\7\16\7\u00c1"+
+		"\13\7\3\7\3\7\3\b\3\b\5\b\u00c7\n\b\3\b\3\b\3\b\3\b\5\b\u00cd\n\b\3\t"+
+		"\3\t\3\t\3\t\5\t\u00d3\n\t\3\n\3\n\3\13\7\13\u00d8\n\13\f\13\16\13\u00db"+
+		"\13\13\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u00e3\n\f\3\f\3\f\3\r\3\r\5\r\u00e9"+
+		"\n\r\3\16\3\16\3\16\7\16\u00ee\n\16\f\16\16\16\u00f1\13\16\3\17\3\17\3"+
+		"\17\3\17\7\17\u00f7\n\17\f\17\16\17\u00fa\13\17\3\17\3\17\3\20\3\20\3"+
+		"\20\3\20\5\20\u0102\n\20\5\20\u0104\n\20\3\21\3\21\5\21\u0108\n\21\3\21"+
+		"\3\21\3\22\3\22\3\22\7\22\u010f\n\22\f\22\16\22\u0112\13\22\3\22\3\22"+
+		"\5\22\u0116\n\22\3\23\5\23\u0119\n\23\3\23\3\23\3\23\3\24\5\24\u011f\n"+
+		"\24\3\24\3\24\3\24\3\24\3\25\3\25\3\26\3\26\3\26\7\26\u012a\n\26\f\26"+
+		"\16\26\u012d\13\26\3\27\3\27\3\27\5\27\u0132\n\27\3\30\3\30\3\30\3\30"+
+		"\5\30\u0138\n\30\3\30\3\30\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\7\32"+
+		"\u0144\n\32\f\32\16\32\u0147\13\32\3\33\3\33\3\33\5\33\u014c\n\33\3\34"+
+		"\3\34\3\34\7\34\u0151\n\34\f\34\16\34\u0154\13\34\3\35\3\35\5\35\u0158"+
+		"\n\35\3\36\3\36\3\36\3\36\7\36\u015e\n\36\f\36\16\36\u0161\13\36\3\36"+
+		"\5\36\u0164\n\36\5\36\u0166\n\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3"+
+		"\37\3\37\5\37\u0171\n\37\3\37\3\37\3 \3 \3 \3 \3!\7!\u017a\n!\f!\16!\u017d"+
+		"\13!\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\5#\u0189\n#\3#\5#\u018c\n#\3#\3#"+
+		"\5#\u0190\n#\3#\5#\u0193\n#\3#\3#\5#\u0197\n#\3#\5#\u019a\n#\3#\3#\3#"+
+		"\5#\u019f\n#\3#\3#\3#\3#\3#\3#\5#\u01a7\n#\3#\3#\5#\u01ab\n#\3#\3#\5#"+
+		"\u01af\n#\5#\u01b1\n#\3$\3$\3$\3$\3$\5$\u01b8\n$\3%\3%\3%\3%\7%\u01be"+
+		"\n%\f%\16%\u01c1\13%\3%\3%\3%\3%\3%\3&\6&\u01c9\n&\r&\16&\u01ca\3&\3&"+
+		"\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u01d6\n\'\3(\3(\3(\3(\3(\3(\3)\3)\3)"+
+		"\3)\3*\3*\3*\3*\3*\5*\u01e7\n*\3+\3+\5+\u01eb\n+\3+\3+\5+\u01ef\n+\3+"+
+		"\3+\5+\u01f3\n+\5+\u01f5\n+\3,\3,\5,\u01f9\n,\3-\3-\3.\3.\3/\3/\3/\3/"+
+		"\3/\3\60\3\60\3\60\3\60\3\61\3\61\3\61\3\61\5\61\u020c\n\61\3\61\3\61"+
+		"\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\61\5\61\u021f\n\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\61\3\61\3\61\3\61\5\61\u022f\n\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
+		"\3\61\3\61\3\61\7\61\u0257\n\61\f\61\16\61\u025a\13\61\3\62\3\62\3\62"+
+		"\3\62\7\62\u0260\n\62\f\62\16\62\u0263\13\62\3\63\3\63\5\63\u0267\n\63"+
+		"\3\63\3\63\3\64\3\64\3\64\7\64\u026e\n\64\f\64\16\64\u0271\13\64\3\65"+
+		"\3\65\3\65\7\65\u0276\n\65\f\65\16\65\u0279\13\65\3\65\3\65\3\65\7\65"+
+		"\u027e\n\65\f\65\16\65\u0281\13\65\3\65\3\65\3\65\6\65\u0286\n\65\r\65"+
+		"\16\65\u0287\5\65\u028a\n\65\3\66\3\66\3\66\7\66\u028f\n\66\f\66\16\66"+
+		"\u0292\13\66\3\66\3\66\3\66\7\66\u0297\n\66\f\66\16\66\u029a\13\66\3\66"+
+		"\3\66\3\66\6\66\u029f\n\66\r\66\16\66\u02a0\5\66\u02a3\n\66\3\67\3\67"+
+		"\3\67\7\67\u02a8\n\67\f\67\16\67\u02ab\13\67\38\38\58\u02af\n8\38\38\7"+
+		"8\u02b3\n8\f8\168\u02b6\138\39\39\39\39\39\39\59\u02be\n9\59\u02c0\n9"+
+		"\3:\3:\5:\u02c4\n:\3;\3;\5;\u02c8\n;\3<\3<\3<\3<\7<\u02ce\n<\f<\16<\u02d1"+
+		"\13<\3<\3<\3<\3<\3<\3<\3<\7<\u02da\n<\f<\16<\u02dd\13<\3<\3<\7<\u02e1"+
+		"\n<\f<\16<\u02e4\13<\5<\u02e6\n<\3=\3=\5=\u02ea\n=\3=\3=\3=\5=\u02ef\n"+
+		"=\7=\u02f1\n=\f=\16=\u02f4\13=\3>\3>\5>\u02f8\n>\3?\3?\3@\3@\3A\3A\3A"+
+		"\3A\3A\3A\5A\u0304\nA\3B\3B\3C\3C\3C\2\3`D\2\4\6\b\n\f\16\20\22\24\26"+
+		"\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|"+
+		"~\u0080\u0082\u0084\2\17\5\2\r\16\25\27\32\32\4\2\20\20\34\34\3\2NQ\3"+
+		"\2DE\3\2RT\3\2PQ\4\2BCIJ\4\2HHKK\3\2[f\3\2NO\3\2\4\f\3\2/\62\3\2\63\64"+
+		"\2\u034c\2\u0087\3\2\2\2\4\u0095\3\2\2\2\6\u0099\3\2\2\2\b\u00a9\3\2\2"+
+		"\2\n\u00ab\3\2\2\2\f\u00bb\3\2\2\2\16\u00cc\3\2\2\2\20\u00d2\3\2\2\2\22"+
+		"\u00d4\3\2\2\2\24\u00d9\3\2\2\2\26\u00dc\3\2\2\2\30\u00e8\3\2\2\2\32\u00ea"+
+		"\3\2\2\2\34\u00f2\3\2\2\2\36\u0103\3\2\2\2 \u0105\3\2\2\2\"\u010b\3\2"+
+		"\2\2$\u0118\3\2\2\2&\u011e\3\2\2\2(\u0124\3\2\2\2*\u0126\3\2\2\2,\u012e"+
+		"\3\2\2\2.\u0133\3\2\2\2\60\u013b\3\2\2\2\62\u013f\3\2\2\2\64\u0148\3\2"+
+		"\2\2\66\u014d\3\2\2\28\u0157\3\2\2\2:\u0159\3\2\2\2<\u0169\3\2\2\2>\u0174"+
+		"\3\2\2\2@\u017b\3\2\2\2B\u017e\3\2\2\2D\u01b0\3\2\2\2F\u01b2\3\2\2\2H"+
+		"\u01b9\3\2\2\2J\u01c8\3\2\2\2L\u01d5\3\2\2\2N\u01d7\3\2\2\2P\u01dd\3\2"+
+		"\2\2R\u01e1\3\2\2\2T\u01f4\3\2\2\2V\u01f8\3\2\2\2X\u01fa\3\2\2\2Z\u01fc"+
+		"\3\2\2\2\\\u01fe\3\2\2\2^\u0203\3\2\2\2`\u021e\3\2\2\2b\u025b\3\2\2\2"+
+		"d\u0264\3\2\2\2f\u026a\3\2\2\2h\u0289\3\2\2\2j\u02a2\3\2\2\2l\u02a4\3"+
+		"\2\2\2n\u02ae\3\2\2\2p\u02bf\3\2\2\2r\u02c3\3\2\2\2t\u02c5\3\2\2\2v\u02c9"+
+		"\3\2\2\2x\u02e7\3\2\2\2z\u02f7\3\2\2\2|\u02f9\3\2\2\2~\u02fb\3\2\2\2\u0080"+
+		"\u0303\3\2\2\2\u0082\u0305\3\2\2\2\u0084\u0307\3\2\2\2\u0086\u0088\5\4"+
+		"\3\2\u0087\u0086\3\2\2\2\u0087\u0088\3\2\2\2\u0088\u008c\3\2\2\2\u0089"+
+		"\u008b\5\6\4\2\u008a\u0089\3\2\2\2\u008b\u008e\3\2\2\2\u008c\u008a\3\2"+
+		"\2\2\u008c\u008d\3\2\2\2\u008d\u0092\3\2\2\2\u008e\u008c\3\2\2\2\u008f"+
+		"\u0091\5\b\5\2\u0090\u008f\3\2\2\2\u0091\u0094\3\2\2\2\u0092\u0090\3\2"+
+		"\2\2\u0092\u0093\3\2\2\2\u0093\3\3\2\2\2\u0094\u0092\3\2\2\2\u0095\u0096"+
+		"\7\24\2\2\u0096\u0097\5*\26\2\u0097\u0098\7?\2\2\u0098\5\3\2\2\2\u0099"+
+		"\u009b\7\35\2\2\u009a\u009c\7\32\2\2\u009b\u009a\3\2\2\2\u009b\u009c\3"+
+		"\2\2\2\u009c\u009d\3\2\2\2\u009d\u00a0\5*\26\2\u009e\u009f\7A\2\2\u009f"+
+		"\u00a1\7R\2\2\u00a0\u009e\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1\u00a2\3\2"+
+		"\2\2\u00a2\u00a3\7?\2\2\u00a3\7\3\2\2\2\u00a4\u00a5\6\5\2\2\u00a5\u00aa"+
+		"\5\n\6\2\u00a6\u00aa\5\26\f\2\u00a7\u00aa\5B\"\2\u00a8\u00aa\7?\2\2\u00a9"+
+		"\u00a4\3\2\2\2\u00a9\u00a6\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00a8\3\2"+
+		"\2\2\u00aa\t\3\2\2\2\u00ab\u00ac\5\24\13\2\u00ac\u00ad\7\17\2\2\u00ad"+
+		"\u00af\7n\2\2\u00ae\u00b0\5\34\17\2\u00af\u00ae\3\2\2\2\u00af\u00b0\3"+
+		"\2\2\2\u00b0\u00b3\3\2\2\2\u00b1\u00b2\7\20\2\2\u00b2\u00b4\5n8\2\u00b3"+
+		"\u00b1\3\2\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00b7\3\2\2\2\u00b5\u00b6\7\22"+
+		"\2\2\u00b6\u00b8\5l\67\2\u00b7\u00b5\3\2\2\2\u00b7\u00b8\3\2\2\2\u00b8"+
+		"\u00b9\3\2\2\2\u00b9\u00ba\5\f\7\2\u00ba\13\3\2\2\2\u00bb\u00bf\7;\2\2"+
+		"\u00bc\u00be\5\16\b\2\u00bd\u00bc\3\2\2\2\u00be\u00c1\3\2\2\2\u00bf\u00bd"+
+		"\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00c2\3\2\2\2\u00c1\u00bf\3\2\2\2\u00c2"+
+		"\u00c3\7<\2\2\u00c3\r\3\2\2\2\u00c4\u00cd\7?\2\2\u00c5\u00c7\7\32\2\2"+
+		"\u00c6\u00c5\3\2\2\2\u00c6\u00c7\3\2\2\2\u00c7\u00c8\3\2\2\2\u00c8\u00cd"+
+		"\5> \2\u00c9\u00ca\5\24\13\2\u00ca\u00cb\5\20\t\2\u00cb\u00cd\3\2\2\2"+
+		"\u00cc\u00c4\3\2\2\2\u00cc\u00c6\3\2\2\2\u00cc\u00c9\3\2\2\2\u00cd\17"+
+		"\3\2\2\2\u00ce\u00d3\5\26\f\2\u00cf\u00d3\5,\27\2\u00d0\u00d3\5.\30\2"+
+		"\u00d1\u00d3\5\n\6\2\u00d2\u00ce\3\2\2\2\u00d2\u00cf\3\2\2\2\u00d2\u00d0"+
+		"\3\2\2\2\u00d2\u00d1\3\2\2\2\u00d3\21\3\2\2\2\u00d4\u00d5\t\2\2\2\u00d5"+
+		"\23\3\2\2\2\u00d6\u00d8\5\22\n\2\u00d7\u00d6\3\2\2\2\u00d8\u00db\3\2\2"+
+		"\2\u00d9\u00d7\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\25\3\2\2\2\u00db\u00d9"+
+		"\3\2\2\2\u00dc\u00dd\5\24\13\2\u00dd\u00de\5z>\2\u00de\u00df\7n\2\2\u00df"+
+		"\u00e2\5 \21\2\u00e0\u00e1\7.\2\2\u00e1\u00e3\5\32\16\2\u00e2\u00e0\3"+
+		"\2\2\2\u00e2\u00e3\3\2\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e5\5\30\r\2\u00e5"+
+		"\27\3\2\2\2\u00e6\u00e9\5> \2\u00e7\u00e9\7?\2\2\u00e8\u00e6\3\2\2\2\u00e8"+
+		"\u00e7\3\2\2\2\u00e9\31\3\2\2\2\u00ea\u00ef\5*\26\2\u00eb\u00ec\7@\2\2"+
+		"\u00ec\u00ee\5*\26\2\u00ed\u00eb\3\2\2\2\u00ee\u00f1\3\2\2\2\u00ef\u00ed"+
+		"\3\2\2\2\u00ef\u00f0\3\2\2\2\u00f0\33\3\2\2\2\u00f1\u00ef\3\2\2\2\u00f2"+
+		"\u00f3\7C\2\2\u00f3\u00f8\5\36\20\2\u00f4\u00f5\7@\2\2\u00f5\u00f7\5\36"+
+		"\20\2\u00f6\u00f4\3\2\2\2\u00f7\u00fa\3\2\2\2\u00f8\u00f6\3\2\2\2\u00f8"+
+		"\u00f9\3\2\2\2\u00f9\u00fb\3\2\2\2\u00fa\u00f8\3\2\2\2\u00fb\u00fc\7B"+
+		"\2\2\u00fc\35\3\2\2\2\u00fd\u0104\5n8\2\u00fe\u0101\7F\2\2\u00ff\u0100"+
+		"\t\3\2\2\u0100\u0102\5n8\2\u0101\u00ff\3\2\2\2\u0101\u0102\3\2\2\2\u0102"+
+		"\u0104\3\2\2\2\u0103\u00fd\3\2\2\2\u0103\u00fe\3\2\2\2\u0104\37\3\2\2"+
+		"\2\u0105\u0107\79\2\2\u0106\u0108\5\"\22\2\u0107\u0106\3\2\2\2\u0107\u0108"+
+		"\3\2\2\2\u0108\u0109\3\2\2\2\u0109\u010a\7:\2\2\u010a!\3\2\2\2\u010b\u0110"+
+		"\5$\23\2\u010c\u010d\7@\2\2\u010d\u010f\5$\23\2\u010e\u010c\3\2\2\2\u010f"+
+		"\u0112\3\2\2\2\u0110\u010e\3\2\2\2\u0110\u0111\3\2\2\2\u0111\u0115\3\2"+
+		"\2\2\u0112\u0110\3\2\2\2\u0113\u0114\7@\2\2\u0114\u0116\5&\24\2\u0115"+
+		"\u0113\3\2\2\2\u0115\u0116\3\2\2\2\u0116#\3\2\2\2\u0117\u0119\5(\25\2"+
+		"\u0118\u0117\3\2\2\2\u0118\u0119\3\2\2\2\u0119\u011a\3\2\2\2\u011a\u011b"+
+		"\5n8\2\u011b\u011c\5\66\34\2\u011c%\3\2\2\2\u011d\u011f\5(\25\2\u011e"+
+		"\u011d\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u0120\3\2\2\2\u0120\u0121\5n"+
+		"8\2\u0121\u0122\7j\2\2\u0122\u0123\5\66\34\2\u0123\'\3\2\2\2\u0124\u0125"+
+		"\7\r\2\2\u0125)\3\2\2\2\u0126\u012b\7n\2\2\u0127\u0128\7A\2\2\u0128\u012a"+
+		"\7n\2\2\u0129\u0127\3\2\2\2\u012a\u012d\3\2\2\2\u012b\u0129\3\2\2\2\u012b"+
+		"\u012c\3\2\2\2\u012c+\3\2\2\2\u012d\u012b\3\2\2\2\u012e\u012f\5\24\13"+
+		"\2\u012f\u0131\5\62\32\2\u0130\u0132\7?\2\2\u0131\u0130\3\2\2\2\u0131"+
+		"\u0132\3\2\2\2\u0132-\3\2\2\2\u0133\u0134\7n\2\2\u0134\u0137\5 \21\2\u0135"+
+		"\u0136\7.\2\2\u0136\u0138\5\32\16\2\u0137\u0135\3\2\2\2\u0137\u0138\3"+
+		"\2\2\2\u0138\u0139\3\2\2\2\u0139\u013a\5> \2\u013a/\3\2\2\2\u013b\u013c"+
+		"\5`\61\2\u013c\u013d\7[\2\2\u013d\u013e\5:\36\2\u013e\61\3\2\2\2\u013f"+
+		"\u0140\5n8\2\u0140\u0145\5\64\33\2\u0141\u0142\7@\2\2\u0142\u0144\5\64"+
+		"\33\2\u0143\u0141\3\2\2\2\u0144\u0147\3\2\2\2\u0145\u0143\3\2\2\2\u0145"+
+		"\u0146\3\2\2\2\u0146\63\3\2\2\2\u0147\u0145\3\2\2\2\u0148\u014b\5\66\34"+
+		"\2\u0149\u014a\7[\2\2\u014a\u014c\58\35\2\u014b\u0149\3\2\2\2\u014b\u014c"+
+		"\3\2\2\2\u014c\65\3\2\2\2\u014d\u0152\7n\2\2\u014e\u014f\7=\2\2\u014f"+
+		"\u0151\7>\2\2\u0150\u014e\3\2\2\2\u0151\u0154\3\2\2\2\u0152\u0150\3\2"+
+		"\2\2\u0152\u0153\3\2\2\2\u0153\67\3\2\2\2\u0154\u0152\3\2\2\2\u0155\u0158"+
+		"\5:\36\2\u0156\u0158\5`\61\2\u0157\u0155\3\2\2\2\u0157\u0156\3\2\2\2\u0158"+
+		"9\3\2\2\2\u0159\u0165\7;\2\2\u015a\u015f\58\35\2\u015b\u015c\7@\2\2\u015c"+
+		"\u015e\58\35\2\u015d\u015b\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2"+
+		"\2\2\u015f\u0160\3\2\2\2\u0160\u0163\3\2\2\2\u0161\u015f\3\2\2\2\u0162"+
+		"\u0164\7@\2\2\u0163\u0162\3\2\2\2\u0163\u0164\3\2\2\2\u0164\u0166\3\2"+
+		"\2\2\u0165\u015a\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167"+
+		"\u0168\7<\2\2\u0168;\3\2\2\2\u0169\u016a\7n\2\2\u016a\u016b\7n\2\2\u016b"+
+		"\u016c\7[\2\2\u016c\u016d\7\23\2\2\u016d\u016e\7n\2\2\u016e\u0170\79\2"+
+		"\2\u016f\u0171\5f\64\2\u0170\u016f\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0172"+
+		"\3\2\2\2\u0172\u0173\7:\2\2\u0173=\3\2\2\2\u0174\u0175\7;\2\2\u0175\u0176"+
+		"\5@!\2\u0176\u0177\7<\2\2\u0177?\3\2\2\2\u0178\u017a\5B\"\2\u0179\u0178"+
+		"\3\2\2\2\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017b\u017c\3\2\2\2\u017c"+
+		"A\3\2\2\2\u017d\u017b\3\2\2\2\u017e\u017f\5D#\2\u017fC\3\2\2\2\u0180\u01b1"+
+		"\5> \2\u0181\u01b1\5F$\2\u0182\u01b1\5H%\2\u0183\u01b1\5N(\2\u0184\u01b1"+
+		"\5P)\2\u0185\u01b1\5R*\2\u0186\u0188\7\'\2\2\u0187\u0189\5`\61\2\u0188"+
+		"\u0187\3\2\2\2\u0188\u0189\3\2\2\2\u0189\u018b\3\2\2\2\u018a\u018c\7?"+
+		"\2\2\u018b\u018a\3\2\2\2\u018b\u018c\3\2\2\2\u018c\u01b1\3\2\2\2\u018d"+
+		"\u018f\7\36\2\2\u018e\u0190\7n\2\2\u018f\u018e\3\2\2\2\u018f\u0190\3\2"+
+		"\2\2\u0190\u0192\3\2\2\2\u0191\u0193\7?\2\2\u0192\u0191\3\2\2\2\u0192"+
+		"\u0193\3\2\2\2\u0193\u01b1\3\2\2\2\u0194\u0196\7 \2\2\u0195\u0197\7n\2"+
+		"\2\u0196\u0195\3\2\2\2\u0196\u0197\3\2\2\2\u0197\u0199\3\2\2\2\u0198\u019a"+
+		"\7?\2\2\u0199\u0198\3\2\2\2\u0199\u019a\3\2\2\2\u019a\u01b1\3\2\2\2\u019b"+
+		"\u019c\7&\2\2\u019c\u019e\7n\2\2\u019d\u019f\7?\2\2\u019e\u019d\3\2\2"+
+		"\2\u019e\u019f\3\2\2\2\u019f\u01b1\3\2\2\2\u01a0\u01a1\7n\2\2\u01a1\u01a2"+
+		"\7G\2\2\u01a2\u01b1\5D#\2\u01a3\u01b1\7?\2\2\u01a4\u01a6\5\62\32\2\u01a5"+
+		"\u01a7\7?\2\2\u01a6\u01a5\3\2\2\2\u01a6\u01a7\3\2\2\2\u01a7\u01b1\3\2"+
+		"\2\2\u01a8\u01aa\5\60\31\2\u01a9\u01ab\7?\2\2\u01aa\u01a9\3\2\2\2\u01aa"+
+		"\u01ab\3\2\2\2\u01ab\u01b1\3\2\2\2\u01ac\u01ae\5`\61\2\u01ad\u01af\7?"+
+		"\2\2\u01ae\u01ad\3\2\2\2\u01ae\u01af\3\2\2\2\u01af\u01b1\3\2\2\2\u01b0"+
+		"\u0180\3\2\2\2\u01b0\u0181\3\2\2\2\u01b0\u0182\3\2\2\2\u01b0\u0183\3\2"+
+		"\2\2\u01b0\u0184\3\2\2\2\u01b0\u0185\3\2\2\2\u01b0\u0186\3\2\2\2\u01b0"+
+		"\u018d\3\2\2\2\u01b0\u0194\3\2\2\2\u01b0\u019b\3\2\2\2\u01b0\u01a0\3\2"+
+		"\2\2\u01b0\u01a3\3\2\2\2\u01b0\u01a4\3\2\2\2\u01b0\u01a8\3\2\2\2\u01b0"+
+		"\u01ac\3\2\2\2\u01b1E\3\2\2\2\u01b2\u01b3\7%\2\2\u01b3\u01b4\5^\60\2\u01b4"+
+		"\u01b7\5D#\2\u01b5\u01b6\7#\2\2\u01b6\u01b8\5D#\2\u01b7\u01b5\3\2\2\2"+
+		"\u01b7\u01b8\3\2\2\2\u01b8G\3\2\2\2\u01b9\u01ba\7(\2\2\u01ba\u01bb\5^"+
+		"\60\2\u01bb\u01bf\7;\2\2\u01bc\u01be\5J&\2\u01bd\u01bc\3\2\2\2\u01be\u01c1"+
+		"\3\2\2\2\u01bf\u01bd\3\2\2\2\u01bf\u01c0\3\2\2\2\u01c0\u01c2\3\2\2\2\u01c1"+
+		"\u01bf\3\2\2\2\u01c2\u01c3\7!\2\2\u01c3\u01c4\7G\2\2\u01c4\u01c5\5@!\2"+
+		"\u01c5\u01c6\7<\2\2\u01c6I\3\2\2\2\u01c7\u01c9\5L\'\2\u01c8\u01c7\3\2"+
+		"\2\2\u01c9\u01ca\3\2\2\2\u01ca\u01c8\3\2\2\2\u01ca\u01cb\3\2\2\2\u01cb"+
+		"\u01cc\3\2\2\2\u01cc\u01cd\5@!\2\u01cdK\3\2\2\2\u01ce\u01cf\7\37\2\2\u01cf"+
+		"\u01d0\5`\61\2\u01d0\u01d1\7G\2\2\u01d1\u01d6\3\2\2\2\u01d2\u01d3\7\37"+
+		"\2\2\u01d3\u01d4\7n\2\2\u01d4\u01d6\7G\2\2\u01d5\u01ce\3\2\2\2\u01d5\u01d2"+
+		"\3\2\2\2\u01d6M\3\2\2\2\u01d7\u01d8\7$\2\2\u01d8\u01d9\79\2\2\u01d9\u01da"+
+		"\5T+\2\u01da\u01db\7:\2\2\u01db\u01dc\5D#\2\u01dcO\3\2\2\2\u01dd\u01de"+
+		"\7)\2\2\u01de\u01df\5^\60\2\u01df\u01e0\5D#\2\u01e0Q\3\2\2\2\u01e1\u01e2"+
+		"\7\"\2\2\u01e2\u01e3\5> \2\u01e3\u01e4\7)\2\2\u01e4\u01e6\5^\60\2\u01e5"+
+		"\u01e7\7?\2\2\u01e6\u01e5\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7S\3\2\2\2\u01e8"+
+		"\u01f5\5\\/\2\u01e9\u01eb\5V,\2\u01ea\u01e9\3\2\2\2\u01ea\u01eb\3\2\2"+
+		"\2\u01eb\u01ec\3\2\2\2\u01ec\u01ee\7?\2\2\u01ed\u01ef\5X-\2\u01ee\u01ed"+
+		"\3\2\2\2\u01ee\u01ef\3\2\2\2\u01ef\u01f0\3\2\2\2\u01f0\u01f2\7?\2\2\u01f1"+
+		"\u01f3\5Z.\2\u01f2\u01f1\3\2\2\2\u01f2\u01f3\3\2\2\2\u01f3\u01f5\3\2\2"+
+		"\2\u01f4\u01e8\3\2\2\2\u01f4\u01ea\3\2\2\2\u01f5U\3\2\2\2\u01f6\u01f9"+
+		"\5\62\32\2\u01f7\u01f9\5f\64\2\u01f8\u01f6\3\2\2\2\u01f8\u01f7\3\2\2\2"+
+		"\u01f9W\3\2\2\2\u01fa\u01fb\5`\61\2\u01fbY\3\2\2\2\u01fc\u01fd\5f\64\2"+
+		"\u01fd[\3\2\2\2\u01fe\u01ff\5n8\2\u01ff\u0200\5\66\34\2\u0200\u0201\7"+
+		"G\2\2\u0201\u0202\5`\61\2\u0202]\3\2\2\2\u0203\u0204\79\2\2\u0204\u0205"+
+		"\5`\61\2\u0205\u0206\7:\2\2\u0206_\3\2\2\2\u0207\u0208\b\61\1\2\u0208"+
+		"\u020b\5b\62\2\u0209\u020a\7A\2\2\u020a\u020c\5j\66\2\u020b\u0209\3\2"+
+		"\2\2\u020b\u020c\3\2\2\2\u020c\u021f\3\2\2\2\u020d\u021f\5j\66\2\u020e"+
+		"\u021f\5~@\2\u020f\u0210\79\2\2\u0210\u0211\5`\61\2\u0211\u0212\7:\2\2"+
+		"\u0212\u021f\3\2\2\2\u0213\u0214\7\23\2\2\u0214\u021f\5p9\2\u0215\u0216"+
+		"\t\4\2\2\u0216\u021f\5`\61\21\u0217\u0218\t\5\2\2\u0218\u021f\5`\61\20"+
+		"\u0219\u021a\79\2\2\u021a\u021b\5n8\2\u021b\u021c\7:\2\2\u021c\u021d\5"+
+		"`\61\17\u021d\u021f\3\2\2\2\u021e\u0207\3\2\2\2\u021e\u020d\3\2\2\2\u021e"+
+		"\u020e\3\2\2\2\u021e\u020f\3\2\2\2\u021e\u0213\3\2\2\2\u021e\u0215\3\2"+
+		"\2\2\u021e\u0217\3\2\2\2\u021e\u0219\3\2\2\2\u021f\u0258\3\2\2\2\u0220"+
+		"\u0221\f\16\2\2\u0221\u0222\t\6\2\2\u0222\u0257\5`\61\17\u0223\u0224\f"+
+		"\r\2\2\u0224\u0225\t\7\2\2\u0225\u0257\5`\61\16\u0226\u022e\f\f\2\2\u0227"+
+		"\u0228\7C\2\2\u0228\u022f\7C\2\2\u0229\u022a\7B\2\2\u022a\u022b\7B\2\2"+
+		"\u022b\u022f\7B\2\2\u022c\u022d\7B\2\2\u022d\u022f\7B\2\2\u022e\u0227"+
+		"\3\2\2\2\u022e\u0229\3\2\2\2\u022e\u022c\3\2\2\2\u022f\u0230\3\2\2\2\u0230"+
+		"\u0257\5`\61\r\u0231\u0232\f\13\2\2\u0232\u0233\t\b\2\2\u0233\u0257\5"+
+		"`\61\f\u0234\u0235\f\n\2\2\u0235\u0236\t\t\2\2\u0236\u0257\5`\61\13\u0237"+
+		"\u0238\f\t\2\2\u0238\u0239\7U\2\2\u0239\u0257\5`\61\n\u023a\u023b\f\b"+
+		"\2\2\u023b\u023c\7W\2\2\u023c\u0257\5`\61\t\u023d\u023e\f\7\2\2\u023e"+
+		"\u023f\7V\2\2\u023f\u0257\5`\61\b\u0240\u0241\f\6\2\2\u0241\u0242\7L\2"+
+		"\2\u0242\u0257\5`\61\7\u0243\u0244\f\5\2\2\u0244\u0245\7M\2\2\u0245\u0257"+
+		"\5`\61\6\u0246\u0247\f\4\2\2\u0247\u0248\7F\2\2\u0248\u0249\5`\61\2\u0249"+
+		"\u024a\7G\2\2\u024a\u024b\5`\61\5\u024b\u0257\3\2\2\2\u024c\u024d\f\3"+
+		"\2\2\u024d\u024e\t\n\2\2\u024e\u0257\5`\61\3\u024f\u0250\f\25\2\2\u0250"+
+		"\u0251\7=\2\2\u0251\u0252\5`\61\2\u0252\u0253\7>\2\2\u0253\u0257\3\2\2"+
+		"\2\u0254\u0255\f\22\2\2\u0255\u0257\t\13\2\2\u0256\u0220\3\2\2\2\u0256"+
+		"\u0223\3\2\2\2\u0256\u0226\3\2\2\2\u0256\u0231\3\2\2\2\u0256\u0234\3\2"+
+		"\2\2\u0256\u0237\3\2\2\2\u0256\u023a\3\2\2\2\u0256\u023d\3\2\2\2\u0256"+
+		"\u0240\3\2\2\2\u0256\u0243\3\2\2\2\u0256\u0246\3\2\2\2\u0256\u024c\3\2"+
+		"\2\2\u0256\u024f\3\2\2\2\u0256\u0254\3\2\2\2\u0257\u025a\3\2\2\2\u0258"+
+		"\u0256\3\2\2\2\u0258\u0259\3\2\2\2\u0259a\3\2\2\2\u025a\u0258\3\2\2\2"+
+		"\u025b\u025c\5h\65\2\u025c\u0261\5d\63\2\u025d\u025e\7A\2\2\u025e\u0260"+
+		"\5b\62\2\u025f\u025d\3\2\2\2\u0260\u0263\3\2\2\2\u0261\u025f\3\2\2\2\u0261"+
+		"\u0262\3\2\2\2\u0262c\3\2\2\2\u0263\u0261\3\2\2\2\u0264\u0266\79\2\2\u0265"+
+		"\u0267\5f\64\2\u0266\u0265\3\2\2\2\u0266\u0267\3\2\2\2\u0267\u0268\3\2"+
+		"\2\2\u0268\u0269\7:\2\2\u0269e\3\2\2\2\u026a\u026f\5`\61\2\u026b\u026c"+
+		"\7@\2\2\u026c\u026e\5`\61\2\u026d\u026b\3\2\2\2\u026e\u0271\3\2\2\2\u026f"+
+		"\u026d\3\2\2\2\u026f\u0270\3\2\2\2\u0270g\3\2\2\2\u0271\u026f\3\2\2\2"+
+		"\u0272\u0277\7n\2\2\u0273\u0274\7A\2\2\u0274\u0276\7n\2\2\u0275\u0273"+
+		"\3\2\2\2\u0276\u0279\3\2\2\2\u0277\u0275\3\2\2\2\u0277\u0278\3\2\2\2\u0278"+
+		"\u028a\3\2\2\2\u0279\u0277\3\2\2\2\u027a\u027f\7\33\2\2\u027b\u027c\7"+
+		"A\2\2\u027c\u027e\7n\2\2\u027d\u027b\3\2\2\2\u027e\u0281\3\2\2\2\u027f"+
+		"\u027d\3\2\2\2\u027f\u0280\3\2\2\2\u0280\u028a\3\2\2\2\u0281\u027f\3\2"+
+		"\2\2\u0282\u0285\7\34\2\2\u0283\u0284\7A\2\2\u0284\u0286\7n\2\2\u0285"+
+		"\u0283\3\2\2\2\u0286\u0287\3\2\2\2\u0287\u0285\3\2\2\2\u0287\u0288\3\2"+
+		"\2\2\u0288\u028a\3\2\2\2\u0289\u0272\3\2\2\2\u0289\u027a\3\2\2\2\u0289"+
+		"\u0282\3\2\2\2\u028ai\3\2\2\2\u028b\u0290\7n\2\2\u028c\u028d\7A\2\2\u028d"+
+		"\u028f\7n\2\2\u028e\u028c\3\2\2\2\u028f\u0292\3\2\2\2\u0290\u028e\3\2"+
+		"\2\2\u0290\u0291\3\2\2\2\u0291\u02a3\3\2\2\2\u0292\u0290\3\2\2\2\u0293"+
+		"\u0298\7\33\2\2\u0294\u0295\7A\2\2\u0295\u0297\7n\2\2\u0296\u0294\3\2"+
+		"\2\2\u0297\u029a\3\2\2\2\u0298\u0296\3\2\2\2\u0298\u0299\3\2\2\2\u0299"+
+		"\u02a3\3\2\2\2\u029a\u0298\3\2\2\2\u029b\u029e\7\34\2\2\u029c\u029d\7"+
+		"A\2\2\u029d\u029f\7n\2\2\u029e\u029c\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0"+
+		"\u029e\3\2\2\2\u02a0\u02a1\3\2\2\2\u02a1\u02a3\3\2\2\2\u02a2\u028b\3\2"+
+		"\2\2\u02a2\u0293\3\2\2\2\u02a2\u029b\3\2\2\2\u02a3k\3\2\2\2\u02a4\u02a9"+
+		"\5n8\2\u02a5\u02a6\7@\2\2\u02a6\u02a8\5n8\2\u02a7\u02a5\3\2\2\2\u02a8"+
+		"\u02ab\3\2\2\2\u02a9\u02a7\3\2\2\2\u02a9\u02aa\3\2\2\2\u02aam\3\2\2\2"+
+		"\u02ab\u02a9\3\2\2\2\u02ac\u02af\5x=\2\u02ad\u02af\5|?\2\u02ae\u02ac\3"+
+		"\2\2\2\u02ae\u02ad\3\2\2\2\u02af\u02b4\3\2\2\2\u02b0\u02b1\7=\2\2\u02b1"+
+		"\u02b3\7>\2\2\u02b2\u02b0\3\2\2\2\u02b3\u02b6\3\2\2\2\u02b4\u02b2\3\2"+
+		"\2\2\u02b4\u02b5\3\2\2\2\u02b5o\3\2\2\2\u02b6\u02b4\3\2\2\2\u02b7\u02b8"+
+		"\5r:\2\u02b8\u02b9\5t;\2\u02b9\u02c0\3\2\2\2\u02ba\u02bd\5r:\2\u02bb\u02be"+
+		"\5v<\2\u02bc\u02be\5t;\2\u02bd\u02bb\3\2\2\2\u02bd\u02bc\3\2\2\2\u02be"+
+		"\u02c0\3\2\2\2\u02bf\u02b7\3\2\2\2\u02bf\u02ba\3\2\2\2\u02c0q\3\2\2\2"+
+		"\u02c1\u02c4\5x=\2\u02c2\u02c4\5|?\2\u02c3\u02c1\3\2\2\2\u02c3\u02c2\3"+
+		"\2\2\2\u02c4s\3\2\2\2\u02c5\u02c7\5d\63\2\u02c6\u02c8\5\f\7\2\u02c7\u02c6"+
+		"\3\2\2\2\u02c7\u02c8\3\2\2\2\u02c8u\3\2\2\2\u02c9\u02e5\7=\2\2\u02ca\u02cf"+
+		"\7>\2\2\u02cb\u02cc\7=\2\2\u02cc\u02ce\7>\2\2\u02cd\u02cb\3\2\2\2\u02ce"+
+		"\u02d1\3\2\2\2\u02cf\u02cd\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0\u02d2\3\2"+
+		"\2\2\u02d1\u02cf\3\2\2\2\u02d2\u02e6\5:\36\2\u02d3\u02d4\5`\61\2\u02d4"+
+		"\u02db\7>\2\2\u02d5\u02d6\7=\2\2\u02d6\u02d7\5`\61\2\u02d7\u02d8\7>\2"+
+		"\2\u02d8\u02da\3\2\2\2\u02d9\u02d5\3\2\2\2\u02da\u02dd\3\2\2\2\u02db\u02d9"+
+		"\3\2\2\2\u02db\u02dc\3\2\2\2\u02dc\u02e2\3\2\2\2\u02dd\u02db\3\2\2\2\u02de"+
+		"\u02df\7=\2\2\u02df\u02e1\7>\2\2\u02e0\u02de\3\2\2\2\u02e1\u02e4\3\2\2"+
+		"\2\u02e2\u02e0\3\2\2\2\u02e2\u02e3\3\2\2\2\u02e3\u02e6\3\2\2\2\u02e4\u02e2"+
+		"\3\2\2\2\u02e5\u02ca\3\2\2\2\u02e5\u02d3\3\2\2\2\u02e6w\3\2\2\2\u02e7"+
+		"\u02e9\7n\2\2\u02e8\u02ea\5\34\17\2\u02e9\u02e8\3\2\2\2\u02e9\u02ea\3"+
+		"\2\2\2\u02ea\u02f2\3\2\2\2\u02eb\u02ec\7A\2\2\u02ec\u02ee\7n\2\2\u02ed"+
+		"\u02ef\5\34\17\2\u02ee\u02ed\3\2\2\2\u02ee\u02ef\3\2\2\2\u02ef\u02f1\3"+
+		"\2\2\2\u02f0\u02eb\3\2\2\2\u02f1\u02f4\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f2"+
+		"\u02f3\3\2\2\2\u02f3y\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f5\u02f8\5n8\2\u02f6"+
+		"\u02f8\7\3\2\2\u02f7\u02f5\3\2\2\2\u02f7\u02f6\3\2\2\2\u02f8{\3\2\2\2"+
+		"\u02f9\u02fa\t\f\2\2\u02fa}\3\2\2\2\u02fb\u02fc\5\u0080A\2\u02fc\177\3"+
+		"\2\2\2\u02fd\u0304\5\u0082B\2\u02fe\u0304\5\u0084C\2\u02ff\u0304\7\66"+
+		"\2\2\u0300\u0304\7\67\2\2\u0301\u0304\7\65\2\2\u0302\u0304\78\2\2\u0303"+
+		"\u02fd\3\2\2\2\u0303\u02fe\3\2\2\2\u0303\u02ff\3\2\2\2\u0303\u0300\3\2"+
+		"\2\2\u0303\u0301\3\2\2\2\u0303\u0302\3\2\2\2\u0304\u0081\3\2\2\2\u0305"+
+		"\u0306\t\r\2\2\u0306\u0083\3\2\2\2\u0307\u0308\t\16\2\2\u0308\u0085\3"+
+		"\2\2\2\\\u0087\u008c\u0092\u009b\u00a0\u00a9\u00af\u00b3\u00b7\u00bf\u00c6"+
+		"\u00cc\u00d2\u00d9\u00e2\u00e8\u00ef\u00f8\u0101\u0103\u0107\u0110\u0115"+
+		"\u0118\u011e\u012b\u0131\u0137\u0145\u014b\u0152\u0157\u015f\u0163\u0165"+
+		"\u0170\u017b\u0188\u018b\u018f\u0192\u0196\u0199\u019e\u01a6\u01aa\u01ae"+
+		"\u01b0\u01b7\u01bf\u01ca\u01d5\u01e6\u01ea\u01ee\u01f2\u01f4\u01f8\u020b"+
+		"\u021e\u022e\u0256\u0258\u0261\u0266\u026f\u0277\u027f\u0287\u0289\u0290"+
+		"\u0298\u02a0\u02a2\u02a9\u02ae\u02b4\u02bd\u02bf\u02c3\u02c7\u02cf\u02db"+
+		"\u02e2\u02e5\u02e9\u02ee\u02f2\u02f7\u0303";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
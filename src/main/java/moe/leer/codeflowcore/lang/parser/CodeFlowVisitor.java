@@ -18,18 +18,6 @@ public interface CodeFlowVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitProgram(CodeFlowParser.ProgramContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CodeFlowParser#topLevelFunctions}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitTopLevelFunctions(CodeFlowParser.TopLevelFunctionsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link CodeFlowParser#topLevelStmts}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitTopLevelStmts(CodeFlowParser.TopLevelStmtsContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link CodeFlowParser#packageDeclaration}.
 	 * @param ctx the parse tree
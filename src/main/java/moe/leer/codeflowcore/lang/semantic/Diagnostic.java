@@ -0,0 +1,77 @@
+package moe.leer.codeflowcore.lang.semantic;
+
+import lombok.Getter;
+
+/**
+ * A problem the semantic pass found, at a token of the source.
+ *
+ * @author leer
+ */
+@Getter
+public class Diagnostic {
+
+  public enum Severity {
+    WARNING, ERROR
+  }
+
+  public enum Code {
+    DUPLICATED_VARIABLE(Severity.WARNING, "Duplicated variable declare: "),
+    DUPLICATED_FUNCTION(Severity.WARNING, "Overload method not support! Duplicated function declare: "),
+    UNRESOLVED_VARIABLE(Severity.ERROR, "no such variable: "),
+    UNRESOLVED_FUNCTION(Severity.ERROR, "no such function: ");
+
+    @Getter
+    private final Severity severity;
+    private final String message;
+
+    Code(Severity severity, String message) {
+      this.severity = severity;
+      this.message = message;
+    }
+
+    public String message(String subject) {
+      return message + subject;
+    }
+  }
+
+  private final Code code;
+  /**
+   * the declared or referred name
+   */
+  private final String subject;
+  /**
+   * line from 1, column from 0, as ANTLR counts them
+   */
+  private final int line;
+  private final int column;
+  /**
+   * char index of the token's first and last char in the source
+   */
+  private final int start;
+  private final int stop;
+
+  Diagnostic(Code code, String subject, int line, int column, int start, int stop) {
+    this.code = code;
+    this.subject = subject;
+    this.line = line;
+    this.column = column;
+    this.start = start;
+    this.stop = stop;
+  }
+
+  public Severity getSeverity() {
+    return code.getSeverity();
+  }
+
+  public String getMessage() {
+    return code.message(subject);
+  }
+
+  /**
+   * @return "line 2:0 Duplicated variable declare: a", what was printed before diagnostics were collected
+   */
+  @Override
+  public String toString() {
+    return "line " + line + ":" + column + " " + getMessage();
+  }
+}
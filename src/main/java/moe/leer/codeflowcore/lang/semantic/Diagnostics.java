@@ -0,0 +1,174 @@
+package moe.leer.codeflowcore.lang.semantic;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.Token;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Diagnostics of one program, recorded by its semantic pass and returned with the flowchart.
+ * <p>
+ * Recording copies the token's position into arrays, the message is only built when read.
+ * Past the limit diagnostics are counted, not kept. Filled by one pass, read it once the pass is done.
+ *
+ * @author leer
+ */
+public class Diagnostics {
+  public static final int DEFAULT_LIMIT = 100;
+  /**
+   * of a program not checked, shared so read-only: reporting to it throws {@link UnsupportedOperationException}
+   */
+  public static final Diagnostics EMPTY = new Diagnostics(0, true);
+
+  private static final Diagnostic.Code[] CODES = Diagnostic.Code.values();
+
+  @Getter
+  private final int limit;
+  private byte[] codes = new byte[0];
+  private String[] subjects = new String[0];
+  // line, column, start and stop of each diagnostic
+  private int[] positions = new int[0];
+  private int size;
+  /**
+   * diagnostics reported past the limit
+   */
+  @Getter
+  private int dropped;
+  private final boolean readOnly;
+
+  public Diagnostics(int limit) {
+    this(limit, false);
+  }
+
+  private Diagnostics(int limit, boolean readOnly) {
+    this.limit = Math.max(limit, 0);
+    this.readOnly = readOnly;
+  }
+
+  public void report(Diagnostic.Code code, Token token, String subject) {
+    add(code, subject, token.getLine(), token.getCharPositionInLine(), token.getStartIndex(), token.getStopIndex());
+  }
+
+  private void add(Diagnostic.Code code, String subject, int line, int column, int start, int stop) {
+    checkWritable();
+    if (size == limit) {
+      dropped++;
+      return;
+    }
+    if (size == codes.length) {
+      int capacity = Math.min(Math.max(size * 2, 8), limit);
+      codes = Arrays.copyOf(codes, capacity);
+      subjects = Arrays.copyOf(subjects, capacity);
+      positions = Arrays.copyOf(positions, capacity * 4);
+    }
+    codes[size] = (byte) code.ordinal();
+    subjects[size] = subject;
+    int p = size * 4;
+    positions[p] = line;
+    positions[p + 1] = column;
+    positions[p + 2] = start;
+    positions[p + 3] = stop;
+    size++;
+  }
+
+  /**
+   * @return diagnostics from <code>from</code> on, as a collector of their own
+   */
+  public Diagnostics since(int from, int droppedBefore) {
+    if (from == size && dropped == droppedBefore) {
+      return EMPTY;
+    }
+    Diagnostics since = new Diagnostics(limit);
+    for (int i = from; i < size; i++) {
+      since.copy(this, i, 0, 0, 0, -1);
+    }
+    since.dropped = dropped - droppedBefore;
+    return since;
+  }
+
+  /**
+   * Report <code>other</code>'s diagnostics again for code that moved since they were recorded,
+   * from where its first token was, <code>was</code>, to where it is, <code>now</code>
+   */
+  public void addMoved(Diagnostics other, Token was, Token now) {
+    if (other.isEmpty()) {
+      return;
+    }
+    checkWritable();
+    int lineShift = now.getLine() - was.getLine();
+    int columnShift = now.getCharPositionInLine() - was.getCharPositionInLine();
+    int indexShift = now.getStartIndex() - was.getStartIndex();
+    for (int i = 0; i < other.size; i++) {
+      copy(other, i, lineShift, indexShift, columnShift, was.getLine());
+    }
+    dropped += other.dropped;
+  }
+
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Diagnostics.EMPTY is shared and read-only");
+    }
+  }
+
+  // columns only move on the line the code starts on
+  private void copy(Diagnostics other, int i, int lineShift, int indexShift, int columnShift, int firstLine) {
+    int p = i * 4;
+    int line = other.positions[p];
+    add(CODES[other.codes[i]], other.subjects[i], line + lineShift,
+        other.positions[p + 1] + (line == firstLine ? columnShift : 0),
+        other.positions[p + 2] + indexShift, other.positions[p + 3] + indexShift);
+  }
+
+  /**
+   * @return number of diagnostics kept
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0 && dropped == 0;
+  }
+
+  public Diagnostic get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    int p = index * 4;
+    return new Diagnostic(CODES[codes[index]], subjects[index], positions[p], positions[p + 1], positions[p + 2], positions[p + 3]);
+  }
+
+  /**
+   * @return the kept diagnostics in report order, created as they are read
+   */
+  public List<Diagnostic> list() {
+    return new AbstractList<Diagnostic>() {
+      @Override
+      public Diagnostic get(int index) {
+        return Diagnostics.this.get(index);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * @return one diagnostic a line, as they were printed before
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      sb.append(get(i)).append('\n');
+    }
+    if (dropped > 0) {
+      sb.append(dropped).append(" more not recorded\n");
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,51 @@
+package moe.leer.codeflowcore.lang.semantic;
+
+import moe.leer.codeflowcore.lang.semantic.scope.Scope;
+import org.antlr.v4.runtime.ParserRuleContext;
+
+import java.util.Arrays;
+
+/**
+ * Scopes of one program's classes, functions and blocks, numbered in the order a tree walk enters them.
+ * <p>
+ * A later walk of the same tree enters them in the same order, so it finds every scope by counting,
+ * instead of hashing each context into an identity map as {@link org.antlr.v4.runtime.tree.ParseTreeProperty} does.
+ * The start token kept with each scope checks that both walks agree.
+ *
+ * @author leer
+ */
+public class ScopeTable {
+  private Scope[] scopes = new Scope[16];
+  // start token index of the context each scope was saved for
+  private int[] starts = new int[16];
+  private int size;
+
+  /**
+   * @return number of the scope
+   */
+  public int add(ParserRuleContext context, Scope scope) {
+    if (size == scopes.length) {
+      scopes = Arrays.copyOf(scopes, size * 2);
+      starts = Arrays.copyOf(starts, size * 2);
+    }
+    scopes[size] = scope;
+    starts[size] = context.start.getTokenIndex();
+    return size++;
+  }
+
+  /**
+   * @throws IllegalStateException when scope <code>index</code> was not saved for <code>context</code>,
+   *                               the tree or the walk order is not the one the scopes were saved in
+   */
+  public Scope get(int index, ParserRuleContext context) {
+    if (index >= size || starts[index] != context.start.getTokenIndex()) {
+      throw new IllegalStateException("No scope " + index + " saved for " + context.getClass().getSimpleName() +
+          " at token " + context.start.getTokenIndex());
+    }
+    return scopes[index];
+  }
+
+  public int size() {
+    return size;
+  }
+}
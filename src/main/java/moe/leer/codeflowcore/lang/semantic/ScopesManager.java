@@ -3,86 +3,159 @@ package moe.leer.codeflowcore.lang.semantic;
 import lombok.Getter;
 import lombok.Setter;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKeys;
 import moe.leer.codeflowcore.lang.semantic.scope.GlobalScope;
 import moe.leer.codeflowcore.lang.semantic.scope.Scope;
 import moe.leer.codeflowcore.lang.semantic.scope.Symbol;
+import moe.leer.codeflowcore.lang.semantic.scope.SymbolTable;
 import moe.leer.codeflowcore.lang.semantic.scope.VariableSymbol;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.tree.ParseTreeProperty;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author leer
  * Created at 12/16/19 2:10 PM
  */
 public class ScopesManager {
-  public final ParseTreeProperty<Scope> scopes;
+  /**
+   * where scopes are saved for later passes, null when no pass reads them
+   */
+  @Nullable
+  public final ScopeTable scopes;
+  // number of the next saved scope a later pass enters
+  private int nextScope;
   @Getter
   @Setter
   GlobalScope globalScope;
   @Getter
   @Setter
   Scope currentScope;
+  /**
+   * Symbols visible from the current scope while scopes are entered in tree order, null when resolving through the scopes
+   */
+  private SymbolTable symbols;
+  /**
+   * Keys of the functions declared and called
+   */
+  @Getter
+  private FunctionKeys functionKeys = new FunctionKeys();
+  @Getter
+  private final Diagnostics diagnostics;
 
-  public ScopesManager(ParseTreeProperty<Scope> scopes) {
+  public ScopesManager(@Nullable ScopeTable scopes, Diagnostics diagnostics) {
     this.scopes = scopes;
+    this.diagnostics = diagnostics;
   }
 
-  public ScopesManager(ParseTreeProperty<Scope> scopes, GlobalScope globalScope) {
+  public ScopesManager(ScopeTable scopes, GlobalScope globalScope, Diagnostics diagnostics) {
     this.scopes = scopes;
     this.globalScope = globalScope;
+    this.diagnostics = diagnostics;
+  }
+
+  /**
+   * Start defining a program's symbols in a new global scope
+   */
+  public void enterGlobalScope() {
+    globalScope = new GlobalScope();
+    currentScope = globalScope;
+    symbols = new SymbolTable();
+    functionKeys = new FunctionKeys();
   }
 
   public void saveScope(ParserRuleContext context, Scope scope) {
-    scopes.put(context, scope);
+    if (scopes != null) {
+      scopes.add(context, scope);
+    }
   }
 
+  /**
+   * A pass walking the tree again obtains the scopes in the order they were saved
+   *
+   * @see ScopeTable
+   */
   public Scope obtainScope(ParserRuleContext context) {
-    return scopes.get(context);
+    return scopes.get(nextScope++, context);
   }
 
   public void enterAndSaveScope(ParserRuleContext context, Scope scope) {
-    currentScope.getChildrenScope().add(scope);
+    currentScope.addChildScope(scope);
     currentScope = scope;
-    scopes.put(context, scope);
+    saveScope(context, scope);
+    if (symbols != null) {
+      symbols.enterScope();
+    }
   }
 
+  /**
+   * Jump to a saved scope, symbols are resolved through the scopes from now on
+   */
   public void enterScope(ParserRuleContext context) {
     currentScope = obtainScope(context);
+    symbols = null;
   }
 
   public void leaveScope() {
     if (currentScope == globalScope) return;
     currentScope = currentScope.getParentScope();
+    if (symbols != null) {
+      symbols.leaveScope();
+    }
+  }
+
+  /**
+   * Define a symbol in the current scope
+   */
+  public void define(Symbol symbol) {
+    currentScope.define(symbol);
+    if (symbols != null) {
+      symbols.define(symbol);
+    }
+  }
+
+  /**
+   * @return <code>name</code>, or an equal string of a symbol defined before
+   */
+  public String intern(String name) {
+    return symbols != null ? symbols.intern(name) : name;
   }
 
   public Symbol resolve(String name) {
+    if (symbols != null) {
+      return symbols.resolve(name);
+    }
     if (currentScope != null) {
       return currentScope.resolve(name);
     }
     return null;
   }
 
-  public Symbol resolveFunction(String name) {
+  public Symbol resolveFunction(FunctionKey key) {
+    if (symbols != null) {
+      return symbols.resolveFunction(key);
+    }
     if (currentScope != null) {
-      return currentScope.resolveFunction(name);
+      return currentScope.resolveFunction(key);
     }
     return null;
   }
 
   public void defineVar(CodeFlowParser.VariableTypeContext typeContext, String name, String text) {
 //    int type = typeContext.start.getType();
+    name = intern(name);
     VariableSymbol variableSymbol = new VariableSymbol(name, text, ANTLRUtil.getTextFromInputStream(typeContext));
-    Symbol definedSymbol = currentScope.resolve(name);
+    Symbol definedSymbol = resolve(name);
     // duplicated symbol in same scope
     if (definedSymbol != null && definedSymbol.getScope() == currentScope) {
-      error(typeContext.start, "Duplicated variable declare: " + name);
+      report(Diagnostic.Code.DUPLICATED_VARIABLE, typeContext.start, name);
     }
-    currentScope.define(variableSymbol);
+    define(variableSymbol);
   }
 
-  public void error(Token t, String msg) {
-    System.out.printf("line %d:%d %s\n", t.getLine(), t.getCharPositionInLine(), msg);
+  public void report(Diagnostic.Code code, Token t, String subject) {
+    diagnostics.report(code, t, subject);
   }
 }
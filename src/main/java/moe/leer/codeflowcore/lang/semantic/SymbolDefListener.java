@@ -5,11 +5,12 @@ import moe.leer.codeflowcore.lang.parser.CodeFlowBaseListener;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
 import moe.leer.codeflowcore.lang.semantic.scope.BlockScope;
 import moe.leer.codeflowcore.lang.semantic.scope.ClassScope;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
 import moe.leer.codeflowcore.lang.semantic.scope.FunctionSymbol;
 import moe.leer.codeflowcore.lang.semantic.scope.GlobalScope;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import moe.leer.codeflowcore.util.ParseUtil;
-import org.antlr.v4.runtime.tree.ParseTreeProperty;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Build scope and define symbols, warning duplicated declaration
@@ -23,16 +24,48 @@ public class SymbolDefListener extends CodeFlowBaseListener {
   private final ScopesManager scopesManager;
 
   public SymbolDefListener() {
-    scopesManager = new ScopesManager(new ParseTreeProperty<>());
+    this(new ScopeTable());
   }
 
   /**
-   * Set global scope
+   * @param scopes where the scope of a block, function or class is saved for later passes, null when none reads them
    */
+  public SymbolDefListener(@Nullable ScopeTable scopes) {
+    this(scopes, new Diagnostics(Diagnostics.DEFAULT_LIMIT));
+  }
+
+  /**
+   * @param diagnostics where duplicated declarations are reported
+   */
+  public SymbolDefListener(@Nullable ScopeTable scopes, Diagnostics diagnostics) {
+    scopesManager = new ScopesManager(scopes, diagnostics);
+  }
+
+  /**
+   * @return a listener not saving scopes, when no later pass reads them
+   */
+  public static SymbolDefListener withoutSavedScopes() {
+    return withoutSavedScopes(new Diagnostics(Diagnostics.DEFAULT_LIMIT));
+  }
+
+  public static SymbolDefListener withoutSavedScopes(Diagnostics diagnostics) {
+    return new SymbolDefListener(null, diagnostics);
+  }
+
+  public Diagnostics getDiagnostics() {
+    return scopesManager.getDiagnostics();
+  }
+
   @Override
   public void enterProgram(CodeFlowParser.ProgramContext ctx) {
-    scopesManager.globalScope = new GlobalScope();
-    scopesManager.currentScope = scopesManager.globalScope;
+    beginProgram();
+  }
+
+  /**
+   * Set global scope, also for a pass defining declaration by declaration without entering the program
+   */
+  public void beginProgram() {
+    scopesManager.enterGlobalScope();
   }
 
   @Override
@@ -60,17 +93,17 @@ public class SymbolDefListener extends CodeFlowBaseListener {
   public void enterFunctionDeclare(CodeFlowParser.FunctionDeclareContext ctx) {
     String type = ParseUtil.getFunctionType(ctx);
     //todo function overload
-    String functionFullName = ParseUtil.getFunctionFullName2(ctx);
-    FunctionSymbol function = new FunctionSymbol(functionFullName, type, scopesManager.currentScope);
+    FunctionKey key = ParseUtil.getFunctionKey(ctx, scopesManager.getFunctionKeys());
+    FunctionSymbol function = new FunctionSymbol(key, type, scopesManager.currentScope);
     // duplicated function
     FunctionSymbol fun;
-    if ((fun = (FunctionSymbol) scopesManager.resolveFunction(functionFullName)) != null) {
+    if ((fun = (FunctionSymbol) scopesManager.resolveFunction(key)) != null) {
       //method declare is not conflict with top level function
       if (!(scopesManager.currentScope instanceof ClassScope) || !(fun.getScope() instanceof GlobalScope)) {
-        scopesManager.error(ctx.start, "Overload method not support! Duplicated function declare: " + ctx.IDENTIFIER().getText());
+        scopesManager.report(Diagnostic.Code.DUPLICATED_FUNCTION, ctx.start, ctx.IDENTIFIER().getText());
       }
     }
-    scopesManager.currentScope.define(function); // save function symbol
+    scopesManager.define(function); // save function symbol
     scopesManager.enterAndSaveScope(ctx, function);
   }
 
@@ -3,15 +3,11 @@ package moe.leer.codeflowcore.lang.semantic;
 import lombok.Getter;
 import moe.leer.codeflowcore.lang.parser.CodeFlowBaseListener;
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
 import moe.leer.codeflowcore.lang.semantic.scope.GlobalScope;
-import moe.leer.codeflowcore.lang.semantic.scope.Scope;
 import moe.leer.codeflowcore.lang.semantic.scope.Symbol;
 import moe.leer.codeflowcore.util.ANTLRUtil;
 import moe.leer.codeflowcore.util.ParseUtil;
-import org.antlr.v4.runtime.tree.ParseTreeProperty;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * @author leer
@@ -21,17 +17,39 @@ public class SymbolResolveListener extends CodeFlowBaseListener {
 
   @Getter
   private ScopesManager scopesManager;
-  @Getter
-  private List<String> errorMessages = new ArrayList<>(4);
 
-  public SymbolResolveListener(ParseTreeProperty<Scope> scopes, GlobalScope globalScope) {
-    scopesManager = new ScopesManager(scopes, globalScope);
+  public SymbolResolveListener(ScopeTable scopes, GlobalScope globalScope) {
+    this(scopes, globalScope, new Diagnostics(Diagnostics.DEFAULT_LIMIT));
+  }
+
+  /**
+   * @param diagnostics where unresolved variables and functions are reported
+   */
+  public SymbolResolveListener(ScopeTable scopes, GlobalScope globalScope, Diagnostics diagnostics) {
+    scopesManager = new ScopesManager(scopes, globalScope, diagnostics);
+  }
+
+  public Diagnostics getDiagnostics() {
+    return scopesManager.getDiagnostics();
   }
 
   public void enterProgram(CodeFlowParser.ProgramContext ctx) {
     scopesManager.currentScope = scopesManager.globalScope;
   }
 
+  /**
+   * Enter every scope the definition pass saved, the scopes are obtained in the same order
+   */
+  @Override
+  public void enterClassDeclaration(CodeFlowParser.ClassDeclarationContext ctx) {
+    scopesManager.currentScope = scopesManager.obtainScope(ctx);
+  }
+
+  @Override
+  public void exitClassDeclaration(CodeFlowParser.ClassDeclarationContext ctx) {
+    scopesManager.leaveScope();
+  }
+
   @Override
   public void enterFunctionDeclare(CodeFlowParser.FunctionDeclareContext ctx) {
     scopesManager.currentScope = scopesManager.obtainScope(ctx);
@@ -63,12 +81,24 @@ public class SymbolResolveListener extends CodeFlowBaseListener {
    */
   @Override
   public void exitVariableAssign(CodeFlowParser.VariableAssignContext ctx) {
-    String name = ANTLRUtil.getTextFromInputStream(ctx.variableId);
+    resolveAssigned(ctx.variableId);
+  }
+
+  /**
+   * Resolve the variable of an <code>a = b</code> statement
+   */
+  @Override
+  public void exitStatement(CodeFlowParser.StatementContext ctx) {
+    if (ctx.expressionStmt != null && ParseUtil.isAssignment(ctx.expressionStmt)) {
+      resolveAssigned(ctx.expressionStmt.expression(0));
+    }
+  }
+
+  private void resolveAssigned(CodeFlowParser.ExpressionContext variableId) {
+    String name = ANTLRUtil.getTextFromInputStream(variableId);
     Symbol var = scopesManager.resolve(name);
     if (var == null) {
-      String error = "no such variable: " + name;
-      errorMessages.add(error);
-      scopesManager.error(ctx.variableId.getStart(), error);
+      scopesManager.report(Diagnostic.Code.UNRESOLVED_VARIABLE, variableId.getStart(), name);
     }
   }
 
@@ -81,12 +111,11 @@ public class SymbolResolveListener extends CodeFlowBaseListener {
 //    String functionName = ANTLRUtil.getTextFromInputStream(ctx.functionCallName());
     // only last function call
     if (ctx.functionCall().size() == 0) {
-      String functionName = ParseUtil.getFunctionFullName2(ctx);
-      Symbol func = scopesManager.resolveFunction(functionName);
+      FunctionKey key = ParseUtil.getFunctionKey(ctx, scopesManager.getFunctionKeys());
+      Symbol func = scopesManager.resolveFunction(key);
       if (func == null) {
-        String error = "no such function: " + functionName;
-        errorMessages.add(error);
-        scopesManager.error(ctx.functionCallName().getStart(), error);
+        String name = key.toString();
+        scopesManager.report(Diagnostic.Code.UNRESOLVED_FUNCTION, ctx.functionCallName().getStart(), name);
       }
     }
   }
@@ -100,9 +129,7 @@ public class SymbolResolveListener extends CodeFlowBaseListener {
     String name = ctx.IDENTIFIER(0).getText();
     Symbol var = scopesManager.resolve(name);
     if (var == null) {
-      String error = "no such variable: " + name;
-      errorMessages.add(error);
-      scopesManager.error(ctx.getStart(), error);
+      scopesManager.report(Diagnostic.Code.UNRESOLVED_VARIABLE, ctx.getStart(), name);
     }
   }
 
@@ -1,11 +1,14 @@
 package moe.leer.codeflowcore.lang.semantic.scope;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
+ * Symbols and children are stored once there are any, most block scopes declare nothing
+ *
  * @author leer
  * Created at 12/16/19 9:13 AM
  */
@@ -13,13 +16,13 @@ public abstract class BaseScope implements Scope {
   //  String name;
   Scope parentScope;
 
-  public final List<Scope> childrenScopes = new ArrayList<>();
+  private List<Scope> childrenScopes;
 
   // symbol name -> symbol
-  public final Map<String, VariableSymbol> symbols = new LinkedHashMap<>(8);
+  private Map<String, VariableSymbol> symbols;
 
-  // function name(contains args infos) -> function
-  public final Map<String, FunctionSymbol> functionSymbols = new LinkedHashMap<>(8);
+  // function name and args size -> function
+  private Map<FunctionKey, FunctionSymbol> functionSymbols;
 
   public BaseScope(Scope parentScope) {
     this.parentScope = parentScope;
@@ -33,49 +36,68 @@ public abstract class BaseScope implements Scope {
   @Override
   public void define(Symbol symbol) {
     if (symbol instanceof VariableSymbol) {
+      if (symbols == null) {
+        symbols = new LinkedHashMap<>(4);
+      }
       symbols.put(symbol.name, (VariableSymbol) symbol);
     } else if (symbol instanceof FunctionSymbol) {
-      functionSymbols.put(symbol.name, (FunctionSymbol) symbol);
+      if (functionSymbols == null) {
+        functionSymbols = new LinkedHashMap<>(4);
+      }
+      functionSymbols.put(((FunctionSymbol) symbol).getKey(), (FunctionSymbol) symbol);
     }
     symbol.scope = this; // symbol knows its scope
   }
 
   @Override
   public Symbol resolve(String name) {
-    Symbol s = symbols.get(name);
+    Symbol s = symbols != null ? symbols.get(name) : null;
     if (s != null) return s;
     if (parentScope != null) return parentScope.resolve(name);
     return null;
   }
 
   @Override
-  public Symbol resolveFunction(String name) {
-    Symbol s = functionSymbols.get(name);
+  public Symbol resolveFunction(FunctionKey key) {
+    Symbol s = functionSymbols != null ? functionSymbols.get(key) : null;
     if (s != null) return s;
-    if (parentScope != null) return parentScope.resolveFunction(name);
+    if (parentScope != null) return parentScope.resolveFunction(key);
     return null;
   }
 
   @Override
   public List<Scope> getChildrenScope() {
-    return childrenScopes;
+    return childrenScopes != null ? childrenScopes : Collections.emptyList();
+  }
+
+  @Override
+  public void addChildScope(Scope scope) {
+    if (childrenScopes == null) {
+      childrenScopes = new ArrayList<>(2);
+    }
+    childrenScopes.add(scope);
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
     sb.append(getScopeName()).append("{");
-    for (String s : symbols.keySet()) {
-      sb.append(s).append(", ");
+    if (symbols != null) {
+      for (String s : symbols.keySet()) {
+        sb.append(s).append(", ");
+      }
     }
-    for (String s : functionSymbols.keySet()) {
-      sb.append("function:").append(s).append(", ");
+    if (functionSymbols != null) {
+      for (FunctionKey s : functionSymbols.keySet()) {
+        sb.append("function:").append(s).append(", ");
+      }
     }
-    for (int i = 0; i < childrenScopes.size(); i++) {
+    List<Scope> children = getChildrenScope();
+    for (int i = 0; i < children.size(); i++) {
       if (i != 0) {
         sb.append(", ");
       }
-      sb.append(childrenScopes.get(i));
+      sb.append(children.get(i));
     }
     sb.append("}");
     return sb.toString();
@@ -0,0 +1,50 @@
+package moe.leer.codeflowcore.lang.semantic.scope;
+
+import lombok.Getter;
+
+/**
+ * Signature a function is declared, resolved and linked by, its name and argument count,
+ * as overloads may only differ in argument count.
+ * <p>
+ * Get keys from {@link FunctionKeys}, which gives every signature one instance. Keys of different tables are equal by value.
+ *
+ * @author leer
+ */
+public final class FunctionKey {
+  @Getter
+  private final String name;
+  @Getter
+  private final int arity;
+  private final int hash;
+  private String text;
+
+  FunctionKey(String name, int arity) {
+    this.name = name;
+    this.arity = arity;
+    this.hash = name.hashCode() * 31 + arity;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof FunctionKey)) return false;
+    FunctionKey key = (FunctionKey) o;
+    return arity == key.arity && hash == key.hash && name.equals(key.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * @return "name:arity", like "fact:1"
+   */
+  @Override
+  public String toString() {
+    if (text == null) {
+      text = name + ":" + arity;
+    }
+    return text;
+  }
+}
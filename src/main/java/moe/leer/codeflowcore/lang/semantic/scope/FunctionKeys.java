@@ -0,0 +1,151 @@
+package moe.leer.codeflowcore.lang.semantic.scope;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Arrays;
+
+/**
+ * Interns the {@link FunctionKey}s of one program, so every declaration and call of a function shares one key and one name.
+ * <p>
+ * A name token is looked up by the chars of its span, its text is only copied into a <code>String</code>
+ * the first time the name is seen.
+ * Not thread-safe, a pass uses its own.
+ *
+ * @author leer
+ */
+public class FunctionKeys {
+
+  /**
+   * key of calls that can't name a declared function, like the chained <code>a().b(x)</code>, it equals no other key
+   */
+  public static final FunctionKey UNRESOLVABLE = new FunctionKey("", -1);
+
+  // open addressing, names[i] -> keys by arity byArity[i]
+  private String[] names = new String[64];
+  private FunctionKey[][] byArity = new FunctionKey[64][];
+  private int size;
+
+  public FunctionKey get(String name, int arity) {
+    int slot = slot(name.hashCode());
+    while (names[slot] != null && !names[slot].equals(name)) {
+      slot = (slot + 1) & (names.length - 1);
+    }
+    if (names[slot] == null) {
+      slot = add(slot, name);
+    }
+    return get(slot, arity);
+  }
+
+  /**
+   * @return key of the name <code>token</code> spans in its input
+   */
+  public FunctionKey get(Token token, int arity) {
+    final CharStream input = token.getInputStream();
+    if (input == null) {
+      return get(token.getText(), arity);
+    }
+    final int start = token.getStartIndex();
+    final int stop = token.getStopIndex();
+    // the input is only read here, its position is the lexer's
+    final int index = input.index();
+    try {
+      int slot = slot(hash(input, start, stop));
+      while (names[slot] != null && !matches(input, start, stop, names[slot])) {
+        slot = (slot + 1) & (names.length - 1);
+      }
+      if (names[slot] == null) {
+        slot = add(slot, token.getText());
+      }
+      return get(slot, arity);
+    } finally {
+      input.seek(index);
+    }
+  }
+
+  private FunctionKey get(int slot, int arity) {
+    FunctionKey[] keys = byArity[slot];
+    if (arity >= keys.length) {
+      keys = Arrays.copyOf(keys, arity + 1);
+      byArity[slot] = keys;
+    }
+    FunctionKey key = keys[arity];
+    if (key == null) {
+      key = new FunctionKey(names[slot], arity);
+      keys[arity] = key;
+    }
+    return key;
+  }
+
+  private int add(int slot, String name) {
+    if ((size + 1) * 2 > names.length) {
+      rehash();
+      slot = slot(name.hashCode());
+      while (names[slot] != null) {
+        slot = (slot + 1) & (names.length - 1);
+      }
+    }
+    names[slot] = name;
+    byArity[slot] = new FunctionKey[4];
+    size++;
+    return slot;
+  }
+
+  private void rehash() {
+    final String[] oldNames = names;
+    final FunctionKey[][] oldByArity = byArity;
+    names = new String[oldNames.length * 2];
+    byArity = new FunctionKey[oldNames.length * 2][];
+    for (int i = 0; i < oldNames.length; i++) {
+      if (oldNames[i] != null) {
+        int slot = slot(oldNames[i].hashCode());
+        while (names[slot] != null) {
+          slot = (slot + 1) & (names.length - 1);
+        }
+        names[slot] = oldNames[i];
+        byArity[slot] = oldByArity[i];
+      }
+    }
+  }
+
+  private int slot(int hash) {
+    return (hash ^ (hash >>> 16)) & (names.length - 1);
+  }
+
+  /**
+   * Same as {@link String#hashCode()} of the span's text
+   */
+  private static int hash(CharStream input, int start, int stop) {
+    int hash = 0;
+    input.seek(start);
+    for (int i = start; i <= stop; i++) {
+      final int c = input.LA(1);
+      input.consume();
+      if (Character.isBmpCodePoint(c)) {
+        hash = 31 * hash + c;
+      } else {
+        hash = 31 * (31 * hash + Character.highSurrogate(c)) + Character.lowSurrogate(c);
+      }
+    }
+    return hash;
+  }
+
+  private static boolean matches(CharStream input, int start, int stop, String name) {
+    input.seek(start);
+    int at = 0;
+    for (int i = start; i <= stop; i++) {
+      final int c = input.LA(1);
+      input.consume();
+      if (Character.isBmpCodePoint(c)) {
+        if (at >= name.length() || name.charAt(at++) != c) {
+          return false;
+        }
+      } else {
+        if (at + 1 >= name.length() || name.charAt(at++) != Character.highSurrogate(c) || name.charAt(at++) != Character.lowSurrogate(c)) {
+          return false;
+        }
+      }
+    }
+    return at == name.length();
+  }
+}
@@ -1,6 +1,10 @@
 package moe.leer.codeflowcore.lang.semantic.scope;
 
+import lombok.Getter;
+
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,13 +18,17 @@ import java.util.Map;
  */
 public class FunctionSymbol extends Symbol implements Scope {
 
+  @Getter
+  private final FunctionKey key;
   Scope parentScope;
-  Map<String, Symbol> args = new LinkedHashMap<>();
+  // params, stored once there are any, like the children
+  private Map<String, Symbol> args;
 
-  public final List<Scope> childrenScopes = new ArrayList<>();
+  private List<Scope> childrenScopes;
 
-  public FunctionSymbol(String name, String type, Scope parentScope) {
-    super(name, name, type);
+  public FunctionSymbol(FunctionKey key, String type, Scope parentScope) {
+    super(key.toString(), key.toString(), type);
+    this.key = key;
     this.parentScope = parentScope;
   }
 
@@ -36,6 +44,9 @@ public class FunctionSymbol extends Symbol implements Scope {
 
   @Override
   public void define(Symbol symbol) {
+    if (args == null) {
+      args = new LinkedHashMap<>(4);
+    }
     args.put(symbol.name, symbol);
     symbol.scope = this;
   }
@@ -45,7 +56,7 @@ public class FunctionSymbol extends Symbol implements Scope {
    */
   @Override
   public Symbol resolve(String name) {
-    Symbol s = args.get(name);
+    Symbol s = args != null ? args.get(name) : null;
     if (s != null) return s;
     if (parentScope != null) return parentScope.resolve(name);
     return null;
@@ -58,24 +69,34 @@ public class FunctionSymbol extends Symbol implements Scope {
    * }
    */
   @Override
-  public Symbol resolveFunction(String name) {
-    return parentScope.resolveFunction(name);
+  public Symbol resolveFunction(FunctionKey key) {
+    return parentScope.resolveFunction(key);
   }
 
   @Override
   public List<Scope> getChildrenScope() {
-    return childrenScopes;
+    return childrenScopes != null ? childrenScopes : Collections.emptyList();
+  }
+
+  @Override
+  public void addChildScope(Scope scope) {
+    if (childrenScopes == null) {
+      childrenScopes = new ArrayList<>(1);
+    }
+    childrenScopes.add(scope);
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
-    sb.append("{function ").append(name).append(args.values());
-    for (int i = 0; i < childrenScopes.size(); i++) {
+    Collection<Symbol> params = args != null ? args.values() : Collections.emptyList();
+    sb.append("{function ").append(name).append(params);
+    List<Scope> children = getChildrenScope();
+    for (int i = 0; i < children.size(); i++) {
       if (i != 0) {
         sb.append(", ");
       }
-      sb.append(childrenScopes.get(i));
+      sb.append(children.get(i));
     }
     sb.append("}");
     return sb.toString();
@@ -16,6 +16,8 @@ public interface Scope {
 
   List<Scope> getChildrenScope();
 
+  void addChildScope(Scope scope);
+
   /**
    * Define a symbol in this scope
    */
@@ -28,6 +30,6 @@ public interface Scope {
    */
   Symbol resolve(String name);
 
-  Symbol resolveFunction(String name);
+  Symbol resolveFunction(FunctionKey key);
 
 }
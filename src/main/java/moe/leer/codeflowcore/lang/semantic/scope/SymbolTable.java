@@ -0,0 +1,110 @@
+package moe.leer.codeflowcore.lang.semantic.scope;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Symbols visible from the current scope, for a pass entering and leaving scopes in tree order.
+ * <p>
+ * Scopes are not searched one after another, every name maps to its innermost visible symbol,
+ * which shadows the outer ones until its scope is left. So resolving is one hash lookup however deep blocks are nested,
+ * and entering a scope that declares nothing allocates nothing. Names are interned, symbols of the same name share it.
+ *
+ * @author leer
+ */
+public class SymbolTable {
+
+  private static class Binding {
+    final Symbol symbol;
+    final boolean function;
+    // the symbol of the same name this one shadows, visible again when this one's scope is left
+    final Binding shadowed;
+
+    Binding(Symbol symbol, boolean function, Binding shadowed) {
+      this.symbol = symbol;
+      this.function = function;
+      this.shadowed = shadowed;
+    }
+  }
+
+  private final Map<String, String> names = new HashMap<>(64);
+  private final Map<String, Binding> variables = new HashMap<>(64);
+  private final Map<FunctionKey, Binding> functions = new HashMap<>(16);
+  // every binding in definition order, the ones of the entered scopes are at the end
+  private final List<Binding> defined = new ArrayList<>(64);
+  // where each entered scope's bindings start in defined
+  private int[] scopeStarts = new int[16];
+  private int depth;
+
+  /**
+   * @return the first string equal to <code>name</code> this table has seen
+   */
+  public String intern(String name) {
+    String interned = names.putIfAbsent(name, name);
+    return interned != null ? interned : name;
+  }
+
+  public void enterScope() {
+    if (depth == scopeStarts.length) {
+      scopeStarts = Arrays.copyOf(scopeStarts, depth * 2);
+    }
+    scopeStarts[depth++] = defined.size();
+  }
+
+  /**
+   * Symbols defined since the matching {@link #enterScope()} are no longer visible
+   */
+  public void leaveScope() {
+    int start = scopeStarts[--depth];
+    for (int i = defined.size() - 1; i >= start; i--) {
+      Binding binding = defined.remove(i);
+      if (binding.function) {
+        FunctionKey key = ((FunctionSymbol) binding.symbol).getKey();
+        if (binding.shadowed == null) {
+          functions.remove(key);
+        } else {
+          functions.put(key, binding.shadowed);
+        }
+      } else if (binding.shadowed == null) {
+        variables.remove(binding.symbol.name);
+      } else {
+        variables.put(binding.symbol.name, binding.shadowed);
+      }
+    }
+  }
+
+  /**
+   * Make <code>symbol</code> visible until the current scope is left, it shadows symbols of the same name
+   */
+  public void define(Symbol symbol) {
+    Binding binding;
+    if (symbol instanceof FunctionSymbol) {
+      FunctionKey key = ((FunctionSymbol) symbol).getKey();
+      binding = new Binding(symbol, true, functions.get(key));
+      functions.put(key, binding);
+    } else {
+      binding = new Binding(symbol, false, variables.get(symbol.name));
+      variables.put(symbol.name, binding);
+    }
+    defined.add(binding);
+  }
+
+  /**
+   * @return the innermost visible variable or param, null if not found
+   */
+  public Symbol resolve(String name) {
+    Binding binding = variables.get(name);
+    return binding != null ? binding.symbol : null;
+  }
+
+  /**
+   * @return the innermost visible function, null if not found
+   */
+  public Symbol resolveFunction(FunctionKey key) {
+    Binding binding = functions.get(key);
+    return binding != null ? binding.symbol : null;
+  }
+}
@@ -0,0 +1,478 @@
+package moe.leer.codeflowcore.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import guru.nidi.graphviz.engine.Format;
+import lombok.Getter;
+import moe.leer.codeflowcore.AsyncCodeFlow;
+import moe.leer.codeflowcore.CodeFlow;
+import moe.leer.codeflowcore.CodeFlowExecutors;
+import moe.leer.codeflowcore.NativeRenderMetrics;
+import moe.leer.codeflowcore.NativeRenderer;
+import moe.leer.codeflowcore.RenderKey;
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import moe.leer.codeflowcore.lang.DfaCache;
+import moe.leer.codeflowcore.lang.DfaCacheMetrics;
+import moe.leer.codeflowcore.util.ThreadPools;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local HTTP render service on top of the JDK built-in <code>com.sun.net.httpserver</code>.
+ * <p>
+ * Endpoints:
+ * <ul>
+ * <li><code>POST /render?format=png|svg|dot</code>, body is the UTF-8 source, responds with the flowchart.
+ * The <code>ETag</code> is the digest of the source and render options,
+ * an <code>If-None-Match</code> listing that exact tag gets <code>304</code> without rendering anything.
+ * A syntax error responds <code>422</code>, a render not finished in time <code>504</code>.
+ * At most <code>requestThreads</code> renders are handled at once, a request waiting longer than the timeout
+ * for its turn gets <code>503</code>.</li>
+ * <li><code>GET /health</code></li>
+ * <li><code>GET /metrics</code>, request counters and {@link NativeRenderMetrics} in JSON</li>
+ * </ul>
+ * Connections are kept alive, every response has a known length.
+ * Only a response sent without reading the whole request body closes its connection.
+ *
+ * @author leer
+ */
+public class CodeFlowServer implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(CodeFlowServer.class);
+
+  private static final Format[] FORMATS = {Format.PNG, Format.SVG, Format.DOT};
+
+  private final HttpServer server;
+  /**
+   * request executor, only shut down by {@link #stop()} when the server created it
+   */
+  private final ExecutorService ownedRequestExecutor;
+  private final Map<Format, AsyncCodeFlow> engines = new EnumMap<>(Format.class);
+  /**
+   * warmed up by {@link #start()}, null when warm-up is off
+   */
+  private final CodeFlow warmUpEngine;
+  @Getter
+  private final Duration timeout;
+  private final int maxSourceBytes;
+  /**
+   * bounds the renders handled at once, whichever executor runs the exchanges
+   */
+  private final Semaphore renderPermits;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder clientErrors = new LongAdder();
+  private final LongAdder serverErrors = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private CodeFlowServer(CodeFlowServerBuilder builder) throws IOException {
+    for (Format format : FORMATS) {
+      engines.put(format, builder.codeFlow.toBuilder().format(format).build().async(builder.executors));
+    }
+    this.warmUpEngine = builder.warmUp ? builder.codeFlow : null;
+    this.timeout = builder.timeout;
+    this.maxSourceBytes = builder.maxSourceBytes;
+    this.renderPermits = new Semaphore(builder.requestThreads);
+
+    server = HttpServer.create(new InetSocketAddress(builder.host, builder.port), builder.backlog);
+    server.createContext("/render", this::handleRender);
+    server.createContext("/health", this::handleHealth);
+    server.createContext("/metrics", this::handleMetrics);
+    if (builder.requestExecutor != null) {
+      ownedRequestExecutor = null;
+      server.setExecutor(builder.requestExecutor);
+    } else {
+      ownedRequestExecutor = ThreadPools.newExecutor("codeflow-http", builder.requestThreads);
+      server.setExecutor(ownedRequestExecutor);
+    }
+  }
+
+  public static CodeFlowServerBuilder builder() {
+    return new CodeFlowServerBuilder();
+  }
+
+  /**
+   * Warm up the parser, unless disabled, then start accepting requests.
+   */
+  public CodeFlowServer start() {
+    if (warmUpEngine != null) {
+      try {
+        // the parser's prediction cache is shared, warming one engine warms all formats
+        warmUpEngine.warmUp();
+      } catch (IOException e) {
+        logger.warn("Warm-up failed, the first requests will be slower", e);
+      }
+    }
+    server.start();
+    logger.info("CodeFlow server listening on {}", getAddress());
+    return this;
+  }
+
+  /**
+   * Stop accepting requests, wait at most one second for the running exchanges.
+   */
+  public void stop() {
+    server.stop(1);
+    if (ownedRequestExecutor != null) {
+      ownedRequestExecutor.shutdown();
+    }
+  }
+
+  @Override
+  public void close() {
+    stop();
+  }
+
+  /**
+   * @return bound address, the real port when the server was built with port 0
+   */
+  public InetSocketAddress getAddress() {
+    return server.getAddress();
+  }
+
+  private void handleRender(HttpExchange exchange) throws IOException {
+    requests.increment();
+    inFlight.incrementAndGet();
+    try {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        drain(exchange);
+        exchange.getResponseHeaders().set("Allow", "POST");
+        sendText(exchange, 405, "Use POST with the source as body");
+        return;
+      }
+      final Format format = parseFormat(queryParams(exchange).get("format"));
+      if (format == null) {
+        drain(exchange);
+        sendText(exchange, 400, "format must be one of png, svg, dot");
+        return;
+      }
+      try {
+        if (!renderPermits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+          closeAfterResponse(exchange);
+          sendText(exchange, 503, "Server is busy, no render slot within " + timeout.toMillis() + "ms");
+          return;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        closeAfterResponse(exchange);
+        sendText(exchange, 503, "Server is stopping");
+        return;
+      }
+      try {
+        render(exchange, format);
+      } finally {
+        renderPermits.release();
+      }
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private void render(HttpExchange exchange, Format format) throws IOException {
+    final String code = readSource(exchange);
+    if (code == null) {
+      // the rest of the body is left unread, the connection can't carry another request
+      closeAfterResponse(exchange);
+      sendText(exchange, 413, "Source is larger than " + maxSourceBytes + " bytes");
+      return;
+    }
+
+    final AsyncCodeFlow engine = engines.get(format);
+    final String etag = "\"" + RenderKey.of(engine.getCodeFlow(), code).digest() + "\"";
+    if (etagMatches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+      notModified.increment();
+      exchange.getResponseHeaders().set("ETag", etag);
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+
+    final CompletableFuture<byte[]> body = format == Format.DOT ?
+        engine.flowchart(code).thenApply(result -> result.toDot().getBytes(StandardCharsets.UTF_8)) :
+        engine.render(code).thenApply(rendered -> rendered.getBytes());
+    final byte[] bytes;
+    try {
+      bytes = body.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      timeouts.increment();
+      sendText(exchange, 504, "Render did not finish in " + timeout.toMillis() + "ms");
+      return;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SyntaxErrorException) {
+        sendText(exchange, 422, cause.getMessage());
+      } else {
+        logger.error("Failed to render", cause);
+        sendText(exchange, 500, String.valueOf(cause));
+      }
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      sendText(exchange, 503, "Server is stopping");
+      return;
+    }
+    exchange.getResponseHeaders().set("ETag", etag);
+    send(exchange, 200, contentType(format), bytes);
+  }
+
+  private void handleHealth(HttpExchange exchange) throws IOException {
+    drain(exchange);
+    send(exchange, 200, "application/json", "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void handleMetrics(HttpExchange exchange) throws IOException {
+    drain(exchange);
+    long coalesced = 0;
+    for (AsyncCodeFlow engine : engines.values()) {
+      coalesced += engine.coalescedCount();
+    }
+    NativeRenderMetrics nativeMetrics = NativeRenderer.getInstance().metrics();
+    DfaCacheMetrics dfaMetrics = DfaCache.getInstance().metrics();
+    String json = "{" +
+        "\"requests\":" + requests.sum() +
+        ",\"inFlight\":" + inFlight.get() +
+        ",\"notModified\":" + notModified.sum() +
+        ",\"clientErrors\":" + clientErrors.sum() +
+        ",\"serverErrors\":" + serverErrors.sum() +
+        ",\"timeouts\":" + timeouts.sum() +
+        ",\"coalesced\":" + coalesced +
+        ",\"native\":{" +
+        "\"queueDepth\":" + nativeMetrics.getQueueDepth() +
+        ",\"queueCapacity\":" + nativeMetrics.getQueueCapacity() +
+        ",\"completed\":" + nativeMetrics.getCompleted() +
+        ",\"failed\":" + nativeMetrics.getFailed() +
+        ",\"averageWaitMillis\":" + nativeMetrics.getAverageWait().toMillis() +
+        ",\"maxWaitMillis\":" + nativeMetrics.getMaxWait().toMillis() +
+        ",\"averageRenderMillis\":" + nativeMetrics.getAverageRenderTime().toMillis() +
+        "},\"dfa\":{" +
+        "\"generation\":" + dfaMetrics.getGeneration() +
+        ",\"lexerStates\":" + dfaMetrics.getLexerStates() +
+        ",\"parserStates\":" + dfaMetrics.getParserStates() +
+        ",\"parserContexts\":" + dfaMetrics.getParserContexts() +
+        ",\"generationAgeSeconds\":" + dfaMetrics.getGenerationAge().getSeconds() +
+        "}}";
+    send(exchange, 200, "application/json", json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return null when the body exceeds <code>maxSourceBytes</code>
+   */
+  private String readSource(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        if (out.size() + n > maxSourceBytes) {
+          return null;
+        }
+        out.write(buffer, 0, n);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+    if (status >= 500) {
+      serverErrors.increment();
+    } else if (status >= 400) {
+      clientErrors.increment();
+    }
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private void sendText(HttpExchange exchange, int status, String text) throws IOException {
+    send(exchange, status, "text/plain; charset=utf-8", text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void closeAfterResponse(HttpExchange exchange) {
+    exchange.getResponseHeaders().set("Connection", "close");
+  }
+
+  private static void drain(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      byte[] buffer = new byte[1024];
+      while (in.read(buffer) != -1) {
+        // discard, keeps the connection reusable
+      }
+    }
+  }
+
+  private static boolean etagMatches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      // "*" only means "any current representation", a render has none before it ran
+      if (tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Format parseFormat(String name) {
+    if (name == null) {
+      return Format.PNG;
+    }
+    for (Format format : FORMATS) {
+      if (format.name().equalsIgnoreCase(name)) {
+        return format;
+      }
+    }
+    return null;
+  }
+
+  private static String contentType(Format format) {
+    switch (format) {
+      case PNG:
+        return "image/png";
+      case SVG:
+        return "image/svg+xml";
+      default:
+        return "text/vnd.graphviz; charset=utf-8";
+    }
+  }
+
+  private static Map<String, String> queryParams(HttpExchange exchange) throws UnsupportedEncodingException {
+    Map<String, String> params = new HashMap<>();
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query == null) {
+      return params;
+    }
+    for (String pair : query.split("&")) {
+      int eq = pair.indexOf('=');
+      if (eq > 0) {
+        params.put(URLDecoder.decode(pair.substring(0, eq), "UTF-8"), URLDecoder.decode(pair.substring(eq + 1), "UTF-8"));
+      }
+    }
+    return params;
+  }
+
+  public static class CodeFlowServerBuilder {
+    private String host = "127.0.0.1";
+    private int port = 8080;
+    private int backlog;
+    private CodeFlow codeFlow = CodeFlow.builder().failFast(true).build();
+    private CodeFlowExecutors executors = CodeFlowExecutors.DEFAULT;
+    private Executor requestExecutor;
+    private int requestThreads = Runtime.getRuntime().availableProcessors() * 2;
+    private Duration timeout = Duration.ofSeconds(30);
+    private int maxSourceBytes = 1 << 20;
+    private boolean warmUp = true;
+
+    CodeFlowServerBuilder() {
+    }
+
+    public CodeFlowServerBuilder host(@NotNull String host) {
+      this.host = host;
+      return this;
+    }
+
+    /**
+     * @param port 0 to bind any free port
+     */
+    public CodeFlowServerBuilder port(int port) {
+      this.port = port;
+      return this;
+    }
+
+    public CodeFlowServerBuilder backlog(int backlog) {
+      this.backlog = backlog;
+      return this;
+    }
+
+    /**
+     * engine of every render, its format is replaced by the requested one
+     */
+    public CodeFlowServerBuilder codeFlow(@NotNull CodeFlow codeFlow) {
+      this.codeFlow = codeFlow;
+      return this;
+    }
+
+    /**
+     * executors of the render stages
+     */
+    public CodeFlowServerBuilder executors(@NotNull CodeFlowExecutors executors) {
+      this.executors = executors;
+      return this;
+    }
+
+    /**
+     * executor handling HTTP exchanges, it is not shut down with the server.
+     * By default the server owns one, see <code>requestThreads</code>
+     */
+    public CodeFlowServerBuilder requestExecutor(Executor requestExecutor) {
+      this.requestExecutor = requestExecutor;
+      return this;
+    }
+
+    /**
+     * renders handled at once, also the bound of the default request executor's threads, virtual ones on Java 21+
+     */
+    public CodeFlowServerBuilder requestThreads(int requestThreads) {
+      this.requestThreads = requestThreads;
+      return this;
+    }
+
+    public CodeFlowServerBuilder timeout(@NotNull Duration timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    public CodeFlowServerBuilder maxSourceBytes(int maxSourceBytes) {
+      this.maxSourceBytes = maxSourceBytes;
+      return this;
+    }
+
+    /**
+     * default true, parse the built-in warm-up corpus in {@link CodeFlowServer#start()}
+     *
+     * @see CodeFlow#warmUp()
+     */
+    public CodeFlowServerBuilder warmUp(boolean warmUp) {
+      this.warmUp = warmUp;
+      return this;
+    }
+
+    /**
+     * @return a server not started yet
+     */
+    public CodeFlowServer build() throws IOException {
+      return new CodeFlowServer(this);
+    }
+  }
+}
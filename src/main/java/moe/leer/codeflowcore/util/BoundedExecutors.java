@@ -0,0 +1,49 @@
+package moe.leer.codeflowcore.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools with a bounded queue that push back on submitters instead of rejecting.
+ *
+ * @author leer
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoundedExecutors {
+
+  /**
+   * @param onBlocked called every time a submitter finds the queue full, before it starts waiting
+   * @return a pool of <code>threads</code> daemon threads named <code>namePrefix</code>-N,
+   * <code>execute</code> blocks while <code>queueCapacity</code> tasks are waiting
+   */
+  public static ThreadPoolExecutor newBlockingExecutor(@NotNull String namePrefix, int threads, int queueCapacity,
+                                                       @NotNull Runnable onBlocked) {
+    final AtomicInteger count = new AtomicInteger();
+    return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, threads == 1 ? namePrefix : namePrefix + "-" + count.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        },
+        (runnable, pool) -> {
+          if (pool.isShutdown()) {
+            throw new RejectedExecutionException(namePrefix + " is shut down");
+          }
+          onBlocked.run();
+          try {
+            pool.getQueue().put(runnable);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for room in " + namePrefix, e);
+          }
+        });
+  }
+}
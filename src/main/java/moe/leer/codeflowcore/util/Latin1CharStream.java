@@ -0,0 +1,109 @@
+package moe.leer.codeflowcore.util;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Char stream over a {@link ByteBuffer} of Latin-1 chars, one byte per char.
+ * <p>
+ * Wraps the bytes it is given without copying or decoding them, a memory-mapped file is read straight from the mapping.
+ * {@link #getText(Interval)} copies the chars into a <code>String</code> once, which is a Latin-1 compact string on Java 9+ as well.
+ * Only for sources without chars above U+00FF, see {@link SourceStreams} for the fallback.
+ *
+ * @author leer
+ */
+final class Latin1CharStream implements CharStream {
+
+  private final ByteBuffer data;
+  private final int size;
+  private final String name;
+  private int position;
+
+  /**
+   * @param data the chars are its remaining bytes, read with absolute gets only, so its position doesn't matter afterwards
+   */
+  Latin1CharStream(ByteBuffer data, String name) {
+    this.data = data.slice();
+    this.size = this.data.limit();
+    this.name = name;
+  }
+
+  @Override
+  public void consume() {
+    if (position >= size) {
+      throw new IllegalStateException("cannot consume EOF");
+    }
+    position++;
+  }
+
+  @Override
+  public int LA(int i) {
+    if (i > 0) {
+      final int index = position + i - 1;
+      return index < size ? data.get(index) & 0xFF : IntStream.EOF;
+    }
+    if (i < 0) {
+      final int index = position + i;
+      return index >= 0 ? data.get(index) & 0xFF : IntStream.EOF;
+    }
+    // undefined
+    return 0;
+  }
+
+  @Override
+  public int mark() {
+    // the whole input is in memory, nothing to keep
+    return -1;
+  }
+
+  @Override
+  public void release(int marker) {
+  }
+
+  @Override
+  public int index() {
+    return position;
+  }
+
+  @Override
+  public void seek(int index) {
+    position = index;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String getSourceName() {
+    return name == null || name.isEmpty() ? UNKNOWN_SOURCE_NAME : name;
+  }
+
+  @Override
+  public String getText(Interval interval) {
+    final int start = Math.min(interval.a, size);
+    final int stop = Math.min(interval.b, size - 1);
+    if (stop < start) {
+      return "";
+    }
+    final int length = stop - start + 1;
+    if (data.hasArray()) {
+      return new String(data.array(), data.arrayOffset() + start, length, StandardCharsets.ISO_8859_1);
+    }
+    final byte[] chars = new byte[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = data.get(start + i);
+    }
+    return new String(chars, StandardCharsets.ISO_8859_1);
+  }
+
+  @Override
+  public String toString() {
+    return getText(Interval.of(0, size - 1));
+  }
+}
@@ -18,13 +18,14 @@ public class NativeUtil {
   public static void loadLibraryFromResource(String library) {
     try {
       System.load(saveLibrary(library));
-    } catch (IOException e) {
-      LOG.warn("Could not find library " + library +
-          " as resource, trying fallback lookup through System.loadLibrary");
+    } catch (IOException | UnsatisfiedLinkError e) {
+      LOG.warn("Could not load library " + library +
+          " from resource, trying fallback lookup through System.loadLibrary");
       try {
         System.loadLibrary(library);
       } catch (UnsatisfiedLinkError error) {
-        e.printStackTrace();
+        // native rendering is unavailable, graphviz-java engines still work
+        LOG.warn("Could not load library " + library + ": " + error.getMessage());
       }
     }
   }
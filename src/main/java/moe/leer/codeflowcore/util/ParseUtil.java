@@ -1,6 +1,8 @@
 package moe.leer.codeflowcore.util;
 
 import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKey;
+import moe.leer.codeflowcore.lang.semantic.scope.FunctionKeys;
 
 /**
  * @author leer
@@ -53,7 +55,7 @@ public class ParseUtil {
   public static int getFunctionArgsSize(CodeFlowParser.FunctionCallContext context) {
     if (context.functionCall().size() != 0) {
       CodeFlowParser.ArgumentsContext lastCallArgs = context.functionCall().get(context.functionCall().size() - 1).arguments();
-      return lastCallArgs.expressionList().expression().size();
+      return lastCallArgs.expressionList() != null ? lastCallArgs.expressionList().expression().size() : 0;
     } else {
       if (context.arguments().expressionList() != null) {
         return context.arguments().expressionList().expression().size();
@@ -110,4 +112,30 @@ public class ParseUtil {
     }
     return name + ":" + getFunctionArgsSize(context);
   }
+
+  /**
+   * @return true for <code>a = b</code>, which the flowchart and the semantic pass treat like a {@link CodeFlowParser.VariableAssignContext}
+   */
+  public static boolean isAssignment(CodeFlowParser.ExpressionContext context) {
+    return context.bop != null && context.bop.getType() == CodeFlowParser.ASSIGN;
+  }
+
+  /**
+   * Key of {@link #getFunctionFullName2(CodeFlowParser.FunctionDeclareContext)}, without building the string
+   */
+  public static FunctionKey getFunctionKey(CodeFlowParser.FunctionDeclareContext context, FunctionKeys keys) {
+    return keys.get(context.IDENTIFIER().getSymbol(), getFunctionArgsSize(context));
+  }
+
+  /**
+   * Key of {@link #getFunctionFullName2(CodeFlowParser.FunctionCallContext)}, the last name of <code>a.b(x)</code> is read from its token.
+   * A chained call like <code>a().b(x)</code> never names a declared function, it gets {@link FunctionKeys#UNRESOLVABLE}.
+   */
+  public static FunctionKey getFunctionKey(CodeFlowParser.FunctionCallContext context, FunctionKeys keys) {
+    if (context.functionCall().size() != 0) {
+      return FunctionKeys.UNRESOLVABLE;
+    }
+    // the last identifier, or this
+    return keys.get(context.functionCallName().getStop(), getFunctionArgsSize(context));
+  }
 }
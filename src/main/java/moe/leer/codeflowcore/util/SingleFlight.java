@@ -0,0 +1,63 @@
+package moe.leer.codeflowcore.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce concurrent calls with the same key into one in-flight computation.
+ * <p>
+ * The first caller of a key starts the computation, callers arriving before it completes share its outcome,
+ * value or failure. Nothing is cached, once completed the next call of that key starts a new computation.
+ *
+ * @author leer
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder coalesced = new LongAdder();
+
+  /**
+   * @param call started only when no computation of <code>key</code> is in flight
+   * @return a future of its own for every caller, so cancelling it doesn't affect the others
+   */
+  public CompletableFuture<V> execute(@NotNull K key, @NotNull Supplier<CompletableFuture<V>> call) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      coalesced.increment();
+      return existing.thenApply(v -> v);
+    }
+    try {
+      call.get().whenComplete((value, error) -> {
+        inFlight.remove(key, flight);
+        if (error != null) {
+          // keep the CompletionException wrapper, a bare SyntaxErrorException is a CancellationException
+          flight.completeExceptionally(error instanceof CompletionException ? error : new CompletionException(error));
+        } else {
+          flight.complete(value);
+        }
+      });
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, flight);
+      flight.completeExceptionally(new CompletionException(e));
+    }
+    return flight.thenApply(v -> v);
+  }
+
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * @return how many calls joined a computation started by another caller
+   */
+  public long coalesced() {
+    return coalesced.sum();
+  }
+}
@@ -0,0 +1,153 @@
+package moe.leer.codeflowcore.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Decode sources straight into an ANTLR {@link CharStream}, without an intermediate <code>String</code>.
+ * <p>
+ * Latin-1 sources, which is nearly all of them, become a {@link Latin1CharStream} of one byte per char:
+ * an ASCII file's bytes are used as they are, without decoding, read into the heap or memory-mapped,
+ * a Latin-1 <code>String</code> is copied once.
+ * Other sources fall back to ANTLR's code point stream, which widens its storage only as far as the source needs.
+ *
+ * @author leer
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SourceStreams {
+
+  /**
+   * files of at least this size are memory-mapped instead of read through a buffer, 1MB by default
+   */
+  public static final long MMAP_THRESHOLD = Long.getLong("codeflow.mmapThreshold", 1 << 20);
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Malformed input is replaced, like <code>new String(bytes, charset)</code> does.
+   */
+  public static CharStream fromPath(@NotNull Path path, @NotNull Charset charset) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      final String name = path.toString();
+      if (size > Integer.MAX_VALUE) {
+        return CharStreams.fromChannel(channel, charset, BUFFER_SIZE, CodingErrorAction.REPLACE, name, size);
+      }
+      // a mapping is released by GC, the channel can be closed right after decoding
+      final ByteBuffer bytes = size < MMAP_THRESHOLD ?
+          readFully(channel, (int) size) :
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return fromBytes(bytes, charset, name);
+    }
+  }
+
+  /**
+   * @return a one byte per char stream when <code>code</code> is Latin-1, otherwise ANTLR's code point stream
+   */
+  public static CharStream fromString(@NotNull String code) {
+    final int length = code.length();
+    final byte[] latin1 = new byte[length];
+    for (int i = 0; i < length; i++) {
+      final char c = code.charAt(i);
+      if (c > 0xFF) {
+        return CharStreams.fromString(code);
+      }
+      latin1[i] = (byte) c;
+    }
+    return new Latin1CharStream(ByteBuffer.wrap(latin1), CharStream.UNKNOWN_SOURCE_NAME);
+  }
+
+  public static CharStream fromChannel(@NotNull ReadableByteChannel channel, @NotNull Charset charset) throws IOException {
+    return CharStreams.fromChannel(channel, charset, BUFFER_SIZE, CodingErrorAction.REPLACE, CharStream.UNKNOWN_SOURCE_NAME, -1);
+  }
+
+  public static CharStream fromReader(@NotNull Reader reader) throws IOException {
+    return CharStreams.fromReader(reader);
+  }
+
+  /**
+   * @return true when <code>input</code> is empty or only whitespace, the same as <code>StringUtils.isBlank</code> of its text
+   */
+  public static boolean isBlank(@NotNull CharStream input) {
+    for (int i = 1; i <= input.size() - input.index(); i++) {
+      if (!Character.isWhitespace(input.LA(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+    final ByteBuffer bytes = ByteBuffer.allocate(size);
+    while (bytes.hasRemaining()) {
+      if (channel.read(bytes) < 0) {
+        // the file shrank while it was read, keep what was there
+        break;
+      }
+    }
+    bytes.flip();
+    return bytes;
+  }
+
+  private static CharStream fromBytes(ByteBuffer bytes, Charset charset, String name) {
+    final boolean latin1 = charset.equals(StandardCharsets.ISO_8859_1) ||
+        ((charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)) && isAscii(bytes));
+    if (!latin1) {
+      return decode(bytes, charset, name);
+    }
+    // a mapping stays mapped as long as the stream uses it
+    return new Latin1CharStream(bytes, name);
+  }
+
+  private static boolean isAscii(ByteBuffer bytes) {
+    for (int i = bytes.position(); i < bytes.limit(); i++) {
+      if (bytes.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static CharStream decode(ByteBuffer bytes, Charset charset, String name) {
+    final CharsetDecoder decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    final CodePointBuffer.Builder codePoints = CodePointBuffer.builder(bytes.remaining());
+    final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    CoderResult result;
+    do {
+      result = decoder.decode(bytes, chars, true);
+      append(chars, codePoints);
+    } while (result.isOverflow());
+    do {
+      result = decoder.flush(chars);
+      append(chars, codePoints);
+    } while (result.isOverflow());
+    return CodePointCharStream.fromBuffer(codePoints.build(), name);
+  }
+
+  private static void append(CharBuffer chars, CodePointBuffer.Builder codePoints) {
+    chars.flip();
+    codePoints.append(chars);
+    chars.clear();
+  }
+}
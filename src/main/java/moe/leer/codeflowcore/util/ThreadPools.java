@@ -0,0 +1,74 @@
+package moe.leer.codeflowcore.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executors of the engine.
+ * <p>
+ * This is the Java 8 version, tasks run on platform thread pools.
+ * Blocking tasks get a pool of their own, so they never starve the common fork-join pool,
+ * which CPU-bound stages, parallel streams and <code>CompletableFuture</code> use.
+ * The multi-release jar replaces it on Java 21+ with one running every task on its own virtual thread,
+ * see <code>src/main/java21</code>.
+ *
+ * @author leer
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ThreadPools {
+
+  /**
+   * threads of {@link #blockingExecutor()}, twice the cores by default
+   */
+  private static final int BLOCKING_THREADS = Integer.getInteger("codeflow.blockingThreads",
+      2 * Runtime.getRuntime().availableProcessors());
+
+  /**
+   * @return executor for tasks that may block on disk or the native renderer,
+   * a shared pool of daemon threads named codeflow-blocking-N, idle ones exit after a minute
+   */
+  public static Executor blockingExecutor() {
+    return Blocking.EXECUTOR;
+  }
+
+  /**
+   * @return a new executor owned by the caller, backed by <code>platformThreads</code> daemon threads
+   * named <code>namePrefix</code>-N
+   */
+  public static ExecutorService newExecutor(@NotNull String namePrefix, int platformThreads) {
+    return new ThreadPoolExecutor(platformThreads, platformThreads, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(), daemonThreads(namePrefix));
+  }
+
+  public static boolean isVirtual() {
+    return false;
+  }
+
+  private static ThreadFactory daemonThreads(String namePrefix) {
+    final AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + count.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  // created on first use
+  private static final class Blocking {
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(BLOCKING_THREADS, BLOCKING_THREADS,
+        1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), daemonThreads("codeflow-blocking"));
+
+    static {
+      EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+  }
+}
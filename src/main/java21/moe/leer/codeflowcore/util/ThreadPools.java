@@ -0,0 +1,105 @@
+package moe.leer.codeflowcore.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default executors of the engine, Java 21+ version.
+ * <p>
+ * Every task gets its own virtual thread, so thousands of renders waiting on disk or the native renderer
+ * don't hold a platform thread each.
+ *
+ * @author leer
+ */
+public class ThreadPools {
+
+  private static final ExecutorService VIRTUAL = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("codeflow-", 0).factory());
+
+  private ThreadPools() {
+  }
+
+  /**
+   * @return executor for tasks that may block on disk or the native renderer
+   */
+  public static Executor blockingExecutor() {
+    return VIRTUAL;
+  }
+
+  /**
+   * @return a new executor owned by the caller, running each task on its own virtual thread named
+   * <code>namePrefix</code>-N, at most <code>platformThreads</code> of them at once like the Java 8 fixed pool
+   */
+  public static ExecutorService newExecutor(String namePrefix, int platformThreads) {
+    return new BoundedExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "-", 0).factory()),
+        platformThreads);
+  }
+
+  public static boolean isVirtual() {
+    return true;
+  }
+
+  /**
+   * Virtual thread per task, the task waits for a permit on its own thread so submitters never block
+   */
+  private static final class BoundedExecutor extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    BoundedExecutor(ExecutorService delegate, int permits) {
+      if (permits <= 0) {
+        throw new IllegalArgumentException("platformThreads must be positive: " + permits);
+      }
+      this.delegate = delegate;
+      this.permits = new Semaphore(permits);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+      delegate.execute(() -> {
+        try {
+          permits.acquire();
+        } catch (InterruptedException e) {
+          // shut down before the task started
+          Thread.currentThread().interrupt();
+          return;
+        }
+        try {
+          task.run();
+        } finally {
+          permits.release();
+        }
+      });
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+  }
+}
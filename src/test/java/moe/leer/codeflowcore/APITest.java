@@ -2,6 +2,7 @@ package moe.leer.codeflowcore;
 
 import guru.nidi.graphviz.engine.Format;
 import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import org.antlr.v4.runtime.LexerNoViableAltException;
 import org.graphviz.SWIGTYPE_p_Agraph_t;
 import org.graphviz.gv;
 import org.testng.annotations.Test;
@@ -11,6 +12,9 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
 /**
  * @author leer
  * Created at 12/21/19 4:17 PM
@@ -18,9 +22,29 @@ import java.io.IOException;
 public class APITest extends BaseFlowchartTest {
   @Test(expectedExceptions = SyntaxErrorException.class)
   public void failFastTest() throws IOException {
-    codeFlow.setFailFast(true).parse("boolean  a = false; \n" +
+    codeFlow.toBuilder().failFast(true).build().parse("boolean  a = false; \n" +
         "if (a) {").toFile("failFast");
-    codeFlow.setFailFast(false);
+  }
+
+  @Test
+  public void failFastLexerErrorTest() {
+    try {
+      codeFlow.toBuilder().failFast(true).build().parse("int a = 1;\n# b();");
+      throw new AssertionError("syntax error expected");
+    } catch (SyntaxErrorException e) {
+      assertTrue(e.getCause() instanceof LexerNoViableAltException);
+    }
+  }
+
+  @Test
+  public void functionCallLinkTest() {
+    String code = "int f(int x) {\n  return x;\n}\nint f(int x, int y) {\n  return y;\n}\nf(1);\nf(1, 2);\nlist.get(0).f();\nthis.f(3);\n";
+    String dot = codeFlow.parse(code).toDot();
+    // f(1) and this.f(3) link to f:1, f(1, 2) to f:2, the chained call to none
+    assertTrue(dot.contains("\"0\" -> \"f:1.1\" [\"style\"=\"dashed\"]"));
+    assertTrue(dot.contains("\"1\" -> \"f:2.1\" [\"style\"=\"dashed\"]"));
+    assertTrue(dot.contains("\"3\" -> \"f:1.1\" [\"style\"=\"dashed\"]"));
+    assertFalse(dot.contains("\"2\" -> \"f:"));
   }
 
   public static void main(String[] args) throws IOException {
@@ -0,0 +1,41 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * The async stages must give what the blocking calls give, on the executors they are given.
+ *
+ * @author leer
+ */
+public class AsyncCodeFlowTest extends BaseFlowchartTest {
+
+  @Test
+  public void asyncStagesTest() {
+    ExecutorService cpu = Executors.newFixedThreadPool(2);
+    ExecutorService render = Executors.newSingleThreadExecutor();
+    try {
+      AsyncCodeFlow async = codeFlow.async(CodeFlowExecutors.of(cpu, render));
+      String code = "if (ok) { doSome(); } else { doSomeElse(); }";
+      assertEquals(async.flowchart(code).join().toDot(), codeFlow.parse(code).toDot());
+      assertTrue(async.parse("  ").join().isEmpty());
+
+      try {
+        codeFlow.toBuilder().failFast(true).build().async(CodeFlowExecutors.of(cpu, render)).toFile("if (a) {", "failFast").join();
+        throw new AssertionError("syntax error expected");
+      } catch (CompletionException e) {
+        assertTrue(e.getCause() instanceof SyntaxErrorException);
+      }
+    } finally {
+      cpu.shutdown();
+      render.shutdown();
+    }
+  }
+}
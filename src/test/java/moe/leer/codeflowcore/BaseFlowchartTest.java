@@ -1,9 +1,11 @@
 package moe.leer.codeflowcore;
 
 import guru.nidi.graphviz.engine.Format;
+import moe.leer.codeflowcore.exception.TodoException;
 import org.testng.annotations.BeforeClass;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * @author leer
@@ -17,15 +19,18 @@ public abstract class BaseFlowchartTest {
 
   @BeforeClass
   public void before() {
-    FlowchartConfig.setFunctionColor("pink");
-    FlowchartConfig.virtualEndNode = true;
-//    FlowchartConfig.setDecisionCompass("s", "w");
+    FlowchartConfig config = FlowchartConfig.builder()
+        .functionColor("pink")
+        .virtualEndNode(true)
+//        .decisionCompass("s", "w")
+        .build();
     codeFlow = CodeFlow.builder()
         .failFast(true)
         .useNative(true)
         .workDir("examples")
         .outDir("tests")
         .format(Format.PNG)
+        .flowchartConfig(config)
         .build();
   }
 
@@ -58,4 +63,15 @@ public abstract class BaseFlowchartTest {
       e.printStackTrace();
     }
   }
+
+  /**
+   * some examples don't convert yet, both modes must fail the same way then
+   */
+  protected static String dotOrError(CodeFlow codeFlow, Path source) throws IOException {
+    try {
+      return codeFlow.parse(source).toDot();
+    } catch (RuntimeException | TodoException e) {
+      return e.getClass().getName();
+    }
+  }
 }
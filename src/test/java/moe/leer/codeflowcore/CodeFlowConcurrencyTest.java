@@ -0,0 +1,132 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Format;
+import moe.leer.codeflowcore.exception.TodoException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * One engine shared by many threads must give every caller the result it gives a single thread.
+ *
+ * @author leer
+ */
+public class CodeFlowConcurrencyTest extends BaseFlowchartTest {
+
+  private static final int THREADS = 8;
+
+  @Test
+  public void sharedParseTest() throws Exception {
+    // fewer pooled pairs than threads, so pairs are created, reused and dropped concurrently
+    CodeFlow shared = codeFlow.toBuilder().supportClass(true).parserPoolSize(2).build();
+    List<String> sources = new ArrayList<>();
+    try (DirectoryStream<Path> examples = Files.newDirectoryStream(Paths.get("examples"), "*.cf")) {
+      for (Path example : examples) {
+        sources.add(new String(Files.readAllBytes(example), StandardCharsets.UTF_8));
+      }
+    }
+    sources.add("int x = 1;\nint x = 2;\nvoid f() {}\nvoid f() {}\nf();\n");
+    List<String> expected = new ArrayList<>();
+    for (String source : sources) {
+      expected.add(parsed(shared, source));
+    }
+
+    List<List<String>> results = runConcurrently(thread -> {
+      List<Integer> order = new ArrayList<>();
+      for (int round = 0; round < 3; round++) {
+        for (int i = 0; i < sources.size(); i++) {
+          order.add(i);
+        }
+      }
+      Collections.shuffle(order, new Random(thread));
+      List<String> parsed = new ArrayList<>(Collections.nCopies(sources.size(), null));
+      for (int i : order) {
+        String result = parsed(shared, sources.get(i));
+        assertEquals(result, expected.get(i), "source " + i + " on thread " + thread);
+        parsed.set(i, result);
+      }
+      return parsed;
+    });
+    for (List<String> result : results) {
+      assertEquals(result, expected);
+    }
+  }
+
+  @Test
+  public void sharedRenderTest() throws Exception {
+    CodeFlow shared = codeFlow.toBuilder().useNative(false).format(Format.SVG).build();
+    List<String> sources = Arrays.asList("while (i < 10) { i++; }", "if (a > b) { max = a; } else { max = b; }");
+    List<String> expected = new ArrayList<>();
+    for (String source : sources) {
+      expected.add(new String(shared.parse(source).layout().getBytes(), StandardCharsets.UTF_8));
+    }
+
+    List<List<String>> results = runConcurrently(thread -> {
+      List<String> rendered = new ArrayList<>();
+      for (String source : sources) {
+        rendered.add(new String(shared.parse(source).layout().getBytes(), StandardCharsets.UTF_8));
+      }
+      return rendered;
+    });
+    for (List<String> result : results) {
+      assertEquals(result, expected);
+    }
+  }
+
+  private interface ThreadTask<T> {
+    T run(int thread) throws Exception;
+  }
+
+  /**
+   * @return results of <code>task</code> run on {@link #THREADS} threads starting together
+   */
+  private static <T> List<T> runConcurrently(ThreadTask<T> task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<T>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        final int thread = i;
+        futures.add(executor.submit((Callable<T>) () -> {
+          start.await();
+          return task.run(thread);
+        }));
+      }
+      start.countDown();
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : futures) {
+        results.add(future.get(2, TimeUnit.MINUTES));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static String parsed(CodeFlow codeFlow, String source) {
+    try {
+      CodeFlowResult result = codeFlow.parse(source);
+      return result.toDot() + "\n" + result.getDiagnostics();
+    } catch (RuntimeException | TodoException e) {
+      return e.getClass().getName();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Updates of a session must give what parsing the whole program gives.
+ *
+ * @author leer
+ */
+public class CodeFlowSessionTest extends BaseFlowchartTest {
+
+  @Test
+  public void sessionTest() {
+    String fact = "int fact(int n) {\n  if (n <= 1) { return 1; }\n  return n * fact(n - 1);\n}\n";
+    String main = "void main() {\n  int a = fact(10);\n  int a = 0;\n  println(a);\n}\n";
+    String sum = "int sum(int n) {\n  int s = 0;\n  for (int i = 0; i < n; i++) { s += i; }\n  return s;\n}\n";
+    CodeFlow strict = codeFlow.toBuilder().failFast(true).build();
+    CodeFlowSession session = strict.session();
+
+    String code = "int x = 5;\n" + fact + main + "println(sum(x));\n" + sum;
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 5);
+
+    // edit inside one function, the other two are reused
+    code = code.replace("s += i;", "s += i * i;");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 1);
+    assertEquals(session.getReusedFunctions(), 2);
+
+    // longer text on the same line moves the char indexes of the declarations after it, not their tokens
+    code = code.replace("int x = 5;\n", "int x = 500;\n");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 1);
+    assertEquals(session.getReusedFunctions(), 3);
+    code = code.replace("int x = 500;\n", "int x = 5;\n");
+    assertSessionUpdate(session, code);
+
+    // new lines move the declarations after them
+    code = code.replace("int x = 5;\n", "int x = 5;\n\n\nx++;\n");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 1);
+    assertEquals(session.getReusedFunctions(), 3);
+
+    // an overload declared before fact changes the node ids of fact
+    code = code.replace("x++;\n", "int fact(int n) { return n; }\n");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 1);
+    assertEquals(session.getReusedFunctions(), 2);
+
+    // a syntax error is reported, the next update is still compared with the last valid version
+    try {
+      session.update(code.replace("void main() {", "void main() {{"));
+      throw new AssertionError("syntax error expected");
+    } catch (SyntaxErrorException ignored) {
+    }
+    code = code.replace("println(a);", "println(a + 1);");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 1);
+
+    // an else can't be cut from its if, nor a stray brace parsed apart, the whole program is parsed then
+    code = code.replace("println(sum(x));\n", "if (x > 1) println(sum(x));\n");
+    assertSessionUpdate(session, code);
+    code = code.replace("println(sum(x));\n", "println(sum(x));\nelse x--;\n");
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 6);
+    assertSessionUpdate(session, code.replace(main, main + "}\n"));
+
+    assertNull(session.update(" \n").getGraph());
+    assertSessionUpdate(session, code);
+    assertEquals(session.getParsedDeclarations(), 6);
+  }
+
+  private static void assertSessionUpdate(CodeFlowSession session, String code) {
+    CodeFlow full = session.getCodeFlow();
+    CodeFlowResult updated = session.update(code);
+    CodeFlowResult parsed = full.parse(code);
+    assertEquals(updated.toDot(), parsed.toDot());
+    // reused functions report their warnings where they are now
+    assertEquals(updated.getDiagnostics().toString(), parsed.getDiagnostics().toString());
+    for (int i = 0; i < parsed.getDiagnostics().size(); i++) {
+      assertEquals(updated.getDiagnostics().get(i).getStart(), parsed.getDiagnostics().get(i).getStart());
+      assertEquals(updated.getDiagnostics().get(i).getStop(), parsed.getDiagnostics().get(i).getStop());
+    }
+    assertEquals(session.getProgram().getTree().toStringTree(), full.parseProgram(code).getTree().toStringTree());
+  }
+}
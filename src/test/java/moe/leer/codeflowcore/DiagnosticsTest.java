@@ -0,0 +1,87 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.lang.semantic.Diagnostic;
+import moe.leer.codeflowcore.lang.semantic.Diagnostics;
+import org.antlr.v4.runtime.CommonToken;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Semantic warnings are returned with the result, never printed.
+ *
+ * @author leer
+ */
+public class DiagnosticsTest extends BaseFlowchartTest {
+
+  @Test
+  public void semanticWarningsTest() {
+    String code = "int a = 1;\nint a = 2;\nvoid f(int x) {\n  int y;\n  while (x > 0) {\n    int y = x--;\n  }\n  int y;\n}\nf(a);\n";
+    // nothing is printed, the warnings are returned with the result
+    assertEquals(printed(() -> codeFlow.parse(code)), "");
+    String warnings = codeFlow.parse(code).getDiagnostics().toString();
+    assertEquals(warnings, "line 2:0 Duplicated variable declare: a\nline 8:2 Duplicated variable declare: y\n");
+    // the same as a separate pass over the tree
+    ParsedProgram analyzed = codeFlow.analyze(codeFlow.parseProgram(code));
+    assertEquals(analyzed.getDiagnostics().toString(), warnings);
+    assertEquals(codeFlow.convert(analyzed).getDiagnostics().toString(), warnings);
+    assertEquals(codeFlow.toBuilder().streamingGeneration(true).build().parse(code).getDiagnostics().toString(), warnings);
+
+    CodeFlow unchecked = codeFlow.toBuilder().semanticWarnings(false).build();
+    assertTrue(unchecked.parse(code).getDiagnostics().isEmpty());
+    assertEquals(unchecked.parse(code).toDot(), codeFlow.parse(code).toDot());
+  }
+
+  @Test
+  public void diagnosticsTest() {
+    String code = "int a;\nint a;\nint a;\nvoid f() {\n  g();\n}\nvoid f() {\n  g();\n}\n";
+    Diagnostics diagnostics = codeFlow.parse(code).getDiagnostics();
+    assertEquals(diagnostics.size(), 3);
+    Diagnostic duplicated = diagnostics.get(1);
+    assertEquals(duplicated.getCode(), Diagnostic.Code.DUPLICATED_VARIABLE);
+    assertEquals(duplicated.getSeverity(), Diagnostic.Severity.WARNING);
+    assertEquals(duplicated.getSubject(), "a");
+    assertEquals(duplicated.getLine(), 3);
+    assertEquals(duplicated.getColumn(), 0);
+    assertEquals(code.substring(duplicated.getStart(), duplicated.getStop() + 1), "int");
+    assertEquals(diagnostics.list().get(2).getMessage(), "Overload method not support! Duplicated function declare: f");
+
+    // past the limit diagnostics are only counted
+    Diagnostics capped = codeFlow.toBuilder().maxDiagnostics(1).build().parse(code).getDiagnostics();
+    assertEquals(capped.size(), 1);
+    assertEquals(capped.getDropped(), 2);
+    assertEquals(capped.toString(), "line 2:0 Duplicated variable declare: a\n2 more not recorded\n");
+
+    // a program not checked shares the empty collector, reused functions have nothing to move into it
+    CodeFlow unchecked = codeFlow.toBuilder().semanticWarnings(false).build();
+    assertSame(unchecked.parse(code).getDiagnostics(), Diagnostics.EMPTY);
+    CodeFlowSession session = unchecked.session();
+    session.update(code);
+    assertSame(session.update(code.replace("int a;\nint a;\nint a;", "int a;\nint b;\nint a;")).getDiagnostics(), Diagnostics.EMPTY);
+    assertEquals(session.getReusedFunctions(), 2);
+    assertTrue(Diagnostics.EMPTY.isEmpty());
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void emptyDiagnosticsReadOnlyTest() {
+    Diagnostics.EMPTY.report(Diagnostic.Code.UNRESOLVED_VARIABLE, new CommonToken(CodeFlowLexer.IDENTIFIER, "a"), "a");
+  }
+
+  private static String printed(Runnable runnable) {
+    PrintStream out = System.out;
+    ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(printed, true));
+    try {
+      runnable.run();
+    } finally {
+      System.setOut(out);
+    }
+    return printed.toString();
+  }
+}
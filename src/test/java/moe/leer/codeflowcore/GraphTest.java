@@ -10,6 +10,7 @@ import guru.nidi.graphviz.model.*;
 import guru.nidi.graphviz.parse.Parser;
 import moe.leer.codeflowcore.graph.Flowchart;
 import moe.leer.codeflowcore.graph.FlowchartNode;
+import moe.leer.codeflowcore.graph.NodeIdAllocator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -63,12 +64,13 @@ public class GraphTest {
    */
   @Test
   public void testSubFlowchart() throws IOException {
-    FlowchartNode nodeA = Flowchart.startNode();
-    FlowchartNode nodeB = Flowchart.processNode("b").add(Color.LIGHTBLUE, Style.FILLED);
-    FlowchartNode end1 = Flowchart.endNode();
-    FlowchartNode nodeC = Flowchart.startNode();
-    FlowchartNode nodeD = Flowchart.processNode("d");
-    FlowchartNode end2 = Flowchart.endNode();
+    NodeIdAllocator ids = new NodeIdAllocator();
+    FlowchartNode nodeA = Flowchart.startNode(ids);
+    FlowchartNode nodeB = Flowchart.processNode(ids, "b").add(Color.LIGHTBLUE, Style.FILLED);
+    FlowchartNode end1 = Flowchart.endNode(ids);
+    FlowchartNode nodeC = Flowchart.startNode(ids);
+    FlowchartNode nodeD = Flowchart.processNode(ids, "d");
+    FlowchartNode end2 = Flowchart.endNode(ids);
 
     nodeA.addLink(nodeB);
     nodeB.addLink(end1);
@@ -83,8 +85,8 @@ public class GraphTest {
 
     linkNode2SubGraph(nodeB, nodeC, g);
 
-    FlowchartNode start = Flowchart.startNode();
-    FlowchartNode outCall = Flowchart.processNode("ab();");
+    FlowchartNode start = Flowchart.startNode(ids);
+    FlowchartNode outCall = Flowchart.processNode(ids, "ab();");
     start.addLink(outCall);
     g.add(start);
     linkNode2SubGraph(outCall, nodeA, g);
@@ -0,0 +1,44 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * The engine must give the same flowcharts and errors with the hand-written lexer.
+ *
+ * @author leer
+ */
+public class HandWrittenLexerTest extends BaseFlowchartTest {
+
+  @Test
+  public void handWrittenLexerTest() throws IOException {
+    CodeFlow handWritten = codeFlow.toBuilder().supportClass(true).handWrittenLexer(true).build();
+    CodeFlow generated = codeFlow.toBuilder().supportClass(true).build();
+    assertTrue(handWritten.isHandWrittenLexer());
+    try (DirectoryStream<Path> examples = Files.newDirectoryStream(Paths.get("examples"), "*.cf")) {
+      for (Path example : examples) {
+        Path source = example.getFileName();
+        assertEquals(dotOrError(handWritten, source), dotOrError(generated, source), source.toString());
+      }
+    }
+    try {
+      handWritten.parse("int a = 1;\n# b();");
+      throw new AssertionError("syntax error expected");
+    } catch (SyntaxErrorException e) {
+      assertTrue(e.getCause() instanceof LexerNoViableAltException);
+    }
+    String recovered = "int a = 1;\n# b();";
+    assertEquals(handWritten.toBuilder().failFast(false).build().parse(recovered).toDot(),
+        generated.toBuilder().failFast(false).build().parse(recovered).toDot());
+  }
+}
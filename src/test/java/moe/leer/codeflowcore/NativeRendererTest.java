@@ -0,0 +1,30 @@
+package moe.leer.codeflowcore;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Every native render goes through the queue of the shared renderer.
+ *
+ * @author leer
+ */
+public class NativeRendererTest extends BaseFlowchartTest {
+
+  @Test
+  public void nativeRendererMetricsTest() throws IOException {
+    NativeRenderMetrics before = NativeRenderer.getInstance().metrics();
+    try {
+      codeFlow.toBuilder().useNative(true).build().parse("doSome();").toFile("nativeMetrics");
+    } catch (UnsatisfiedLinkError ignored) {
+      // no libgv on this machine, the render still went through the queue
+    }
+    NativeRenderMetrics after = NativeRenderer.getInstance().metrics();
+
+    assertEquals(after.getSubmitted() - before.getSubmitted(), 1);
+    assertEquals(after.getCompleted() + after.getFailed() - before.getCompleted() - before.getFailed(), 1);
+    assertEquals(after.getQueueDepth(), 0);
+  }
+}
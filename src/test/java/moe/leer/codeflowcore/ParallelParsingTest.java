@@ -0,0 +1,90 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import moe.leer.codeflowcore.lang.ParallelProgramParser;
+import moe.leer.codeflowcore.lang.ParserPool;
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import moe.leer.codeflowcore.util.SourceStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Parsing the declarations in chunks must give the tree of a sequential parse.
+ *
+ * @author leer
+ */
+public class ParallelParsingTest extends BaseFlowchartTest {
+
+  @Test
+  public void parallelParsingTest() throws Exception {
+    StringBuilder examples = new StringBuilder();
+    for (String example : new String[]{"while.cf", "ifCode.cf", "forCode.cf", "dowhile.cf", "nakeIfElse.cf"}) {
+      examples.append(new String(Files.readAllBytes(Paths.get("examples", example)), StandardCharsets.UTF_8)).append('\n');
+    }
+    StringBuilder code = new StringBuilder();
+    while (code.length() < 60_000) {
+      code.append(examples);
+    }
+    CodeFlow sequential = codeFlow.toBuilder().failFast(true).build();
+    ParsedProgram expected = sequential.parseProgram(code.toString());
+
+    // split into 4 chunks whatever the core count of this machine is
+    ParallelProgramParser parallel = new ParallelProgramParser(new ParserPool(4), ForkJoinPool.commonPool(), 4);
+    CommonTokenStream tokens = new CommonTokenStream(new CodeFlowLexer(SourceStreams.fromString(code.toString())));
+    tokens.fill();
+    ParallelProgramParser.Result chunked = parallel.parse(tokens.getTokens(), tokens.getTokenSource(),
+        SourceStreams.fromString(code.toString()), false, true);
+    assertNotNull(chunked);
+    assertEquals(chunked.getTree().toStringTree(), expected.getTree().toStringTree());
+    assertEquals(chunked.getTree().declaration().size(), ((CodeFlowParser.ProgramContext) expected.getTree()).declaration().size());
+
+    // a chunk with a syntax error gives up, the caller parses the whole program and reports it
+    String broken = code + "if (a) {";
+    tokens = new CommonTokenStream(new CodeFlowLexer(SourceStreams.fromString(broken)));
+    tokens.fill();
+    assertNull(parallel.parse(tokens.getTokens(), tokens.getTokenSource(), SourceStreams.fromString(broken), false, true));
+    try {
+      sequential.toBuilder().parallelParsing(true).build().parseProgram(broken);
+      throw new AssertionError("syntax error expected");
+    } catch (SyntaxErrorException ignored) {
+    }
+    assertEquals(sequential.toBuilder().parallelParsing(true).build().parseProgram(code.toString()).getTree().toStringTree(),
+        expected.getTree().toStringTree());
+
+    // chunks run on the configured executor
+    ExecutorService single = Executors.newSingleThreadExecutor();
+    CodeFlow configured = sequential.toBuilder().parallelParsing(true).parallelParsingExecutor(single).build();
+    assertSame(configured.getParallelParsingExecutor(), single);
+    assertSame(configured.toBuilder().build().getParallelParsingExecutor(), single);
+    assertEquals(configured.parseProgram(code.toString()).getTree().toStringTree(), expected.getTree().toStringTree());
+
+    // the parse may run on the only worker of the chunks' executor, it takes the queued chunks over
+    try {
+      ParallelProgramParser onSingle = new ParallelProgramParser(new ParserPool(4), single, 4);
+      String program = code.toString();
+      Future<ParallelProgramParser.Result> result = single.submit(() -> {
+        CommonTokenStream programTokens = new CommonTokenStream(new CodeFlowLexer(SourceStreams.fromString(program)));
+        programTokens.fill();
+        return onSingle.parse(programTokens.getTokens(), programTokens.getTokenSource(), SourceStreams.fromString(program), false, true);
+      });
+      assertEquals(result.get(30, TimeUnit.SECONDS).getTree().toStringTree(), expected.getTree().toStringTree());
+    } finally {
+      single.shutdownNow();
+    }
+  }
+}
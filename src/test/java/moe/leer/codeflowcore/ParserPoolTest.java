@@ -0,0 +1,68 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import moe.leer.codeflowcore.lang.DfaCache;
+import moe.leer.codeflowcore.lang.DfaCacheMetrics;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Lexer/parser pairs are reused, and so is the DFA cache they fill.
+ *
+ * @author leer
+ */
+public class ParserPoolTest extends BaseFlowchartTest {
+
+  @Test
+  public void parserPoolTest() throws IOException {
+    CodeFlow pooled = codeFlow.toBuilder().failFast(true).parserPoolSize(1).build();
+    ParsedProgram first = pooled.parseProgram("int x = 1;");
+    String firstTree = first.getTree().toStringTree();
+    ParsedProgram second = pooled.parseProgram("while (x < 10) { x++; }");
+    assertEquals(pooled.getParserPool().createdCount(), 1);
+    assertEquals(pooled.getParserPool().reusedCount(), 1);
+    // trees of earlier parses are not touched by reusing their parser
+    assertEquals(first.getTree().toStringTree(), firstTree);
+    assertTrue(second.getTree().getText().startsWith("while"));
+
+    // a syntax error must not leave a broken pair in the pool
+    try {
+      pooled.parseProgram("if (a) {");
+      throw new AssertionError("syntax error expected");
+    } catch (SyntaxErrorException ignored) {
+    }
+    assertEquals(pooled.getParserPool().idleCount(), 1);
+    assertNotNull(pooled.parseProgram("int y = 2;").getTree());
+
+    // the built-in corpus must parse without errors, failFast would throw
+    assertFalse(pooled.warmUp().isNegative());
+    assertFalse(pooled.toBuilder().supportClass(true).build().warmUp().isNegative());
+  }
+
+  @Test
+  public void dfaCachePolicyTest() {
+    DfaCache cache = DfaCache.getInstance();
+    codeFlow.parseProgram("for (int i = 0; i < n; i++) { if (i % 2 == 0) { even(i); } }");
+    DfaCacheMetrics filled = cache.metrics();
+    assertTrue(filled.getParserStates() > 0);
+    assertTrue(filled.getParserStatesByRule().containsKey("statement"));
+
+    CodeFlow bounded = codeFlow.toBuilder()
+        .dfaCachePolicy(DfaCachePolicy.builder().maxStates(1).rewarm(false).build())
+        .build();
+    ParsedProgram program = bounded.parseProgram("while (x) { x--; }");
+    DfaCacheMetrics reset = cache.metrics();
+    assertEquals(reset.getGeneration(), filled.getGeneration() + 1);
+    assertEquals(reset.getTotalStates(), 0);
+    // parses after the reset fill the new generation
+    assertTrue(program.getTree().getText().startsWith("while"));
+    codeFlow.parseProgram("while (x) { x--; }");
+    assertTrue(cache.metrics().getParserStates() > 0);
+  }
+}
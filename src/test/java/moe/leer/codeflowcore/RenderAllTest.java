@@ -0,0 +1,63 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Format;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A batch renders every source, a failing one doesn't stop the others.
+ *
+ * @author leer
+ */
+public class RenderAllTest extends BaseFlowchartTest {
+
+  @Test
+  public void renderAllIsolatesFailuresTest() {
+    List<Path> sources = Arrays.asList(Paths.get("notExists.cf"), Paths.get("ifCode.cf"), Paths.get("alsoNotExists.cf"));
+    List<RenderReport> reports = codeFlow.renderAll(sources);
+
+    assertEquals(reports.size(), sources.size());
+    for (int i = 0; i < sources.size(); i++) {
+      assertEquals(reports.get(i).getSource(), sources.get(i));
+    }
+    assertFalse(reports.get(0).isSuccess());
+    assertTrue(reports.get(0).getError() instanceof NoSuchFileException);
+    assertFalse(reports.get(2).isSuccess());
+  }
+
+  @Test
+  public void renderAllSameNameTest() throws IOException {
+    Path workDir = Files.createTempDirectory("renderAll");
+    Files.createDirectories(workDir.resolve("a"));
+    Files.createDirectories(workDir.resolve("b"));
+    Files.write(workDir.resolve("a/main.cf"), "print(1);".getBytes(StandardCharsets.UTF_8));
+    Files.write(workDir.resolve("b/main.cf"), "print(2);".getBytes(StandardCharsets.UTF_8));
+    CodeFlow batch = codeFlow.toBuilder()
+        .useNative(false)
+        .format(Format.SVG)
+        .workDir(workDir.toString())
+        .outDir(workDir.resolve("out").toString())
+        .build();
+
+    assertEquals(batch.outputName(workDir.resolve("a/main.cf")), Paths.get("a", "main").toString());
+    List<RenderReport> reports = batch.renderAll(Arrays.asList(Paths.get("a/main.cf"), Paths.get("b/main.cf")));
+    assertTrue(reports.get(0).isSuccess(), String.valueOf(reports.get(0).getError()));
+    assertTrue(reports.get(1).isSuccess(), String.valueOf(reports.get(1).getError()));
+    assertEquals(reports.get(0).getOutput(), workDir.resolve("out/a/main.svg").toFile());
+    assertEquals(reports.get(1).getOutput(), workDir.resolve("out/b/main.svg").toFile());
+    assertTrue(new String(Files.readAllBytes(workDir.resolve("out/a/main.svg")), StandardCharsets.UTF_8).contains("print(1)"));
+    assertTrue(new String(Files.readAllBytes(workDir.resolve("out/b/main.svg")), StandardCharsets.UTF_8).contains("print(2)"));
+  }
+}
@@ -0,0 +1,67 @@
+package moe.leer.codeflowcore;
+
+import guru.nidi.graphviz.engine.Format;
+import moe.leer.codeflowcore.exception.SyntaxErrorException;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author leer
+ */
+public class RenderPipelineTest extends BaseFlowchartTest {
+
+  @Test
+  public void drainsWithTinyQueuesTest() throws IOException {
+    List<CompletableFuture<File>> futures = new ArrayList<>();
+    // graphviz-java's own engine, every stage runs without the native library
+    Path outDir = Files.createTempDirectory("pipeline");
+    CodeFlow svg = codeFlow.toBuilder().useNative(false).format(Format.SVG).outDir(outDir.toString()).build();
+    RenderPipeline pipeline = RenderPipeline.builder(svg)
+        .queueCapacity(1)
+        .threads(RenderPipeline.Stage.PARSE, 1)
+        .threads(RenderPipeline.Stage.LAYOUT, 1)
+        .build();
+    try {
+      for (int i = 0; i < 20; i++) {
+        String code = i % 2 == 0 ? "while (i < " + i + ") { i++; }" : "if (a) {";
+        futures.add(pipeline.submit(code, "pipeline-" + i));
+      }
+    } finally {
+      pipeline.close();
+    }
+
+    assertEquals(pipeline.completedCount(RenderPipeline.Stage.PARSE), 20);
+    for (int i = 0; i < futures.size(); i++) {
+      assertTrue(futures.get(i).isDone());
+      if (i % 2 == 0) {
+        File output = futures.get(i).join();
+        assertEquals(output, outDir.resolve("pipeline-" + i + ".svg").toFile());
+        assertTrue(new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8).contains("i &lt; " + i), output.toString());
+      } else {
+        try {
+          futures.get(i).join();
+          throw new AssertionError("syntax error expected");
+        } catch (CompletionException e) {
+          assertTrue(e.getCause() instanceof SyntaxErrorException);
+        }
+      }
+    }
+    // only the renders that parsed go on
+    for (RenderPipeline.Stage stage : new RenderPipeline.Stage[]{RenderPipeline.Stage.SEMANTIC, RenderPipeline.Stage.FLOWCHART,
+        RenderPipeline.Stage.LAYOUT, RenderPipeline.Stage.ENCODE}) {
+      assertEquals(pipeline.completedCount(stage), 10, stage.name());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package moe.leer.codeflowcore;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Identical requests in flight share one render.
+ *
+ * @author leer
+ */
+public class RequestCoalescingTest extends BaseFlowchartTest {
+
+  @Test
+  public void coalesceIdenticalRequestsTest() {
+    List<Runnable> pending = new ArrayList<>();
+    Executor manual = pending::add;
+    AsyncCodeFlow async = codeFlow.async(CodeFlowExecutors.of(manual, manual));
+    String code = "while (i < 10) { i++; }";
+
+    CompletableFuture<CodeFlowResult> first = async.flowchart(code);
+    CompletableFuture<CodeFlowResult> second = async.flowchart(code);
+    CompletableFuture<CodeFlowResult> other = async.flowchart(code + " done();");
+    while (!pending.isEmpty()) {
+      pending.remove(0).run();
+    }
+
+    assertSame(first.join(), second.join());
+    assertNotSame(first.join(), other.join());
+    assertEquals(async.coalescedCount(), 1);
+    // completed flights are not cached
+    CompletableFuture<CodeFlowResult> third = async.flowchart(code);
+    while (!pending.isEmpty()) {
+      pending.remove(0).run();
+    }
+    assertNotSame(first.join(), third.join());
+  }
+}
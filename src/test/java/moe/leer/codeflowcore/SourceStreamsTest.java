@@ -0,0 +1,105 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.util.SourceStreams;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Every source the engine reads must lex like the same text read from a string.
+ *
+ * @author leer
+ */
+public class SourceStreamsTest extends BaseFlowchartTest {
+
+  @Test
+  public void streamingSourcesTest() throws IOException {
+    String code = "// h\u00e9llo, w\u00f6rld \uD83D\uDC4B\nint max(int a, int b) { if (a > b) { return a; } return b; }\nmax(1, 2);";
+    Path file = Files.createTempFile("streaming", ".cf");
+    try {
+      Files.write(file, code.getBytes(StandardCharsets.UTF_8));
+      String expected = codeFlow.parse(code).toDot();
+      assertEquals(codeFlow.parse(file.toAbsolutePath()).toDot(), expected);
+      assertEquals(codeFlow.parse(new StringReader(code)).toDot(), expected);
+      try (FileChannel channel = FileChannel.open(file)) {
+        assertEquals(codeFlow.parse(channel).toDot(), expected);
+      }
+      assertNull(codeFlow.parse(new StringReader(" \n\t")).getGraph());
+
+      // big enough to be memory-mapped, decoded across many buffers and surrogate pairs
+      StringBuilder big = new StringBuilder();
+      while (big.length() < SourceStreams.MMAP_THRESHOLD) {
+        big.append(code).append('\n');
+      }
+      Files.write(file, big.toString().getBytes(StandardCharsets.UTF_8));
+      CharStream stream = SourceStreams.fromPath(file, StandardCharsets.UTF_8);
+      assertEquals(stream.getText(Interval.of(0, stream.size() - 1)), big.toString());
+
+      // an ASCII file is lexed straight from the mapping
+      String ascii = "int max(int a, int b) { if (a > b) { return a; } return b; }\nmax(1, 2);\n";
+      StringBuilder bigAscii = new StringBuilder();
+      while (bigAscii.length() < SourceStreams.MMAP_THRESHOLD) {
+        bigAscii.append(ascii);
+      }
+      Files.write(file, bigAscii.toString().getBytes(StandardCharsets.US_ASCII));
+      stream = SourceStreams.fromPath(file, StandardCharsets.UTF_8);
+      assertFalse(stream instanceof CodePointCharStream);
+      assertEquals(stream.size(), bigAscii.length());
+      assertEquals(stream.getText(Interval.of(0, stream.size() - 1)), bigAscii.toString());
+      assertEquals(tokens(stream).subList(0, 30), tokens(CharStreams.fromString(bigAscii.toString())).subList(0, 30));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void compactCharStreamTest() throws IOException {
+    List<String> sources = new ArrayList<>();
+    try (DirectoryStream<Path> examples = Files.newDirectoryStream(Paths.get("examples"), "*.cf")) {
+      for (Path example : examples) {
+        sources.add(new String(Files.readAllBytes(example), StandardCharsets.UTF_8));
+      }
+    }
+    sources.add("String s = \"caf\u00e9 \u00ff\"; // na\u00efve\nprintln(s);");
+    sources.add("String s = \"\u4f60\u597d\"; println(s);");
+    sources.add("");
+    for (String source : sources) {
+      assertEquals(tokens(SourceStreams.fromString(source)), tokens(CharStreams.fromString(source)));
+    }
+    assertFalse(SourceStreams.fromString(sources.get(0)) instanceof CodePointCharStream);
+    assertTrue(SourceStreams.fromString("println(\"\u4f60\u597d\");") instanceof CodePointCharStream);
+
+    CharStream stream = SourceStreams.fromString("x = 1;");
+    assertEquals(stream.getText(Interval.of(4, 100)), "1;");
+    assertEquals(stream.getText(Interval.of(3, 2)), "");
+  }
+
+  private static List<String> tokens(CharStream input) {
+    List<String> tokens = new ArrayList<>();
+    for (Token token : new CodeFlowLexer(input).getAllTokens()) {
+      tokens.add(token.getType() + ":" + token.getText() + "@" + token.getStartIndex() + "-" + token.getStopIndex()
+          + "," + token.getLine() + ":" + token.getCharPositionInLine());
+    }
+    return tokens;
+  }
+}
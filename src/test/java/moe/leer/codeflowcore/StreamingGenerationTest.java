@@ -0,0 +1,42 @@
+package moe.leer.codeflowcore;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Generating the flowchart while parsing must give the flowchart of the tree.
+ *
+ * @author leer
+ */
+public class StreamingGenerationTest extends BaseFlowchartTest {
+
+  @Test
+  public void streamingGenerationTest() throws IOException {
+    CodeFlow streaming = codeFlow.toBuilder().supportClass(true).streamingGeneration(true).build();
+    CodeFlow tree = codeFlow.toBuilder().supportClass(true).build();
+    try (DirectoryStream<Path> examples = Files.newDirectoryStream(Paths.get("examples"), "*.cf")) {
+      for (Path example : examples) {
+        Path source = example.getFileName();
+        assertEquals(dotOrError(streaming, source), dotOrError(tree, source), source.toString());
+      }
+    }
+    String merged = "int a = 1;\nint b = 2;\nvoid f() { g(); }\nint c = 3;\nf();";
+    FlowchartConfig mergeSequences = FlowchartConfig.builder().mergeSequences(true).build();
+    assertEquals(streaming.toBuilder().flowchartConfig(mergeSequences).build().parse(merged).toDot(),
+        tree.toBuilder().flowchartConfig(mergeSequences).build().parse(merged).toDot());
+
+    // a syntax error makes the parser start over with full LL, the first attempt must leave nothing behind
+    String broken = "int a = 1;\nvoid f() { g(); }\nif (a) { f(); \nb();";
+    assertEquals(streaming.toBuilder().failFast(false).build().parse(broken).toDot(),
+        tree.toBuilder().failFast(false).build().parse(broken).toDot());
+    assertNull(streaming.parse(" ").getGraph());
+  }
+}
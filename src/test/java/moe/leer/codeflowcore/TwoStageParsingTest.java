@@ -0,0 +1,59 @@
+package moe.leer.codeflowcore;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowParser;
+import org.antlr.v4.runtime.atn.DecisionState;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * SLL first, full LL only when it fails, and the decisions that still fall back.
+ *
+ * @author leer
+ */
+public class TwoStageParsingTest extends BaseFlowchartTest {
+
+  @Test
+  public void twoStageParsingTest() {
+    String code = "int fact(int n) { if (n <= 1) { return 1; } return n * fact(n - 1); }\nfact(10);";
+    ParsedProgram sll = codeFlow.parseProgram(code);
+    assertEquals(sll.getPredictionMode(), PredictionMode.SLL);
+
+    CodeFlow llOnly = codeFlow.toBuilder().twoStageParsing(false).build();
+    ParsedProgram ll = llOnly.parseProgram(code);
+    assertEquals(ll.getPredictionMode(), PredictionMode.LL);
+    assertEquals(sll.getTree().toStringTree(), ll.getTree().toStringTree());
+
+    // syntax errors fall back to LL, which reports and recovers as before
+    CodeFlow lenient = codeFlow.toBuilder().failFast(false).build();
+    assertEquals(lenient.parseProgram("if (a) {").getPredictionMode(), PredictionMode.LL);
+  }
+
+  @Test
+  public void profileTest() {
+    ParseProfile profile = codeFlow.profile("int x = 1;\nfoo(x);\nint bar(int y) { return y * 2; }\nbar(x);\n");
+    assertFalse(profile.getDecisions().isEmpty());
+    for (DecisionProfile rule : profile.byRule()) {
+      // toplevel runs used to be ambiguous with the declaration loop
+      if (rule.getRule().equals("program") || rule.getRule().equals("declaration")) {
+        assertEquals(rule.getLlFallbacks(), 0);
+        assertEquals(rule.getAmbiguities(), 0);
+      }
+    }
+    // "a = b" used to be both a variableAssign and an expression statement
+    int statementAlternatives = ((DecisionState) CodeFlowParser._ATN.ruleToStartState[CodeFlowParser.RULE_statement].transition(0).target).decision;
+    profile = codeFlow.profile("int x = 1;\nx = 2;\nx = f(x);\na[x] = b = 3;\nint[] c = {1};\nc = {1, 2};\nx++;\n");
+    boolean invoked = false;
+    for (DecisionProfile decision : profile.getDecisions()) {
+      if (decision.getDecision() == statementAlternatives) {
+        invoked = true;
+        assertEquals(decision.getLlFallbacks(), 0, decision.toString());
+        assertEquals(decision.getAmbiguities(), 0, decision.toString());
+      }
+    }
+    assertTrue(invoked);
+  }
+}
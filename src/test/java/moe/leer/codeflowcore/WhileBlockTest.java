@@ -4,6 +4,9 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
 /**
  * @author leer
  * Created at 12/18/19 1:53 PM
@@ -28,4 +31,22 @@ public class WhileBlockTest extends BaseFlowchartTest {
   public void testDoWhileBreak() throws IOException {
     codeFlow.parseFile("dowhileBreak.cf").toFile("dowhileBreak");
   }
+
+  @Test
+  public void testDoWhileCompass() {
+    FlowchartConfig config = FlowchartConfig.builder()
+        .decisionCompass("s", "w")
+        .doWhileDecisionCompass("e", "s")
+        .build();
+    CodeFlow compassFlow = CodeFlow.builder().failFast(true).flowchartConfig(config).build();
+    // "do while" false link takes the do while compass when the loop links the next statement
+    String dot = compassFlow.parse("void main() {\n  int i = 0;\n  do {\n    i++;\n  } while (i < 3);\n  print(i);\n}\n").toDot();
+    assertTrue(dot.contains("\"main:0.1\":e -> \"main:0.2\":e [\"label\"=\"true\"]"), dot);
+    assertTrue(dot.contains("\"main:0.1\":s -> \"main:0.3\" [\"label\"=\"false\"]"), dot);
+    // and so does every decision leaving a fragment ending with the loop
+    dot = compassFlow.parse("void main() {\n  int i = 0;\n  if (i > 0) {\n    do {\n      i++;\n    } while (i < 3);\n  }\n  print(i);\n}\n").toDot();
+    assertTrue(dot.contains("\"main:0.1\":s -> \"main:0.4\" [\"label\"=\"false\"]"), dot);
+    assertTrue(dot.contains("\"main:0.2\":s -> \"main:0.4\" [\"label\"=\"false\"]"), dot);
+    assertFalse(dot.contains(":w"), dot);
+  }
 }
@@ -0,0 +1,135 @@
+package moe.leer.codeflowcore.lang;
+
+import moe.leer.codeflowcore.lang.parser.CodeFlowLexer;
+import moe.leer.codeflowcore.util.SourceStreams;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Differential test, the hand-written lexer must produce exactly the tokens and errors of the generated one.
+ *
+ * @author leer
+ */
+public class FastCodeFlowLexerTest {
+
+  private static final String[] PIECES = {
+      "void", "string", "int", "if", "else", "while", "for", "do", "switch", "case", "default", "break", "continue",
+      "return", "class", "new", "this", "true", "false", "null", "try", "catch", "finally", "throws",
+      "i", "x1", "$a", "_", "ifx", "int_", "trueish", "nul", "caf\u00e9", "\u4e2d\u6587", "\ud83d\ude00",
+      "0", "00", "007", "09", "0_7", "1_000", "1__", "12L", "0l", "0x", "0x1F", "0X_1", "0xFFl", "0b", "0b1010",
+      "0B1_1L", "0b2", "1.", "1.5", ".5", "1e5", "1e", "1e+", "1E-3f", "1f", "2D", "3.e2", "1_.5", "0x1p3",
+      "0x1.8p-2d", "0x.8p1", "0x1.p1", "0xp1", "0x1p", "09.5", "1.2.3", "...", "..", ".",
+      "\"\"", "\"abc\"", "\"a\\nb\"", "\"\\u00e9\"", "\"\\uuu0041\"", "\"\\u12\"", "\"\\q\"", "\"\\400\"", "\"\\0\"",
+      "\"open", "'a'", "'\\n'", "'\\''", "'\\123'", "'\\400'", "'\\u0041'", "''", "'ab'", "'", "'\\",
+      "// line comment", "/* block */", "/**/", "/*/", "/* open", "/*\n*/",
+      "(", ")", "{", "}", "[", "]", ";", ",", "@", "~", "?", ":", "::", "=", "==", "!", "!=", "<", "<=", "<<",
+      "<<=", ">", ">=", ">>", ">>=", ">>>", ">>>=", "&", "&&", "&=", "|", "||", "|=", "+", "++", "+=", "-", "--",
+      "-=", "->", "*", "*=", "/", "/=", "%", "%=", "^", "^=",
+      " ", "  ", "\t", "\n", "\r\n", "\f", "\u000b", "#", "`", "\\", "\u00a0", "\ud800"
+  };
+
+  @Test
+  public void examplesTest() throws IOException {
+    try (DirectoryStream<Path> examples = Files.newDirectoryStream(Paths.get("examples"), "*.cf")) {
+      for (Path example : examples) {
+        String code = new String(Files.readAllBytes(example), StandardCharsets.UTF_8);
+        assertSameTokens(code);
+      }
+    }
+  }
+
+  @Test
+  public void generatedInputsTest() {
+    Random random = new Random(20181018L);
+    for (int n = 0; n < 5000; n++) {
+      StringBuilder code = new StringBuilder();
+      int pieces = 1 + random.nextInt(12);
+      for (int i = 0; i < pieces; i++) {
+        code.append(PIECES[random.nextInt(PIECES.length)]);
+        if (random.nextInt(3) == 0) {
+          code.append(random.nextBoolean() ? " " : "\n");
+        }
+      }
+      assertSameTokens(code.toString());
+    }
+    for (int n = 0; n < 2000; n++) {
+      // raw chars, mostly the ones that start or continue a token
+      char[] chars = new char[1 + random.nextInt(16)];
+      String alphabet = "0123456789abcdefxXbBlLeEpPfFdD._+-'\"\\/*=<>!&|^%\n ";
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+      }
+      assertSameTokens(new String(chars));
+    }
+  }
+
+  @Test
+  public void errorRecoveryTest() {
+    List<String> errors = new ArrayList<>();
+    List<Token> tokens = lex(new FastCodeFlowLexer(CharStreams.fromString("a # b\n\"open\nc")), errors);
+    assertEquals(errors.size(), 2);
+    assertTrue(errors.get(0).startsWith("1:2 "));
+    assertEquals(tokens.get(tokens.size() - 2).getText(), "c");
+    assertEquals(tokens.get(tokens.size() - 2).getLine(), 3);
+  }
+
+  private static void assertSameTokens(String code) {
+    assertSameTokens(code, CharStreams.fromString(code), CharStreams.fromString(code));
+    assertSameTokens(code, SourceStreams.fromString(code), SourceStreams.fromString(code));
+  }
+
+  private static void assertSameTokens(String code, CharStream expectedInput, CharStream actualInput) {
+    List<String> expectedErrors = new ArrayList<>();
+    List<String> actualErrors = new ArrayList<>();
+    List<Token> expected = lex(new CodeFlowLexer(expectedInput), expectedErrors);
+    List<Token> actual = lex(new FastCodeFlowLexer(actualInput), actualErrors);
+    assertEquals(describe(actual), describe(expected), "tokens of: " + code);
+    assertEquals(actualErrors, expectedErrors, "errors of: " + code);
+  }
+
+  private static List<Token> lex(Lexer lexer, List<String> errors) {
+    lexer.removeErrorListeners();
+    lexer.addErrorListener(new BaseErrorListener() {
+      @Override
+      public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                              String msg, RecognitionException e) {
+        errors.add(line + ":" + charPositionInLine + " " + msg);
+      }
+    });
+    List<Token> tokens = new ArrayList<>();
+    Token token;
+    do {
+      token = lexer.nextToken();
+      tokens.add(token);
+    } while (token.getType() != Token.EOF);
+    return tokens;
+  }
+
+  private static List<String> describe(List<Token> tokens) {
+    List<String> described = new ArrayList<>();
+    for (Token token : tokens) {
+      described.add(token.getType() + "/" + token.getChannel() + " " + token.getStartIndex() + ".." + token.getStopIndex() +
+          " @" + token.getLine() + ":" + token.getCharPositionInLine() + " " + token.getText());
+    }
+    return described;
+  }
+}
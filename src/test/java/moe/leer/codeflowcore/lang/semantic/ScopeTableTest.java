@@ -0,0 +1,48 @@
+package moe.leer.codeflowcore.lang.semantic;
+
+import moe.leer.codeflowcore.CodeFlow;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * The resolve pass finds the scopes the definition pass saved by walking the tree in the same order.
+ *
+ * @author leer
+ */
+public class ScopeTableTest {
+
+  private final CodeFlow codeFlow = CodeFlow.builder().supportClass(true).build();
+
+  @Test
+  public void resolveSavedScopesTest() {
+    ParseTree tree = codeFlow.parseProgram("class A {\n  int f;\n  void m(int p) {\n    p = f;\n  }\n}\n" +
+        "int g(int x) {\n  if (x > 0) {\n    int y = x;\n    y = z;\n  }\n  return h(x);\n}\n").getTree();
+    SymbolDefListener def = new SymbolDefListener();
+    ParseTreeWalker.DEFAULT.walk(def, tree);
+    // class, method, method block, function, function block, if block
+    assertEquals(def.getScopesManager().scopes.size(), 6);
+
+    SymbolResolveListener resolve = new SymbolResolveListener(def.getScopesManager().scopes, def.getScopesManager().getGlobalScope());
+    ParseTreeWalker.DEFAULT.walk(resolve, tree);
+    List<String> messages = new ArrayList<>();
+    for (Diagnostic diagnostic : resolve.getDiagnostics().list()) {
+      messages.add(diagnostic.getMessage());
+    }
+    assertEquals(messages, Arrays.asList("no such variable: z", "no such function: h:1"));
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void otherTreeTest() {
+    SymbolDefListener def = new SymbolDefListener();
+    ParseTreeWalker.DEFAULT.walk(def, codeFlow.parseProgram("void f() {\n  f();\n}\n").getTree());
+    SymbolResolveListener resolve = new SymbolResolveListener(def.getScopesManager().scopes, def.getScopesManager().getGlobalScope());
+    ParseTreeWalker.DEFAULT.walk(resolve, codeFlow.parseProgram("int a;\nvoid f() {\n  f();\n}\n").getTree());
+  }
+}
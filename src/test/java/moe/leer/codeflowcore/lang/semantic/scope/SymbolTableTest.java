@@ -0,0 +1,119 @@
+package moe.leer.codeflowcore.lang.semantic.scope;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Pair;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * The flattened table must resolve like searching the scopes from the innermost one outwards.
+ *
+ * @author leer
+ */
+public class SymbolTableTest {
+
+  @Test
+  public void shadowingTest() {
+    SymbolTable table = new SymbolTable();
+    FunctionKeys keys = new FunctionKeys();
+    GlobalScope global = new GlobalScope();
+    VariableSymbol outer = define(table, global, new VariableSymbol("a", "1", "int"));
+    FunctionSymbol function = define(table, global, new FunctionSymbol(keys.get("a", 1), "int", global));
+
+    table.enterScope();
+    BlockScope block = new BlockScope(global);
+    assertSame(table.resolve("a"), outer);
+    VariableSymbol inner = define(table, block, new VariableSymbol("a", "2", "int"));
+    VariableSymbol redefined = define(table, block, new VariableSymbol("a", "3", "int"));
+    assertSame(table.resolve("a"), redefined);
+    assertSame(inner.getScope(), block);
+
+    // a scope declaring nothing
+    table.enterScope();
+    assertSame(table.resolve("a"), redefined);
+    table.leaveScope();
+
+    // functions and variables don't shadow each other
+    assertSame(table.resolveFunction(keys.get("a", 1)), function);
+    assertNull(table.resolveFunction(keys.get("a", 0)));
+    assertNull(table.resolve("a:1"));
+    table.leaveScope();
+
+    assertSame(table.resolve("a"), outer);
+    assertSame(block.resolve("a"), redefined);
+    assertSame(global.resolve("a"), outer);
+  }
+
+  @Test
+  public void lazyScopeTest() {
+    BlockScope empty = new BlockScope(new GlobalScope());
+    assertEquals(empty.getChildrenScope().size(), 0);
+    assertNull(empty.resolve("a"));
+    assertNull(empty.resolveFunction(new FunctionKeys().get("a", 0)));
+    assertEquals(empty.toString(), "local{}");
+    assertEquals(new FunctionSymbol(new FunctionKeys().get("f", 0), "void", empty).toString(), "{function f:0[]}");
+  }
+
+  @Test
+  public void functionKeyTest() {
+    FunctionKeys keys = new FunctionKeys();
+    FunctionKey key = keys.get(new String("fact"), 1);
+    assertSame(keys.get(new String("fact"), 1), key);
+    // overloads share the name
+    assertSame(keys.get(new String("fact"), 7).getName(), key.getName());
+    assertNotSame(keys.get("fact", 2), key);
+    assertEquals(key.toString(), "fact:1");
+    // keys of another program are equal
+    FunctionKey other = new FunctionKeys().get("fact", 1);
+    assertNotSame(other, key);
+    assertEquals(other, key);
+    assertEquals(other.hashCode(), key.hashCode());
+  }
+
+  @Test
+  public void functionKeyTokenTest() {
+    FunctionKeys keys = new FunctionKeys();
+    FunctionKey key = keys.get("fact", 1);
+    CharStream input = CharStreams.fromString("fact(n) f\uD83D\uDE00 fac");
+    input.seek(3);
+    // looked up by the token's chars, the input keeps its position
+    assertSame(keys.get(token(input, 0, 3), 1), key);
+    assertEquals(input.index(), 3);
+    assertSame(keys.get(token(input, 0, 3), 2).getName(), key.getName());
+    assertEquals(keys.get(token(input, 8, 9), 0).getName(), "f\uD83D\uDE00");
+    assertSame(keys.get(token(input, 8, 9), 0), keys.get("f\uD83D\uDE00", 0));
+    assertNotSame(keys.get(token(input, 11, 13), 1), key);
+    // the table grows
+    for (int i = 0; i < 100; i++) {
+      keys.get("f" + i, 0);
+    }
+    assertSame(keys.get(token(input, 0, 3), 1), key);
+    assertSame(keys.get("f42", 0), keys.get(new String("f42"), 0));
+    assertNotEquals(FunctionKeys.UNRESOLVABLE, keys.get("", 0));
+  }
+
+  @Test
+  public void internTest() {
+    SymbolTable table = new SymbolTable();
+    String name = table.intern(new String("count"));
+    assertSame(table.intern(new String("count")), name);
+  }
+
+  private static Token token(CharStream input, int start, int stop) {
+    return new CommonToken(new Pair<>(null, input), 1, Token.DEFAULT_CHANNEL, start, stop);
+  }
+
+  private static <T extends Symbol> T define(SymbolTable table, Scope scope, T symbol) {
+    scope.define(symbol);
+    table.define(symbol);
+    return symbol;
+  }
+}
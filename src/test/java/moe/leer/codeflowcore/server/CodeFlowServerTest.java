@@ -0,0 +1,174 @@
+package moe.leer.codeflowcore.server;
+
+import moe.leer.codeflowcore.CodeFlowExecutors;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs against a server on a free localhost port, only DOT is requested so graphviz is not needed.
+ *
+ * @author leer
+ */
+public class CodeFlowServerTest {
+
+  private CodeFlowServer server;
+  private String base;
+
+  @BeforeClass
+  public void before() throws IOException {
+    server = CodeFlowServer.builder().port(0).build().start();
+    base = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterClass
+  public void after() {
+    server.stop();
+  }
+
+  @Test
+  public void renderDotWithETagTest() throws IOException {
+    HttpURLConnection first = post("/render?format=dot", "if (ok) { doSome(); }", null);
+    assertEquals(first.getResponseCode(), 200);
+    assertTrue(first.getContentType().startsWith("text/vnd.graphviz"));
+    String etag = first.getHeaderField("ETag");
+    assertNotNull(etag);
+    assertTrue(read(first).startsWith("digraph"));
+
+    HttpURLConnection second = post("/render?format=dot", "if (ok) { doSome(); }", etag);
+    assertEquals(second.getResponseCode(), 304);
+    assertEquals(second.getHeaderField("ETag"), etag);
+
+    HttpURLConnection svg = post("/render?format=svg", "if (ok) { doSome(); }", etag);
+    assertTrue(svg.getResponseCode() != 304);
+
+    // only the exact tag skips the render
+    assertEquals(post("/render?format=dot", "if (ok) { doSome(); }", "*").getResponseCode(), 200);
+    assertEquals(post("/render?format=dot", "if (ok) { doSome(); }", "\"other\", " + etag).getResponseCode(), 304);
+  }
+
+  @Test
+  public void tooLargeSourceTest() throws IOException {
+    try (CodeFlowServer small = CodeFlowServer.builder().port(0).warmUp(false).maxSourceBytes(16).build().start()) {
+      HttpURLConnection tooLarge = (HttpURLConnection) new URL("http://127.0.0.1:" + small.getAddress().getPort() + "/render?format=dot").openConnection();
+      tooLarge.setRequestMethod("POST");
+      tooLarge.setDoOutput(true);
+      try (OutputStream out = tooLarge.getOutputStream()) {
+        out.write("doSome();\ndoSomeElse();\n".getBytes(StandardCharsets.UTF_8));
+      }
+      assertEquals(tooLarge.getResponseCode(), 413);
+      // the body is not read to its end, the connection must not be reused
+      assertEquals(tooLarge.getHeaderField("Connection"), "close");
+    }
+  }
+
+  @Test
+  public void requestThreadsBoundRendersTest() throws IOException {
+    ExecutorService pool = Executors.newCachedThreadPool();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Executor slowCpu = task -> pool.execute(() -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      task.run();
+    });
+    // the request executor itself is unbounded, only requestThreads limits the renders
+    try (CodeFlowServer bounded = CodeFlowServer.builder().port(0).warmUp(false)
+        .executors(CodeFlowExecutors.of(slowCpu, pool))
+        .requestExecutor(pool)
+        .requestThreads(1)
+        .build().start()) {
+      String url = "http://127.0.0.1:" + bounded.getAddress().getPort() + "/render?format=dot";
+      List<CompletableFuture<Integer>> responses = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        String code = "doSome(" + i + ");";
+        responses.add(CompletableFuture.supplyAsync(() -> {
+          try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+              out.write(code.getBytes(StandardCharsets.UTF_8));
+            }
+            return connection.getResponseCode();
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        }, pool));
+      }
+      for (CompletableFuture<Integer> response : responses) {
+        assertEquals(response.join().intValue(), 200);
+      }
+      assertEquals(maxRunning.get(), 1);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void badRequestsTest() throws IOException {
+    assertEquals(post("/render?format=dot", "if (a) {", null).getResponseCode(), 422);
+    assertEquals(post("/render?format=gif", "doSome();", null).getResponseCode(), 400);
+    assertEquals(get("/render").getResponseCode(), 405);
+  }
+
+  @Test
+  public void healthAndMetricsTest() throws IOException {
+    HttpURLConnection health = get("/health");
+    assertEquals(health.getResponseCode(), 200);
+    assertTrue(read(health).contains("UP"));
+
+    HttpURLConnection metrics = get("/metrics");
+    assertEquals(metrics.getResponseCode(), 200);
+    String metricsJson = read(metrics);
+    assertTrue(metricsJson.contains("\"native\":{"));
+    assertTrue(metricsJson.contains("\"dfa\":{"));
+  }
+
+  private HttpURLConnection post(String path, String body, String ifNoneMatch) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(base + path).openConnection();
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    if (ifNoneMatch != null) {
+      connection.setRequestProperty("If-None-Match", ifNoneMatch);
+    }
+    try (OutputStream out = connection.getOutputStream()) {
+      out.write(body.getBytes(StandardCharsets.UTF_8));
+    }
+    return connection;
+  }
+
+  private HttpURLConnection get(String path) throws IOException {
+    return (HttpURLConnection) new URL(base + path).openConnection();
+  }
+
+  private static String read(HttpURLConnection connection) throws IOException {
+    try (InputStream in = connection.getInputStream()) {
+      return IOUtils.toString(in, StandardCharsets.UTF_8);
+    }
+  }
+}
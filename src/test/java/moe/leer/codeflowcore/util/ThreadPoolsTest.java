@@ -0,0 +1,40 @@
+package moe.leer.codeflowcore.util;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author leer
+ */
+public class ThreadPoolsTest {
+
+  @Test
+  public void blockingExecutorTest() throws Exception {
+    Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, ThreadPools.blockingExecutor()).get(10, TimeUnit.SECONDS);
+    assertTrue(thread.isDaemon());
+    // blocking tasks never take a thread of the common pool
+    assertFalse(thread instanceof ForkJoinWorkerThread);
+    if (!ThreadPools.isVirtual()) {
+      assertTrue(thread.getName().startsWith("codeflow-blocking-"), thread.getName());
+    }
+  }
+
+  @Test
+  public void newExecutorTest() throws Exception {
+    ExecutorService executor = ThreadPools.newExecutor("pool-test", 2);
+    try {
+      Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(10, TimeUnit.SECONDS);
+      assertTrue(thread.isDaemon());
+      assertTrue(thread.getName().startsWith("pool-test-"), thread.getName());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}